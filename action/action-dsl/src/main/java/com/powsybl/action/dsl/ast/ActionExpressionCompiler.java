@@ -0,0 +1,410 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.dsl.ast;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dsl.GroovyUtil;
+import com.powsybl.dsl.ast.*;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import groovy.lang.GroovyRuntimeException;
+import groovy.lang.MetaBeanProperty;
+import groovy.lang.MetaClass;
+import groovy.lang.MetaMethod;
+import groovy.lang.MetaProperty;
+import org.codehaus.groovy.reflection.CachedMethod;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.codehaus.groovy.runtime.MetaClassHelper;
+import org.codehaus.groovy.runtime.metaclass.NewInstanceMetaMethod;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Compiles an action DSL expression tree into a {@link CompiledActionExpression}.
+ * <p>
+ * Contrary to {@link ActionExpressionEvaluator}, which walks the tree and dynamically dispatches network property and
+ * method calls through Groovy at each evaluation, the compiled expression resolves properties and methods once per
+ * receiver class, following Groovy resolution rules so that extension methods of the scripting modules are still
+ * honored, and binds them to method handles, the arguments of the methods being coerced once. Network components are
+ * looked up at each evaluation, as they may have been removed and created again since the previous one. Loading rank
+ * and most loaded nodes are still delegated to the interpreter.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class ActionExpressionCompiler implements ActionExpressionVisitor<CompiledActionExpression, Void> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    public static CompiledActionExpression compile(ExpressionNode node) {
+        return node.accept(new ActionExpressionCompiler(), null);
+    }
+
+    @FunctionalInterface
+    private interface Invoker {
+
+        Object invoke(Object target) throws Throwable;
+    }
+
+    /**
+     * Monomorphic inline cache: member bound for the last seen receiver class.
+     */
+    private record BoundMember(Class<?> type, Invoker invoker) {
+    }
+
+    private static Object invoke(BoundMember member, Object target) {
+        try {
+            return member.invoker().invoke(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new PowsyblException(t);
+        }
+    }
+
+    private static final class NetworkComponent implements CompiledActionExpression {
+
+        private final String componentId;
+
+        private NetworkComponent(String componentId) {
+            this.componentId = Objects.requireNonNull(componentId);
+        }
+
+        @Override
+        public Object evaluate(EvaluationContext context) {
+            Identifiable<?> identifiable = context.getNetwork().getIdentifiable(componentId);
+            if (identifiable == null) {
+                throw new PowsyblException("Network component '" + componentId + "' not found");
+            }
+            return identifiable;
+        }
+    }
+
+    private static final class NetworkProperty implements CompiledActionExpression {
+
+        private final CompiledActionExpression parent;
+
+        private final String propertyName;
+
+        private volatile BoundMember bound;
+
+        private NetworkProperty(CompiledActionExpression parent, String propertyName) {
+            this.parent = Objects.requireNonNull(parent);
+            this.propertyName = Objects.requireNonNull(propertyName);
+        }
+
+        @Override
+        public Object evaluate(EvaluationContext context) {
+            Object parentValue = parent.evaluate(context);
+            if (parentValue == null) {
+                throw new PowsyblException("Cannot call a property '" + propertyName + "' on a null object");
+            }
+            BoundMember b = bound;
+            if (b == null || b.type() != parentValue.getClass()) {
+                b = new BoundMember(parentValue.getClass(), bindProperty(parentValue.getClass(), propertyName));
+                bound = b;
+            }
+            return invoke(b, parentValue);
+        }
+    }
+
+    private static final class NetworkMethod implements CompiledActionExpression {
+
+        private final CompiledActionExpression parent;
+
+        private final String methodName;
+
+        private final Object[] args;
+
+        private volatile BoundMember bound;
+
+        private NetworkMethod(CompiledActionExpression parent, String methodName, Object[] args) {
+            this.parent = Objects.requireNonNull(parent);
+            this.methodName = Objects.requireNonNull(methodName);
+            this.args = Objects.requireNonNull(args);
+        }
+
+        @Override
+        public Object evaluate(EvaluationContext context) {
+            Object parentValue = parent.evaluate(context);
+            if (parentValue == null) {
+                throw new PowsyblException("Cannot call a method '" + methodName + "' on a null object");
+            }
+            BoundMember b = bound;
+            if (b == null || b.type() != parentValue.getClass()) {
+                b = new BoundMember(parentValue.getClass(), bindMethod(parentValue.getClass(), methodName, args));
+                bound = b;
+            }
+            return invoke(b, parentValue);
+        }
+    }
+
+    private static final class OverloadedBranches implements CompiledActionExpression {
+
+        private final List<String> branchIds;
+
+        private final float limitReduction;
+
+        private final boolean all;
+
+        private OverloadedBranches(List<String> branchIds, float limitReduction, boolean all) {
+            this.branchIds = Objects.requireNonNull(branchIds);
+            this.limitReduction = limitReduction;
+            this.all = all;
+        }
+
+        @Override
+        public Object evaluate(EvaluationContext context) {
+            Network network = context.getNetwork();
+            boolean result = all;
+            for (String branchId : branchIds) {
+                Branch branch = network.getBranch(branchId);
+                if (branch == null) {
+                    throw new PowsyblException("Branch '" + branchId + "' not found");
+                }
+                boolean overloaded = branch.isOverloaded(limitReduction);
+                result = all ? result && overloaded : result || overloaded;
+            }
+            return result;
+        }
+    }
+
+    private static Invoker bindProperty(Class<?> type, String propertyName) {
+        MetaClass metaClass = InvokerHelper.getMetaClass(type);
+        MetaProperty metaProperty = metaClass.getMetaProperty(propertyName);
+        if (metaProperty instanceof MetaBeanProperty metaBeanProperty && metaBeanProperty.getGetter() != null) {
+            MethodHandle handle = findMethodHandle(metaBeanProperty.getGetter());
+            if (handle != null) {
+                MethodHandle getter = handle.asType(GETTER_TYPE);
+                return target -> (Object) getter.invokeExact(target);
+            }
+        }
+        return target -> GroovyUtil.callProperty(target, propertyName);
+    }
+
+    private static Invoker bindMethod(Class<?> type, String methodName, Object[] args) {
+        MetaClass metaClass = InvokerHelper.getMetaClass(type);
+        MetaMethod metaMethod;
+        try {
+            metaMethod = metaClass.pickMethod(methodName, MetaClassHelper.convertToTypeArray(args));
+        } catch (GroovyRuntimeException e) {
+            metaMethod = null;
+        }
+        if (metaMethod != null && !metaMethod.isVargsMethod(args)) {
+            MethodHandle handle = findMethodHandle(metaMethod);
+            if (handle != null) {
+                try {
+                    // arguments are coerced once to the parameter types (big decimal to double for instance)
+                    Object[] coercedArgs = metaMethod.coerceArgumentsToClasses(args.clone());
+                    MethodHandle method = MethodHandles.insertArguments(handle, 1, coercedArgs).asType(GETTER_TYPE);
+                    return target -> (Object) method.invokeExact(target);
+                } catch (ClassCastException | IllegalArgumentException e) {
+                    // arguments which cannot be bound, Groovy dispatch is used
+                }
+            }
+        }
+        return target -> GroovyUtil.callMethod(target, methodName, args);
+    }
+
+    /**
+     * Get a method handle on the Java method of a meta method, the receiver being its first parameter: an instance
+     * method found on a public type so that it is accessible, or the static method of a Groovy extension method.
+     * Return null for other meta methods, closures added to a meta class for instance.
+     */
+    private static MethodHandle findMethodHandle(MetaMethod metaMethod) {
+        Method method = null;
+        if (metaMethod instanceof CachedMethod cachedMethod) {
+            if (!cachedMethod.isStatic()) {
+                method = findPublicMethod(cachedMethod.getCachedMethod());
+            }
+        } else if (metaMethod instanceof NewInstanceMetaMethod extensionMethod
+                && extensionMethod.getCachedMethod() instanceof CachedMethod cachedMethod
+                && isPublic(cachedMethod.getCachedMethod().getDeclaringClass())) {
+            method = cachedMethod.getCachedMethod();
+        }
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Method findPublicMethod(Method method) {
+        if (isPublic(method.getDeclaringClass())) {
+            return method;
+        }
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(method.getDeclaringClass());
+        Set<Class<?>> visited = new HashSet<>();
+        while (!types.isEmpty()) {
+            Class<?> type = types.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            if (isPublic(type)) {
+                try {
+                    return type.getMethod(method.getName(), method.getParameterTypes());
+                } catch (NoSuchMethodException e) {
+                    // not declared on this type, continue with its super types
+                }
+            }
+            if (type.getSuperclass() != null) {
+                types.add(type.getSuperclass());
+            }
+            types.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return null;
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        return Modifier.isPublic(type.getModifiers());
+    }
+
+    private static Object checkNumber(Object value, String message) {
+        if (!(value instanceof Number)) {
+            throw new PowsyblException(message);
+        }
+        return value;
+    }
+
+    private static boolean checkBoolean(Object value, String message) {
+        if (!(value instanceof Boolean b)) {
+            throw new PowsyblException(message);
+        }
+        return b;
+    }
+
+    @Override
+    public CompiledActionExpression visitLiteral(AbstractLiteralNode node, Void arg) {
+        Object value = node.getValue();
+        return context -> value;
+    }
+
+    @Override
+    public CompiledActionExpression visitComparisonOperator(ComparisonOperatorNode node, Void arg) {
+        CompiledActionExpression left = node.getLeft().accept(this, arg);
+        CompiledActionExpression right = node.getRight().accept(this, arg);
+        ComparisonOperator operator = node.getOperator();
+        return context -> {
+            double value1 = ((Number) checkNumber(left.evaluate(context), "Left operand of comparison should return a number")).doubleValue();
+            double value2 = ((Number) checkNumber(right.evaluate(context), "Right operand of comparison should return a number")).doubleValue();
+            return switch (operator) {
+                case EQUALS -> value1 == value2;
+                case NOT_EQUALS -> value1 != value2;
+                case GREATER_THAN -> value1 > value2;
+                case LESS_THAN -> value1 < value2;
+                case GREATER_THAN_OR_EQUALS_TO -> value1 >= value2;
+                case LESS_THAN_OR_EQUALS_TO -> value1 <= value2;
+            };
+        };
+    }
+
+    @Override
+    public CompiledActionExpression visitLogicalOperator(LogicalBinaryOperatorNode node, Void arg) {
+        CompiledActionExpression left = node.getLeft().accept(this, arg);
+        CompiledActionExpression right = node.getRight().accept(this, arg);
+        return switch (node.getOperator()) {
+            case AND -> context -> {
+                boolean value1 = checkBoolean(left.evaluate(context), "Left operand of comparison should return a boolean");
+                boolean value2 = checkBoolean(right.evaluate(context), "Right operand of comparison should return a boolean");
+                return value1 && value2;
+            };
+            case OR -> context -> {
+                boolean value1 = checkBoolean(left.evaluate(context), "Left operand of comparison should return a boolean");
+                boolean value2 = checkBoolean(right.evaluate(context), "Right operand of comparison should return a boolean");
+                return value1 || value2;
+            };
+        };
+    }
+
+    @Override
+    public CompiledActionExpression visitArithmeticOperator(ArithmeticBinaryOperatorNode node, Void arg) {
+        CompiledActionExpression left = node.getLeft().accept(this, arg);
+        CompiledActionExpression right = node.getRight().accept(this, arg);
+        ArithmeticBinaryOperator operator = node.getOperator();
+        return context -> {
+            Object result1 = left.evaluate(context);
+            Object result2 = right.evaluate(context);
+            if (!(result1 instanceof Number)) {
+                throw new PowsyblException("Left operand of arithmetic operation should return a number (" + result1.getClass() + ")");
+            }
+            if (!(result2 instanceof Number)) {
+                throw new PowsyblException("Right operand of arithmetic operation should return a number (" + result2.getClass() + ")");
+            }
+            double value1 = ((Number) result1).doubleValue();
+            double value2 = ((Number) result2).doubleValue();
+            return switch (operator) {
+                case PLUS -> value1 + value2;
+                case MINUS -> value1 - value2;
+                case MULTIPLY -> value1 * value2;
+                case DIVIDE -> value1 / value2;
+            };
+        };
+    }
+
+    @Override
+    public CompiledActionExpression visitNotOperator(LogicalNotOperator node, Void arg) {
+        CompiledActionExpression child = node.getChild().accept(this, arg);
+        return context -> !checkBoolean(child.evaluate(context), "Operand of not operator should return a boolean");
+    }
+
+    @Override
+    public CompiledActionExpression visitNetworkComponent(NetworkComponentNode node, Void arg) {
+        return new NetworkComponent(node.getComponentId());
+    }
+
+    @Override
+    public CompiledActionExpression visitNetworkProperty(NetworkPropertyNode node, Void arg) {
+        return new NetworkProperty(node.getParent().accept(this, arg), node.getPropertyName());
+    }
+
+    @Override
+    public CompiledActionExpression visitNetworkMethod(NetworkMethodNode node, Void arg) {
+        return new NetworkMethod(node.getParent().accept(this, arg), node.getMethodName(), node.getArgs());
+    }
+
+    @Override
+    public CompiledActionExpression visitActionTaken(ActionTakenNode node, Void arg) {
+        String actionId = node.getActionId();
+        return context -> context.isActionTaken(actionId);
+    }
+
+    @Override
+    public CompiledActionExpression visitContingencyOccurred(ContingencyOccurredNode node, Void arg) {
+        String contingencyId = node.getContingencyId();
+        return context -> context.getContingency() != null &&
+                (contingencyId == null || context.getContingency().getId().equals(contingencyId));
+    }
+
+    @Override
+    public CompiledActionExpression visitLoadingRank(LoadingRankNode node, Void arg) {
+        return context -> ActionExpressionEvaluator.evaluate(node, context);
+    }
+
+    @Override
+    public CompiledActionExpression visitMostLoaded(MostLoadedNode mostLoadedNode, Void arg) {
+        return context -> ActionExpressionEvaluator.evaluate(mostLoadedNode, context);
+    }
+
+    @Override
+    public CompiledActionExpression visitIsOverloaded(IsOverloadedNode isOverloadedNode, Void arg) {
+        return new OverloadedBranches(isOverloadedNode.getBranchIds(), isOverloadedNode.getLimitReduction(), false);
+    }
+
+    @Override
+    public CompiledActionExpression visitAllOverloaded(AllOverloadedNode allOverloadedNode, Void arg) {
+        return new OverloadedBranches(allOverloadedNode.getBranchIds(), allOverloadedNode.getLimitReduction(), true);
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.dsl.ast;
+
+import com.powsybl.action.dsl.ConditionDslLoader;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.dsl.ast.*;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class ActionExpressionCompilerTest {
+
+    private Network network;
+
+    private Line line1;
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1Factory.create();
+        network.getVoltageLevel("VLHV1").getBusBreakerView().getBus("NHV1").setV(380).setAngle(0);
+        network.getVoltageLevel("VLHV2").getBusBreakerView().getBus("NHV2").setV(380).setAngle(0);
+        line1 = network.getLine("NHV1_NHV2_1");
+        line1.getTerminal1().setP(600.0).setQ(300.0);
+        line1.newCurrentLimits1()
+                .setPermanentLimit(400)
+                .beginTemporaryLimit()
+                    .setName("20")
+                    .setAcceptableDuration(20 * 60)
+                    .setValue(1200)
+                .endTemporaryLimit()
+                .add();
+        network.getLine("NHV1_NHV2_2").getTerminal1().setP(100.0).setQ(50.0);
+    }
+
+    private static EvaluationContext createContext(Network network, Contingency contingency) {
+        return new EvaluationContext() {
+            @Override
+            public Network getNetwork() {
+                return network;
+            }
+
+            @Override
+            public Contingency getContingency() {
+                return contingency;
+            }
+
+            @Override
+            public boolean isActionTaken(String actionId) {
+                return actionId.equals("action");
+            }
+        };
+    }
+
+    private ExpressionNode load(String script) {
+        return (ExpressionNode) new ConditionDslLoader(script).load(network);
+    }
+
+    private void assertSameAsInterpreter(String script) {
+        ExpressionNode node = load(script);
+        CompiledActionExpression compiled = ActionExpressionCompiler.compile(node);
+        for (Contingency contingency : new Contingency[] {null, Contingency.line("NHV1_NHV2_1")}) {
+            EvaluationContext context = createContext(network, contingency);
+            Object expected = ActionExpressionEvaluator.evaluate(node, context);
+            // evaluate twice to go through bound members
+            assertEquals(expected, compiled.evaluate(context), script);
+            assertEquals(expected, compiled.evaluate(context), script);
+        }
+    }
+
+    @Test
+    void testSameResultsAsInterpreter() {
+        List<String> scripts = List.of(
+                "line('NHV1_NHV2_1').terminal1.p",
+                "line('NHV1_NHV2_1').terminal1.i > 500",
+                "line('NHV1_NHV2_1').overloaded",
+                "line('NHV1_NHV2_1').isOverloaded(0.5)",
+                "line('NHV1_NHV2_1').currentLimits1.getTemporaryLimitValue(1200)",
+                "branch('NHV1_NHV2_1').currentLimits1.permanentLimit",
+                "branch('NHV2_NLOAD').g",
+                "transformer('NGEN_NHV1').ratedU1 * 2",
+                "generator('GEN').targetP - load('LOAD').p0",
+                "(load('LOAD').p0 - load('LOAD').terminal.p) / 2",
+                "load('LOAD').p0 == 600.0",
+                "load('LOAD').p0 != 300.0",
+                "load('LOAD').p0 >= 100.0 && load('LOAD').p0 <= 1000.0",
+                "load('LOAD').p0 < 100.0 || load('LOAD').p0 > 1000.0",
+                "! load('LOAD').terminal.connected",
+                "actionTaken('action')",
+                "actionTaken('other') || true",
+                "contingencyOccurred()",
+                "contingencyOccurred('NHV1_NHV2_1')",
+                "contingencyOccurred('NHV1_NHV2_2')",
+                "isOverloaded(['NHV1_NHV2_1','NHV1_NHV2_2'])",
+                "isOverloaded(['NHV1_NHV2_1','NHV1_NHV2_2'], 0.5)",
+                "allOverloaded(['NHV1_NHV2_1','NHV1_NHV2_2'])",
+                "mostLoaded(['NHV1_NHV2_1','NHV1_NHV2_2'])",
+                "loadingRank('NHV1_NHV2_1', ['NHV1_NHV2_1','NHV1_NHV2_2'])");
+        scripts.forEach(this::assertSameAsInterpreter);
+    }
+
+    @Test
+    void testNetworkChange() {
+        CompiledActionExpression compiled = ActionExpressionCompiler.compile(load("load('LOAD').p0"));
+        assertEquals(600.0, compiled.evaluate(createContext(network, null)));
+
+        Network other = EurostagTutorialExample1Factory.create();
+        other.getLoad("LOAD").setP0(300);
+        assertEquals(300.0, compiled.evaluate(createContext(other, null)));
+        assertEquals(600.0, compiled.evaluate(createContext(network, null)));
+
+        // values are read at each evaluation
+        network.getLoad("LOAD").setP0(500);
+        assertEquals(500.0, compiled.evaluate(createContext(network, null)));
+    }
+
+    @Test
+    void testComponentCreatedAgain() {
+        CompiledActionExpression compiled = ActionExpressionCompiler.compile(load("load('LOAD').p0"));
+        EvaluationContext context = createContext(network, null);
+        assertEquals(600.0, compiled.evaluate(context));
+
+        network.getLoad("LOAD").remove();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> compiled.evaluate(context));
+        assertEquals("Network component 'LOAD' not found", e.getMessage());
+
+        network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD")
+                .setBus("NLOAD")
+                .setP0(200)
+                .setQ0(0)
+                .add();
+        assertEquals(200.0, compiled.evaluate(context));
+    }
+
+    @Test
+    void testErrors() {
+        CompiledActionExpression compiled = ActionExpressionCompiler.compile(load("isOverloaded(['NHV1_NHV2_1', 'UNKNOWN'])"));
+        EvaluationContext context = createContext(network, null);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> compiled.evaluate(context));
+        assertEquals("Branch 'UNKNOWN' not found", e.getMessage());
+
+        CompiledActionExpression compiled2 = ActionExpressionCompiler.compile(load("line('NHV1_NHV2_1').terminal1.p"));
+        assertEquals(600.0, compiled2.evaluate(context));
+        Network other = EurostagTutorialExample1Factory.create();
+        other.getLine("NHV1_NHV2_1").remove();
+        EvaluationContext otherContext = createContext(other, null);
+        e = assertThrows(PowsyblException.class, () -> compiled2.evaluate(otherContext));
+        assertEquals("Network component 'NHV1_NHV2_1' not found", e.getMessage());
+    }
+
+    private static ExpressionNode createRuleCondition(int i) {
+        NetworkComponentNode line = ActionExpressionHelper.newNetworkComponent("NHV1_NHV2_1", NetworkComponentNode.ComponentType.LINE);
+        NetworkComponentNode load = ActionExpressionHelper.newNetworkComponent("LOAD", NetworkComponentNode.ComponentType.LOAD);
+        ExpressionNode current = ActionExpressionHelper.newNetworkProperty(ActionExpressionHelper.newNetworkProperty(line, "terminal1"), "i");
+        ExpressionNode p0 = ActionExpressionHelper.newNetworkProperty(load, "p0");
+        ExpressionNode threshold = ExpressionHelper.newIntegerLiteral(i % 1000 + 1);
+        return switch (i % 4) {
+            case 0 -> ExpressionHelper.newComparisonOperator(current, threshold, ComparisonOperator.GREATER_THAN);
+            case 1 -> ExpressionHelper.newComparisonOperator(ExpressionHelper.newArithmeticBinaryOperator(p0, current, ArithmeticBinaryOperator.MINUS),
+                    threshold, ComparisonOperator.GREATER_THAN);
+            case 2 -> ExpressionHelper.newLogicalBinaryOperator(
+                    ActionExpressionHelper.newIsOverloadedNode(List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), (i % 1000) / 1000f),
+                    ActionExpressionHelper.newActionTaken("action" + i), LogicalBinaryOperator.OR);
+            default -> ExpressionHelper.newLogicalBinaryOperator(
+                    ExpressionHelper.newComparisonOperator(ActionExpressionHelper.newNetworkMethod(
+                            ActionExpressionHelper.newNetworkProperty(line, "currentLimits1"), "getTemporaryLimitValue", new Object[] {1200}),
+                            threshold, ComparisonOperator.GREATER_THAN_OR_EQUALS_TO),
+                    ExpressionHelper.newLogicalNotOperator(ActionExpressionHelper.newContingencyOccured()), LogicalBinaryOperator.AND);
+        };
+    }
+
+    @Test
+    void testLargeRuleBase() {
+        List<ExpressionNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            nodes.add(createRuleCondition(i));
+        }
+        List<CompiledActionExpression> compiled = nodes.stream().map(ActionExpressionCompiler::compile).toList();
+
+        EvaluationContext context = createContext(network, null);
+        int trueCount = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Object expected = ActionExpressionEvaluator.evaluate(nodes.get(i), context);
+            assertEquals(expected, compiled.get(i).evaluate(context));
+            if (Boolean.TRUE.equals(expected)) {
+                trueCount++;
+            }
+        }
+        assertTrue(trueCount > 0 && trueCount < nodes.size());
+    }
+}
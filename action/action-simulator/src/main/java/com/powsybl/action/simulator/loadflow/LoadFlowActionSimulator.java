@@ -25,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +52,8 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
     private final List<LoadFlowActionSimulatorObserver> observers;
 
+    private final Map<ExpressionNode, CompiledActionExpression> compiledExpressions = new ConcurrentHashMap<>();
+
     public LoadFlowActionSimulator(Network network, ComputationManager computationManager) {
         this(network, computationManager, LoadFlowActionSimulatorConfig.load(), false, Collections.emptyList());
     }
@@ -118,28 +121,55 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
         observers.forEach(LoadFlowActionSimulatorObserver::afterPreContingencyAnalysis);
 
-        NetworkCopyStrategy strategy = NetworkCopyStrategy.getInstance(config.getCopyStrategy(), runningContext.getNetwork());
-
         if (preContingencyAnalysisOk || config.isIgnorePreContingencyViolations()) {
-            for (String contingencyId : contingencyIds) {
-                Contingency contingency = actionDb.getContingency(contingencyId);
-                Network network2 = strategy.createState(contingencyId);
-                RunningContext runningContext2 = new RunningContext(network2, contingency);
-
-                observers.forEach(o -> o.beforePostContingencyAnalysis(runningContext2));
+            runPostContingencyAnalyses(actionDb, contingencyIds);
+        }
 
-                LOGGER.info("Starting post-contingency analysis '{}'", contingency.getId());
-                contingency.toModification().apply(network2, computationManager);
+        observers.forEach(LoadFlowActionSimulatorObserver::afterPostContingencyAnalysis);
+    }
 
-                observers.forEach(o -> o.postContingencyAnalysisNetworkLoaded(runningContext2));
+    /**
+     * Runs the post-contingency analysis of each contingency, one after the other, on a copy of the pre-contingency
+     * state created by the configured copy strategy.
+     */
+    protected void runPostContingencyAnalyses(ActionDb actionDb, List<String> contingencyIds) {
+        NetworkCopyStrategy strategy = NetworkCopyStrategy.getInstance(config.getCopyStrategy(), network);
+        for (String contingencyId : contingencyIds) {
+            Contingency contingency = actionDb.getContingency(contingencyId);
+            Network network2 = strategy.createState(contingencyId);
 
-                next(actionDb, runningContext2);
+            runPostContingencyAnalysis(actionDb, contingency, network2);
 
-                strategy.removeState();
-            }
+            strategy.removeState();
         }
+    }
 
-        observers.forEach(LoadFlowActionSimulatorObserver::afterPostContingencyAnalysis);
+    /**
+     * Applies the contingency on the given network, which is expected to be already on the state to modify, and then
+     * runs load flows and rules until no more violations or no more matching rules.
+     */
+    protected void runPostContingencyAnalysis(ActionDb actionDb, Contingency contingency, Network network2) {
+        RunningContext runningContext2 = new RunningContext(network2, contingency);
+
+        observers.forEach(o -> o.beforePostContingencyAnalysis(runningContext2));
+
+        LOGGER.info("Starting post-contingency analysis '{}'", contingency.getId());
+        contingency.toModification().apply(network2, computationManager);
+
+        observers.forEach(o -> o.postContingencyAnalysisNetworkLoaded(runningContext2));
+
+        next(actionDb, runningContext2);
+    }
+
+    /**
+     * Creates the strategy used to get a copy of the current state of the network to try test actions on.
+     */
+    protected NetworkCopyStrategy createTestCopyStrategy(Network network) {
+        return NetworkCopyStrategy.getInstance(config.getCopyStrategy(), network);
+    }
+
+    protected void runAction(Action action, Network network) {
+        action.run(network, computationManager);
     }
 
     private static final class RuleContext {
@@ -167,6 +197,14 @@ public class LoadFlowActionSimulator implements ActionSimulator {
         }
     }
 
+    /**
+     * Rule conditions are evaluated after each load flow of each contingency, so they are compiled once and the
+     * compiled form is reused for all the evaluations.
+     */
+    private Object evaluate(ExpressionNode node, EvaluationContext context) {
+        return compiledExpressions.computeIfAbsent(node, ActionExpressionCompiler::compile).evaluate(context);
+    }
+
     private RuleContext evaluateRule(Rule rule, RunningContext context) {
         if (rule.getCondition().getType() != ConditionType.EXPRESSION) {
             throw new IllegalStateException("TODO");
@@ -188,7 +226,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
                 return context.getTimeLine().actionTaken(actionId);
             }
         };
-        boolean ok = ActionExpressionEvaluator.evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
+        boolean ok = evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Evaluating {} to {}", ActionExpressionPrinter.toString(conditionExpr), Boolean.toString(ok));
@@ -196,7 +234,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
         Map<String, Object> variables = ExpressionVariableLister.list(conditionExpr).stream()
                 .collect(Collectors.toMap(ActionExpressionPrinter::toString,
-                    n -> ActionExpressionEvaluator.evaluate(n, evalContext),
+                    n -> evaluate(n, evalContext),
                     (v1, v2) -> v1,
                     TreeMap::new));
 
@@ -227,7 +265,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
             LOGGER.info("Apply action '{}'", action.getId());
             observers.forEach(o -> o.beforeAction(context, actionId));
 
-            action.run(context.getNetwork(), computationManager);
+            runAction(action, context.getNetwork());
 
             observers.forEach(o -> o.afterAction(context, actionId));
             actionsTaken.add(actionId);
@@ -336,7 +374,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
                 .filter(rule -> rule.getType().equals(RuleType.TEST))
                 .filter(rule -> {
                     ExpressionNode conditionExpr = ((ExpressionCondition) rule.getCondition()).getNode();
-                    return ActionExpressionEvaluator.evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
+                    return evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
                 })
                 .toList();
         List<String> testActionIds = activedRules.stream()
@@ -349,7 +387,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
             return;
         }
 
-        NetworkCopyStrategy strategy = NetworkCopyStrategy.getInstance(config.getCopyStrategy(), context.getNetwork());
+        NetworkCopyStrategy strategy = createTestCopyStrategy(context.getNetwork());
 
         for (String actionId : testActionIds) {
             Action action = actionDb.getAction(actionId);
@@ -367,7 +405,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
                         LOGGER.info("Loadflow with test '{}' works already and exits simulation", action.getId());
                         observers.forEach(o -> o.noMoreViolationsAfterTest(context, action.getId()));
                         observers.forEach(o -> o.beforeApplyTest(context, action.getId()));
-                        action.run(context.getNetwork(), computationManager);
+                        runAction(action, context.getNetwork());
                         context.getTimeLine().getActions().add(actionId);
                         observers.forEach(o -> o.loadFlowConverged(context, violationsInTest));
                         observers.forEach(o -> o.noMoreViolations(context));
@@ -392,7 +430,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
     private LoadFlowResult runTest(RunningContext context, Network networkForTry, Action action) {
         String actionId = action.getId();
         LOGGER.info("Test action '{}'", actionId);
-        action.run(networkForTry, computationManager);
+        runAction(action, networkForTry);
         try {
             observers.forEach(o -> o.beforeTest(context, actionId));
             String loadFlowName = config.getLoadFlowName().orElse(null);
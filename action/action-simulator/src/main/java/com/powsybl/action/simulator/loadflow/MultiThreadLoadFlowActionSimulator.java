@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator.loadflow;
+
+import com.powsybl.action.dsl.Action;
+import com.powsybl.action.dsl.ActionDb;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.loadflow.LoadFlowParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Load flow action simulator running post-contingency analyses concurrently, in the current JVM, on the same network.
+ * <p>
+ * Each worker thread owns a variant of the network, allocated once before the post-contingency analyses, on which it
+ * successively applies its contingencies, rules and actions. Test actions are tried on a second variant owned by the
+ * worker, so that no variant is created or removed while analyses are running, and the network is never serialized.
+ * <p>
+ * Observers are notified under a common lock, so they don't need to be thread safe. Actions are also applied one at
+ * a time, because DSL script actions share the Groovy binding of the {@link ActionDb}.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class MultiThreadLoadFlowActionSimulator extends LoadFlowActionSimulator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiThreadLoadFlowActionSimulator.class);
+
+    private final int threadCount;
+
+    private final Map<String, String> testVariantIds = new ConcurrentHashMap<>();
+
+    private final Object actionLock = new Object();
+
+    public MultiThreadLoadFlowActionSimulator(Network network, ComputationManager computationManager, int threadCount) {
+        this(network, computationManager, threadCount, LoadFlowActionSimulatorConfig.load(), false, Collections.emptyList());
+    }
+
+    public MultiThreadLoadFlowActionSimulator(Network network, ComputationManager computationManager, int threadCount,
+                                              LoadFlowActionSimulatorConfig config, boolean applyIfSolvedViolations,
+                                              List<LoadFlowActionSimulatorObserver> observers) {
+        this(network, computationManager, threadCount, config, applyIfSolvedViolations, LoadFlowParameters.load(), observers);
+    }
+
+    public MultiThreadLoadFlowActionSimulator(Network network, ComputationManager computationManager, int threadCount,
+                                              LoadFlowActionSimulatorConfig config, boolean applyIfSolvedViolations,
+                                              LoadFlowParameters parameters, LoadFlowActionSimulatorObserver... observers) {
+        this(network, computationManager, threadCount, config, applyIfSolvedViolations, parameters, Arrays.asList(observers));
+    }
+
+    public MultiThreadLoadFlowActionSimulator(Network network, ComputationManager computationManager, int threadCount,
+                                              LoadFlowActionSimulatorConfig config, boolean applyIfSolvedViolations,
+                                              LoadFlowParameters parameters, List<LoadFlowActionSimulatorObserver> observers) {
+        super(network, computationManager, config, applyIfSolvedViolations, parameters, synchronize(observers));
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        this.threadCount = threadCount;
+    }
+
+    private static List<LoadFlowActionSimulatorObserver> synchronize(List<LoadFlowActionSimulatorObserver> observers) {
+        Object lock = new Object();
+        return Objects.requireNonNull(observers).stream()
+                .map(o -> (LoadFlowActionSimulatorObserver) new SynchronizedLoadFlowActionSimulatorObserver(o, lock))
+                .toList();
+    }
+
+    @Override
+    public String getName() {
+        return "loadflow-multi-thread";
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    @Override
+    protected void runPostContingencyAnalyses(ActionDb actionDb, List<String> contingencyIds) {
+        if (contingencyIds.isEmpty()) {
+            return;
+        }
+
+        Network network = getNetwork();
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+
+        int workerCount = Math.min(threadCount, contingencyIds.size());
+        String hash = UUID.randomUUID().toString();
+        List<String> workerVariantIds = IntStream.range(0, workerCount).mapToObj(i -> hash + "_" + i).toList();
+        List<String> allVariantIds = new ArrayList<>(2 * workerCount);
+        for (String workerVariantId : workerVariantIds) {
+            String testVariantId = workerVariantId + "_test";
+            testVariantIds.put(workerVariantId, testVariantId);
+            allVariantIds.add(workerVariantId);
+            allVariantIds.add(testVariantId);
+        }
+
+        LOGGER.info("Starting {} post-contingency analyses on {} threads", contingencyIds.size(), workerCount);
+
+        variantManager.allowVariantMultiThreadAccess(true);
+        variantManager.cloneVariant(initialVariantId, allVariantIds);
+        try {
+            AtomicInteger nextContingency = new AtomicInteger();
+            CompletableFuture.allOf(workerVariantIds.stream()
+                    .map(workerVariantId -> CompletableFuture.runAsync(() -> {
+                        int i;
+                        while ((i = nextContingency.getAndIncrement()) < contingencyIds.size()) {
+                            String contingencyId = contingencyIds.get(i);
+                            variantManager.cloneVariant(initialVariantId, workerVariantId, true);
+                            variantManager.setWorkingVariant(workerVariantId);
+                            runPostContingencyAnalysis(actionDb, actionDb.getContingency(contingencyId), network);
+                        }
+                    }, getComputationManager().getExecutor()))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+            allVariantIds.forEach(variantManager::removeVariant);
+            workerVariantIds.forEach(testVariantIds::remove);
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+        }
+    }
+
+    @Override
+    protected NetworkCopyStrategy createTestCopyStrategy(Network network) {
+        String testVariantId = testVariantIds.get(network.getVariantManager().getWorkingVariantId());
+        if (testVariantId != null && getConfig().getCopyStrategy() == CopyStrategy.STATE) {
+            return new WorkerVariantCopyStrategy(network, testVariantId);
+        }
+        return super.createTestCopyStrategy(network);
+    }
+
+    @Override
+    protected void runAction(Action action, Network network) {
+        synchronized (actionLock) {
+            super.runAction(action, network);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator.loadflow;
+
+import com.powsybl.action.dsl.Rule;
+import com.powsybl.security.LimitViolation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Observer forwarding notifications to a delegate while holding a lock, so that observers which are not thread safe
+ * can be notified from several post-contingency analyses running concurrently.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+class SynchronizedLoadFlowActionSimulatorObserver implements LoadFlowActionSimulatorObserver {
+
+    private final LoadFlowActionSimulatorObserver delegate;
+
+    private final Object lock;
+
+    SynchronizedLoadFlowActionSimulatorObserver(LoadFlowActionSimulatorObserver delegate, Object lock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.lock = Objects.requireNonNull(lock);
+    }
+
+    @Override
+    public void beforePreContingencyAnalysis(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.beforePreContingencyAnalysis(runningContext);
+        }
+    }
+
+    @Override
+    public void afterPreContingencyAnalysis() {
+        synchronized (lock) {
+            delegate.afterPreContingencyAnalysis();
+        }
+    }
+
+    @Override
+    public void beforePostContingencyAnalysis(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.beforePostContingencyAnalysis(runningContext);
+        }
+    }
+
+    @Override
+    public void postContingencyAnalysisNetworkLoaded(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.postContingencyAnalysisNetworkLoaded(runningContext);
+        }
+    }
+
+    @Override
+    public void roundBegin(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.roundBegin(runningContext);
+        }
+    }
+
+    @Override
+    public void roundEnd(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.roundEnd(runningContext);
+        }
+    }
+
+    @Override
+    public void loadFlowDiverged(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.loadFlowDiverged(runningContext);
+        }
+    }
+
+    @Override
+    public void loadFlowConverged(RunningContext runningContext, List<LimitViolation> violations) {
+        synchronized (lock) {
+            delegate.loadFlowConverged(runningContext, violations);
+        }
+    }
+
+    @Override
+    public void ruleChecked(RunningContext runningContext, Rule rule, RuleEvaluationStatus status, Map<String, Object> variables, Map<String, Boolean> actions) {
+        synchronized (lock) {
+            delegate.ruleChecked(runningContext, rule, status, variables, actions);
+        }
+    }
+
+    @Override
+    public void beforeAction(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.beforeAction(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void beforeTest(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.beforeTest(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void afterAction(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.afterAction(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void afterTest(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.afterTest(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void violationsAfterTest(String actionId, List<LimitViolation> violations) {
+        synchronized (lock) {
+            delegate.violationsAfterTest(actionId, violations);
+        }
+    }
+
+    @Override
+    public void divergedAfterTest(String actionId) {
+        synchronized (lock) {
+            delegate.divergedAfterTest(actionId);
+        }
+    }
+
+    @Override
+    public void noMoreViolations(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.noMoreViolations(runningContext);
+        }
+    }
+
+    @Override
+    public void noMoreViolationsAfterTest(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.noMoreViolationsAfterTest(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void beforeApplyTest(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.beforeApplyTest(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void afterApplyTest(RunningContext runningContext, String actionId) {
+        synchronized (lock) {
+            delegate.afterApplyTest(runningContext, actionId);
+        }
+    }
+
+    @Override
+    public void violationsAnymoreAndNoRulesMatch(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.violationsAnymoreAndNoRulesMatch(runningContext);
+        }
+    }
+
+    @Override
+    public void afterPostContingencyAnalysis() {
+        synchronized (lock) {
+            delegate.afterPostContingencyAnalysis();
+        }
+    }
+
+    @Override
+    public void maxIterationsReached(RunningContext runningContext) {
+        synchronized (lock) {
+            delegate.maxIterationsReached(runningContext);
+        }
+    }
+}
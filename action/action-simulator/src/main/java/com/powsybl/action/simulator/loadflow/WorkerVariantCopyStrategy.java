@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator.loadflow;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.Objects;
+
+/**
+ * Copy strategy reusing a variant allocated once per worker thread: the variant is overwritten with the current
+ * working variant instead of being created and removed for each copy, so that no variant is added or removed
+ * while other threads are working on the network.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+class WorkerVariantCopyStrategy implements NetworkCopyStrategy {
+
+    private final Network network;
+    private final String stateId;
+    private final String workerVariantId;
+
+    WorkerVariantCopyStrategy(Network network, String workerVariantId) {
+        this.network = Objects.requireNonNull(network);
+        this.stateId = network.getVariantManager().getWorkingVariantId();
+        this.workerVariantId = Objects.requireNonNull(workerVariantId);
+    }
+
+    @Override
+    public Network createState(String id) {
+        network.getVariantManager().cloneVariant(stateId, workerVariantId, true);
+        network.getVariantManager().setWorkingVariant(workerVariantId);
+
+        return network;
+    }
+
+    @Override
+    public void removeState() {
+        network.getVariantManager().setWorkingVariant(stateId);
+    }
+}
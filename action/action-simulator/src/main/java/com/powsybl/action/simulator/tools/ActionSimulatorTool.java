@@ -140,6 +140,11 @@ public class ActionSimulatorTool implements Tool {
                         .hasArg()
                         .argName("NTASKS")
                         .build());
+                options.addOption(Option.builder().longOpt(THREAD_COUNT)
+                        .desc("number of threads used to run post-contingency analyses on variants of the same network")
+                        .hasArg()
+                        .argName("NTHREADS")
+                        .build());
                 options.addOption(Option.builder().longOpt(TASK)
                         .desc("task identifier (task-index/task-count)")
                         .hasArg()
@@ -310,6 +315,9 @@ public class ActionSimulatorTool implements Tool {
         if (line.hasOption(TASK)) {
             Partition partition = Partition.parse(line.getOptionValue(TASK));
             actionSimulator = new LocalLoadFlowActionSimulator(network, partition, config, applyIfSolved, observers);
+        } else if (line.hasOption(THREAD_COUNT)) {
+            int threadCount = Integer.parseInt(line.getOptionValue(THREAD_COUNT));
+            actionSimulator = new MultiThreadLoadFlowActionSimulator(network, context.getShortTimeExecutionComputationManager(), threadCount, config, applyIfSolved, observers);
         } else {
             actionSimulator = new LoadFlowActionSimulator(network, context.getShortTimeExecutionComputationManager(), config, applyIfSolved, observers);
         }
@@ -19,6 +19,7 @@ public final class ActionSimulatorToolConstants {
     public static final String OUTPUT_FORMAT = "output-format";
     public static final String VERBOSE = "verbose";
     public static final String EXPORT_AFTER_EACH_ROUND = "export-after-each-round";
+    public static final String THREAD_COUNT = "thread-count";
 
     private ActionSimulatorToolConstants() {
     }
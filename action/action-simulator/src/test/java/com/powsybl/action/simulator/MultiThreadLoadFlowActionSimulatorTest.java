@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator;
+
+import com.powsybl.action.dsl.ActionDb;
+import com.powsybl.action.dsl.ActionDslLoader;
+import com.powsybl.action.simulator.loadflow.*;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.security.SecurityAnalysisResult;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovyShell;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.InputStreamReader;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class MultiThreadLoadFlowActionSimulatorTest {
+
+    private Network network;
+
+    private ActionDb actionDb;
+
+    private ComputationManager computationManager;
+
+    private final Map<String, List<String>> actionsByContingency = new HashMap<>();
+
+    private final Map<String, Boolean> trippedLineConnected = new HashMap<>();
+
+    private SecurityAnalysisResult result;
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1WithTemporaryLimitFactory.create();
+        network.getVoltageLevel("VLHV1").getBusBreakerView().getBus("NHV1").setV(380).setAngle(0);
+        GroovyCodeSource src = new GroovyCodeSource(new InputStreamReader(getClass().getResourceAsStream("/multi-thread.groovy")), "test", GroovyShell.DEFAULT_CODE_BASE);
+        actionDb = new ActionDslLoader(src).load(network);
+        computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(ForkJoinPool.commonPool());
+    }
+
+    private MultiThreadLoadFlowActionSimulator createSimulator(int threadCount) {
+        LoadFlowActionSimulatorObserver observer = new DefaultLoadFlowActionSimulatorObserver() {
+            @Override
+            public void postContingencyAnalysisNetworkLoaded(RunningContext runningContext) {
+                // overload a line in the post-contingency state so that rules are evaluated
+                Line l2 = runningContext.getNetwork().getLine("NHV1_NHV2_2");
+                l2.getTerminal1().setP(300).setQ(100);
+                trippedLineConnected.put(runningContext.getContingency().getId(),
+                        runningContext.getNetwork().getLine("NHV1_NHV2_1").getTerminal1().isConnected());
+            }
+
+            @Override
+            public void afterAction(RunningContext runningContext, String actionId) {
+                actionsByContingency.computeIfAbsent(runningContext.getContingency().getId(), k -> new ArrayList<>()).add(actionId);
+            }
+        };
+        SecurityAnalysisResultHandler resultHandler = new SecurityAnalysisResultHandler(Collections.singletonList(r -> result = r));
+        return new MultiThreadLoadFlowActionSimulator(network, computationManager, threadCount,
+                new LoadFlowActionSimulatorConfig("LoadFlowMock", 3, false, false), false, new LoadFlowParameters(),
+                observer, resultHandler);
+    }
+
+    @Test
+    void test() {
+        MultiThreadLoadFlowActionSimulator simulator = createSimulator(2);
+        assertEquals("loadflow-multi-thread", simulator.getName());
+        assertEquals(2, simulator.getThreadCount());
+
+        simulator.start(actionDb, "contingency1", "contingency2", "contingency3");
+
+        // each contingency has been simulated on its own variant
+        assertEquals(Map.of("contingency1", false, "contingency2", true, "contingency3", true), trippedLineConnected);
+        assertEquals(Map.of("contingency1", List.of("action1"), "contingency2", List.of("action2")), actionsByContingency);
+        assertNotNull(result);
+        assertEquals(3, result.getPostContingencyResults().size());
+
+        // initial state is left untouched and working variants have been removed
+        assertTrue(network.getLine("NHV1_NHV2_1").getTerminal1().isConnected());
+        assertEquals(600, network.getLoad("LOAD").getP0(), 1e-6);
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        assertEquals(Collections.singleton(VariantManagerConstants.INITIAL_VARIANT_ID), new HashSet<>(network.getVariantManager().getVariantIds()));
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+    }
+
+    @Test
+    void testMoreThreadsThanContingencies() {
+        createSimulator(8).start(actionDb, "contingency1");
+
+        assertEquals(Map.of("contingency1", List.of("action1")), actionsByContingency);
+        assertEquals(Collections.singleton(VariantManagerConstants.INITIAL_VARIANT_ID), new HashSet<>(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> createSimulator(0));
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+contingency('contingency1') {
+    equipments 'NHV1_NHV2_1'
+}
+
+contingency('contingency2') {
+    equipments 'GEN'
+}
+
+contingency('contingency3') {
+    equipments 'NHV2_NLOAD'
+}
+
+rule('rule1') {
+    when contingencyOccurred('contingency1')
+    apply 'action1'
+}
+
+rule('rule2') {
+    when contingencyOccurred('contingency2')
+    apply 'action2'
+}
+
+action('action1') {
+    modifications {
+        script {
+            load('LOAD').p0 += 1
+        }
+    }
+}
+
+action('action2') {
+    modifications {
+        script {
+            load('LOAD').p0 += 2
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +37,7 @@ public class AmplExporter implements Exporter {
     public static final String EXPORT_ACTION_TYPE = "iidm.export.ampl.action-type";
     public static final String EXPORT_RATIOTAPCHANGER_VT = "iidm.export.ampl.export-ratio-tap-changer-voltage-target";
     public static final String TWT_SPLIT_SHUNT_ADMITTANCE = "iidm.export.ampl.twt-split-shunt-admittance";
+    public static final String CONCURRENT_TABLES = "iidm.export.ampl.concurrent-tables";
 
     private static final Parameter EXPORT_SCOPE_PARAMETER = new Parameter(EXPORT_SCOPE, ParameterType.STRING, "Export scope",
             AmplExportConfig.ExportScope.ALL.name(),
@@ -50,8 +52,11 @@ public class AmplExporter implements Exporter {
         .addAdditionalNames("iidm.export.ampl.specific-compatibility")
         .addAdditionalNames("iidm.export.ampl.specificCompatibility");
 
+    private static final Parameter CONCURRENT_TABLES_PARAMETER = new Parameter(CONCURRENT_TABLES, ParameterType.BOOLEAN,
+            "Write the tables concurrently, with the tasks of the common fork join pool", Boolean.FALSE);
+
     private static final List<Parameter> STATIC_PARAMETERS = List.of(EXPORT_SCOPE_PARAMETER, EXPORT_XNODES_PARAMETER, EXPORT_ACTION_TYPE_PARAMETER,
-            EXPORT_RATIOTAPCHANGER_VT_PARAMETER, TWT_SPLIT_SHUNT_ADMITTANCE_PARAMETER);
+            EXPORT_RATIOTAPCHANGER_VT_PARAMETER, TWT_SPLIT_SHUNT_ADMITTANCE_PARAMETER, CONCURRENT_TABLES_PARAMETER);
 
     private final ParameterDefaultValueConfig defaultValueConfig;
 
@@ -83,10 +88,11 @@ public class AmplExporter implements Exporter {
             AmplExportConfig.ExportActionType actionType = AmplExportConfig.ExportActionType.valueOf(Parameter.readString(getFormat(), parameters, EXPORT_ACTION_TYPE_PARAMETER, defaultValueConfig));
             boolean exportRatioTapChangerVoltageTarget = Parameter.readBoolean(getFormat(), parameters, EXPORT_RATIOTAPCHANGER_VT_PARAMETER, defaultValueConfig);
             boolean twtSplitShuntAdmittance = Parameter.readBoolean(getFormat(), parameters, TWT_SPLIT_SHUNT_ADMITTANCE_PARAMETER, defaultValueConfig);
+            boolean concurrentTables = Parameter.readBoolean(getFormat(), parameters, CONCURRENT_TABLES_PARAMETER, defaultValueConfig);
 
             AmplExportConfig config = new AmplExportConfig(scope, exportXnodes, actionType, exportRatioTapChangerVoltageTarget, twtSplitShuntAdmittance);
 
-            new AmplNetworkWriter(network, dataSource, config).write();
+            new AmplNetworkWriter(network, dataSource, config, concurrentTables ? ForkJoinPool.commonPool() : null).write();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer of the lines of the AMPL output files, reused from one line to the next: the tokens are kept as offsets
+ * in the line and parsed in place, without creating a string for each of them. The tokens are the ones of
+ * {@link String#split(String)} on the trimmed line, the default space separator being handled without regex.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class AmplLineTokenizer {
+
+    private static final String DEFAULT_TOKEN_SEPARATOR = "( )+";
+
+    private final Pattern separator;
+
+    private String line;
+
+    private int[] starts = new int[16];
+
+    private int[] ends = new int[16];
+
+    private int count;
+
+    AmplLineTokenizer(String tokenSeparator) {
+        Objects.requireNonNull(tokenSeparator);
+        separator = tokenSeparator.equals(DEFAULT_TOKEN_SEPARATOR) ? null : Pattern.compile(tokenSeparator);
+    }
+
+    /**
+     * @return false if the line is a comment, true if it has been tokenized
+     */
+    boolean tokenize(String line) {
+        this.line = Objects.requireNonNull(line);
+        count = 0;
+        int begin = 0;
+        int end = line.length();
+        while (begin < end && line.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (begin < end && line.charAt(begin) == '#') {
+            return false;
+        }
+        if (begin == end) {
+            // like the split of an empty string
+            addToken(begin, end);
+        } else if (separator == null) {
+            tokenizeOnSpaces(begin, end);
+        } else {
+            tokenizeOnSeparator(begin, end);
+        }
+        return true;
+    }
+
+    private void tokenizeOnSpaces(int begin, int end) {
+        int tokenStart = begin;
+        for (int i = begin; i < end; i++) {
+            if (line.charAt(i) == ' ') {
+                if (tokenStart < i) {
+                    addToken(tokenStart, i);
+                }
+                tokenStart = i + 1;
+            }
+        }
+        addToken(tokenStart, end);
+    }
+
+    private void tokenizeOnSeparator(int begin, int end) {
+        Matcher matcher = separator.matcher(line).region(begin, end);
+        int tokenStart = begin;
+        while (matcher.find()) {
+            // no leading empty token for a zero width match at the beginning, as for a split
+            if (matcher.end() > begin) {
+                addToken(tokenStart, matcher.start());
+                tokenStart = matcher.end();
+            }
+        }
+        addToken(tokenStart, end);
+        // no trailing empty tokens, as for a split
+        while (count > 0 && starts[count - 1] == ends[count - 1]) {
+            count--;
+        }
+    }
+
+    private void addToken(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    int getTokenCount() {
+        return count;
+    }
+
+    String getString(int index) {
+        return line.substring(starts[index], ends[index]);
+    }
+
+    int getInt(int index) {
+        return Integer.parseInt(line, starts[index], ends[index], 10);
+    }
+
+    boolean getBoolean(int index) {
+        // same as Boolean.parseBoolean
+        return ends[index] - starts[index] == 4 && line.regionMatches(true, starts[index], "true", 0, 4);
+    }
+
+    /**
+     * @return the value of the token, NaN for the AMPL invalid value
+     */
+    double getDouble(int index) {
+        double value = Double.parseDouble(getString(index));
+        return (float) value != AmplConstants.INVALID_FLOAT_VALUE ? value : Double.NaN;
+    }
+}
@@ -16,6 +16,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +44,8 @@ public class AmplNetworkReader {
     private final StringToIntMapper<AmplSubset> mapper;
     private final Map<String, Bus> buses;
 
+    private final Map<AmplSubset, String[]> ids = new EnumMap<>(AmplSubset.class);
+
     private final AmplNetworkUpdater networkUpdater;
 
     private final OutputFileFormat format;
@@ -89,31 +92,39 @@ public class AmplNetworkReader {
         return tokens;
     }
 
-    private void read(String suffix, int expectedTokenCount, Function<String[], Void> handler) throws IOException {
+    private void read(String suffix, int expectedTokenCount, Function<AmplLineTokenizer, Void> handler) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(
                 dataSource.newInputStream(suffix, format.getFileExtension()), format.getFileEncoding()))) {
+            AmplLineTokenizer tokens = new AmplLineTokenizer(format.getTokenSeparator());
             String line;
             while ((line = reader.readLine()) != null) {
-                String trimedLine = line.trim();
-
                 // skip comments
-                if (trimedLine.startsWith("#")) {
+                if (!tokens.tokenize(line)) {
                     continue;
                 }
 
-                String[] tokens = trimedLine.split(format.getTokenSeparator());
-                if (tokens.length != expectedTokenCount) {
-                    throw createWrongNumberOfColumnException(expectedTokenCount, tokens.length);
+                if (tokens.getTokenCount() != expectedTokenCount) {
+                    throw createWrongNumberOfColumnException(expectedTokenCount, tokens.getTokenCount());
                 }
 
                 //check if it is the right network
-                if (variantIndex == Integer.parseInt(tokens[0])) {
+                if (variantIndex == tokens.getInt(0)) {
                     handler.apply(tokens);
                 }
             }
         }
     }
 
+    /**
+     * Get the id of a number through the reverse mapping table of its subset, built at first use.
+     */
+    private String getId(AmplSubset subset, int num) {
+        String[] subsetIds = ids.computeIfAbsent(subset, mapper::getIds);
+        String id = num >= 0 && num < subsetIds.length ? subsetIds[num] : null;
+        // the mapper may have been modified since the table has been built
+        return id != null ? id : mapper.getId(subset, num);
+    }
+
     public AmplNetworkReader readGenerators() throws IOException {
         // Bug fix, to avoid generators out of main cc to have a different target voltage while connected to same bus (Eurostag check)
         // In that case it will not be part of result file, so not overwritten. So first reset all target voltages to nominal voltage
@@ -126,16 +137,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readGenerator(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        boolean vregul = Boolean.parseBoolean(tokens[3]);
-        double targetV = readDouble(tokens[4]);
-        double targetP = readDouble(tokens[5]);
-        double targetQ = readDouble(tokens[6]);
-        double p = readDouble(tokens[7]);
-        double q = readDouble(tokens[8]);
-        String id = mapper.getId(AmplSubset.GENERATOR, num);
+    private Void readGenerator(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        boolean vregul = tokens.getBoolean(3);
+        double targetV = tokens.getDouble(4);
+        double targetP = tokens.getDouble(5);
+        double targetQ = tokens.getDouble(6);
+        double p = tokens.getDouble(7);
+        double q = tokens.getDouble(8);
+        String id = getId(AmplSubset.GENERATOR, num);
         Generator g = network.getGenerator(id);
         if (g == null) {
             throw new AmplException("Invalid generator id '" + id + "'");
@@ -152,15 +163,15 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readBattery(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double targetP = readDouble(tokens[3]);
-        double targetQ = readDouble(tokens[4]);
-        double p = readDouble(tokens[5]);
-        double q = readDouble(tokens[6]);
+    private Void readBattery(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        double targetP = tokens.getDouble(3);
+        double targetQ = tokens.getDouble(4);
+        double p = tokens.getDouble(5);
+        double q = tokens.getDouble(6);
 
-        String id = mapper.getId(AmplSubset.BATTERY, num);
+        String id = getId(AmplSubset.BATTERY, num);
         Battery b = network.getBattery(id);
         if (b == null) {
             throw new AmplException("Invalid battery id '" + id + "'");
@@ -176,14 +187,14 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readLoad(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double p = readDouble(tokens[3]);
-        double q = readDouble(tokens[4]);
-        double p0 = readDouble(tokens[5]);
-        double q0 = readDouble(tokens[6]);
-        String id = mapper.getId(AmplSubset.LOAD, num);
+    private Void readLoad(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        double p = tokens.getDouble(3);
+        double q = tokens.getDouble(4);
+        double p0 = tokens.getDouble(5);
+        double q0 = tokens.getDouble(6);
+        String id = getId(AmplSubset.LOAD, num);
         Load l = network.getLoad(id);
         networkUpdater.updateNetworkLoad(l, network, id, busNum, p, q, p0, q0);
 
@@ -196,10 +207,10 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readRatioTapChanger(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int tap = Integer.parseInt(tokens[2]);
-        String id = mapper.getId(AmplSubset.RATIO_TAP_CHANGER, num);
+    private Void readRatioTapChanger(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int tap = tokens.getInt(2);
+        String id = getId(AmplSubset.RATIO_TAP_CHANGER, num);
         networkUpdater.updateNetworkRatioTapChanger(network, id, tap);
 
         return null;
@@ -211,10 +222,10 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readPhaseTapChanger(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int tap = Integer.parseInt(tokens[2]);
-        String id = mapper.getId(AmplSubset.PHASE_TAP_CHANGER, num);
+    private Void readPhaseTapChanger(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int tap = tokens.getInt(2);
+        String id = getId(AmplSubset.PHASE_TAP_CHANGER, num);
         networkUpdater.updateNetworkPhaseTapChanger(network, id, tap);
 
         return null;
@@ -226,14 +237,14 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readShunt(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double b = readDouble(tokens[3]);
-        double q = readDouble(tokens[4]);
-        int sections = Integer.parseInt(tokens[5]);
+    private Void readShunt(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        double b = tokens.getDouble(3);
+        double q = tokens.getDouble(4);
+        int sections = tokens.getInt(5);
 
-        String id = mapper.getId(AmplSubset.SHUNT, num);
+        String id = getId(AmplSubset.SHUNT, num);
         ShuntCompensator sc = network.getShuntCompensator(id);
         if (sc == null) {
             throw new AmplException("Invalid shunt compensator id '" + id + "'");
@@ -250,12 +261,12 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readBus(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        double v = readDouble(tokens[2]);
-        double theta = readDouble(tokens[3]);
+    private Void readBus(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        double v = tokens.getDouble(2);
+        double theta = tokens.getDouble(3);
 
-        String id = mapper.getId(AmplSubset.BUS, num);
+        String id = getId(AmplSubset.BUS, num);
         Bus bus = buses.get(id);
         if (bus == null) {
             throw new AmplException("Invalid bus id '" + id + "'");
@@ -272,16 +283,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readBranch(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        int busNum2 = Integer.parseInt(tokens[3]);
-        double p1 = readDouble(tokens[4]);
-        double p2 = readDouble(tokens[5]);
-        double q1 = readDouble(tokens[6]);
-        double q2 = readDouble(tokens[7]);
+    private Void readBranch(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        int busNum2 = tokens.getInt(3);
+        double p1 = tokens.getDouble(4);
+        double p2 = tokens.getDouble(5);
+        double q1 = tokens.getDouble(6);
+        double q2 = tokens.getDouble(7);
 
-        String id = mapper.getId(AmplSubset.BRANCH, num);
+        String id = getId(AmplSubset.BRANCH, num);
 
         Branch br = network.getBranch(id);
         networkUpdater.updateNetworkBranch(br, network, id, busNum, busNum2, p1, p2, q1, q2);
@@ -295,12 +306,12 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readHvdcLine(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        String converterMode = tokens[2].replace("\"", "");
-        double targetP = readDouble(tokens[3]);
+    private Void readHvdcLine(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        String converterMode = tokens.getString(2).replace("\"", "");
+        double targetP = tokens.getDouble(3);
 
-        String id = mapper.getId(AmplSubset.HVDC_LINE, num);
+        String id = getId(AmplSubset.HVDC_LINE, num);
         HvdcLine hl = network.getHvdcLine(id);
         if (hl == null) {
             throw new AmplException("Invalid HvdcLine id '" + id + "'");
@@ -316,14 +327,14 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readSvc(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        boolean vregul = Boolean.parseBoolean(tokens[3]);
-        double targetV = readDouble(tokens[4]);
-        double q = readDouble(tokens[5]);
+    private Void readSvc(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        boolean vregul = tokens.getBoolean(3);
+        double targetV = tokens.getDouble(4);
+        double q = tokens.getDouble(5);
 
-        String id = mapper.getId(AmplSubset.STATIC_VAR_COMPENSATOR, num);
+        String id = getId(AmplSubset.STATIC_VAR_COMPENSATOR, num);
         StaticVarCompensator svc = network.getStaticVarCompensator(id);
         if (svc == null) {
             throw new AmplException("Invalid StaticVarCompensator id '" + id + "'");
@@ -340,13 +351,13 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readLcc(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double p = readDouble(tokens[3]);
-        double q = readDouble(tokens[4]);
+    private Void readLcc(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        double p = tokens.getDouble(3);
+        double q = tokens.getDouble(4);
 
-        String id = mapper.getId(AmplSubset.LCC_CONVERTER_STATION, num);
+        String id = getId(AmplSubset.LCC_CONVERTER_STATION, num);
         LccConverterStation lcc = network.getLccConverterStation(id);
         if (lcc == null) {
             throw new AmplException("Invalid bus id '" + id + "'");
@@ -363,16 +374,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readVsc(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        boolean vregul = Boolean.parseBoolean(tokens[3]);
-        double targetV = readDouble(tokens[4]);
-        double targetQ = readDouble(tokens[5]);
-        double p = readDouble(tokens[6]);
-        double q = readDouble(tokens[7]);
+    private Void readVsc(AmplLineTokenizer tokens) {
+        int num = tokens.getInt(1);
+        int busNum = tokens.getInt(2);
+        boolean vregul = tokens.getBoolean(3);
+        double targetV = tokens.getDouble(4);
+        double targetQ = tokens.getDouble(5);
+        double p = tokens.getDouble(6);
+        double q = tokens.getDouble(7);
 
-        String id = mapper.getId(AmplSubset.VSC_CONVERTER_STATION, num);
+        String id = getId(AmplSubset.VSC_CONVERTER_STATION, num);
         VscConverterStation vsc = network.getVscConverterStation(id);
         networkUpdater.updateNetworkVsc(vsc, busNum, vregul, targetV, targetQ, p, q);
 
@@ -409,8 +420,4 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private double readDouble(String d) {
-        return Float.parseFloat(d) != AmplConstants.INVALID_FLOAT_VALUE ? Double.parseDouble(d) : Double.NaN;
-    }
-
 }
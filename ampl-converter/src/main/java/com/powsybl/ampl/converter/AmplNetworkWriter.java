@@ -30,6 +30,9 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static com.powsybl.ampl.converter.AmplConstants.DEFAULT_VARIANT_INDEX;
 import static com.powsybl.ampl.converter.AmplConstants.VARIANT;
@@ -83,6 +86,12 @@ public class AmplNetworkWriter {
 
     private final AmplExportConfig config;
 
+    private final Executor executor;
+
+    /**
+     * Filled by the buses table, before the other tables are written, possibly concurrently: each of the other sets
+     * is filled by a single table.
+     */
     private static class AmplExportContext {
 
         private int otherCcNum = Integer.MAX_VALUE;
@@ -99,8 +108,15 @@ public class AmplNetworkWriter {
 
     }
 
+    /**
+     * @param executor executor of the tables written concurrently, or null to write the tables one after the other.
+     *                 The data source must then support concurrent output streams, like a file data source, and
+     *                 the network and the mapper concurrent reads: for instance a mapper filled before the export,
+     *                 and an in-memory network whose bus views and connected components are computed by the buses
+     *                 table, written first.
+     */
     public AmplNetworkWriter(Network network, int variantIndex, DataSource dataSource, int faultNum, int actionNum,
-                             boolean append, StringToIntMapper<AmplSubset> mapper, AmplExportConfig config) {
+                             boolean append, StringToIntMapper<AmplSubset> mapper, AmplExportConfig config, Executor executor) {
         this.network = Objects.requireNonNull(network);
         this.variantIndex = variantIndex;
         this.faultNum = faultNum;
@@ -109,9 +125,23 @@ public class AmplNetworkWriter {
         this.append = append;
         this.mapper = Objects.requireNonNull(mapper);
         this.config = Objects.requireNonNull(config);
+        this.executor = executor;
         extensionMap = new HashMap<>();
     }
 
+    public AmplNetworkWriter(Network network, int variantIndex, DataSource dataSource, int faultNum, int actionNum,
+                             boolean append, StringToIntMapper<AmplSubset> mapper, AmplExportConfig config) {
+        this(network, variantIndex, dataSource, faultNum, actionNum, append, mapper, config, null);
+    }
+
+    /**
+     * Writer of a single table, collecting the extensions of its elements.
+     */
+    private AmplNetworkWriter(AmplNetworkWriter other) {
+        this(other.network, other.variantIndex, other.dataSource, other.faultNum, other.actionNum, other.append,
+                other.mapper, other.config, null);
+    }
+
     public AmplNetworkWriter(Network network, DataSource dataSource, int faultNum, int actionNum,
                              boolean append, StringToIntMapper<AmplSubset> mapper, AmplExportConfig config) {
         this(network, DEFAULT_VARIANT_INDEX, dataSource, faultNum, actionNum, append, mapper, config);
@@ -123,7 +153,11 @@ public class AmplNetworkWriter {
     }
 
     public AmplNetworkWriter(Network network, DataSource dataSource, AmplExportConfig config) {
-        this(network, DEFAULT_VARIANT_INDEX, dataSource, 0, 0, false, AmplUtil.createMapper(network), config);
+        this(network, DEFAULT_VARIANT_INDEX, dataSource, 0, 0, false, AmplUtil.createUnsynchronizedMapper(network), config);
+    }
+
+    public AmplNetworkWriter(Network network, DataSource dataSource, AmplExportConfig config, Executor executor) {
+        this(network, DEFAULT_VARIANT_INDEX, dataSource, 0, 0, false, AmplUtil.createUnsynchronizedMapper(network), config, executor);
     }
 
     public static String getTableTitle(Network network, String tableName) {
@@ -1964,29 +1998,104 @@ public class AmplNetworkWriter {
         }
     }
 
+    @FunctionalInterface
+    private interface TableWriter {
+
+        void write(AmplNetworkWriter writer) throws IOException;
+    }
+
+    /**
+     * Write tables, concurrently if there is an executor, the extensions being added in the order of the tables.
+     */
+    private void writeTables(List<TableWriter> tables) throws IOException {
+        if (executor == null) {
+            for (TableWriter table : tables) {
+                table.write(this);
+            }
+            return;
+        }
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        boolean multiThreadAccess = variantManager.isVariantMultiThreadAccessAllowed();
+        List<AmplNetworkWriter> tableWriters = new ArrayList<>(tables.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(tables.size());
+        for (TableWriter table : tables) {
+            AmplNetworkWriter tableWriter = new AmplNetworkWriter(this);
+            tableWriters.add(tableWriter);
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (multiThreadAccess) {
+                    variantManager.setWorkingVariant(variantId);
+                }
+                try {
+                    table.write(tableWriter);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        for (AmplNetworkWriter tableWriter : tableWriters) {
+            tableWriter.extensionMap.forEach((name, extensions) -> extensionMap.computeIfAbsent(name, k -> new ArrayList<>()).addAll(extensions));
+        }
+    }
+
     public void write() throws IOException {
         write(new AmplExportContext());
     }
 
     public void write(AmplExportContext context) throws IOException {
         extensionMap.clear();
+        // first, as it fills the context used by the other tables
         writeBuses(context);
-        writeTapChangerTable();
-        writeRatioTapChangers();
-        writePhaseTapChangers();
-        writeBranches(context);
-        writeCurrentLimits();
-        writeGenerators(context);
-        writeBatteries(context);
-        writeLoads(context);
-        writeShunts(context);
-        writeStaticVarCompensators();
-        writeSubstations();
-        writeVscConverterStations();
-        writeLccConverterStations();
-        writeHvdcLines();
+        writeTables(List.of(
+            AmplNetworkWriter::writeTapChangerTable,
+            AmplNetworkWriter::writeRatioTapChangers,
+            AmplNetworkWriter::writePhaseTapChangers,
+            writer -> writer.writeBranches(context),
+            AmplNetworkWriter::writeCurrentLimits,
+            writer -> writer.writeGenerators(context),
+            writer -> writer.writeBatteries(context),
+            writer -> writer.writeLoads(context),
+            writer -> writer.writeShunts(context),
+            AmplNetworkWriter::writeStaticVarCompensators,
+            AmplNetworkWriter::writeSubstations,
+            AmplNetworkWriter::writeVscConverterStations,
+            AmplNetworkWriter::writeLccConverterStations,
+            AmplNetworkWriter::writeHvdcLines));
 
         addNetworkExtensions();
         exportExtensions();
     }
+
+    /**
+     * Write only the tables depending on the state of the working variant: buses voltages, tap positions, injections
+     * and HVDC setpoints. The branches, tap changer steps, current limits and substations tables, as well as the
+     * extensions tables, are not written: they must have been written by a previous {@link #write()} of a variant
+     * with the same topology and characteristics, to the same data source.
+     */
+    public void writeVariant() throws IOException {
+        AmplExportContext context = new AmplExportContext();
+        extensionMap.clear();
+        writeBuses(context);
+        writeTables(List.of(
+            AmplNetworkWriter::writeRatioTapChangers,
+            AmplNetworkWriter::writePhaseTapChangers,
+            writer -> writer.writeGenerators(context),
+            writer -> writer.writeBatteries(context),
+            writer -> writer.writeLoads(context),
+            writer -> writer.writeShunts(context),
+            AmplNetworkWriter::writeStaticVarCompensators,
+            AmplNetworkWriter::writeVscConverterStations,
+            AmplNetworkWriter::writeLccConverterStations,
+            AmplNetworkWriter::writeHvdcLines));
+    }
 }
@@ -8,6 +8,7 @@
 package com.powsybl.ampl.converter;
 
 import com.powsybl.commons.util.StringToIntMapper;
+import com.powsybl.commons.util.UnsynchronizedStringToIntMapper;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.HvdcConverterStation.HvdcType;
 
@@ -54,6 +55,15 @@ public final class AmplUtil {
         return mapper;
     }
 
+    /**
+     * Create a mapper of all the network ids without locking, to be used by a single thread, or only read once filled.
+     */
+    public static StringToIntMapper<AmplSubset> createUnsynchronizedMapper(Network network) {
+        StringToIntMapper<AmplSubset> mapper = new UnsynchronizedStringToIntMapper<>(AmplSubset.class);
+        fillMapper(mapper, network);
+        return mapper;
+    }
+
     static String getXnodeBusId(TieLine tieLine) {
         return tieLine.getPairingKey();
     }
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class AmplLineTokenizerTest {
+
+    private static void assertSameAsSplit(String separator, String line) {
+        AmplLineTokenizer tokenizer = new AmplLineTokenizer(separator);
+        assertTrue(tokenizer.tokenize(line));
+        String[] expected = line.trim().split(separator);
+        assertEquals(expected.length, tokenizer.getTokenCount());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], tokenizer.getString(i));
+        }
+    }
+
+    @Test
+    void testSplit() {
+        for (String line : List.of("1 2  3 -99999", "  1 \"a b\" 3.5  ", "", "  ", "single")) {
+            assertSameAsSplit(OutputFileFormat.getDefault().getTokenSeparator(), line);
+        }
+        for (String line : List.of("1;2;;3", ";1;2;", "1;;", ";;", "1")) {
+            assertSameAsSplit(";", line);
+        }
+        assertSameAsSplit("", "abc");
+    }
+
+    @Test
+    void testParse() {
+        AmplLineTokenizer tokenizer = new AmplLineTokenizer(OutputFileFormat.getDefault().getTokenSeparator());
+        assertFalse(tokenizer.tokenize("  #comment 1 2"));
+        assertTrue(tokenizer.tokenize("1 -12 TRUE false 0.5 -99999 -99999.0 \"x\""));
+        assertEquals(8, tokenizer.getTokenCount());
+        assertEquals(1, tokenizer.getInt(0));
+        assertEquals(-12, tokenizer.getInt(1));
+        assertTrue(tokenizer.getBoolean(2));
+        assertFalse(tokenizer.getBoolean(3));
+        assertEquals(0.5, tokenizer.getDouble(4), 0);
+        assertTrue(Double.isNaN(tokenizer.getDouble(5)));
+        assertTrue(Double.isNaN(tokenizer.getDouble(6)));
+        assertEquals("\"x\"", tokenizer.getString(7));
+        assertThrows(NumberFormatException.class, () -> tokenizer.getInt(4));
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter;
+
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.commons.util.StringToIntMapper;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Parsing of a large AMPL loads result file, by a line split as the reader did before {@link AmplLineTokenizer}, by
+ * the tokenizer, and by the reader, which also updates the network.
+ * <p>
+ * Only run when the {@code powsybl.benchmarks} system property is {@code true}, the number of loads being given by the
+ * {@code powsybl.benchmarks.load-count} system property.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class AmplNetworkReaderBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AmplNetworkReaderBenchmarkTest.class);
+
+    private static final int WARM_UP_COUNT = 5;
+
+    private static final int RUN_COUNT = 10;
+
+    private interface Run {
+        double run() throws IOException;
+    }
+
+    private static void measure(String name, Run run) throws IOException {
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            run.run();
+        }
+        long[] times = new long[RUN_COUNT];
+        for (int i = 0; i < RUN_COUNT; i++) {
+            long start = System.nanoTime();
+            run.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        LOGGER.info("{}: median {} ms, min {} ms over {} runs", name, times[RUN_COUNT / 2] / 1_000_000, times[0] / 1_000_000, RUN_COUNT);
+    }
+
+    private static Network createNetwork(int loadCount) {
+        Network network = EurostagTutorialExample1Factory.create();
+        VoltageLevel vlload = network.getVoltageLevel("VLLOAD");
+        for (int i = 0; i < loadCount; i++) {
+            vlload.newLoad()
+                    .setId("LOAD" + i)
+                    .setBus("NLOAD")
+                    .setConnectableBus("NLOAD")
+                    .setP0(1)
+                    .setQ0(0.1)
+                    .add();
+        }
+        return network;
+    }
+
+    private static void writeLoads(Network network, StringToIntMapper<AmplSubset> mapper, MemDataSource dataSource) throws IOException {
+        OutputFileFormat format = OutputFileFormat.getDefault();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(dataSource.newOutputStream("_loads", format.getFileExtension(), false), format.getFileEncoding()))) {
+            writer.write("#Loads\n");
+            writer.write("#\"variant\" \"num\" \"bus\" \"p (MW)\" \"q (MVar)\" \"p0 (MW)\" \"q0 (MVar)\"\n");
+            for (Load load : network.getLoads()) {
+                writer.write(String.format(Locale.US, "1 %d %d %.3f %.3f %.3f %.3f\n", mapper.getInt(AmplSubset.LOAD, load.getId()),
+                        AmplUtil.getConnectableBusNum(mapper, load.getTerminal()), 1.001, 0.101, 1.0, 0.1));
+            }
+        }
+    }
+
+    private static BufferedReader newReader(MemDataSource dataSource) throws IOException {
+        return new BufferedReader(new InputStreamReader(dataSource.newInputStream("_loads", OutputFileFormat.getDefault().getFileExtension()),
+                StandardCharsets.UTF_8));
+    }
+
+    private static double readDouble(String token) {
+        double value = Double.parseDouble(token);
+        return (float) value != AmplConstants.INVALID_FLOAT_VALUE ? value : Double.NaN;
+    }
+
+    private static double parseBySplit(MemDataSource dataSource, StringToIntMapper<AmplSubset> mapper) throws IOException {
+        String separator = OutputFileFormat.getDefault().getTokenSeparator();
+        double sum = 0;
+        try (BufferedReader reader = newReader(dataSource)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmedLine = line.trim();
+                if (!trimmedLine.startsWith("#")) {
+                    String[] tokens = trimmedLine.split(separator);
+                    String id = mapper.getId(AmplSubset.LOAD, Integer.parseInt(tokens[1]));
+                    sum += id.length() + Integer.parseInt(tokens[2]) + readDouble(tokens[3]) + readDouble(tokens[4])
+                            + readDouble(tokens[5]) + readDouble(tokens[6]);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static double parseByTokenizer(MemDataSource dataSource, StringToIntMapper<AmplSubset> mapper) throws IOException {
+        AmplLineTokenizer tokens = new AmplLineTokenizer(OutputFileFormat.getDefault().getTokenSeparator());
+        String[] ids = mapper.getIds(AmplSubset.LOAD);
+        double sum = 0;
+        try (BufferedReader reader = newReader(dataSource)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (tokens.tokenize(line)) {
+                    String id = ids[tokens.getInt(1)];
+                    sum += id.length() + tokens.getInt(2) + tokens.getDouble(3) + tokens.getDouble(4)
+                            + tokens.getDouble(5) + tokens.getDouble(6);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Test
+    void test() throws IOException {
+        int loadCount = Integer.getInteger("powsybl.benchmarks.load-count", 200_000);
+        Network network = createNetwork(loadCount);
+        StringToIntMapper<AmplSubset> mapper = AmplUtil.createMapper(network);
+        MemDataSource dataSource = new MemDataSource();
+        writeLoads(network, mapper, dataSource);
+
+        assertEquals(parseBySplit(dataSource, mapper), parseByTokenizer(dataSource, mapper), 1e-3);
+        measure("Split", () -> parseBySplit(dataSource, mapper));
+        measure("Tokenizer", () -> parseByTokenizer(dataSource, mapper));
+        measure("Reader", () -> {
+            new AmplNetworkReader(dataSource, network, mapper).readLoads();
+            return 0;
+        });
+        assertEquals(1.001, network.getLoad("LOAD0").getTerminal().getP(), 1e-6);
+    }
+}
@@ -8,6 +8,7 @@ package com.powsybl.ampl.converter;
 
 import com.powsybl.commons.test.AbstractConverterTest;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.FileDataSource;
 import com.powsybl.commons.datasource.MemDataSource;
 import com.powsybl.iidm.network.DanglingLine;
 import com.powsybl.iidm.network.HvdcLine;
@@ -20,7 +21,13 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import static com.powsybl.commons.test.ComparisonUtils.compareTxt;
 
@@ -40,7 +47,7 @@ class AmplNetworkWriterTest extends AbstractConverterTest {
         AmplExporter exporter = new AmplExporter();
         assertEquals("AMPL", exporter.getFormat());
         assertEquals("IIDM to AMPL converter", exporter.getComment());
-        assertEquals(5, exporter.getParameters().size());
+        assertEquals(6, exporter.getParameters().size());
     }
 
     @Test
@@ -238,6 +245,73 @@ class AmplNetworkWriterTest extends AbstractConverterTest {
         assertEqualsToRef(dataSource, "foo-extension", "inputs/foo-extension.txt");
     }
 
+    @Test
+    void writeConcurrently() throws IOException {
+        Network network = HvdcTestNetwork.createLcc();
+        network.getHvdcLine("L").addExtension(FooExtension.class, new FooExtension());
+        AmplExportConfig config = new AmplExportConfig(AmplExportConfig.ExportScope.ALL, false, AmplExportConfig.ExportActionType.CURATIVE);
+
+        Path sequentialDir = Files.createDirectory(tmpDir.resolve("sequential"));
+        new AmplNetworkWriter(network, new FileDataSource(sequentialDir, "ampl"), config).write();
+        Path concurrentDir = Files.createDirectory(tmpDir.resolve("concurrent"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new AmplNetworkWriter(network, new FileDataSource(concurrentDir, "ampl"), config, executor).write();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(sequentialDir)) {
+            files = stream.toList();
+        }
+        assertFalse(files.isEmpty());
+        for (Path file : files) {
+            assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(concurrentDir.resolve(file.getFileName().toString())));
+        }
+    }
+
+    @Test
+    void exportConcurrently() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators();
+        Path sequentialDir = Files.createDirectory(tmpDir.resolve("sequential"));
+        export(network, new Properties(), new FileDataSource(sequentialDir, "ampl"));
+        Path concurrentDir = Files.createDirectory(tmpDir.resolve("concurrent"));
+        Properties properties = new Properties();
+        properties.put(AmplExporter.CONCURRENT_TABLES, "true");
+        export(network, properties, new FileDataSource(concurrentDir, "ampl"));
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(sequentialDir)) {
+            files = stream.toList();
+        }
+        assertFalse(files.isEmpty());
+        for (Path file : files) {
+            assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(concurrentDir.resolve(file.getFileName().toString())));
+        }
+    }
+
+    @Test
+    void writeVariant() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators();
+        AmplExportConfig config = new AmplExportConfig(AmplExportConfig.ExportScope.ALL, false, AmplExportConfig.ExportActionType.CURATIVE);
+        MemDataSource dataSource = new MemDataSource();
+        new AmplNetworkWriter(network, dataSource, config).write();
+        byte[] branches = dataSource.getData("_network_branches", "txt");
+
+        network.getLoad("LOAD").setP0(700.0);
+        network.getGenerator("GEN").setTargetP(710.0);
+        network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().setTapPosition(2);
+        new AmplNetworkWriter(network, dataSource, config).writeVariant();
+
+        MemDataSource expectedDataSource = new MemDataSource();
+        new AmplNetworkWriter(network, expectedDataSource, config).write();
+        for (String suffix : List.of("_network_buses", "_network_loads", "_network_generators", "_network_rtc")) {
+            assertArrayEquals(expectedDataSource.getData(suffix, "txt"), dataSource.getData(suffix, "txt"));
+        }
+        assertArrayEquals(branches, dataSource.getData("_network_branches", "txt"));
+    }
+
     private void export(Network network, Properties properties, DataSource dataSource) {
         AmplExporter exporter = new AmplExporter();
         exporter.export(network, properties, dataSource);
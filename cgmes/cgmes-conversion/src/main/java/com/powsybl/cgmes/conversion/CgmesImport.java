@@ -108,6 +108,12 @@ public class CgmesImport implements Importer {
         return Collections.unmodifiableList(allParams);
     }
 
+    @Override
+    public boolean mayExist(ReadOnlyDataSource ds) {
+        // the CGMES files are not named after the base name of the data source, only their extension is checked
+        return new CgmesOnDataSource(ds).mayExist();
+    }
+
     @Override
     public boolean exists(ReadOnlyDataSource ds) {
         CgmesOnDataSource cds = new CgmesOnDataSource(ds);
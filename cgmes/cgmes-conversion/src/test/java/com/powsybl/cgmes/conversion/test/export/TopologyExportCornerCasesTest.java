@@ -58,7 +58,7 @@ class TopologyExportCornerCasesTest extends AbstractConverterTest {
     @Test
     void testExportDisconnectedLoadNodeBreaker() {
         test(createDisconnectedLoadNBNetwork(), false, true,
-                new String[] {"voltageLevel1_0", "voltageLevel1_1", "voltageLevel1_3"});
+                new String[] {"voltageLevel1_0", "voltageLevel1_1", "voltageLevel1_4"});
     }
 
     private void test(Network network,
@@ -78,6 +78,17 @@ public class CgmesOnDataSource {
                 });
     }
 
+    /**
+     * Check cheaply, without reading them, that the data source contains files which may hold CGMES data.
+     */
+    public boolean mayExist() {
+        try {
+            return !dataSource.listNames(REGEX_VALID_NAME).isEmpty();
+        } catch (IOException x) {
+            throw new CgmesModelException(String.format("Listing CGMES names in data source %s", dataSource), x);
+        }
+    }
+
     public Set<String> names() {
         try {
             // the set of names may be empty if the data source does not contain CGMES data
@@ -76,4 +76,12 @@ class CgmesOnDataSourceTest {
     void testRdfCim14NotExistsCim16() {
         doTestExists("empty_cim14_EQ.xml", "16", false);
     }
+
+    @Test
+    void testMayExist() {
+        assertTrue(new CgmesOnDataSource(new ResourceDataSource("incomplete", new ResourceSet("/", "empty_cim16_EQ.xml"))).mayExist());
+        // only the extension is checked, not the content
+        assertTrue(new CgmesOnDataSource(new ResourceDataSource("incomplete", new ResourceSet("/", "validRdfInvalidContent_EQ.xml"))).mayExist());
+        assertFalse(new CgmesOnDataSource(new ResourceDataSource("incomplete", new ResourceSet("/"))).mayExist());
+    }
 }
@@ -6,25 +6,28 @@
  */
 package com.powsybl.cim;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableSet;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
 import com.powsybl.commons.util.StringAnonymizer;
-import javanet.staxutils.helpers.EventWriterDelegate;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.*;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.Characters;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.transform.stax.StAXResult;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -66,152 +69,191 @@ public class CimAnonymizer {
     private static class XmlStaxContext {
         private final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
         private final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
-        private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+    }
+
+    @FunctionalInterface
+    private interface XmlReaderFunction<T> {
+
+        T apply(XMLStreamReader reader) throws XMLStreamException, IOException;
     }
 
     private final XmlStaxContext xmlStaxContext = new XmlStaxContext();
 
-    private static class XmlAnonymizer extends EventWriterDelegate {
+    /**
+     * Cursor based anonymization of a CIM file, the output being written to a stream writer. Without writer, the
+     * file is only read, which allows to collect the strings passed to the dictionary.
+     */
+    private static final class XmlAnonymizer {
 
         private final XmlStaxContext xmlStaxContext;
-        private final StringAnonymizer dictionary;
+        private final UnaryOperator<String> dictionary;
         private final Set<String> rdfIdValues;
         private final Set<String> skipped;
 
         private boolean identifiedObjectName = false;
         private boolean identifiedObjectDescription = false;
 
-        public XmlAnonymizer(XMLEventWriter out, XmlStaxContext xmlStaxContext, StringAnonymizer dictionary, Set<String> rdfIdValues, Set<String> skipped) {
-            super(out);
+        private XMLEventWriter eventWriter;
+
+        private XmlAnonymizer(XmlStaxContext xmlStaxContext, UnaryOperator<String> dictionary, Set<String> rdfIdValues, Set<String> skipped) {
             this.xmlStaxContext = Objects.requireNonNull(xmlStaxContext);
             this.dictionary = Objects.requireNonNull(dictionary);
             this.rdfIdValues = rdfIdValues;
             this.skipped = Objects.requireNonNull(skipped);
         }
 
-        private static XMLEvent anonymizeCharacters(Characters characters, Set<String> exclude, Set<String> skipped, XMLEventFactory eventFactory,
-                                                    StringAnonymizer dictionary) {
-            if (exclude.contains(characters.getData())) {
-                skipped.add(characters.getData());
+        private String anonymizeCharacters(String characters, Set<String> exclude) {
+            if (exclude.contains(characters)) {
+                skipped.add(characters);
                 return null;
             } else {
-                return eventFactory.createCharacters(dictionary.anonymize(characters.getData()));
+                return dictionary.apply(characters);
             }
         }
 
-        private static final class AttributeValue {
-
-            private final String nsUri;
-            private final String value;
-
-            private AttributeValue(String nsUri, String value) {
-                this.nsUri = nsUri;
-                this.value = Objects.requireNonNull(value);
-            }
-
-            private static AttributeValue parseValue(Attribute attribute) {
-                int hashTagPos = attribute.getValue().indexOf('#');
-                String nsUri;
-                String value;
-                if (hashTagPos != -1) {
-                    nsUri = attribute.getValue().substring(0, hashTagPos);
-                    value = attribute.getValue().substring(hashTagPos + 1);
+        private String anonymizeAttribute(QName name, String value) {
+            if (name.equals(RDF_ID)) {
+                return dictionary.apply(value);
+            } else if (name.equals(RDF_RESOURCE) || name.equals(RDF_ABOUT)) {
+                // skip outside graph rdf:ID references
+                int hashTagPos = value.indexOf('#');
+                String nsUri = hashTagPos != -1 ? value.substring(0, hashTagPos) : null;
+                String id = hashTagPos != -1 ? value.substring(hashTagPos + 1) : value;
+                if ((nsUri == null || !nsUri.matches(CIM_URI_PATTERN)) &&
+                        (rdfIdValues == null || rdfIdValues.contains(id))) {
+                    return (nsUri != null ? nsUri : "") + "#" + dictionary.apply(id);
                 } else {
-                    nsUri = null;
-                    value = attribute.getValue();
+                    skipped.add(value);
+                    return value;
                 }
-                return new AttributeValue(nsUri, value);
-            }
-
-            private String getNsUri() {
-                return nsUri;
-            }
-
-            private String get() {
-                return value;
-            }
-
-            private String toString(StringAnonymizer dictionary) {
-                return (nsUri != null ? nsUri : "") + "#" + dictionary.anonymize(value);
+            } else {
+                throw new IllegalStateException("Unknown attribute " + name);
             }
         }
 
-        private Attribute anonymizeAttribute(Attribute attribute) {
-            if (attribute.getName().equals(RDF_ID)) {
-                return xmlStaxContext.eventFactory.createAttribute(attribute.getName(), dictionary.anonymize(attribute.getValue()));
-            } else if (attribute.getName().equals(RDF_RESOURCE) || attribute.getName().equals(RDF_ABOUT)) {
-                // skip outside graph rdf:ID references
-                AttributeValue value = AttributeValue.parseValue(attribute);
-                if ((value.getNsUri() == null || !value.getNsUri().matches(CIM_URI_PATTERN)) &&
-                        (rdfIdValues == null || rdfIdValues.contains(value.get()))) {
-                    return xmlStaxContext.eventFactory.createAttribute(attribute.getName(), value.toString(dictionary));
-                } else {
-                    skipped.add(attribute.getValue());
-                    return null;
-                }
-            } else {
-                throw new IllegalStateException("Unknown attribute " + attribute.getName());
+        /**
+         * Attributes are processed in the iteration order of the StAX event API, which stores them in a hash map,
+         * so that the anonymized files and the dictionary stay the same as with the event based anonymizer.
+         */
+        private static Collection<Integer> getAttributeOrder(XMLStreamReader reader) {
+            int attributeCount = reader.getAttributeCount();
+            if (attributeCount <= 1) {
+                return attributeCount == 0 ? Collections.emptyList() : Collections.singletonList(0);
             }
+            Map<QName, Integer> attributes = new HashMap<>();
+            for (int i = 0; i < attributeCount; i++) {
+                attributes.put(reader.getAttributeName(i), i);
+            }
+            return attributes.values();
         }
 
-        private XMLEvent anonymizeStartElement(StartElement startElement) {
-            if (startElement.getName().getLocalPart().equals("IdentifiedObject.name")) {
+        private void startElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+            boolean anonymizeAttributes = false;
+            if (reader.getLocalName().equals("IdentifiedObject.name")) {
                 identifiedObjectName = true;
-            } else if (startElement.getName().getLocalPart().equals("IdentifiedObject.description")) {
+            } else if (reader.getLocalName().equals("IdentifiedObject.description")) {
                 identifiedObjectDescription = true;
             } else {
-                Iterator<Attribute> it = startElement.getAttributes();
-                if (it.hasNext()) {
-                    List<Attribute> newAttributes = new ArrayList<>();
-                    while (it.hasNext()) {
-                        Attribute attribute = it.next();
-                        Attribute newAttribute = anonymizeAttribute(attribute);
-                        newAttributes.add(newAttribute != null ? newAttribute : attribute);
-                    }
-                    return xmlStaxContext.eventFactory.createStartElement(startElement.getName(),
-                                                                          newAttributes.iterator(),
-                                                                          startElement.getNamespaces());
+                anonymizeAttributes = true;
+            }
+            Collection<Integer> attributeOrder = getAttributeOrder(reader);
+            List<String> values = new ArrayList<>(attributeOrder.size());
+            for (int i : attributeOrder) {
+                String value = reader.getAttributeValue(i);
+                values.add(anonymizeAttributes ? anonymizeAttribute(reader.getAttributeName(i), value) : value);
+            }
+            if (writer != null) {
+                writer.writeStartElement(Strings.nullToEmpty(reader.getPrefix()), reader.getLocalName(), Strings.nullToEmpty(reader.getNamespaceURI()));
+                for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                    writer.writeNamespace(Strings.nullToEmpty(reader.getNamespacePrefix(i)), reader.getNamespaceURI(i));
+                }
+                Iterator<String> itValue = values.iterator();
+                for (int i : attributeOrder) {
+                    QName name = reader.getAttributeName(i);
+                    writer.writeAttribute(name.getPrefix(), name.getNamespaceURI(), name.getLocalPart(), itValue.next());
                 }
             }
-            return null;
         }
 
-        private XMLEvent anonymizeCharacters(Characters characters) {
+        private void characters(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+            String anonymized = null;
             if (identifiedObjectName) {
                 identifiedObjectName = false;
-                return anonymizeCharacters(characters, NAMES_TO_EXCLUDE, skipped, xmlStaxContext.eventFactory, dictionary);
+                anonymized = anonymizeCharacters(reader.getText(), NAMES_TO_EXCLUDE);
             } else if (identifiedObjectDescription) {
                 identifiedObjectDescription = false;
-                return anonymizeCharacters(characters, DESCRIPTIONS_TO_EXCLUDE, skipped, xmlStaxContext.eventFactory, dictionary);
+                anonymized = anonymizeCharacters(reader.getText(), DESCRIPTIONS_TO_EXCLUDE);
+            }
+            if (writer != null) {
+                if (anonymized != null) {
+                    writer.writeCharacters(anonymized);
+                } else if (reader.getEventType() == XMLStreamConstants.CDATA) {
+                    writer.writeCData(reader.getText());
+                } else {
+                    writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
             }
-            return null;
         }
 
-        @Override
-        public void add(XMLEvent event) throws XMLStreamException {
-            XMLEvent newEvent = null;
-
-            if (event.isStartElement()) {
-                StartElement startElement = event.asStartElement();
-                newEvent = anonymizeStartElement(startElement);
-            } else if (event.isCharacters()) {
-                Characters characters = event.asCharacters();
-                newEvent = anonymizeCharacters(characters);
+        private void copyEvent(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+            // rare events (document start, DTD...) are written through the event API so that their serialization
+            // stays exactly the same, the event reader allocating the event at the current position of the cursor
+            if (eventWriter == null) {
+                eventWriter = xmlStaxContext.outputFactory.createXMLEventWriter(new StAXResult(writer));
             }
+            eventWriter.add(xmlStaxContext.inputFactory.createXMLEventReader(reader).nextEvent());
+        }
 
-            super.add(newEvent != null ? newEvent : event);
+        private void anonymize(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+            int event = reader.getEventType();
+            while (true) {
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT -> startElement(reader, writer);
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> characters(reader, writer);
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (writer != null) {
+                            writer.writeEndElement();
+                        }
+                    }
+                    case XMLStreamConstants.COMMENT -> {
+                        if (writer != null) {
+                            writer.writeComment(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION -> {
+                        if (writer != null) {
+                            writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                        }
+                    }
+                    case XMLStreamConstants.END_DOCUMENT -> {
+                        if (writer != null) {
+                            writer.writeEndDocument();
+                        }
+                    }
+                    default -> {
+                        if (writer != null) {
+                            copyEvent(reader, writer);
+                        }
+                    }
+                }
+                if (!reader.hasNext()) {
+                    break;
+                }
+                event = reader.next();
+            }
         }
     }
 
     private static void anonymizeFile(InputStream cimFileInputStream, OutputStream anonymizedCimFileOutputStream, XmlStaxContext xmlStaxContext,
-                                      StringAnonymizer dictionary, Set<String> rdfIdValues, Set<String> skipped) {
+                                      UnaryOperator<String> dictionary, Set<String> rdfIdValues, Set<String> skipped) {
         try {
-            XMLEventReader eventReader = xmlStaxContext.inputFactory.createXMLEventReader(cimFileInputStream);
-            XMLEventWriter eventWriter = new XmlAnonymizer(xmlStaxContext.outputFactory.createXMLEventWriter(anonymizedCimFileOutputStream),
-                    xmlStaxContext, dictionary, rdfIdValues, skipped);
-            eventWriter.add(eventReader);
-            eventWriter.close();
-            eventReader.close();
+            XMLStreamReader reader = xmlStaxContext.inputFactory.createXMLStreamReader(cimFileInputStream);
+            XMLStreamWriter writer = anonymizedCimFileOutputStream != null ? xmlStaxContext.outputFactory.createXMLStreamWriter(anonymizedCimFileOutputStream) : null;
+            new XmlAnonymizer(xmlStaxContext, dictionary, rdfIdValues, skipped).anonymize(reader, writer);
+            if (writer != null) {
+                writer.close();
+            }
+            reader.close();
         } catch (XMLStreamException e) {
             throw new UncheckedXmlStreamException(e);
         }
@@ -239,44 +281,130 @@ public class CimAnonymizer {
         }
     }
 
-    private void addRdfIdValues(InputStream is, Set<String> rdfIdValues) throws XMLStreamException {
+    private static <T> T readEntry(ZipFile zipFileData, ZipArchiveEntry entry, XmlStaxContext xmlStaxContext, XmlReaderFunction<T> function) {
+        try (InputStream is = zipFileData.getInputStream(entry)) {
+            XMLStreamReader reader = xmlStaxContext.inputFactory.createXMLStreamReader(is);
+            T result = function.apply(reader);
+            reader.close();
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    /**
+     * Apply a task to each entry of the archive, concurrently if an executor is given. As StAX factories are not
+     * thread safe, each concurrent task is given its own context.
+     */
+    private <E, T> List<T> processEntries(List<E> entries, Executor executor, BiFunction<E, XmlStaxContext, T> task) {
+        if (executor == null) {
+            return entries.stream().map(entry -> task.apply(entry, xmlStaxContext)).toList();
+        }
+        List<CompletableFuture<T>> futures = entries.stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> task.apply(entry, new XmlStaxContext()), executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static Set<String> getRdfIdValues(XMLStreamReader reader) throws XMLStreamException {
         // memoize RDF ID values of the document
-        XMLEventReader eventReader = xmlStaxContext.inputFactory.createXMLEventReader(is);
-        while (eventReader.hasNext()) {
-            XMLEvent event = eventReader.nextEvent();
-            if (event.isStartElement()) {
-                StartElement startElement = event.asStartElement();
-                Iterator<Attribute> it = startElement.getAttributes();
-                while (it.hasNext()) {
-                    Attribute attribute = it.next();
-                    QName name = attribute.getName();
-                    if (RDF_ID.equals(name)) {
-                        rdfIdValues.add(attribute.getValue());
+        Set<String> rdfIdValues = new HashSet<>();
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    if (RDF_ID.getLocalPart().equals(reader.getAttributeLocalName(i)) && RDF_URI.equals(reader.getAttributeNamespace(i))) {
+                        rdfIdValues.add(reader.getAttributeValue(i));
                     }
                 }
             }
         }
-        eventReader.close();
+        return rdfIdValues;
     }
 
-    private Set<String> getRdfIdValues(ZipFile zipFileData) {
+    private Set<String> getRdfIdValues(ZipFile zipFileData, List<ZipArchiveEntry> entries, Executor executor) {
         Set<String> rdfIdValues = new HashSet<>();
 
         // memoize rdf:ID values, will be used to detect outside graph references
-        for (ZipArchiveEntry entry : Collections.list(zipFileData.getEntries())) {
-            try (InputStream is = zipFileData.getInputStream(zipFileData.getEntry(entry.getName()))) {
-                addRdfIdValues(is, rdfIdValues);
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            } catch (XMLStreamException e) {
-                throw new UncheckedXmlStreamException(e);
-            }
-        }
+        processEntries(entries, executor, (entry, context) -> readEntry(zipFileData, entry, context, CimAnonymizer::getRdfIdValues))
+                .forEach(rdfIdValues::addAll);
 
         return rdfIdValues;
     }
 
+    private record ScannedEntry(Set<String> strings, Set<String> skipped) {
+    }
+
+    /**
+     * Anonymize the entries concurrently, with the same result as a sequential anonymization. The strings to anonymize
+     * are first collected from each entry, then added to the dictionary in the order of the archive, so that they get
+     * the same anonymized value as in a sequential run. The entries are then rewritten concurrently from the resulting
+     * read only mapping into temporary files, which are finally copied to the archive.
+     */
+    private void anonymizeEntries(ZipFile zipFileData, List<ZipArchiveEntry> entries, Path anonymizedCimZipFile, StringAnonymizer dictionary,
+                                  Set<String> rdfIdValues, Set<String> skipped, Executor executor) throws IOException {
+        List<ScannedEntry> scannedEntries = processEntries(entries, executor, (entry, context) -> readEntry(zipFileData, entry, context, reader -> {
+            Set<String> strings = new LinkedHashSet<>();
+            Set<String> entrySkipped = new HashSet<>();
+            new XmlAnonymizer(context, str -> {
+                strings.add(str);
+                return str;
+            }, rdfIdValues, entrySkipped).anonymize(reader, null);
+            return new ScannedEntry(strings, entrySkipped);
+        }));
+        Map<String, String> mapping = new HashMap<>();
+        for (ScannedEntry scannedEntry : scannedEntries) {
+            scannedEntry.strings().forEach(str -> mapping.put(str, dictionary.anonymize(str)));
+            skipped.addAll(scannedEntry.skipped());
+        }
+
+        List<Path> anonymizedFiles = new ArrayList<>(entries.size());
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                anonymizedFiles.add(Files.createTempFile(anonymizedCimZipFile.getParent(), "anonymized", ".xml"));
+            }
+            processEntries(IntStream.range(0, entries.size()).boxed().toList(), executor, (i, context) -> {
+                try (InputStream is = zipFileData.getInputStream(entries.get(i));
+                     OutputStream os = new BufferedOutputStream(Files.newOutputStream(anonymizedFiles.get(i)))) {
+                    anonymizeFile(is, os, context, mapping::get, rdfIdValues, new HashSet<>());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+            try (ZipOutputStream anonymizedZipOutputStream = new ZipOutputStream(Files.newOutputStream(anonymizedCimZipFile))) {
+                for (int i = 0; i < entries.size(); i++) {
+                    anonymizedZipOutputStream.putNextEntry(new ZipEntry(entries.get(i).getName()));
+                    Files.copy(anonymizedFiles.get(i), anonymizedZipOutputStream);
+                    anonymizedZipOutputStream.closeEntry();
+                }
+            }
+        } finally {
+            for (Path anonymizedFile : anonymizedFiles) {
+                Files.deleteIfExists(anonymizedFile);
+            }
+        }
+    }
+
     public void anonymizeZip(Path cimZipFile, Path anonymizedCimFileDir, Path dictionaryFile, Logger logger, boolean skipExternalRef) {
+        anonymizeZip(cimZipFile, anonymizedCimFileDir, dictionaryFile, logger, skipExternalRef, null);
+    }
+
+    /**
+     * Anonymize the files of a CIM archive. If an executor is given, the files of the archive are processed
+     * concurrently, the anonymized archive and the dictionary being the same as with a sequential processing.
+     */
+    public void anonymizeZip(Path cimZipFile, Path anonymizedCimFileDir, Path dictionaryFile, Logger logger, boolean skipExternalRef,
+                             Executor executor) {
         Objects.requireNonNull(cimZipFile);
         Objects.requireNonNull(anonymizedCimFileDir);
         Objects.requireNonNull(dictionaryFile);
@@ -294,18 +422,24 @@ public class CimAnonymizer {
         // anonymize each file of the archive
         try (ZipFile zipFileData = new ZipFile(Files.newByteChannel(cimZipFile))) {
 
-            Set<String> rdfIdValues = skipExternalRef ? getRdfIdValues(zipFileData) : null;
+            List<ZipArchiveEntry> entries = Collections.list(zipFileData.getEntries());
+
+            Set<String> rdfIdValues = skipExternalRef ? getRdfIdValues(zipFileData, entries, executor) : null;
 
             Set<String> skipped = new HashSet<>();
 
             Path anonymizedCimZipFile = anonymizedCimFileDir.resolve(cimZipFile.getFileName());
-            try (ZipOutputStream anonymizedZipOutputStream = new ZipOutputStream(Files.newOutputStream(anonymizedCimZipFile))) {
-                for (ZipEntry entry : Collections.list(zipFileData.getEntries())) {
-                    anonymizedZipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
-                    try (InputStream cimFileInputStream = zipFileData.getInputStream(zipFileData.getEntry(entry.getName()))) {
-                        anonymizeFile(cimFileInputStream, anonymizedZipOutputStream, xmlStaxContext, dictionary, rdfIdValues, skipped);
+            if (executor != null) {
+                anonymizeEntries(zipFileData, entries, anonymizedCimZipFile, dictionary, rdfIdValues, skipped, executor);
+            } else {
+                try (ZipOutputStream anonymizedZipOutputStream = new ZipOutputStream(Files.newOutputStream(anonymizedCimZipFile))) {
+                    for (ZipEntry entry : entries) {
+                        anonymizedZipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+                        try (InputStream cimFileInputStream = zipFileData.getInputStream(zipFileData.getEntry(entry.getName()))) {
+                            anonymizeFile(cimFileInputStream, anonymizedZipOutputStream, xmlStaxContext, dictionary::anonymize, rdfIdValues, skipped);
+                        }
+                        anonymizedZipOutputStream.closeEntry();
                     }
-                    anonymizedZipOutputStream.closeEntry();
                 }
             }
 
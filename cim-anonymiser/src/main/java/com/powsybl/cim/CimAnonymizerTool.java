@@ -20,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -76,6 +77,10 @@ public class CimAnonymizerTool implements Tool {
                         .longOpt("skip-external-refs")
                         .desc("Do not anonymize external references")
                         .build());
+                options.addOption(Option.builder()
+                        .longOpt("parallel")
+                        .desc("Anonymize the files of an archive in parallel")
+                        .build());
                 return options;
             }
 
@@ -93,6 +98,7 @@ public class CimAnonymizerTool implements Tool {
         Path outputDir = options.getPath("output-dir").orElseThrow(IllegalStateException::new);
         Path mappingFile = options.getPath("mapping-file").orElseThrow(IllegalStateException::new);
         boolean skipExternalRef = options.hasOption("skip-external-refs");
+        Executor executor = options.hasOption("parallel") ? context.getShortTimeExecutionComputationManager().getExecutor() : null;
 
         CimAnonymizer anomymizer = new CimAnonymizer();
         CimAnonymizer.Logger logger = new CimAnonymizer.Logger() {
@@ -109,10 +115,10 @@ public class CimAnonymizerTool implements Tool {
 
         if (Files.isDirectory(cimZipPath)) {
             try (Stream<Path> stream = Files.list(cimZipPath).filter(cimZipFile -> cimZipFile.getFileName().toString().endsWith(".zip"))) {
-                stream.forEach(cimZipFile -> anomymizer.anonymizeZip(cimZipFile, outputDir, mappingFile, logger, skipExternalRef));
+                stream.forEach(cimZipFile -> anomymizer.anonymizeZip(cimZipFile, outputDir, mappingFile, logger, skipExternalRef, executor));
             }
         } else {
-            anomymizer.anonymizeZip(cimZipPath, outputDir, mappingFile, logger, skipExternalRef);
+            anomymizer.anonymizeZip(cimZipPath, outputDir, mappingFile, logger, skipExternalRef, executor);
         }
     }
 }
@@ -15,6 +15,8 @@ import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.xmlunit.builder.DiffBuilder;
 import org.xmlunit.builder.Input;
 import org.xmlunit.diff.Diff;
@@ -26,6 +28,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -36,6 +44,8 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class CimAnonymizerTest {
 
+    private static final List<String> FILE_NAMES = List.of("sample_EQ.xml", "sample_TP.xml", "sample_SSH.xml");
+
     private FileSystem fileSystem;
 
     @BeforeEach
@@ -86,4 +96,55 @@ class CimAnonymizerTest {
         assertEquals(TestUtil.normalizeLineSeparator(CharStreams.toString(new InputStreamReader(getClass().getResourceAsStream("/sample.csv")))),
                 TestUtil.normalizeLineSeparator(Files.readString(dictionaryFile, StandardCharsets.UTF_8)));
     }
+
+    @ParameterizedTest
+    @CsvSource({"false,false", "false,true", "true,false", "true,true"})
+    void anonymizeZipWithSeveralFiles(boolean skipExternalRef, boolean concurrent) throws Exception {
+        Path workDir = fileSystem.getPath("work");
+        Path cimZipFile = workDir.resolve("sample.zip");
+        Path anonymizedCimFileDir = workDir.resolve("result");
+        Files.createDirectories(anonymizedCimFileDir);
+        Path dictionaryFile = workDir.resolve("dic.csv");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(cimZipFile))) {
+            for (String fileName : FILE_NAMES) {
+                zos.putNextEntry(new ZipEntry(fileName));
+                zos.write(ByteStreams.toByteArray(getClass().getResourceAsStream("/" + fileName)));
+                zos.closeEntry();
+            }
+        }
+
+        Set<String> skipped = new HashSet<>();
+        CimAnonymizer.Logger logger = new CimAnonymizer.DefaultLogger() {
+            @Override
+            public void logSkipped(Set<String> skippedValues) {
+                skipped.addAll(skippedValues);
+            }
+        };
+        ExecutorService executor = concurrent ? Executors.newFixedThreadPool(FILE_NAMES.size()) : null;
+        try {
+            new CimAnonymizer().anonymizeZip(cimZipFile, anonymizedCimFileDir, dictionaryFile, logger, skipExternalRef, executor);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+
+        // anonymized files are compared byte per byte with the ones written by the event based anonymizer
+        String expectedDir = skipExternalRef ? "/anonymized-skip-external-ref/" : "/anonymized/";
+        try (ZipFile anonymizedCimZipFileData = new ZipFile(Files.newByteChannel(anonymizedCimFileDir.resolve("sample.zip")))) {
+            for (String fileName : FILE_NAMES) {
+                try (InputStream is = anonymizedCimZipFileData.getInputStream(anonymizedCimZipFileData.getEntry(fileName))) {
+                    assertArrayEquals(ByteStreams.toByteArray(getClass().getResourceAsStream(expectedDir + fileName)), ByteStreams.toByteArray(is));
+                }
+            }
+        }
+        assertArrayEquals(ByteStreams.toByteArray(getClass().getResourceAsStream(expectedDir + "dic.csv")), Files.readAllBytes(dictionaryFile));
+        Set<String> expectedSkipped = skipExternalRef
+                ? Set.of("PATL", "http://iec.ch/TC57/2013/CIM-schema-cim16#LimitTypeKind.patl", "#_VL_OUTSIDE", "#_TN_2", "_SV_1")
+                : Set.of("PATL", "http://iec.ch/TC57/2013/CIM-schema-cim16#LimitTypeKind.patl");
+        assertEquals(expectedSkipped, skipped);
+        try (Stream<Path> files = Files.list(anonymizedCimFileDir)) {
+            assertEquals(List.of(anonymizedCimFileDir.resolve("sample.zip")), files.toList());
+        }
+    }
 }
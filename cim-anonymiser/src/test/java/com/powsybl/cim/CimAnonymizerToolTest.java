@@ -35,11 +35,12 @@ class CimAnonymizerToolTest extends AbstractToolTest {
 
     @Override
     public void assertCommand() {
-        assertCommand(tool.getCommand(), "cim-anonymizer", 4, 3);
+        assertCommand(tool.getCommand(), "cim-anonymizer", 5, 3);
         assertOption(tool.getCommand().getOptions(), "cim-path", true, true);
         assertOption(tool.getCommand().getOptions(), "output-dir", true, true);
         assertOption(tool.getCommand().getOptions(), "mapping-file", true, true);
         assertOption(tool.getCommand().getOptions(), "skip-external-refs", false, false);
+        assertOption(tool.getCommand().getOptions(), "parallel", false, false);
     }
 
     @Test
@@ -8,8 +8,8 @@ package com.powsybl.commons.config;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
-import com.google.common.collect.Lists;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.util.ServiceIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,7 +18,6 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
 
 /**
  *
@@ -28,7 +27,7 @@ public class PlatformConfig {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PlatformConfig.class);
 
-    private static PlatformConfig defaultConfig;
+    private static volatile PlatformConfig defaultConfig;
 
     protected final Path configDir;
 
@@ -63,9 +62,15 @@ public class PlatformConfig {
         }
     }
 
-    public static synchronized PlatformConfig defaultConfig() {
+    public static PlatformConfig defaultConfig() {
+        // no locking once loaded
+        PlatformConfig config = defaultConfig;
+        return config != null ? config : loadDefaultConfig();
+    }
+
+    private static synchronized PlatformConfig loadDefaultConfig() {
         if (defaultConfig == null) {
-            List<PlatformConfigProvider> providers = Lists.newArrayList(ServiceLoader.load(PlatformConfigProvider.class, PlatformConfig.class.getClassLoader()));
+            List<PlatformConfigProvider> providers = ServiceIndex.load(PlatformConfigProvider.class, PlatformConfig.class.getClassLoader());
             if (providers.isEmpty()) {
                 LOGGER.info("Platform configuration provider not found. In order to customize the platform configuration, consider using powsybl-config-classic artifact, or powsybl-config-test for tests.");
                 defaultConfig = new PlatformConfig(new EmptyModuleConfigRepository(), null);
@@ -6,15 +6,14 @@
  */
 package com.powsybl.commons.config;
 
-import com.google.common.collect.Lists;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.util.ServiceIndex;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -145,7 +144,7 @@ public interface PlatformConfigNamedProvider {
                 String moduleName, List<String> propertyNames, Class<T> clazz,
                 PlatformConfig platformConfig) {
             List<T> providers = alwaysSameComputeIfAbsent(PROVIDERS, clazz,
-                k -> Lists.newArrayList(ServiceLoader.load(clazz, PlatformConfigNamedProvider.class.getClassLoader())));
+                k -> ServiceIndex.load(clazz, PlatformConfigNamedProvider.class.getClassLoader()));
             return find(name, moduleName, propertyNames, providers, platformConfig, clazz);
         }
 
@@ -0,0 +1,367 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Read only data source over a zip archive, loaded once in memory.
+ * <p>
+ * The zip file is memory mapped (or read at once if its file system does not support memory mapping) and its central
+ * directory is parsed once, when the data source is created, in an index of the entries by name: looking up or listing
+ * entries does not read the archive again. Stored entries are read directly from the mapped buffer, without any copy,
+ * and deflated entries are inflated from it. The data source may also be created from a zip archive already in memory.
+ * <p>
+ * The data source is immutable and may be used by several threads concurrently. The archive must not be modified
+ * while it is mapped, and must be smaller than 2 GB.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class MappedZipDataSource implements ReadOnlyDataSource {
+
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    /**
+     * Maximum size of a zip file which can be mapped.
+     */
+    static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private final String baseName;
+
+    private final String archiveName;
+
+    private final DataSourceObserver observer;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Entries of the archive, in central directory order.
+     */
+    private final Map<String, Entry> entries;
+
+    private record Entry(String name, int method, long compressedSize, long size, long localHeaderOffset, boolean directory) {
+    }
+
+    public MappedZipDataSource(Path zipFile, String baseName, DataSourceObserver observer) throws IOException {
+        this(map(zipFile), zipFile.toString(), baseName, observer);
+    }
+
+    public MappedZipDataSource(Path zipFile, String baseName) throws IOException {
+        this(zipFile, baseName, null);
+    }
+
+    public MappedZipDataSource(Path zipFile) throws IOException {
+        this(zipFile, DataSourceUtil.getBaseName(com.google.common.io.Files.getNameWithoutExtension(zipFile.getFileName().toString())));
+    }
+
+    /**
+     * Create a data source from a zip archive in memory.
+     */
+    public MappedZipDataSource(byte[] zip, String baseName) throws IOException {
+        this(ByteBuffer.wrap(zip), "memory", baseName, null);
+    }
+
+    private MappedZipDataSource(ByteBuffer buffer, String archiveName, String baseName, DataSourceObserver observer) throws IOException {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.archiveName = archiveName;
+        this.baseName = Objects.requireNonNull(baseName);
+        this.observer = observer;
+        this.entries = readCentralDirectory(this.buffer, archiveName);
+    }
+
+    private static ByteBuffer map(Path zipFile) throws IOException {
+        Objects.requireNonNull(zipFile);
+        try (FileChannel channel = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_SIZE) {
+                throw new IOException("Zip file " + zipFile + " is too large to be mapped (" + size + " bytes)");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (UnsupportedOperationException e) {
+            // file system not supporting memory mapping
+            return ByteBuffer.wrap(Files.readAllBytes(zipFile));
+        }
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer, String archiveName) throws ZipException {
+        int minPosition = Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_SIZE);
+        for (int position = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= minPosition; position--) {
+            if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new ZipException("End of central directory not found in " + archiveName);
+    }
+
+    private static int toPosition(long offset, ByteBuffer buffer, String archiveName) throws ZipException {
+        if (offset < 0 || offset > buffer.limit()) {
+            throw new ZipException("Invalid offset " + offset + " in " + archiveName);
+        }
+        return (int) offset;
+    }
+
+    private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer, String archiveName) throws ZipException {
+        int eocd = findEndOfCentralDirectory(buffer, archiveName);
+        long entryCount = Short.toUnsignedLong(buffer.getShort(eocd + 10));
+        long centralDirectoryOffset = Integer.toUnsignedLong(buffer.getInt(eocd + 16));
+
+        // zip64 end of central directory
+        int locator = eocd - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+        if (locator >= 0 && buffer.getInt(locator) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+            int zip64Eocd = toPosition(buffer.getLong(locator + 8), buffer, archiveName);
+            if (buffer.getInt(zip64Eocd) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new ZipException("Invalid zip64 end of central directory in " + archiveName);
+            }
+            entryCount = buffer.getLong(zip64Eocd + 32);
+            centralDirectoryOffset = buffer.getLong(zip64Eocd + 48);
+        }
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        int position = toPosition(centralDirectoryOffset, buffer, archiveName);
+        for (long i = 0; i < entryCount; i++) {
+            if (buffer.getInt(position) != CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new ZipException("Invalid central directory entry in " + archiveName);
+            }
+            int flags = Short.toUnsignedInt(buffer.getShort(position + 8));
+            int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+            long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+            String name = readString(buffer, position + 46, nameLength);
+
+            // zip64 extended information: only the fields which do not fit in the header are present, in this order
+            int extra = position + 46 + nameLength;
+            int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                int id = Short.toUnsignedInt(buffer.getShort(extra));
+                int length = Short.toUnsignedInt(buffer.getShort(extra + 2));
+                if (id == ZIP64_EXTRA_FIELD_ID) {
+                    int field = extra + 4;
+                    if (size == ZIP64_MAGIC) {
+                        size = buffer.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == ZIP64_MAGIC) {
+                        compressedSize = buffer.getLong(field);
+                        field += 8;
+                    }
+                    if (localHeaderOffset == ZIP64_MAGIC) {
+                        localHeaderOffset = buffer.getLong(field);
+                    }
+                }
+                extra += 4 + length;
+            }
+
+            if ((flags & 1) != 0) {
+                throw new ZipException("Encrypted entry " + name + " not supported in " + archiveName);
+            }
+            entries.put(name, new Entry(name, method, compressedSize, size, localHeaderOffset, name.endsWith("/")));
+            position = extraEnd + commentLength;
+        }
+        return entries;
+    }
+
+    private static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the data of an entry, as a slice of the archive buffer.
+     */
+    private ByteBuffer getData(Entry entry) throws ZipException {
+        int localHeader = toPosition(entry.localHeaderOffset(), buffer, archiveName);
+        if (buffer.getInt(localHeader) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header of entry " + entry.name() + " in " + archiveName);
+        }
+        int nameLength = Short.toUnsignedInt(buffer.getShort(localHeader + 26));
+        int extraLength = Short.toUnsignedInt(buffer.getShort(localHeader + 28));
+        int start = localHeader + 30 + nameLength + extraLength;
+        int end = toPosition(start + entry.compressedSize(), buffer, archiveName);
+        return buffer.slice(start, end - start);
+    }
+
+    public String getArchiveName() {
+        return archiveName;
+    }
+
+    @Override
+    public String getBaseName() {
+        return baseName;
+    }
+
+    @Override
+    public boolean exists(String suffix, String ext) throws IOException {
+        return exists(DataSourceUtil.getFileName(baseName, suffix, ext));
+    }
+
+    @Override
+    public boolean exists(String fileName) {
+        Objects.requireNonNull(fileName);
+        return entries.containsKey(fileName);
+    }
+
+    @Override
+    public InputStream newInputStream(String suffix, String ext) throws IOException {
+        return newInputStream(DataSourceUtil.getFileName(baseName, suffix, ext));
+    }
+
+    @Override
+    public InputStream newInputStream(String fileName) throws IOException {
+        Objects.requireNonNull(fileName);
+        Entry entry = entries.get(fileName);
+        if (entry == null) {
+            throw new IOException(fileName + " does not exist in " + archiveName);
+        }
+        ByteBuffer data = getData(entry);
+        InputStream is = switch (entry.method()) {
+            case STORED -> new ByteBufferInputStream(data);
+            case DEFLATED -> new InflatingInputStream(data);
+            default -> throw new ZipException("Unsupported compression method " + entry.method() + " of entry " + fileName + " in " + archiveName);
+        };
+        return observer != null ? new ObservableInputStream(is, archiveName + ":" + fileName, observer) : is;
+    }
+
+    @Override
+    public Set<String> listNames(String regex) {
+        Pattern p = Pattern.compile(regex);
+        return entries.values().stream()
+                .filter(entry -> !entry.directory() && p.matcher(entry.name()).matches())
+                .map(Entry::name)
+                .collect(Collectors.toSet());
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer data;
+
+        private ByteBufferInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? Byte.toUnsignedInt(data.get()) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, data.remaining());
+            data.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, data.remaining()));
+            data.position(data.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+
+    /**
+     * Inflate a deflated entry, the whole compressed data being directly given to the inflater.
+     */
+    private static final class InflatingInputStream extends InputStream {
+
+        private final Inflater inflater = new Inflater(true);
+
+        private final byte[] singleByte = new byte[1];
+
+        private boolean closed = false;
+
+        private InflatingInputStream(ByteBuffer data) {
+            inflater.setInput(data);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(singleByte, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(singleByte[0]);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                int n;
+                while ((n = inflater.inflate(b, off, len)) == 0) {
+                    if (inflater.finished()) {
+                        return -1;
+                    }
+                    if (inflater.needsInput() || inflater.needsDictionary()) {
+                        throw new EOFException("Unexpected end of deflated data");
+                    }
+                }
+                return n;
+            } catch (DataFormatException e) {
+                throw new ZipException(e.getMessage());
+            }
+        }
+
+        @Override
+        public int available() {
+            return closed || inflater.finished() ? 0 : 1;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                inflater.end();
+            }
+        }
+    }
+}
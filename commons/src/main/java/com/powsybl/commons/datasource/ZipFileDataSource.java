@@ -6,10 +6,10 @@
  */
 package com.powsybl.commons.datasource;
 
-import com.google.common.io.ByteStreams;
 import com.powsybl.commons.io.ForwardingInputStream;
 import com.powsybl.commons.io.ForwardingOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 
 import java.io.IOException;
@@ -18,13 +18,14 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -39,6 +40,17 @@ public class ZipFileDataSource implements DataSource {
 
     private final DataSourceObserver observer;
 
+    /**
+     * Entries of the zip file, and the last modified time and size of the zip file when they have been read, so that the
+     * zip file is neither opened nor its central directory parsed again each time an entry is looked up or read, while
+     * the zip file is not modified. The zip file is loaded by a {@link MappedZipDataSource}, unless it is too large to
+     * be mapped: only the names of its entries are then kept, and it is opened again to read an entry.
+     */
+    private record EntryIndex(FileTime lastModifiedTime, long size, MappedZipDataSource archive, Set<String> entryNames, Set<String> fileNames) {
+    }
+
+    private volatile EntryIndex entryIndex;
+
     public ZipFileDataSource(Path directory, String zipFileName, String baseName, DataSourceObserver observer) {
         this.directory = Objects.requireNonNull(directory);
         this.zipFileName = Objects.requireNonNull(zipFileName);
@@ -76,10 +88,37 @@ public class ZipFileDataSource implements DataSource {
         return exists(DataSourceUtil.getFileName(baseName, suffix, ext));
     }
 
-    private static boolean entryExists(Path zipFilePath, String fileName) {
+    private EntryIndex getEntryIndex(Path zipFilePath) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(zipFilePath, BasicFileAttributes.class);
+        EntryIndex index = entryIndex;
+        if (index == null || !index.lastModifiedTime().equals(attributes.lastModifiedTime()) || index.size() != attributes.size()) {
+            if (attributes.size() <= MappedZipDataSource.MAX_SIZE) {
+                index = new EntryIndex(attributes.lastModifiedTime(), attributes.size(), new MappedZipDataSource(zipFilePath, baseName, observer), null, null);
+            } else {
+                Set<String> entryNames = new HashSet<>();
+                Set<String> fileNames = new HashSet<>();
+                try (ZipFile zipFile = new ZipFile(Files.newByteChannel(zipFilePath))) {
+                    Enumeration<ZipArchiveEntry> e = zipFile.getEntries();
+                    while (e.hasMoreElements()) {
+                        ZipArchiveEntry zipEntry = e.nextElement();
+                        entryNames.add(zipEntry.getName());
+                        if (!zipEntry.isDirectory()) {
+                            fileNames.add(zipEntry.getName());
+                        }
+                    }
+                }
+                index = new EntryIndex(attributes.lastModifiedTime(), attributes.size(), null, entryNames, fileNames);
+            }
+            entryIndex = index;
+        }
+        return index;
+    }
+
+    private boolean entryExists(Path zipFilePath, String fileName) {
         if (Files.exists(zipFilePath)) {
-            try (ZipFile zipFile = new ZipFile(Files.newByteChannel(zipFilePath))) {
-                return zipFile.getEntry(fileName) != null;
+            try {
+                EntryIndex index = getEntryIndex(zipFilePath);
+                return index.archive() != null ? index.archive().exists(fileName) : index.entryNames().contains(fileName);
             } catch (IOException e) {
                 return false;
             }
@@ -121,13 +160,17 @@ public class ZipFileDataSource implements DataSource {
         Objects.requireNonNull(fileName);
         Path zipFilePath = getZipFilePath();
         if (entryExists(zipFilePath, fileName)) {
+            EntryIndex index = getEntryIndex(zipFilePath);
+            if (index.archive() != null) {
+                return index.archive().newInputStream(fileName);
+            }
             InputStream is = new ZipEntryInputStream(new ZipFile(Files.newByteChannel(zipFilePath)), fileName);
             return observer != null ? new ObservableInputStream(is, zipFilePath + ":" + fileName, observer) : is;
         }
         return null;
     }
 
-    private static final class ZipEntryOutputStream extends ForwardingOutputStream<ZipOutputStream> {
+    private final class ZipEntryOutputStream extends ForwardingOutputStream<ZipArchiveOutputStream> {
 
         private final Path zipFilePath;
 
@@ -136,39 +179,25 @@ public class ZipFileDataSource implements DataSource {
         private boolean closed;
 
         private ZipEntryOutputStream(Path zipFilePath, String fileName) throws IOException {
-            super(new ZipOutputStream(Files.newOutputStream(getTmpZipFilePath(zipFilePath))));
+            super(new ZipArchiveOutputStream(Files.newOutputStream(getTmpZipFilePath(zipFilePath))));
             this.zipFilePath = zipFilePath;
             this.fileName = fileName;
             this.closed = false;
 
             // create new entry
-            os.putNextEntry(new ZipEntry(fileName));
-        }
-
-        private static Path getTmpZipFilePath(Path zipFilePath) {
-            return zipFilePath.getParent().resolve(zipFilePath.getFileName() + ".tmp");
+            os.putArchiveEntry(new ZipArchiveEntry(fileName));
         }
 
         @Override
         public void close() throws IOException {
             if (!closed) {
                 // close new entry
-                os.closeEntry();
+                os.closeArchiveEntry();
 
-                // copy existing entries
+                // copy existing entries, without decompressing and compressing them again
                 if (Files.exists(zipFilePath)) {
                     try (ZipFile zipFile = new ZipFile(Files.newByteChannel(zipFilePath))) {
-                        Enumeration<ZipArchiveEntry> e = zipFile.getEntries();
-                        while (e.hasMoreElements()) {
-                            ZipArchiveEntry zipEntry = e.nextElement();
-                            if (!zipEntry.getName().equals(fileName)) {
-                                os.putNextEntry(new ZipEntry(zipEntry.getName()));
-                                try (InputStream zis = zipFile.getInputStream(zipEntry)) {
-                                    ByteStreams.copy(zis, os);
-                                }
-                                os.closeEntry();
-                            }
-                        }
+                        copyRawEntries(zipFile, os, name -> !name.equals(fileName));
                     }
                 }
 
@@ -178,12 +207,32 @@ public class ZipFileDataSource implements DataSource {
                 // swap with tmp zip
                 Path tmpZipFilePath = getTmpZipFilePath(zipFilePath);
                 Files.move(tmpZipFilePath, zipFilePath, StandardCopyOption.REPLACE_EXISTING);
+                entryIndex = null;
 
                 closed = true;
             }
         }
     }
 
+    static Path getTmpZipFilePath(Path zipFilePath) {
+        return zipFilePath.getParent().resolve(zipFilePath.getFileName() + ".tmp");
+    }
+
+    /**
+     * Copy the entries of a zip file accepted by the given filter to a zip output stream, as they are compressed.
+     */
+    static void copyRawEntries(ZipFile zipFile, ZipArchiveOutputStream os, Predicate<String> filter) throws IOException {
+        Enumeration<ZipArchiveEntry> e = zipFile.getEntries();
+        while (e.hasMoreElements()) {
+            ZipArchiveEntry zipEntry = e.nextElement();
+            if (filter.test(zipEntry.getName())) {
+                try (InputStream zis = zipFile.getRawInputStream(zipEntry)) {
+                    os.addRawArchiveEntry(zipEntry, zis);
+                }
+            }
+        }
+    }
+
     @Override
     public OutputStream newOutputStream(String fileName, boolean append) throws IOException {
         Objects.requireNonNull(fileName);
@@ -203,16 +252,15 @@ public class ZipFileDataSource implements DataSource {
     @Override
     public Set<String> listNames(String regex) throws IOException {
         // Consider only files in the given folder, do not go into folders
+        EntryIndex index = getEntryIndex(getZipFilePath());
+        if (index.archive() != null) {
+            return index.archive().listNames(regex);
+        }
         Pattern p = Pattern.compile(regex);
         Set<String> names = new HashSet<>();
-        Path zipFilePath = getZipFilePath();
-        try (ZipFile zipFile = new ZipFile(Files.newByteChannel(zipFilePath))) {
-            Enumeration<ZipArchiveEntry> e = zipFile.getEntries();
-            while (e.hasMoreElements()) {
-                ZipArchiveEntry zipEntry = e.nextElement();
-                if (!zipEntry.isDirectory() && p.matcher(zipEntry.getName()).matches()) {
-                    names.add(zipEntry.getName());
-                }
+        for (String name : index.fileNames()) {
+            if (p.matcher(name).matches()) {
+                names.add(name);
             }
         }
         return names;
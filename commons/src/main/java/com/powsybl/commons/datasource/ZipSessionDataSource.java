@@ -0,0 +1,398 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * Zip file data source writing all its entries in a single zip session.
+ * <p>
+ * Contrary to {@link ZipFileDataSource}, which writes a new archive each time an entry is written, the entries are
+ * written to a temporary archive which is kept open, and the archive is finalized only once, when the data source is
+ * closed: the entries of the previous archive which have not been written again are then copied without being
+ * decompressed. The archive is also finalized when an entry written in the session is read, or written a second
+ * time, so that reading and writing can still be mixed.
+ * <p>
+ * If a compression executor is given, entries are buffered in memory and compressed by the tasks of this executor,
+ * several entries being compressed in parallel, and then added to the archive in the order they have been created.
+ * Otherwise, entries are compressed directly to the archive; an entry created while another one is being written is
+ * buffered and compressed in memory.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class ZipSessionDataSource implements DataSource, AutoCloseable {
+
+    private final Path directory;
+
+    private final String zipFileName;
+
+    private final String baseName;
+
+    private final DataSourceObserver observer;
+
+    private final Executor compressionExecutor;
+
+    private final ZipFileDataSource archive;
+
+    private final Object lock = new Object();
+
+    private ZipArchiveOutputStream session;
+
+    /**
+     * Number of sessions opened so far, identifying the session of an entry being written.
+     */
+    private int sessionCount = 0;
+
+    /**
+     * Names of the entries written in the current session.
+     */
+    private final Set<String> sessionNames = new HashSet<>();
+
+    /**
+     * Buffered entries, in creation order, not yet added to the session archive.
+     */
+    private final Deque<CompletableFuture<CompressedEntry>> pendingEntries = new ArrayDeque<>();
+
+    private int openEntryCount = 0;
+
+    private boolean directEntryOpen = false;
+
+    private record CompressedEntry(String name, long crc, long size, byte[] data) {
+    }
+
+    public ZipSessionDataSource(Path directory, String zipFileName, String baseName, DataSourceObserver observer, Executor compressionExecutor) {
+        this.directory = Objects.requireNonNull(directory);
+        this.zipFileName = Objects.requireNonNull(zipFileName);
+        this.baseName = Objects.requireNonNull(baseName);
+        this.observer = observer;
+        this.compressionExecutor = compressionExecutor;
+        this.archive = new ZipFileDataSource(directory, zipFileName, baseName, observer);
+    }
+
+    public ZipSessionDataSource(Path directory, String zipFileName, String baseName, DataSourceObserver observer) {
+        this(directory, zipFileName, baseName, observer, null);
+    }
+
+    public ZipSessionDataSource(Path directory, String baseName) {
+        this(directory, baseName + ".zip", baseName, null, null);
+    }
+
+    public ZipSessionDataSource(Path directory, String baseName, Executor compressionExecutor) {
+        this(directory, baseName + ".zip", baseName, null, compressionExecutor);
+    }
+
+    @Override
+    public String getBaseName() {
+        return baseName;
+    }
+
+    private Path getZipFilePath() {
+        return directory.resolve(zipFileName);
+    }
+
+    @Override
+    public boolean exists(String suffix, String ext) throws IOException {
+        return exists(DataSourceUtil.getFileName(baseName, suffix, ext));
+    }
+
+    @Override
+    public boolean exists(String fileName) {
+        Objects.requireNonNull(fileName);
+        synchronized (lock) {
+            if (sessionNames.contains(fileName)) {
+                return true;
+            }
+        }
+        return archive.exists(fileName);
+    }
+
+    @Override
+    public InputStream newInputStream(String suffix, String ext) throws IOException {
+        return newInputStream(DataSourceUtil.getFileName(baseName, suffix, ext));
+    }
+
+    @Override
+    public InputStream newInputStream(String fileName) throws IOException {
+        Objects.requireNonNull(fileName);
+        synchronized (lock) {
+            if (sessionNames.contains(fileName)) {
+                finalizeSession();
+            }
+        }
+        return archive.newInputStream(fileName);
+    }
+
+    @Override
+    public Set<String> listNames(String regex) throws IOException {
+        Pattern p = Pattern.compile(regex);
+        Set<String> names = new HashSet<>();
+        if (Files.exists(getZipFilePath())) {
+            names.addAll(archive.listNames(regex));
+        }
+        synchronized (lock) {
+            sessionNames.stream().filter(name -> p.matcher(name).matches()).forEach(names::add);
+        }
+        return names;
+    }
+
+    @Override
+    public OutputStream newOutputStream(String suffix, String ext, boolean append) throws IOException {
+        return newOutputStream(DataSourceUtil.getFileName(baseName, suffix, ext), append);
+    }
+
+    @Override
+    public OutputStream newOutputStream(String fileName, boolean append) throws IOException {
+        Objects.requireNonNull(fileName);
+        if (append) {
+            throw new UnsupportedOperationException("append not supported in zip file data source");
+        }
+        OutputStream os;
+        synchronized (lock) {
+            if (sessionNames.contains(fileName)) {
+                // the entry has already been written in this session, the archive is finalized so that the entry
+                // is replaced when the next session is finalized
+                finalizeSession();
+            }
+            openSession();
+            sessionNames.add(fileName);
+            openEntryCount++;
+            if (compressionExecutor == null && !directEntryOpen) {
+                directEntryOpen = true;
+                session.putArchiveEntry(new ZipArchiveEntry(fileName));
+                os = new DirectEntryOutputStream(session, sessionCount);
+            } else {
+                CompletableFuture<CompressedEntry> future = new CompletableFuture<>();
+                pendingEntries.add(future);
+                os = new BufferedEntryOutputStream(fileName, future, sessionCount);
+            }
+        }
+        return observer != null ? new ObservableOutputStream(os, getZipFilePath() + ":" + fileName, observer) : os;
+    }
+
+    private void openSession() throws IOException {
+        if (session == null) {
+            Path tmpZipFilePath = ZipFileDataSource.getTmpZipFilePath(getZipFilePath());
+            session = new ZipArchiveOutputStream(Files.newByteChannel(tmpZipFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+            sessionCount++;
+        }
+    }
+
+    private boolean isCurrentSession(int sessionId) {
+        return session != null && sessionId == sessionCount;
+    }
+
+    /**
+     * Add the buffered entries to the archive, in creation order, while they are compressed. If {@code wait} is
+     * true, wait for all of them to be compressed.
+     */
+    private void writePendingEntries(boolean wait) throws IOException {
+        while (!directEntryOpen && !pendingEntries.isEmpty() && (wait || pendingEntries.peek().isDone())) {
+            CompressedEntry compressedEntry;
+            try {
+                compressedEntry = pendingEntries.poll().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw e;
+            }
+            ZipArchiveEntry entry = new ZipArchiveEntry(compressedEntry.name());
+            entry.setMethod(ZipEntry.DEFLATED);
+            entry.setCrc(compressedEntry.crc());
+            entry.setSize(compressedEntry.size());
+            entry.setCompressedSize(compressedEntry.data().length);
+            session.addRawArchiveEntry(entry, new ByteArrayInputStream(compressedEntry.data()));
+        }
+    }
+
+    /**
+     * Write the session archive: buffered entries and entries of the previous archive which have not been replaced
+     * are added, and the previous archive is replaced.
+     */
+    private void finalizeSession() throws IOException {
+        if (session == null) {
+            return;
+        }
+        if (openEntryCount > 0) {
+            throw new IllegalStateException(openEntryCount + " entries of " + getZipFilePath() + " are still being written");
+        }
+        writePendingEntries(true);
+
+        Path zipFilePath = getZipFilePath();
+        if (Files.exists(zipFilePath)) {
+            try (ZipFile zipFile = new ZipFile(Files.newByteChannel(zipFilePath))) {
+                ZipFileDataSource.copyRawEntries(zipFile, session, name -> !sessionNames.contains(name));
+            }
+        }
+        session.close();
+        session = null;
+        sessionNames.clear();
+        Files.move(ZipFileDataSource.getTmpZipFilePath(zipFilePath), zipFilePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Give up the session archive after a failure: the temporary archive is deleted and the previous archive is left
+     * unchanged. The entries still being written are discarded when closed.
+     */
+    private void abortSession(Exception failure) {
+        if (session == null) {
+            return;
+        }
+        Path tmpZipFilePath = ZipFileDataSource.getTmpZipFilePath(getZipFilePath());
+        try {
+            session.close();
+        } catch (IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+        try {
+            Files.deleteIfExists(tmpZipFilePath);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+        session = null;
+        sessionNames.clear();
+        pendingEntries.forEach(entry -> entry.cancel(false));
+        pendingEntries.clear();
+        openEntryCount = 0;
+        directEntryOpen = false;
+    }
+
+    /**
+     * Finalize the archive. The data source may still be used afterwards, a new session being started by the next
+     * written entry. If the archive cannot be finalized, for instance because some entries are still being written,
+     * the session is given up and its temporary archive deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            try {
+                finalizeSession();
+            } catch (IOException | RuntimeException e) {
+                abortSession(e);
+                throw e;
+            }
+        }
+    }
+
+    private final class DirectEntryOutputStream extends OutputStream {
+
+        private final ZipArchiveOutputStream entrySession;
+
+        private final int sessionId;
+
+        private boolean closed = false;
+
+        private DirectEntryOutputStream(ZipArchiveOutputStream entrySession, int sessionId) {
+            this.entrySession = entrySession;
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            entrySession.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            entrySession.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                synchronized (lock) {
+                    if (!isCurrentSession(sessionId)) {
+                        // session given up
+                        return;
+                    }
+                    session.closeArchiveEntry();
+                    directEntryOpen = false;
+                    openEntryCount--;
+                    writePendingEntries(false);
+                }
+            }
+        }
+    }
+
+    private final class BufferedEntryOutputStream extends ByteArrayOutputStream {
+
+        private final String fileName;
+
+        private final CompletableFuture<CompressedEntry> future;
+
+        private final int sessionId;
+
+        private boolean closed = false;
+
+        private BufferedEntryOutputStream(String fileName, CompletableFuture<CompressedEntry> future, int sessionId) {
+            this.fileName = fileName;
+            this.future = future;
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                if (compressionExecutor != null) {
+                    CompletableFuture.runAsync(this::compress, compressionExecutor)
+                            .whenComplete((r, e) -> {
+                                if (e != null) {
+                                    future.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                                }
+                            });
+                } else {
+                    compress();
+                }
+                synchronized (lock) {
+                    if (isCurrentSession(sessionId)) {
+                        openEntryCount--;
+                        writePendingEntries(false);
+                    }
+                }
+            }
+        }
+
+        private void compress() {
+            CRC32 crc = new CRC32();
+            crc.update(buf, 0, count);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, count / 4));
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try (DeflaterOutputStream dos = new DeflaterOutputStream(compressed, deflater)) {
+                dos.write(buf, 0, count);
+            } catch (IOException e) {
+                future.completeExceptionally(e);
+                return;
+            } finally {
+                deflater.end();
+            }
+            future.complete(new CompressedEntry(fileName, crc.getValue(), count, compressed.toByteArray()));
+            // the uncompressed content is not needed anymore
+            buf = new byte[0];
+            count = 0;
+        }
+    }
+}
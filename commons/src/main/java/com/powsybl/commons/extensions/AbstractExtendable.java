@@ -6,8 +6,10 @@
  */
 package com.powsybl.commons.extensions;
 
+import com.powsybl.commons.util.CompactMap;
+
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -16,15 +18,20 @@ import java.util.Objects;
  */
 public abstract class AbstractExtendable<T> implements Extendable<T> {
 
-    private final Map<Class<?>, Extension<T>> extensions = new HashMap<>();
+    // most extendable objects have no extension or only a few ones: maps are allocated on first extension
+    private Map<Class<?>, Extension<T>> extensions;
 
-    private final Map<String, Extension<T>> extensionsByName = new HashMap<>();
+    private Map<String, Extension<T>> extensionsByName;
 
     @Override
     public <E extends Extension<T>> void addExtension(Class<? super E> type, E extension) {
         Objects.requireNonNull(type);
         Objects.requireNonNull(extension);
         extension.setExtendable((T) this);
+        if (extensions == null) {
+            extensions = new CompactMap<>();
+            extensionsByName = new CompactMap<>();
+        }
         extensions.put(type, extension);
         extensionsByName.put(extension.getName(), extension);
     }
@@ -32,13 +39,13 @@ public abstract class AbstractExtendable<T> implements Extendable<T> {
     @Override
     public <E extends Extension<T>> E getExtension(Class<? super E> type) {
         Objects.requireNonNull(type);
-        return (E) extensions.get(type);
+        return extensions != null ? (E) extensions.get(type) : null;
     }
 
     @Override
     public <E extends Extension<T>> E getExtensionByName(String name) {
         Objects.requireNonNull(name);
-        return (E) extensionsByName.get(name);
+        return extensionsByName != null ? (E) extensionsByName.get(name) : null;
     }
 
     @Override
@@ -56,9 +63,13 @@ public abstract class AbstractExtendable<T> implements Extendable<T> {
         return removed;
     }
 
+    /**
+     * Get the extensions, in the order they have been added. This order is the one of serialized extensions, when they
+     * are not sorted by name.
+     */
     @Override
     public Collection<Extension<T>> getExtensions() {
-        return extensionsByName.values();
+        return extensionsByName != null ? extensionsByName.values() : Collections.emptyList();
     }
 
     @Override
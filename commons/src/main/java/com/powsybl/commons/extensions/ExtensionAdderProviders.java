@@ -8,7 +8,6 @@ package com.powsybl.commons.extensions;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
@@ -22,6 +21,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Suppliers;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.util.ServiceIndex;
 
 /**
  * A utility class to help finding providers using ServiceLoader.
@@ -37,7 +37,7 @@ public final class ExtensionAdderProviders {
     private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionAdderProviders.class);
 
     private static final Supplier<ConcurrentMap<String, List<ExtensionAdderProvider>>> ADDER_PROVIDERS = Suppliers
-            .memoize(() -> groupProvidersByName(ServiceLoader.load(ExtensionAdderProvider.class, ExtensionAdderProviders.class.getClassLoader())));
+            .memoize(() -> groupProvidersByName(ServiceIndex.load(ExtensionAdderProvider.class, ExtensionAdderProviders.class.getClassLoader())));
 
     private static final ConcurrentMap<Pair<String, Class>, ExtensionAdderProvider> BY_CLASS_CACHE = new ConcurrentHashMap<>();
 
@@ -9,6 +9,7 @@ package com.powsybl.commons.io;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Objects;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -20,7 +21,14 @@ public class WorkingDirectory implements AutoCloseable {
     private boolean closed;
 
     public WorkingDirectory(Path parentDir, String prefix, boolean debug) throws IOException {
-        this.path = Files.createTempDirectory(parentDir, prefix);
+        this(Files.createTempDirectory(parentDir, prefix), debug);
+    }
+
+    /**
+     * Wrap an existing directory, for instance one reused from a pool of directories.
+     */
+    protected WorkingDirectory(Path path, boolean debug) {
+        this.path = Objects.requireNonNull(path);
         this.debug = debug;
         this.closed = false;
     }
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.reporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.PowsyblException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A report stored without boxing its values: the keys and types of the values are shared with the other reports with
+ * the same layout, the numeric and boolean values are stored in a <code>long</code> array and the string values in a
+ * string array.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class CompactReport {
+
+    private static final byte INT = 0;
+    private static final byte LONG = 1;
+    private static final byte FLOAT = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte STRING = 5;
+
+    /**
+     * The keys, types and kinds of the values of a report.
+     */
+    static final class Layout {
+
+        static final Layout EMPTY = new Layout(new String[0], new String[0], new byte[0]);
+
+        private final String[] keys;
+
+        private final String[] types;
+
+        private final byte[] kinds;
+
+        /**
+         * Index of each value in the number or the string array, depending on its kind.
+         */
+        private final int[] slots;
+
+        private final int numberCount;
+
+        private final int stringCount;
+
+        private Layout(String[] keys, String[] types, byte[] kinds) {
+            this.keys = keys;
+            this.types = types;
+            this.kinds = kinds;
+            slots = new int[keys.length];
+            int numbers = 0;
+            int strings = 0;
+            for (int i = 0; i < kinds.length; i++) {
+                slots[i] = kinds[i] == STRING ? strings++ : numbers++;
+            }
+            numberCount = numbers;
+            stringCount = strings;
+        }
+
+        static Layout of(Map<String, TypedValue> values) {
+            if (values.isEmpty()) {
+                return EMPTY;
+            }
+            String[] keys = new String[values.size()];
+            String[] types = new String[values.size()];
+            byte[] kinds = new byte[values.size()];
+            int i = 0;
+            for (Map.Entry<String, TypedValue> e : values.entrySet()) {
+                keys[i] = e.getKey();
+                types[i] = e.getValue().getType();
+                kinds[i] = kindOf(e.getValue().getValue());
+                i++;
+            }
+            return new Layout(keys, types, kinds);
+        }
+
+        boolean matches(Map<String, TypedValue> values) {
+            if (values.size() != keys.length) {
+                return false;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                TypedValue value = values.get(keys[i]);
+                if (value == null || !value.getType().equals(types[i]) || kindOf(value.getValue()) != kinds[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final ReportTemplate template;
+
+    private final Layout layout;
+
+    private final long[] numbers;
+
+    private final String[] strings;
+
+    private CompactReport(ReportTemplate template, Layout layout, long[] numbers, String[] strings) {
+        this.template = template;
+        this.layout = layout;
+        this.numbers = numbers;
+        this.strings = strings;
+    }
+
+    private static byte kindOf(Object value) {
+        if (value instanceof Integer) {
+            return INT;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof String) {
+            return STRING;
+        }
+        throw new PowsyblException("Unexpected value class: " + value.getClass());
+    }
+
+    static CompactReport of(ReportTemplate template, Map<String, TypedValue> values) {
+        Layout layout = template.getLayout(values);
+        long[] numbers = layout.numberCount > 0 ? new long[layout.numberCount] : null;
+        String[] strings = layout.stringCount > 0 ? new String[layout.stringCount] : null;
+        for (int i = 0; i < layout.keys.length; i++) {
+            Object value = values.get(layout.keys[i]).getValue();
+            int slot = layout.slots[i];
+            switch (layout.kinds[i]) {
+                case INT, LONG -> numbers[slot] = ((Number) value).longValue();
+                case FLOAT -> numbers[slot] = Float.floatToRawIntBits((Float) value);
+                case DOUBLE -> numbers[slot] = Double.doubleToRawLongBits((Double) value);
+                case BOOLEAN -> numbers[slot] = Boolean.TRUE.equals(value) ? 1 : 0;
+                default -> strings[slot] = (String) value;
+            }
+        }
+        return new CompactReport(template, layout, numbers, strings);
+    }
+
+    ReportTemplate getTemplate() {
+        return template;
+    }
+
+    private Object getValue(int i) {
+        int slot = layout.slots[i];
+        return switch (layout.kinds[i]) {
+            case INT -> (int) numbers[slot];
+            case LONG -> numbers[slot];
+            case FLOAT -> Float.intBitsToFloat((int) numbers[slot]);
+            case DOUBLE -> Double.longBitsToDouble(numbers[slot]);
+            case BOOLEAN -> numbers[slot] != 0;
+            default -> strings[slot];
+        };
+    }
+
+    Report toReport() {
+        Map<String, TypedValue> values = new HashMap<>();
+        for (int i = 0; i < layout.keys.length; i++) {
+            values.put(layout.keys[i], new TypedValue(getValue(i), layout.types[i]));
+        }
+        return new Report(template.getKey(), template.getDefaultMessage(), values);
+    }
+
+    /**
+     * Write the values as serialized by {@link ReporterModelSerializer}.
+     */
+    void writeValues(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < layout.keys.length; i++) {
+            generator.writeObjectFieldStart(layout.keys[i]);
+            generator.writeFieldName("value");
+            int slot = layout.slots[i];
+            switch (layout.kinds[i]) {
+                case INT, LONG -> generator.writeNumber(numbers[slot]);
+                case FLOAT -> generator.writeNumber(Float.intBitsToFloat((int) numbers[slot]));
+                case DOUBLE -> generator.writeNumber(Double.longBitsToDouble(numbers[slot]));
+                case BOOLEAN -> generator.writeBoolean(numbers[slot] != 0);
+                default -> generator.writeString(strings[slot]);
+            }
+            if (!TypedValue.UNTYPED.equals(layout.types[i])) {
+                generator.writeStringField("type", layout.types[i]);
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    boolean hasValues() {
+        return layout.keys.length > 0;
+    }
+}
@@ -0,0 +1,418 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.reporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe in-memory implementation of {@link Reporter}, for processes reporting from several threads.
+ *
+ * <p>Reports and sub-reporters are appended without locking. To reduce the memory footprint, the default messages are
+ * stored once by key in the tree, and the report values are stored unboxed. The number of reports retained in memory
+ * by the tree may be limited: the reports beyond that limit are dropped, but still counted by key. The reports may
+ * also be streamed to a JSON file, by batches and whatever the limit, which can be read back with
+ * {@link #readJsonStream(Path)}.
+ *
+ * <p>The order of the reports, and of the sub-reporters, is the order of their creation: it is deterministic only if
+ * each reporter is used by a single thread. The default message of a key is the one given when the key is first used
+ * in the tree.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class ConcurrentReporterModel extends AbstractReporter implements AutoCloseable {
+
+    private static final String VERSION = "1.0";
+
+    /**
+     * The state shared by all the reporters of a tree.
+     */
+    private static final class Tree {
+
+        private final Map<String, ReportTemplate> templates = new ConcurrentHashMap<>();
+
+        private final long maxRetainedReports;
+
+        private final AtomicLong retainedReportCount = new AtomicLong();
+
+        private final AtomicInteger nextReporterId = new AtomicInteger();
+
+        private final JsonStream stream;
+
+        private Tree(long maxRetainedReports, JsonStream stream) {
+            this.maxRetainedReports = maxRetainedReports;
+            this.stream = stream;
+        }
+
+        private ReportTemplate getTemplate(String key, String defaultMessage) {
+            ReportTemplate template = templates.get(key);
+            if (template == null) {
+                template = templates.computeIfAbsent(key, k -> {
+                    ReportTemplate newTemplate = new ReportTemplate(k, defaultMessage);
+                    // streamed before any report using it, as no other thread can see it yet
+                    if (stream != null) {
+                        stream.append(newTemplate);
+                    }
+                    return newTemplate;
+                });
+            }
+            return template;
+        }
+
+        private boolean retain() {
+            return retainedReportCount.get() < maxRetainedReports && retainedReportCount.incrementAndGet() <= maxRetainedReports;
+        }
+    }
+
+    private record StreamedReport(int reporterId, CompactReport report) {
+    }
+
+    /**
+     * JSON stream of the events of a tree: the templates, the creations of reporters and the reports. The events are
+     * queued without locking, and written by batches by the thread whose event completes a batch.
+     */
+    private static final class JsonStream implements AutoCloseable {
+
+        private final JsonGenerator generator;
+
+        private final int batchSize;
+
+        private final Queue<Object> pendingEvents = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pendingCount = new AtomicInteger();
+
+        private final ReentrantLock writeLock = new ReentrantLock();
+
+        private JsonStream(Writer writer, int batchSize) throws IOException {
+            this.generator = JsonUtil.createJsonFactory().createGenerator(writer);
+            this.batchSize = batchSize;
+            generator.writeStartObject();
+            generator.writeStringField("version", VERSION);
+            generator.writeArrayFieldStart("events");
+        }
+
+        private void append(Object event) {
+            pendingEvents.add(event);
+            if (pendingCount.incrementAndGet() >= batchSize && writeLock.tryLock()) {
+                try {
+                    drain();
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object event;
+                while ((event = pendingEvents.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    write(event);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(Object event) throws IOException {
+            generator.writeStartObject();
+            if (event instanceof ReportTemplate template) {
+                generator.writeStringField("template", template.getKey());
+                if (template.getDefaultMessage() != null) {
+                    generator.writeStringField("defaultMessage", template.getDefaultMessage());
+                }
+            } else if (event instanceof ConcurrentReporterModel reporter) {
+                generator.writeNumberField("reporter", reporter.id);
+                if (reporter.parent != null) {
+                    generator.writeNumberField("parent", reporter.parent.id);
+                }
+                generator.writeStringField("taskKey", reporter.taskKey);
+                if (!reporter.taskValues.isEmpty()) {
+                    generator.writeFieldName("taskValues");
+                    CompactReport.of(new ReportTemplate(reporter.taskKey, null), reporter.taskValues).writeValues(generator);
+                }
+            } else {
+                StreamedReport streamedReport = (StreamedReport) event;
+                generator.writeNumberField("report", streamedReport.reporterId());
+                generator.writeStringField("reportKey", streamedReport.report().getTemplate().getKey());
+                if (streamedReport.report().hasValues()) {
+                    generator.writeFieldName("values");
+                    streamedReport.report().writeValues(generator);
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() {
+            writeLock.lock();
+            try {
+                drain();
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private final Tree tree;
+
+    private final ConcurrentReporterModel parent;
+
+    private final int id;
+
+    private final Queue<CompactReport> reports = new ConcurrentLinkedQueue<>();
+
+    private final Queue<ConcurrentReporterModel> subReporters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * ConcurrentReporterModel constructor, with no associated values, no limit and no stream.
+     * @param taskKey the key identifying the corresponding task
+     * @param defaultName the name or message describing the corresponding task
+     */
+    public ConcurrentReporterModel(String taskKey, String defaultName) {
+        this(taskKey, defaultName, Collections.emptyMap());
+    }
+
+    /**
+     * ConcurrentReporterModel constructor, with no limit and no stream.
+     * @param taskKey the key identifying the corresponding task
+     * @param defaultName the name or message describing the corresponding task, which may contain references to the
+     *                    provided values
+     * @param taskValues a map of {@link TypedValue} indexed by their key, which may be referred to within the
+     *                   defaultName or within the reports message of created ConcurrentReporterModel
+     */
+    public ConcurrentReporterModel(String taskKey, String defaultName, Map<String, TypedValue> taskValues) {
+        this(taskKey, defaultName, taskValues, new Tree(Long.MAX_VALUE, null), null);
+    }
+
+    private ConcurrentReporterModel(String taskKey, String defaultName, Map<String, TypedValue> taskValues, Tree tree,
+                                    ConcurrentReporterModel parent) {
+        super(taskKey, defaultName, taskValues);
+        this.tree = tree;
+        this.parent = parent;
+        this.id = tree.nextReporterId.getAndIncrement();
+        tree.getTemplate(taskKey, defaultName);
+        if (tree.stream != null) {
+            tree.stream.append(this);
+        }
+    }
+
+    static ConcurrentReporterModel create(String taskKey, String defaultName, Map<String, TypedValue> taskValues,
+                                          long maxRetainedReports, Path jsonStreamFile, int jsonStreamBatchSize) {
+        JsonStream stream = null;
+        if (jsonStreamFile != null) {
+            try {
+                stream = new JsonStream(Files.newBufferedWriter(jsonStreamFile, StandardCharsets.UTF_8), jsonStreamBatchSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new ConcurrentReporterModel(taskKey, defaultName, taskValues, new Tree(maxRetainedReports, stream), null);
+    }
+
+    public static ConcurrentReporterModelBuilder builder() {
+        return new ConcurrentReporterModelBuilder();
+    }
+
+    @Override
+    public ConcurrentReporterModel createSubReporter(String taskKey, String defaultName, Map<String, TypedValue> values) {
+        ConcurrentReporterModel subReporter = new ConcurrentReporterModel(taskKey, defaultName, values, tree, this);
+        subReporters.add(subReporter);
+        return subReporter;
+    }
+
+    @Override
+    public void report(String reportKey, String defaultMessage, Map<String, TypedValue> values) {
+        Objects.requireNonNull(reportKey);
+        Objects.requireNonNull(values);
+        // no intermediate Report object
+        CompactReport report = CompactReport.of(tree.getTemplate(reportKey, defaultMessage), values);
+        if (tree.stream != null) {
+            tree.stream.append(new StreamedReport(id, report));
+        }
+        boolean retained = tree.retain();
+        report.getTemplate().onReport(!retained);
+        if (retained) {
+            reports.add(report);
+        }
+    }
+
+    @Override
+    public void report(Report report) {
+        report(report.getReportKey(), report.getDefaultMessage(), report.getValues());
+    }
+
+    /**
+     * Get the retained reports of this reporter. The reports are rebuilt at each call.
+     */
+    public List<Report> getReports() {
+        return reports.stream().map(CompactReport::toReport).toList();
+    }
+
+    public String getDefaultName() {
+        return defaultName;
+    }
+
+    public String getTaskKey() {
+        return taskKey;
+    }
+
+    public Map<String, TypedValue> getTaskValues() {
+        return Collections.unmodifiableMap(taskValues);
+    }
+
+    public List<ConcurrentReporterModel> getSubReporters() {
+        return List.copyOf(subReporters);
+    }
+
+    /**
+     * Get the number of reports with the given key in the whole tree, dropped reports included.
+     */
+    public long getReportCount(String reportKey) {
+        ReportTemplate template = tree.templates.get(reportKey);
+        return template != null ? template.getCount() : 0;
+    }
+
+    /**
+     * Get the number of reports with the given key dropped in the whole tree, the limit of retained reports being
+     * reached.
+     */
+    public long getDroppedReportCount(String reportKey) {
+        ReportTemplate template = tree.templates.get(reportKey);
+        return template != null ? template.getDroppedCount() : 0;
+    }
+
+    /**
+     * Get the number of reports dropped in the whole tree, by key.
+     */
+    public Map<String, Long> getDroppedReportCounts() {
+        Map<String, Long> droppedCounts = new TreeMap<>();
+        tree.templates.values().forEach(template -> {
+            long droppedCount = template.getDroppedCount();
+            if (droppedCount > 0) {
+                droppedCounts.put(template.getKey(), droppedCount);
+            }
+        });
+        return droppedCounts;
+    }
+
+    /**
+     * Copy this reporter tree to a {@link ReporterModel}, for instance to export or serialize it.
+     */
+    public ReporterModel toReporterModel() {
+        ReporterModel reporterModel = new ReporterModel(taskKey, defaultName, taskValues);
+        for (CompactReport report : reports) {
+            reporterModel.report(report.toReport());
+        }
+        for (ConcurrentReporterModel subReporter : subReporters) {
+            reporterModel.addSubReporter(subReporter.toReporterModel());
+        }
+        return reporterModel;
+    }
+
+    /**
+     * Write the pending events to the JSON stream, if any, and close it. Only the root reporter of the tree closes the
+     * stream, which must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (parent == null && tree.stream != null) {
+            tree.stream.close();
+        }
+    }
+
+    /**
+     * Read a JSON stream written by a {@link ConcurrentReporterModel}.
+     */
+    public static ReporterModel readJsonStream(Path jsonFile) {
+        Objects.requireNonNull(jsonFile);
+        try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+            return readJsonStream(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static ReporterModel readJsonStream(Reader reader) throws IOException {
+        ObjectMapper mapper = new ObjectMapper(JsonUtil.createJsonFactory()).registerModule(new ReporterModelJsonModule());
+        TypeReference<HashMap<String, TypedValue>> valuesType = new TypeReference<>() {
+        };
+        Map<String, String> dictionary = new HashMap<>();
+        Map<Integer, ReporterModel> reporters = new HashMap<>();
+        ReporterModel root = null;
+        try (JsonParser parser = mapper.getFactory().createParser(reader)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && "events".equals(parser.getCurrentName())) {
+                    parser.nextToken();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        JsonNode event = parser.readValueAsTree();
+                        if (event.has("template")) {
+                            JsonNode defaultMessage = event.get("defaultMessage");
+                            dictionary.put(event.get("template").asText(), defaultMessage != null ? defaultMessage.asText() : null);
+                        } else if (event.has("reporter")) {
+                            String taskKey = event.get("taskKey").asText();
+                            Map<String, TypedValue> taskValues = event.has("taskValues")
+                                    ? mapper.readValue(mapper.treeAsTokens(event.get("taskValues")), valuesType)
+                                    : Collections.emptyMap();
+                            ReporterModel reporter = new ReporterModel(taskKey, dictionary.get(taskKey), taskValues);
+                            reporters.put(event.get("reporter").asInt(), reporter);
+                            if (event.has("parent")) {
+                                getReporter(reporters, event.get("parent").asInt()).addSubReporter(reporter);
+                            } else {
+                                root = reporter;
+                            }
+                        } else {
+                            String reportKey = event.get("reportKey").asText();
+                            Map<String, TypedValue> values = event.has("values")
+                                    ? mapper.readValue(mapper.treeAsTokens(event.get("values")), valuesType)
+                                    : Collections.emptyMap();
+                            getReporter(reporters, event.get("report").asInt()).report(new Report(reportKey, dictionary.get(reportKey), values));
+                        }
+                    }
+                }
+            }
+        }
+        if (root == null) {
+            throw new PowsyblException("No root reporter in JSON stream");
+        }
+        return root;
+    }
+
+    private static ReporterModel getReporter(Map<Integer, ReporterModel> reporters, int id) {
+        ReporterModel reporter = reporters.get(id);
+        if (reporter == null) {
+            throw new PowsyblException("Unknown reporter " + id + " in JSON stream");
+        }
+        return reporter;
+    }
+}
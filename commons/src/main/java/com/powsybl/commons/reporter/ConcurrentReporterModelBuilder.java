@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.reporter;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A builder to create root {@link ConcurrentReporterModel} objects.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class ConcurrentReporterModelBuilder {
+
+    public static final int DEFAULT_JSON_STREAM_BATCH_SIZE = 1024;
+
+    private final Map<String, TypedValue> taskValues = new HashMap<>();
+    private String taskKey;
+    private String defaultName;
+    private long maxRetainedReports = Long.MAX_VALUE;
+    private Path jsonStreamFile;
+    private int jsonStreamBatchSize = DEFAULT_JSON_STREAM_BATCH_SIZE;
+
+    /**
+     * Build the corresponding {@link ConcurrentReporterModel}.
+     * @return the new {@link ConcurrentReporterModel} corresponding to current <code>ConcurrentReporterModelBuilder</code>
+     */
+    public ConcurrentReporterModel build() {
+        return ConcurrentReporterModel.create(taskKey, defaultName, taskValues, maxRetainedReports, jsonStreamFile, jsonStreamBatchSize);
+    }
+
+    /**
+     * Provide the key identifying the task of the reporter to build.
+     * @param taskKey the key identifying the task
+     * @return a reference to this object
+     */
+    public ConcurrentReporterModelBuilder withTaskKey(String taskKey) {
+        this.taskKey = taskKey;
+        return this;
+    }
+
+    /**
+     * Provide the name or message describing the task of the reporter to build.
+     * @param defaultName the name or message describing the task, which may contain references to the task values
+     * @return a reference to this object
+     */
+    public ConcurrentReporterModelBuilder withDefaultName(String defaultName) {
+        this.defaultName = defaultName;
+        return this;
+    }
+
+    /**
+     * Provide one typed value of the task of the reporter to build.
+     * @param key the key for the typed value
+     * @param value the typed value
+     * @return a reference to this object
+     */
+    public ConcurrentReporterModelBuilder withTaskValue(String key, TypedValue value) {
+        taskValues.put(Objects.requireNonNull(key), Objects.requireNonNull(value));
+        return this;
+    }
+
+    /**
+     * Provide the maximum number of reports retained in memory by the reporter tree to build. The reports beyond that
+     * limit are only counted.
+     * @param maxRetainedReports the maximum number of reports retained in memory
+     * @return a reference to this object
+     */
+    public ConcurrentReporterModelBuilder withMaxRetainedReports(long maxRetainedReports) {
+        if (maxRetainedReports < 0) {
+            throw new IllegalArgumentException("Invalid maximum number of retained reports: " + maxRetainedReports);
+        }
+        this.maxRetainedReports = maxRetainedReports;
+        return this;
+    }
+
+    /**
+     * Provide the JSON file to which the reports of the reporter tree to build are streamed.
+     * @param jsonStreamFile the JSON file, written until the reporter is closed
+     * @return a reference to this object
+     */
+    public ConcurrentReporterModelBuilder withJsonStream(Path jsonStreamFile) {
+        this.jsonStreamFile = Objects.requireNonNull(jsonStreamFile);
+        return this;
+    }
+
+    /**
+     * Provide the number of pending reports which triggers a write to the JSON stream.
+     * @param jsonStreamBatchSize the number of pending reports
+     * @return a reference to this object
+     */
+    public ConcurrentReporterModelBuilder withJsonStreamBatchSize(int jsonStreamBatchSize) {
+        if (jsonStreamBatchSize <= 0) {
+            throw new IllegalArgumentException("Invalid JSON stream batch size: " + jsonStreamBatchSize);
+        }
+        this.jsonStreamBatchSize = jsonStreamBatchSize;
+        return this;
+    }
+}
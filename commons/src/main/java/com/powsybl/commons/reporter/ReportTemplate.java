@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.reporter;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The key and default message shared by all the reports, or sub-reporters, with the same key in a
+ * {@link ConcurrentReporterModel} tree, with the counters of these reports.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class ReportTemplate {
+
+    private final String key;
+
+    private final String defaultMessage;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * The value layout of the last report, most reports with the same key having the same value keys and types.
+     */
+    private volatile CompactReport.Layout lastLayout = CompactReport.Layout.EMPTY;
+
+    ReportTemplate(String key, String defaultMessage) {
+        this.key = key;
+        this.defaultMessage = defaultMessage;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getDefaultMessage() {
+        return defaultMessage;
+    }
+
+    CompactReport.Layout getLayout(Map<String, TypedValue> values) {
+        CompactReport.Layout layout = lastLayout;
+        if (!layout.matches(values)) {
+            layout = CompactReport.Layout.of(values);
+            lastLayout = layout;
+        }
+        return layout;
+    }
+
+    void onReport(boolean dropped) {
+        count.increment();
+        if (dropped) {
+            droppedCount.increment();
+        }
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.util;
+
+import java.util.*;
+
+/**
+ * Map with a small memory footprint, for the many maps which have only a few entries.
+ * <p>
+ * Up to {@link #ARRAY_MAX_SIZE} entries, keys and values are stored in a single array and looked up linearly.
+ * Beyond, the entries are moved to a {@link LinkedHashMap}, which is kept until the map is cleared. Either way, the
+ * entries are iterated in insertion order. Null keys and values are supported. This map is not thread safe.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+
+    public static final int ARRAY_MAX_SIZE = 8;
+
+    /**
+     * Keys at even indexes, followed by their values, when the entries are not hashed.
+     */
+    private Object[] array;
+
+    private int size;
+
+    private LinkedHashMap<K, V> hashMap;
+
+    /**
+     * Number of structural modifications, for the iterators on the array to fail fast.
+     */
+    private int modCount;
+
+    private Set<Entry<K, V>> entrySet;
+
+    public CompactMap() {
+    }
+
+    public CompactMap(Map<? extends K, ? extends V> map) {
+        putAll(map);
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(array[2 * i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return hashMap != null ? hashMap.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return hashMap != null ? hashMap.containsKey(key) : indexOf(key) != -1;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (hashMap != null) {
+            return hashMap.containsValue(value);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(array[2 * i + 1], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (hashMap != null) {
+            return hashMap.get(key);
+        }
+        int i = indexOf(key);
+        return i != -1 ? (V) array[2 * i + 1] : null;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        if (hashMap != null) {
+            return hashMap.getOrDefault(key, defaultValue);
+        }
+        int i = indexOf(key);
+        return i != -1 ? (V) array[2 * i + 1] : defaultValue;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (hashMap != null) {
+            return hashMap.put(key, value);
+        }
+        int i = indexOf(key);
+        if (i != -1) {
+            V oldValue = (V) array[2 * i + 1];
+            array[2 * i + 1] = value;
+            return oldValue;
+        }
+        modCount++;
+        if (size == ARRAY_MAX_SIZE) {
+            hashMap = new LinkedHashMap<>();
+            for (int j = 0; j < size; j++) {
+                hashMap.put((K) array[2 * j], (V) array[2 * j + 1]);
+            }
+            hashMap.put(key, value);
+            array = null;
+            size = 0;
+            return null;
+        }
+        if (array == null) {
+            array = new Object[4];
+        } else if (array.length == 2 * size) {
+            array = Arrays.copyOf(array, Math.min(2 * array.length, 2 * ARRAY_MAX_SIZE));
+        }
+        array[2 * size] = key;
+        array[2 * size + 1] = value;
+        size++;
+        return null;
+    }
+
+    private V removeAt(int i) {
+        V oldValue = (V) array[2 * i + 1];
+        System.arraycopy(array, 2 * i + 2, array, 2 * i, 2 * (size - i - 1));
+        size--;
+        modCount++;
+        array[2 * size] = null;
+        array[2 * size + 1] = null;
+        return oldValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (hashMap != null) {
+            return hashMap.remove(key);
+        }
+        int i = indexOf(key);
+        return i != -1 ? removeAt(i) : null;
+    }
+
+    @Override
+    public void clear() {
+        hashMap = null;
+        array = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return hashMap != null ? hashMap.entrySet().iterator() : new ArrayIterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+    }
+
+    private final class ArrayEntry implements Entry<K, V> {
+
+        private final int index;
+
+        private final K key;
+
+        private V value;
+
+        private ArrayEntry(int index) {
+            this.index = index;
+            key = (K) array[2 * index];
+            value = (V) array[2 * index + 1];
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            this.value = value;
+            array[2 * index + 1] = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> e && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    private final class ArrayIterator implements Iterator<Entry<K, V>> {
+
+        private int next = 0;
+
+        private boolean removable = false;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            // a modification is reported by next(), even if it has moved the entries to the hash map
+            return modCount != expectedModCount || next < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            removable = true;
+            return new ArrayEntry(next++);
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removable = false;
+            removeAt(--next);
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
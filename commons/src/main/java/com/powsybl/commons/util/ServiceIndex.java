@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.util;
+
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Index of the service providers of a classpath, generated at build time by merging the
+ * <code>META-INF/services</code> files of all its jars, for instance by the itools packager.
+ * <p>
+ * Loading the services through the index avoids looking up the provider configuration files of each service in all
+ * the jars of the classpath. Without index, or if the index is disabled by setting the
+ * {@value #ENABLED_PROPERTY} system property to <code>false</code>, the services are loaded by a {@link ServiceLoader}.
+ * The index file lists, one per line, a service name followed by <code>=</code> and the comma separated names of
+ * its providers. It may also list the names of the jars it has been generated from, after <code>{@value #JARS_KEY}=</code>:
+ * the index is then ignored if the jars of the classpath have different names, for instance if a plugin has been
+ * added since.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public final class ServiceIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServiceIndex.class);
+
+    public static final String RESOURCE_NAME = "META-INF/powsybl/service-index";
+
+    public static final String ENABLED_PROPERTY = "powsybl.service-index";
+
+    public static final String JARS_KEY = "@jars";
+
+    /**
+     * Lazily loaded at the first use of the class, without locking afterwards.
+     */
+    private static final class Holder {
+
+        private static final Map<String, List<String>> INDEX = checkClassPath(readIndex(ServiceIndex.class.getClassLoader()),
+                System.getProperty("java.class.path", ""));
+    }
+
+    private ServiceIndex() {
+    }
+
+    /**
+     * Read and merge the index files visible from a class loader.
+     *
+     * @return the provider names by service name, or null if there is no index file
+     */
+    static Map<String, List<String>> readIndex(ClassLoader classLoader) {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Map<String, List<String>> index = null;
+        try {
+            for (URL url : Collections.list(classLoader.getResources(RESOURCE_NAME))) {
+                if (index == null) {
+                    index = new HashMap<>();
+                }
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    readIndex(reader, index);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (index != null) {
+            LOGGER.debug("Service index of {} services read in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return index;
+    }
+
+    /**
+     * @return the index, or null if it has been generated from other jars than the ones of the classpath
+     */
+    static Map<String, List<String>> checkClassPath(Map<String, List<String>> index, String classPath) {
+        if (index == null || !index.containsKey(JARS_KEY)) {
+            return index;
+        }
+        Set<String> jars = new HashSet<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (entry.endsWith(".jar")) {
+                jars.add(Paths.get(entry).getFileName().toString());
+            }
+        }
+        if (!jars.equals(new HashSet<>(index.get(JARS_KEY)))) {
+            LOGGER.info("Service index generated from other jars than the ones of the classpath, ignoring it");
+            return null;
+        }
+        return index;
+    }
+
+    static void readIndex(BufferedReader reader, Map<String, List<String>> index) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            int separator = line.indexOf('=');
+            if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+                continue;
+            }
+            List<String> providers = index.computeIfAbsent(line.substring(0, separator).trim(), k -> new ArrayList<>());
+            for (String provider : line.substring(separator + 1).split(",")) {
+                String trimmedProvider = provider.trim();
+                if (!trimmedProvider.isEmpty() && !providers.contains(trimmedProvider)) {
+                    providers.add(trimmedProvider);
+                }
+            }
+        }
+    }
+
+    /**
+     * Load and instantiate the providers of a service, through the index if there is one for the class loader, through
+     * a {@link ServiceLoader} otherwise.
+     */
+    public static <S> List<S> load(Class<S> serviceClass, ClassLoader classLoader) {
+        Objects.requireNonNull(serviceClass);
+        Objects.requireNonNull(classLoader);
+        Map<String, List<String>> index = classLoader == ServiceIndex.class.getClassLoader() ? Holder.INDEX : null;
+        if (index != null) {
+            List<S> services = load(serviceClass, classLoader, index.getOrDefault(serviceClass.getName(), Collections.emptyList()));
+            if (services != null) {
+                return services;
+            }
+        }
+        return Lists.newArrayList(ServiceLoader.load(serviceClass, classLoader));
+    }
+
+    /**
+     * @return the providers, or null if the index is not consistent with the classpath
+     */
+    static <S> List<S> load(Class<S> serviceClass, ClassLoader classLoader, List<String> providerNames) {
+        List<S> services = new ArrayList<>(providerNames.size());
+        for (String providerName : providerNames) {
+            try {
+                Class<?> providerClass = Class.forName(providerName, false, classLoader);
+                if (!serviceClass.isAssignableFrom(providerClass)) {
+                    LOGGER.warn("Provider {} of service index is not a subtype of {}, ignoring index", providerName, serviceClass.getName());
+                    return null;
+                }
+                services.add(serviceClass.cast(providerClass.getConstructor().newInstance()));
+            } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+                LOGGER.warn("Provider {} of service index not found, ignoring index: {}", providerName, e.toString());
+                return null;
+            } catch (ReflectiveOperationException e) {
+                throw new ServiceConfigurationError(serviceClass.getName() + ": Provider " + providerName + " could not be instantiated", e);
+            }
+        }
+        return services;
+    }
+}
@@ -6,13 +6,12 @@
  */
 package com.powsybl.commons.util;
 
-import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
- * A thread safe service loader.
+ * A thread safe service loader. The services are loaded at the first call, through the {@link ServiceIndex} if
+ * available, and then returned without locking.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -20,17 +19,24 @@ public class ServiceLoaderCache<S> {
 
     private final Class<S> serviceClass;
 
-    private List<S> services;
+    private volatile List<S> services;
 
     public ServiceLoaderCache(Class<S> serviceClass) {
         this.serviceClass = Objects.requireNonNull(serviceClass);
     }
 
-    public synchronized List<S> getServices() {
-        if (services == null) {
-            services = Lists.newArrayList(ServiceLoader.load(serviceClass, ServiceLoaderCache.class.getClassLoader()));
+    public List<S> getServices() {
+        List<S> result = services;
+        if (result == null) {
+            synchronized (this) {
+                result = services;
+                if (result == null) {
+                    result = ServiceIndex.load(serviceClass, ServiceLoaderCache.class.getClassLoader());
+                    services = result;
+                }
+            }
         }
-        return services;
+        return result;
     }
 
 }
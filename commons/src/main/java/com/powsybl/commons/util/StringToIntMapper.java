@@ -50,6 +50,10 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
     }
 
     public synchronized int newInt(S subset, String id) {
+        return doNewInt(subset, id);
+    }
+
+    int doNewInt(S subset, String id) {
         if (subset == null) {
             throw createSubsetIsNullException();
         }
@@ -67,6 +71,10 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
     }
 
     public synchronized int getInt(S subset, String id) {
+        return doGetInt(subset, id);
+    }
+
+    int doGetInt(S subset, String id) {
         if (subset == null) {
             throw createSubsetIsNullException();
         }
@@ -81,6 +89,10 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
     }
 
     public synchronized String getId(S subset, int num) {
+        return doGetId(subset, num);
+    }
+
+    String doGetId(S subset, int num) {
         if (subset == null) {
             throw createSubsetIsNullException();
         }
@@ -90,16 +102,47 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
         return id2num.get(subset).inverse().get(num);
     }
 
+    /**
+     * Get the ids of a subset in an array indexed by number, the numbers not mapped having a null id, to look up many
+     * ids by number without hashing.
+     */
+    public synchronized String[] getIds(S subset) {
+        return doGetIds(subset);
+    }
+
+    String[] doGetIds(S subset) {
+        if (subset == null) {
+            throw createSubsetIsNullException();
+        }
+        String[] ids = new String[counter.get(subset)];
+        for (Map.Entry<String, Integer> entry : id2num.get(subset).entrySet()) {
+            ids[entry.getValue()] = entry.getKey();
+        }
+        return ids;
+    }
+
     public synchronized boolean isMapped(S subset, String id) {
+        return doIsMapped(subset, id);
+    }
+
+    boolean doIsMapped(S subset, String id) {
         Map<String, Integer> numbers = id2num.get(subset);
         return numbers.containsKey(id);
     }
 
     public synchronized boolean isModified() {
+        return doIsModified();
+    }
+
+    boolean doIsModified() {
         return modified;
     }
 
     public synchronized void dump(Writer writer) throws IOException {
+        doDump(writer);
+    }
+
+    void doDump(Writer writer) throws IOException {
         for (Map.Entry<S, BiMap<String, Integer>> entry : id2num.entrySet()) {
             S subset = entry.getKey();
             for (Map.Entry<String, Integer> entry1 : entry.getValue().entrySet()) {
@@ -117,6 +160,10 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
     }
 
     public synchronized void load(BufferedReader reader) throws IOException {
+        doLoad(reader);
+    }
+
+    void doLoad(BufferedReader reader) throws IOException {
         String line;
         while ((line = reader.readLine()) != null) {
             if (line.trim().isEmpty()) {
@@ -141,6 +188,10 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
     }
 
     public synchronized void reset(S subset) {
+        doReset(subset);
+    }
+
+    void doReset(S subset) {
         if (subset == null) {
             throw new IllegalArgumentException("subset is null");
         }
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * {@link StringToIntMapper} without locking, for a mapper used by a single thread, or filled by a single thread and
+ * then only read, possibly concurrently, once safely published to the reading threads.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class UnsynchronizedStringToIntMapper<S extends Enum<S> & IntCounter> extends StringToIntMapper<S> {
+
+    public UnsynchronizedStringToIntMapper(Class<S> clazz) {
+        super(clazz);
+    }
+
+    @Override
+    public int newInt(S subset, String id) {
+        return doNewInt(subset, id);
+    }
+
+    @Override
+    public int getInt(S subset, String id) {
+        return doGetInt(subset, id);
+    }
+
+    @Override
+    public String getId(S subset, int num) {
+        return doGetId(subset, num);
+    }
+
+    @Override
+    public String[] getIds(S subset) {
+        return doGetIds(subset);
+    }
+
+    @Override
+    public boolean isMapped(S subset, String id) {
+        return doIsMapped(subset, id);
+    }
+
+    @Override
+    public boolean isModified() {
+        return doIsModified();
+    }
+
+    @Override
+    public void dump(Writer writer) throws IOException {
+        doDump(writer);
+    }
+
+    @Override
+    public void load(BufferedReader reader) throws IOException {
+        doLoad(reader);
+    }
+
+    @Override
+    public void reset(S subset) {
+        doReset(subset);
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class MappedZipDataSourceTest {
+
+    private static final String LARGE_CONTENT = "a line repeated in a deflated entry\n".repeat(1000);
+
+    private FileSystem fileSystem;
+
+    @BeforeEach
+    void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static byte[] createZip(boolean zip64) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(bos)) {
+            if (zip64) {
+                zos.setUseZip64(Zip64Mode.Always);
+            }
+            zos.putArchiveEntry(new ZipArchiveEntry("dir/"));
+            zos.closeArchiveEntry();
+
+            zos.putArchiveEntry(new ZipArchiveEntry("foo.xml"));
+            zos.write(LARGE_CONTENT.getBytes(StandardCharsets.UTF_8));
+            zos.closeArchiveEntry();
+
+            byte[] stored = "stored content".getBytes(StandardCharsets.UTF_8);
+            CRC32 crc = new CRC32();
+            crc.update(stored);
+            ZipArchiveEntry storedEntry = new ZipArchiveEntry("dir/foo_mapping.csv");
+            storedEntry.setMethod(ZipEntry.STORED);
+            storedEntry.setSize(stored.length);
+            storedEntry.setCrc(crc.getValue());
+            zos.putArchiveEntry(storedEntry);
+            zos.write(stored);
+            zos.closeArchiveEntry();
+
+            zos.putArchiveEntry(new ZipArchiveEntry("empty.txt"));
+            zos.closeArchiveEntry();
+        }
+        return bos.toByteArray();
+    }
+
+    private static String read(ReadOnlyDataSource dataSource, String fileName) throws IOException {
+        try (InputStream is = dataSource.newInputStream(fileName)) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void check(MappedZipDataSource dataSource) throws IOException {
+        assertEquals("foo", dataSource.getBaseName());
+        assertTrue(dataSource.exists(null, "xml"));
+        assertTrue(dataSource.exists("dir/foo_mapping.csv"));
+        assertTrue(dataSource.exists("dir/"));
+        assertFalse(dataSource.exists("bar.xml"));
+        assertEquals(Set.of("foo.xml", "dir/foo_mapping.csv", "empty.txt"), dataSource.listNames(".*"));
+        assertEquals(Set.of("foo.xml"), dataSource.listNames(".*\\.xml"));
+
+        assertEquals(LARGE_CONTENT, read(dataSource, "foo.xml"));
+        assertEquals("stored content", read(dataSource, "dir/foo_mapping.csv"));
+        assertEquals("", read(dataSource, "empty.txt"));
+        // entries may be read several times
+        try (InputStream is = dataSource.newInputStream(null, "xml")) {
+            assertEquals('a', is.read());
+        }
+        assertThrows(IOException.class, () -> dataSource.newInputStream("bar.xml"));
+    }
+
+    @Test
+    void testFromMemory() throws IOException {
+        check(new MappedZipDataSource(createZip(false), "foo"));
+        check(new MappedZipDataSource(createZip(true), "foo"));
+    }
+
+    @Test
+    void testFromFileSystemWithoutMapping() throws IOException {
+        Path zipFile = fileSystem.getPath("/foo.zip");
+        Files.write(zipFile, createZip(false));
+        MappedZipDataSource dataSource = new MappedZipDataSource(zipFile);
+        check(dataSource);
+        assertEquals("/foo.zip", dataSource.getArchiveName());
+    }
+
+    @Test
+    void testMappedFile() throws IOException {
+        Path zipFile = Files.createTempFile("foo", ".zip");
+        try {
+            Files.write(zipFile, createZip(false));
+            check(new MappedZipDataSource(zipFile, "foo"));
+        } finally {
+            Files.delete(zipFile);
+        }
+    }
+
+    @Test
+    void testSameContentAsZipFileDataSource() throws IOException {
+        Path zipFile = fileSystem.getPath("/foo.zip");
+        Files.write(zipFile, createZip(false));
+        ZipFileDataSource zipFileDataSource = new ZipFileDataSource(zipFile);
+        MappedZipDataSource dataSource = new MappedZipDataSource(zipFile);
+        assertEquals(zipFileDataSource.listNames(".*"), dataSource.listNames(".*"));
+        for (String name : zipFileDataSource.listNames(".*")) {
+            assertEquals(read(zipFileDataSource, name), read(dataSource, name));
+        }
+    }
+
+    @Test
+    void testInvalidZip() {
+        byte[] notAZip = "not a zip".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> new MappedZipDataSource(notAZip, "foo"));
+    }
+}
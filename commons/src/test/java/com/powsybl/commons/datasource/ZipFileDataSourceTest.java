@@ -10,7 +10,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -82,4 +84,38 @@ class ZipFileDataSourceTest extends AbstractDataSourceTest {
         }
     }
 
+    @Test
+    void modifiedZipTest() throws IOException {
+        ZipFileDataSource dataSource = new ZipFileDataSource(testDir, "foo");
+        try (OutputStream os = dataSource.newOutputStream("a.txt", false)) {
+            os.write("a".getBytes());
+        }
+        assertTrue(dataSource.exists("a.txt"));
+        assertFalse(dataSource.exists("b.txt"));
+
+        // the zip file modified by another data source is read again
+        try (OutputStream os = new ZipFileDataSource(testDir, "foo").newOutputStream("b.txt", false)) {
+            os.write("b".getBytes());
+        }
+        assertTrue(dataSource.exists("b.txt"));
+        assertEquals(Set.of("a.txt", "b.txt"), dataSource.listNames(".*"));
+        try (InputStream is = dataSource.newInputStream("b.txt")) {
+            assertEquals("b", new String(is.readAllBytes()));
+        }
+    }
+
+    @Test
+    void openStreamsTest() throws IOException {
+        ZipFileDataSource dataSource = new ZipFileDataSource(testDir, "foo");
+        try (OutputStream os = dataSource.newOutputStream("a.txt", false)) {
+            os.write("abc".getBytes());
+        }
+        // the streams share the loaded zip file but not their positions
+        try (InputStream is1 = dataSource.newInputStream("a.txt");
+             InputStream is2 = dataSource.newInputStream("a.txt")) {
+            assertEquals('a', is1.read());
+            assertEquals("abc", new String(is2.readAllBytes()));
+            assertEquals("bc", new String(is1.readAllBytes()));
+        }
+    }
 }
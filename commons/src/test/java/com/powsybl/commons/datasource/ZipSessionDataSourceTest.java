@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.datasource;
+
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class ZipSessionDataSourceTest extends AbstractDataSourceTest {
+
+    @Override
+    protected boolean appendTest() {
+        return false;
+    }
+
+    @Override
+    protected DataSource createDataSource() {
+        return new ZipSessionDataSource(testDir, getBaseName());
+    }
+
+    private static void write(DataSource dataSource, String fileName, String content) throws IOException {
+        try (OutputStream os = dataSource.newOutputStream(fileName, false)) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String read(DataSource dataSource, String fileName) throws IOException {
+        try (InputStream is = dataSource.newInputStream(fileName)) {
+            return new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String content(int i) {
+        return ("content of entry " + i + System.lineSeparator()).repeat(i + 1);
+    }
+
+    private void writeManyEntries(ZipSessionDataSource dataSource) throws IOException {
+        Set<String> expectedNames = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            write(dataSource, "entry" + i + ".txt", content(i));
+            expectedNames.add("entry" + i + ".txt");
+        }
+        // the archive is not written before the session is closed
+        assertFalse(Files.exists(testDir.resolve("foo.zip")));
+        assertEquals(expectedNames, dataSource.listNames("entry.*"));
+        dataSource.close();
+
+        assertTrue(Files.exists(testDir.resolve("foo.zip")));
+        assertFalse(Files.exists(testDir.resolve("foo.zip.tmp")));
+        ZipFileDataSource zipDataSource = new ZipFileDataSource(testDir, "foo");
+        assertEquals(expectedNames, zipDataSource.listNames(".*"));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(content(i), read(zipDataSource, "entry" + i + ".txt"));
+        }
+    }
+
+    @Test
+    void manyEntriesTest() throws IOException {
+        writeManyEntries(new ZipSessionDataSource(testDir, "foo"));
+    }
+
+    @Test
+    void parallelCompressionTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            writeManyEntries(new ZipSessionDataSource(testDir, "foo", executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void interleavedEntriesTest() throws IOException {
+        try (ZipSessionDataSource dataSource = new ZipSessionDataSource(testDir, "foo")) {
+            // the second entry is buffered while the first one is written
+            try (OutputStream os1 = dataSource.newOutputStream("a.txt", false);
+                 OutputStream os2 = dataSource.newOutputStream("b.txt", false)) {
+                os1.write("a".getBytes(StandardCharsets.UTF_8));
+                os2.write("b".getBytes(StandardCharsets.UTF_8));
+            }
+            write(dataSource, "c.txt", "c");
+        }
+        ZipFileDataSource zipDataSource = new ZipFileDataSource(testDir, "foo");
+        assertEquals(Set.of("a.txt", "b.txt", "c.txt"), zipDataSource.listNames(".*"));
+        assertEquals("a", read(zipDataSource, "a.txt"));
+        assertEquals("b", read(zipDataSource, "b.txt"));
+        assertEquals("c", read(zipDataSource, "c.txt"));
+    }
+
+    @Test
+    void existingEntriesTest() throws IOException {
+        ZipFileDataSource zipDataSource = new ZipFileDataSource(testDir, "foo");
+        write(zipDataSource, "a.txt", "old a");
+        write(zipDataSource, "b.txt", "old b");
+
+        try (ZipSessionDataSource dataSource = new ZipSessionDataSource(testDir, "foo")) {
+            assertEquals("old a", read(dataSource, "a.txt"));
+            write(dataSource, "a.txt", "new a");
+            write(dataSource, "c.txt", "new c");
+            assertEquals(Set.of("a.txt", "b.txt", "c.txt"), dataSource.listNames(".*"));
+        }
+        assertEquals(Set.of("a.txt", "b.txt", "c.txt"), zipDataSource.listNames(".*"));
+        assertEquals("new a", read(zipDataSource, "a.txt"));
+        assertEquals("old b", read(zipDataSource, "b.txt"));
+        assertEquals("new c", read(zipDataSource, "c.txt"));
+    }
+
+    @Test
+    void rewriteEntryTest() throws IOException {
+        try (ZipSessionDataSource dataSource = new ZipSessionDataSource(testDir, "foo")) {
+            write(dataSource, "a.txt", "a1");
+            write(dataSource, "b.txt", "b1");
+            // the session is finalized before the entry is written again
+            write(dataSource, "a.txt", "a2");
+            assertTrue(Files.exists(testDir.resolve("foo.zip")));
+            assertEquals("a2", read(dataSource, "a.txt"));
+            assertEquals("b1", read(dataSource, "b.txt"));
+        }
+        assertEquals(Set.of("a.txt", "b.txt"), new ZipFileDataSource(testDir, "foo").listNames(".*"));
+    }
+
+    @Test
+    void closeWithOpenEntryTest() throws IOException {
+        ZipSessionDataSource dataSource = new ZipSessionDataSource(testDir, "foo");
+        OutputStream os = dataSource.newOutputStream("a.txt", false);
+        assertThrows(IllegalStateException.class, dataSource::close);
+        // the session is given up, without leaving its temporary archive
+        assertFalse(Files.exists(ZipFileDataSource.getTmpZipFilePath(testDir.resolve("foo.zip"))));
+        assertFalse(Files.exists(testDir.resolve("foo.zip")));
+        os.close();
+        dataSource.close();
+        assertFalse(Files.exists(testDir.resolve("foo.zip")));
+
+        // the data source may still be used
+        write(dataSource, "b.txt", "b");
+        dataSource.close();
+        assertEquals(Set.of("b.txt"), new ZipFileDataSource(testDir, "foo").listNames(".*"));
+        assertThrows(UnsupportedOperationException.class, () -> dataSource.newOutputStream("a.txt", true));
+    }
+}
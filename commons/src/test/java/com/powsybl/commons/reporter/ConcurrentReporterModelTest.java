@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.reporter;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class ConcurrentReporterModelTest {
+
+    private FileSystem fileSystem;
+
+    @BeforeEach
+    void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        fileSystem.close();
+    }
+
+    private static String export(ReporterModel reporterModel) {
+        StringWriter writer = new StringWriter();
+        reporterModel.export(writer);
+        return writer.toString();
+    }
+
+    @Test
+    void testValues() {
+        ConcurrentReporterModel reporter = new ConcurrentReporterModel("root", "Root ${name}", Map.of("name", new TypedValue("test", TypedValue.UNTYPED)));
+        Reporter subReporter = reporter.createSubReporter("sub", "Sub");
+        subReporter.report(Report.builder()
+                .withKey("values")
+                .withDefaultMessage("${i} ${l} ${f} ${d} ${b} ${s}")
+                .withValue("i", 1)
+                .withValue("l", 2L)
+                .withValue("f", 3.5f)
+                .withTypedValue("d", 4.5, TypedValue.ACTIVE_POWER)
+                .withValue("b", true)
+                .withSeverity(TypedValue.WARN_SEVERITY)
+                .withValue("s", "x")
+                .build());
+        subReporter.report("values", "another message", "s", "y");
+        subReporter.report("noValue", "No value");
+
+        List<Report> reports = reporter.getSubReporters().get(0).getReports();
+        assertEquals(3, reports.size());
+        Report report = reports.get(0);
+        assertEquals(1, report.getValue("i").getValue());
+        assertEquals(2L, report.getValue("l").getValue());
+        assertEquals(3.5f, report.getValue("f").getValue());
+        assertEquals(4.5, report.getValue("d").getValue());
+        assertEquals(TypedValue.ACTIVE_POWER, report.getValue("d").getType());
+        assertEquals(true, report.getValue("b").getValue());
+        assertEquals("WARN", report.getValue(Report.REPORT_SEVERITY_KEY).getValue());
+        assertEquals("x", report.getValue("s").getValue());
+        // the default message of a key is the first one
+        assertEquals("${i} ${l} ${f} ${d} ${b} ${s}", reports.get(1).getDefaultMessage());
+        assertEquals(Map.of("s", "y"), Map.of("s", reports.get(1).getValue("s").getValue()));
+        assertTrue(reports.get(2).getValues().isEmpty());
+
+        assertEquals("+ Root test" + System.lineSeparator() +
+                "  + Sub" + System.lineSeparator() +
+                "     1 2 3.5 4.5 true x" + System.lineSeparator() +
+                "     ${i} ${l} ${f} ${d} ${b} y" + System.lineSeparator() +
+                "     No value" + System.lineSeparator(),
+                export(reporter.toReporterModel()));
+    }
+
+    @Test
+    void testConcurrentReports() throws Exception {
+        ConcurrentReporterModel reporter = new ConcurrentReporterModel("root", "Root");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 4).<Future<?>>mapToObj(t -> executor.submit(() -> {
+                Reporter subReporter = reporter.createSubReporter("task", "Task ${t}", "t", t);
+                for (int i = 0; i < 1000; i++) {
+                    subReporter.report("report", "Report ${i}", "i", i);
+                    reporter.report("rootReport", "Root report");
+                }
+            })).toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(4000, reporter.getReports().size());
+        assertEquals(4, reporter.getSubReporters().size());
+        for (ConcurrentReporterModel subReporter : reporter.getSubReporters()) {
+            List<Report> reports = subReporter.getReports();
+            assertEquals(1000, reports.size());
+            // the reports of a single thread are in order
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, reports.get(i).getValue("i").getValue());
+            }
+        }
+        assertEquals(4000, reporter.getReportCount("report"));
+        assertEquals(0, reporter.getDroppedReportCount("report"));
+    }
+
+    @Test
+    void testMaxRetainedReports() {
+        ConcurrentReporterModel reporter = ConcurrentReporterModel.builder()
+                .withTaskKey("root")
+                .withDefaultName("Root")
+                .withMaxRetainedReports(3)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            reporter.report("a", "A");
+        }
+        reporter.createSubReporter("sub", "Sub").report("b", "B");
+
+        assertEquals(3, reporter.getReports().size());
+        assertTrue(reporter.getSubReporters().get(0).getReports().isEmpty());
+        assertEquals(5, reporter.getReportCount("a"));
+        assertEquals(2, reporter.getDroppedReportCount("a"));
+        assertEquals(1, reporter.getReportCount("b"));
+        assertEquals(Map.of("a", 2L, "b", 1L), reporter.getDroppedReportCounts());
+        assertEquals(0, reporter.getReportCount("unknown"));
+
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentReporterModel.builder().withMaxRetainedReports(-1));
+    }
+
+    @Test
+    void testJsonStream() throws Exception {
+        Path file = fileSystem.getPath("/reports.json");
+        try (ConcurrentReporterModel reporter = ConcurrentReporterModel.builder()
+                .withTaskKey("root")
+                .withDefaultName("Root ${n}")
+                .withTaskValue("n", new TypedValue(1, TypedValue.UNTYPED))
+                .withMaxRetainedReports(1)
+                .withJsonStreamBatchSize(2)
+                .withJsonStream(file)
+                .build()) {
+            Reporter subReporter = reporter.createSubReporter("sub", "Sub ${v}", "v", 2.5, TypedValue.VOLTAGE);
+            for (int i = 0; i < 3; i++) {
+                subReporter.report("report", "Report ${i} ${s}", Map.of("i", new TypedValue(i, TypedValue.UNTYPED),
+                        "s", new TypedValue("x" + i, TypedValue.SUBSTATION)));
+            }
+            reporter.report("end", "End");
+        }
+
+        // the stream is not limited by the number of retained reports
+        ReporterModel reporterModel = ConcurrentReporterModel.readJsonStream(file);
+        assertEquals("+ Root 1" + System.lineSeparator() +
+                "   End" + System.lineSeparator() +
+                "  + Sub 2.5" + System.lineSeparator() +
+                "     Report 0 x0" + System.lineSeparator() +
+                "     Report 1 x1" + System.lineSeparator() +
+                "     Report 2 x2" + System.lineSeparator(),
+                export(reporterModel));
+        assertEquals(TypedValue.SUBSTATION, reporterModel.getSubReporters().get(0).getReports().iterator().next().getValue("s").getType());
+    }
+}
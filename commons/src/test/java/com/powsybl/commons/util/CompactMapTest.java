@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class CompactMapTest {
+
+    private static void checkSameAs(Map<String, Integer> expected, CompactMap<String, Integer> map) {
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.isEmpty(), map.isEmpty());
+        assertEquals(expected.keySet(), map.keySet());
+        for (Map.Entry<String, Integer> e : expected.entrySet()) {
+            assertTrue(map.containsKey(e.getKey()));
+            assertTrue(map.containsValue(e.getValue()));
+            assertEquals(e.getValue(), map.get(e.getKey()));
+        }
+        assertFalse(map.containsKey("unknown"));
+        assertNull(map.get("unknown"));
+        assertEquals(-1, map.getOrDefault("unknown", -1));
+    }
+
+    @Test
+    void testSameAsHashMap() {
+        Map<String, Integer> expected = new HashMap<>();
+        CompactMap<String, Integer> map = new CompactMap<>();
+        checkSameAs(expected, map);
+
+        // growing from an array to a hash map
+        for (int i = 0; i < 2 * CompactMap.ARRAY_MAX_SIZE; i++) {
+            assertEquals(expected.put("k" + i, i), map.put("k" + i, i));
+            checkSameAs(expected, map);
+        }
+        assertEquals(expected.put("k0", 100), map.put("k0", 100));
+        checkSameAs(expected, map);
+        for (int i = 0; i < 2 * CompactMap.ARRAY_MAX_SIZE; i += 2) {
+            assertEquals(expected.remove("k" + i), map.remove("k" + i));
+            checkSameAs(expected, map);
+        }
+        map.clear();
+        expected.clear();
+        checkSameAs(expected, map);
+
+        // array only
+        for (int i = 0; i < CompactMap.ARRAY_MAX_SIZE; i++) {
+            assertEquals(expected.put("k" + i, i), map.put("k" + i, i));
+        }
+        checkSameAs(expected, map);
+        assertEquals(expected.put("k3", 30), map.put("k3", 30));
+        assertEquals(expected.remove("k0"), map.remove("k0"));
+        assertEquals(expected.remove("k7"), map.remove("k7"));
+        assertNull(map.remove("unknown"));
+        checkSameAs(expected, map);
+    }
+
+    @Test
+    void testInsertionOrder() {
+        CompactMap<String, Integer> map = new CompactMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.remove("a");
+        map.put("d", 4);
+        assertEquals(List.of("c", "b", "d"), new ArrayList<>(map.keySet()));
+        assertEquals(List.of(1, 3, 4), new ArrayList<>(map.values()));
+
+        // still in insertion order once moved to the hash map
+        List<String> expectedKeys = new ArrayList<>(List.of("c", "b", "d"));
+        for (int i = 2 * CompactMap.ARRAY_MAX_SIZE; i > 0; i--) {
+            map.put("k" + i, i);
+            expectedKeys.add("k" + i);
+        }
+        assertEquals(expectedKeys, new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void testNulls() {
+        CompactMap<String, Integer> map = new CompactMap<>();
+        map.put(null, 1);
+        map.put("a", null);
+        assertTrue(map.containsKey(null));
+        assertEquals(1, map.get(null));
+        assertTrue(map.containsKey("a"));
+        assertTrue(map.containsValue(null));
+        assertEquals(2, map.getOrDefault("a", 2) == null ? 2 : 0);
+        assertEquals(1, map.remove(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    void testIterator() {
+        for (int size : new int[] {CompactMap.ARRAY_MAX_SIZE, 2 * CompactMap.ARRAY_MAX_SIZE}) {
+            Map<String, Integer> expected = new HashMap<>();
+            CompactMap<String, Integer> map = new CompactMap<>();
+            for (int i = 0; i < size; i++) {
+                expected.put("k" + i, i);
+                map.put("k" + i, i);
+            }
+            // remove and update entries while iterating
+            Iterator<Map.Entry<String, Integer>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Integer> e = it.next();
+                if (e.getValue() % 2 == 0) {
+                    it.remove();
+                    expected.remove(e.getKey());
+                } else {
+                    e.setValue(e.getValue() * 10);
+                    expected.put(e.getKey(), e.getValue());
+                }
+            }
+            checkSameAs(expected, map);
+            assertThrows(NoSuchElementException.class, it::next);
+
+            Iterator<Map.Entry<String, Integer>> it2 = map.entrySet().iterator();
+            assertThrows(IllegalStateException.class, it2::remove);
+
+            map.values().removeIf(v -> v > 20);
+            expected.values().removeIf(v -> v > 20);
+            checkSameAs(expected, map);
+        }
+    }
+
+    @Test
+    void testFailFastIterator() {
+        CompactMap<String, Integer> map = new CompactMap<>();
+        for (int i = 0; i < CompactMap.ARRAY_MAX_SIZE; i++) {
+            map.put("k" + i, i);
+        }
+        Iterator<Map.Entry<String, Integer>> it = map.entrySet().iterator();
+        it.next();
+        map.put("k0", 10);
+        it.next();
+
+        // moving the entries to the hash map is reported
+        map.put("new", 0);
+        assertTrue(it.hasNext());
+        assertThrows(ConcurrentModificationException.class, it::next);
+
+        map.clear();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        map.remove("b");
+        assertThrows(ConcurrentModificationException.class, keys::next);
+        Iterator<String> keys2 = map.keySet().iterator();
+        keys2.next();
+        map.put("c", 3);
+        assertThrows(ConcurrentModificationException.class, keys2::remove);
+    }
+
+    @Test
+    void testCopy() {
+        Map<String, Integer> expected = Map.of("a", 1, "b", 2);
+        CompactMap<String, Integer> map = new CompactMap<>(expected);
+        checkSameAs(expected, map);
+        assertEquals(1, map.entrySet().stream().filter(e -> e.getKey().equals("a")).count());
+        assertTrue(map.entrySet().contains(Map.entry("a", 1)));
+        assertTrue(map.toString().contains("a=1"));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class ServiceIndexTest {
+
+    public interface TestService {
+    }
+
+    public static class TestProvider1 implements TestService {
+    }
+
+    public static class TestProvider2 implements TestService {
+    }
+
+    private static Map<String, List<String>> readIndex(String content) throws IOException {
+        Map<String, List<String>> index = new HashMap<>();
+        ServiceIndex.readIndex(new BufferedReader(new StringReader(content)), index);
+        return index;
+    }
+
+    @Test
+    void testReadIndex() throws IOException {
+        Map<String, List<String>> index = readIndex("# comment\n" +
+                "@jars=a.jar,b.jar\n" +
+                "s1=p1, p2\n" +
+                "\n" +
+                "s2=\n" +
+                "s1=p2,p3\n");
+        assertEquals(Map.of(ServiceIndex.JARS_KEY, List.of("a.jar", "b.jar"), "s1", List.of("p1", "p2", "p3"), "s2", List.of()), index);
+    }
+
+    @Test
+    void testCheckClassPath() throws IOException {
+        Map<String, List<String>> index = readIndex("@jars=a.jar,b.jar\n");
+        String classPath = String.join(File.pathSeparator, "/lib/b.jar", "/lib/a.jar", "/classes");
+        assertSame(index, ServiceIndex.checkClassPath(index, classPath));
+        assertNull(ServiceIndex.checkClassPath(index, classPath + File.pathSeparator + "/lib/c.jar"));
+        Map<String, List<String>> indexWithoutJars = readIndex("s1=p1\n");
+        assertSame(indexWithoutJars, ServiceIndex.checkClassPath(indexWithoutJars, classPath));
+        assertNull(ServiceIndex.checkClassPath(null, classPath));
+    }
+
+    @Test
+    void testLoad() {
+        ClassLoader classLoader = ServiceIndexTest.class.getClassLoader();
+        List<TestService> services = ServiceIndex.load(TestService.class, classLoader,
+                List.of(TestProvider1.class.getName(), TestProvider2.class.getName()));
+        assertNotNull(services);
+        assertEquals(2, services.size());
+        assertInstanceOf(TestProvider1.class, services.get(0));
+        assertInstanceOf(TestProvider2.class, services.get(1));
+
+        // an index not consistent with the classpath is ignored
+        assertNull(ServiceIndex.load(TestService.class, classLoader, List.of("com.powsybl.Unknown")));
+        assertNull(ServiceIndex.load(TestService.class, classLoader, List.of(String.class.getName())));
+
+        // without index, the services are loaded by a service loader
+        assertTrue(ServiceIndex.load(TestService.class, classLoader).isEmpty());
+    }
+}
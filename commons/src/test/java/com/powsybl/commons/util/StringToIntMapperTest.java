@@ -6,6 +6,7 @@
  */
 package com.powsybl.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -52,6 +53,14 @@ class StringToIntMapperTest {
         }
     }
 
+    @Test
+    void testUnsynchronized() throws IOException {
+        StringToIntMapper<TestSubset> mapper = new UnsynchronizedStringToIntMapper<>(TestSubset.class);
+        testAddMapping(mapper);
+        mapper.reset(TestSubset.TYPE);
+        testAddMapping(mapper);
+    }
+
     private void testAddMapping(StringToIntMapper<TestSubset> mapper) throws IOException {
         String value = "value1";
         assertFalse(mapper.isMapped(TestSubset.TYPE, value));
@@ -78,6 +87,7 @@ class StringToIntMapperTest {
         assertEquals(2, num);
         assertEquals(value, mapper.getId(TestSubset.TYPE, 2));
         assertEquals(2, mapper.getInt(TestSubset.TYPE, value));
+        assertArrayEquals(new String[] {null, "value1", "value2"}, mapper.getIds(TestSubset.TYPE));
 
         String content = String.join(System.lineSeparator(), "TYPE;value1;1", "TYPE;value2;2");
         try (Writer writer = new StringWriter()) {
@@ -7,10 +7,13 @@
 package com.powsybl.computation.local;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -47,7 +50,7 @@ public abstract class AbstractLocalCommandExecutor implements LocalCommandExecut
         }
     }
 
-    protected int execute(List<String> cmdLs, Path workingDir, Path outFile, Path errFile, long timeout) throws IOException, InterruptedException {
+    private Process start(List<String> cmdLs, Path workingDir, Path outFile, Path errFile) throws IOException {
         ProcessBuilder.Redirect outRedirect = ProcessBuilder.Redirect.appendTo(outFile.toFile());
         ProcessBuilder.Redirect errRedirect = ProcessBuilder.Redirect.appendTo(errFile.toFile());
         Process process = new ProcessBuilder(cmdLs)
@@ -62,6 +65,11 @@ public abstract class AbstractLocalCommandExecutor implements LocalCommandExecut
         } finally {
             lock.writeLock().unlock();
         }
+        return process;
+    }
+
+    protected int execute(List<String> cmdLs, Path workingDir, Path outFile, Path errFile, long timeout) throws IOException, InterruptedException {
+        Process process = start(cmdLs, workingDir, outFile, errFile);
 
         int exitCode;
         if (timeout <= 0) {
@@ -76,5 +84,39 @@ public abstract class AbstractLocalCommandExecutor implements LocalCommandExecut
         return exitCode;
     }
 
+    /**
+     * Start a process, the returned future being completed with its exit code when it ends. No thread is blocked
+     * waiting for the process: its end is notified by {@link Process#onExit()}, and its timeout by the delayed
+     * completion of the future.
+     */
+    protected CompletableFuture<Integer> executeAsync(List<String> cmdLs, Path workingDir, Path outFile, Path errFile, long timeout) {
+        Process process;
+        try {
+            process = start(cmdLs, workingDir, outFile, errFile);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Integer> exitCode = process.onExit().thenApply(Process::exitValue);
+        if (timeout > 0) {
+            exitCode = exitCode.completeOnTimeout(ProcessHelper.TIMEOUT_EXIT_CODE, timeout, TimeUnit.SECONDS);
+        }
+        return exitCode.thenApply(code -> {
+            if (process.isAlive()) {
+                // timeout
+                process.destroy();
+            }
+            try {
+                ProcessHelper.closeStream(process);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (code != 0) {
+                nonZeroLog(cmdLs, code);
+            }
+            return code;
+        });
+    }
+
     abstract void nonZeroLog(List<String> cmdLs, int exitCode);
 }
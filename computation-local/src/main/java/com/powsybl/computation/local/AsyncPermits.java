@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Semaphore whose permits are acquired without blocking: a future is completed when a permit is granted, the waiting
+ * futures being granted a permit in FIFO order.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class AsyncPermits {
+
+    private int available;
+
+    private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+
+    AsyncPermits(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Invalid number of permits: " + permits);
+        }
+        this.available = permits;
+    }
+
+    /**
+     * Acquire a permit. Cancelling the returned future before it is completed gives up the permit.
+     */
+    CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (available > 0) {
+                available--;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            waiting.add(permit);
+            return permit;
+        }
+    }
+
+    /**
+     * Release a permit, granting it to the first waiting future if any. The actions depending on this future are run
+     * by the calling thread, unless they are asynchronous.
+     */
+    void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            // a cancelled future does not take the permit
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.base.Suppliers;
+import com.powsybl.commons.util.ServiceIndex;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.DefaultComputationManagerConfig;
+import com.powsybl.computation.JavaCommand;
+import com.powsybl.tools.CommandLineTools;
+import com.powsybl.tools.Tool;
+import com.powsybl.tools.ToolInitializationContext;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Executor of the {@link JavaCommand}s in the current JVM, saving the start up of a JVM for each execution.
+ * <p>
+ * The tools are loaded once and shared by all the executions, as well as the computation manager configuration used
+ * to create the computation managers of the tools, like the itools launcher does. The standard output and error of an
+ * execution are written to its output and error files, {@link System#out} and {@link System#err} being routed by
+ * thread: the output of the threads started by the command is redirected too, but not the output of the threads of
+ * shared pools. The exit code is the one of the equivalent process: the status of {@link CommandLineTools} for a tool,
+ * 0 if a {@code main} method returns normally and 1 if it throws an exception.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class InProcessCommandExecutor {
+
+    static final int MAIN_ERROR_STATUS = 1;
+
+    /**
+     * Number of executions in progress, the standard streams being routed while there is at least one.
+     */
+    private static int routedExecutionCount = 0;
+
+    private static PrintStream originalOut;
+
+    private static PrintStream originalErr;
+
+    private static RoutingOutputStream outRouting;
+
+    private static PrintStream routedOut;
+
+    private static RoutingOutputStream errRouting;
+
+    private static PrintStream routedErr;
+
+    private final Supplier<CommandLineTools> tools;
+
+    private final Supplier<DefaultComputationManagerConfig> computationManagerConfig;
+
+    InProcessCommandExecutor() {
+        this(() -> ServiceIndex.load(Tool.class, InProcessCommandExecutor.class.getClassLoader()),
+                DefaultComputationManagerConfig::load);
+    }
+
+    /**
+     * @param tools supplier of the tools, called once at the first execution of a tool
+     * @param computationManagerConfig supplier of the configuration of the computation managers of the tools, called
+     *                                 once at the first execution of a tool
+     */
+    InProcessCommandExecutor(Supplier<? extends Iterable<Tool>> tools, Supplier<DefaultComputationManagerConfig> computationManagerConfig) {
+        Objects.requireNonNull(tools);
+        Objects.requireNonNull(computationManagerConfig);
+        this.tools = Suppliers.memoize(() -> new CommandLineTools(tools.get()));
+        this.computationManagerConfig = Suppliers.memoize(computationManagerConfig::get);
+    }
+
+    /**
+     * Route the standard output and error of the current thread, and of the threads it starts, to the given streams.
+     * The standard streams are replaced by routing streams at the start of the first execution in progress.
+     */
+    private static void route(PrintStream out, PrintStream err) {
+        synchronized (InProcessCommandExecutor.class) {
+            if (routedExecutionCount == 0) {
+                originalOut = System.out;
+                originalErr = System.err;
+                outRouting = new RoutingOutputStream(originalOut);
+                routedOut = new PrintStream(outRouting, true, Charset.defaultCharset());
+                errRouting = new RoutingOutputStream(originalErr);
+                routedErr = new PrintStream(errRouting, true, Charset.defaultCharset());
+                System.setOut(routedOut);
+                System.setErr(routedErr);
+            }
+            routedExecutionCount++;
+            outRouting.target.set(out);
+            errRouting.target.set(err);
+        }
+    }
+
+    /**
+     * Stop routing the standard output and error of the current thread, and restore the original standard streams at
+     * the end of the last execution in progress, unless they have been replaced in the meantime.
+     */
+    private static void unroute() {
+        synchronized (InProcessCommandExecutor.class) {
+            outRouting.target.remove();
+            errRouting.target.remove();
+            routedExecutionCount--;
+            if (routedExecutionCount == 0) {
+                if (System.out == routedOut) {
+                    System.setOut(originalOut);
+                }
+                if (System.err == routedErr) {
+                    System.setErr(originalErr);
+                }
+                originalOut = null;
+                originalErr = null;
+                outRouting = null;
+                routedOut = null;
+                errRouting = null;
+                routedErr = null;
+            }
+        }
+    }
+
+    private static final class RoutingOutputStream extends OutputStream {
+
+        private final PrintStream defaultStream;
+
+        private final InheritableThreadLocal<PrintStream> target = new InheritableThreadLocal<>();
+
+        private RoutingOutputStream(PrintStream defaultStream) {
+            this.defaultStream = defaultStream;
+        }
+
+        private PrintStream getStream() {
+            PrintStream stream = target.get();
+            return stream != null ? stream : defaultStream;
+        }
+
+        @Override
+        public void write(int b) {
+            getStream().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            getStream().write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            getStream().flush();
+        }
+    }
+
+    private static PrintStream newPrintStream(Path file) throws IOException {
+        return new PrintStream(new BufferedOutputStream(Files.newOutputStream(file)), false, Charset.defaultCharset());
+    }
+
+    int execute(JavaCommand command, List<String> args, Path outFile, Path errFile) throws IOException {
+        Objects.requireNonNull(command);
+        Objects.requireNonNull(args);
+        try (PrintStream out = newPrintStream(outFile);
+             PrintStream err = newPrintStream(errFile)) {
+            route(out, err);
+            try {
+                return switch (command.getEntryPointType()) {
+                    case TOOL -> runTool(command.getEntryPoint(), args, out, err);
+                    case MAIN_CLASS -> runMain(command.getEntryPoint(), args, err);
+                };
+            } finally {
+                unroute();
+            }
+        }
+    }
+
+    private int runTool(String commandName, List<String> args, PrintStream out, PrintStream err) {
+        List<String> toolArgs = new ArrayList<>(args.size() + 1);
+        toolArgs.add(commandName);
+        toolArgs.addAll(args);
+        DefaultComputationManagerConfig config = computationManagerConfig.get();
+        return tools.get().run(toolArgs.toArray(new String[0]), new ToolInitializationContext() {
+            @Override
+            public PrintStream getOutputStream() {
+                return out;
+            }
+
+            @Override
+            public PrintStream getErrorStream() {
+                return err;
+            }
+
+            @Override
+            public FileSystem getFileSystem() {
+                return FileSystems.getDefault();
+            }
+
+            @Override
+            public Options getAdditionalOptions() {
+                return new Options();
+            }
+
+            @Override
+            public ComputationManager createShortTimeExecutionComputationManager(CommandLine commandLine) {
+                return config.createShortTimeExecutionComputationManager();
+            }
+
+            @Override
+            public ComputationManager createLongTimeExecutionComputationManager(CommandLine commandLine) {
+                return config.createLongTimeExecutionComputationManager();
+            }
+        });
+    }
+
+    private static int runMain(String className, List<String> args, PrintStream err) {
+        Method main;
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            Class<?> mainClass = Class.forName(className, true, classLoader != null ? classLoader : InProcessCommandExecutor.class.getClassLoader());
+            main = mainClass.getMethod("main", String[].class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            err.println("Error: cannot find the main method of class " + className + ": " + e);
+            return MAIN_ERROR_STATUS;
+        }
+        if (!Modifier.isStatic(main.getModifiers())) {
+            err.println("Error: the main method of class " + className + " is not static");
+            return MAIN_ERROR_STATUS;
+        }
+        try {
+            main.invoke(null, (Object) args.toArray(new String[0]));
+            return 0;
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace(err);
+            return MAIN_ERROR_STATUS;
+        } catch (IllegalAccessException e) {
+            err.println("Error: cannot access the main method of class " + className + ": " + e);
+            return MAIN_ERROR_STATUS;
+        }
+    }
+}
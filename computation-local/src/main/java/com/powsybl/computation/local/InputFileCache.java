@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.io.FileUtil;
+import com.powsybl.computation.FilePreProcessor;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Content addressed cache of the input files of the executions.
+ * <p>
+ * The result of the preprocessing of an input file is stored once by content digest of the file and preprocessor,
+ * and linked into the working directories of the executions: hard linked if the file system supports it, symbolic
+ * linked otherwise, or copied as a last resort. The digest of a file is computed once as long as its size and last
+ * modification time do not change, the digests of the {@link #MAX_DIGEST_COUNT} last used files being kept: files of
+ * the working directories of the executions come and go, while the ones of the common directory are used again and
+ * again. The linked files being shared by all the executions, the commands must not modify
+ * their input files.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class InputFileCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputFileCache.class);
+
+    private static final String GUNZIPPED_FILE_NAME = "content";
+
+    static final int MAX_DIGEST_COUNT = 1024;
+
+    private final Path cacheDir;
+
+    /**
+     * Digests of the last used files, by absolute path, in access order.
+     */
+    private final Map<Path, FileDigest> digests = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, FileDigest> eldest) {
+            return size() > MAX_DIGEST_COUNT;
+        }
+    };
+
+    private final ConcurrentMap<String, CompletableFuture<Path>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private volatile boolean hardLinks = true;
+
+    private volatile boolean symbolicLinks = true;
+
+    private record FileDigest(long size, FileTime lastModifiedTime, String digest) {
+    }
+
+    private interface PreProcessing {
+
+        void run(Path entryDir) throws IOException;
+    }
+
+    InputFileCache(Path cacheDir) {
+        this.cacheDir = Objects.requireNonNull(cacheDir);
+    }
+
+    /**
+     * Link the gunzipped content of a file to a target file.
+     */
+    void linkGunzipped(Path file, Path target) throws IOException {
+        Path entryDir = getEntry(file, FilePreProcessor.FILE_GUNZIP, dir -> {
+            try (InputStream is = new GZIPInputStream(Files.newInputStream(file));
+                 OutputStream os = Files.newOutputStream(dir.resolve(GUNZIPPED_FILE_NAME))) {
+                ByteStreams.copy(is, os);
+            }
+        });
+        link(entryDir.resolve(GUNZIPPED_FILE_NAME), target);
+    }
+
+    /**
+     * Link the entries of a zip archive to a target directory.
+     */
+    void linkUnzipped(Path file, Path targetDir) throws IOException {
+        Path entryDir = getEntry(file, FilePreProcessor.ARCHIVE_UNZIP, dir -> {
+            try (ZipFile zipFile = new ZipFile(Files.newByteChannel(file))) {
+                for (ZipArchiveEntry ze : Collections.list(zipFile.getEntries())) {
+                    if (!ze.isDirectory()) {
+                        Path entryFile = dir.resolve(ze.getName()).normalize();
+                        if (!entryFile.startsWith(dir)) {
+                            throw new IOException("Invalid zip entry name: " + ze.getName());
+                        }
+                        Files.createDirectories(entryFile.getParent());
+                        try (InputStream is = zipFile.getInputStream(ze)) {
+                            Files.copy(is, entryFile, REPLACE_EXISTING);
+                        }
+                    }
+                }
+            }
+        });
+        List<Path> entryFiles;
+        try (Stream<Path> stream = Files.walk(entryDir)) {
+            entryFiles = stream.filter(Files::isRegularFile).toList();
+        }
+        for (Path entryFile : entryFiles) {
+            Path target = targetDir.resolve(entryDir.relativize(entryFile).toString());
+            Files.createDirectories(target.getParent());
+            link(entryFile, target);
+        }
+    }
+
+    /**
+     * Link a file to a target file, replacing it if it exists.
+     */
+    void link(Path file, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        if (hardLinks) {
+            try {
+                Files.createLink(target, file);
+                return;
+            } catch (UnsupportedOperationException | IOException e) {
+                // for instance, the cache and the working directory are on different file stores
+                LOGGER.debug("Cannot hard link input files, trying symbolic links: {}", e.toString());
+                hardLinks = false;
+            }
+        }
+        if (symbolicLinks) {
+            try {
+                Files.createSymbolicLink(target, file.toAbsolutePath());
+                return;
+            } catch (UnsupportedOperationException | IOException e) {
+                LOGGER.debug("Cannot symbolic link input files, copying them: {}", e.toString());
+                symbolicLinks = false;
+            }
+        }
+        Files.copy(file, target);
+    }
+
+    private Path getEntry(Path file, FilePreProcessor preProcessor, PreProcessing preProcessing) throws IOException {
+        String key = getDigest(file) + "." + preProcessor.name().toLowerCase(Locale.ROOT);
+        CompletableFuture<Path> entry = new CompletableFuture<>();
+        CompletableFuture<Path> existingEntry = entries.putIfAbsent(key, entry);
+        if (existingEntry != null) {
+            hitCount.incrementAndGet();
+            return join(existingEntry);
+        }
+        missCount.incrementAndGet();
+        // preprocessed in a temporary directory, so that an interrupted preprocessing does not leave a partial entry
+        Path tmpDir = Files.createTempDirectory(cacheDir, key + ".");
+        try {
+            preProcessing.run(tmpDir);
+            Path entryDir = cacheDir.resolve(key);
+            Files.move(tmpDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+            entry.complete(entryDir);
+            return entryDir;
+        } catch (IOException | RuntimeException e) {
+            entries.remove(key, entry);
+            entry.completeExceptionally(e);
+            FileUtil.removeDir(tmpDir);
+            throw e;
+        }
+    }
+
+    private static Path join(CompletableFuture<Path> entry) throws IOException {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw new IOException(ioException);
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private String getDigest(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        long size = Files.size(absoluteFile);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(absoluteFile);
+        FileDigest fileDigest;
+        synchronized (digests) {
+            fileDigest = digests.get(absoluteFile);
+        }
+        if (fileDigest == null || fileDigest.size() != size || !fileDigest.lastModifiedTime().equals(lastModifiedTime)) {
+            fileDigest = new FileDigest(size, lastModifiedTime, computeDigest(absoluteFile));
+            synchronized (digests) {
+                digests.put(absoluteFile, fileDigest);
+            }
+        }
+        return fileDigest.digest();
+    }
+
+    int getDigestCount() {
+        synchronized (digests) {
+            return digests.size();
+        }
+    }
+
+    private static String computeDigest(Path file) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream is = new DigestInputStream(Files.newInputStream(file), messageDigest)) {
+            ByteStreams.exhaust(is);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+}
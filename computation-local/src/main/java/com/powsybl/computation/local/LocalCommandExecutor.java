@@ -7,9 +7,13 @@
 package com.powsybl.computation.local;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -22,6 +26,26 @@ public interface LocalCommandExecutor {
         return execute(program, args, outFile, errFile, workingDir, env);
     }
 
+    /**
+     * Start the execution of a program, the returned future being completed with its exit code.
+     * <p>
+     * The default implementation runs {@link #execute(String, long, List, Path, Path, Path, Map)} as a task of the
+     * given executor. Implementations able to wait for the end of a process without blocking a thread override it,
+     * and so must be overridden together with the blocking methods.
+     */
+    default CompletableFuture<Integer> executeAsync(String program, long timeoutSeconds, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(program, timeoutSeconds, args, outFile, errFile, workingDir, env);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
     // kill -15
     void stop(Path workingDir);
 
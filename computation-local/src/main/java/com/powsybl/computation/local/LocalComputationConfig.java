@@ -23,16 +23,48 @@ import java.util.Optional;
  */
 public class LocalComputationConfig {
 
+    /**
+     * How the commands are executed.
+     */
+    public enum ExecutionMode {
+        /**
+         * Each command is run by a thread of a pool created for each execution, waiting for the end of its process.
+         */
+        THREAD_POOL,
+        /**
+         * The commands are scheduled by an executor shared by all the executions of the computation manager, using
+         * virtual threads if the runtime supports them and they are enabled, and the end of the processes is awaited
+         * without blocking any thread.
+         */
+        ASYNC
+    }
+
     private static final String CONFIG_MODULE_NAME = "computation-local";
 
     static final String DEFAULT_LOCAL_DIR = System.getProperty("java.io.tmpdir");
 
     private static final int DEFAULT_AVAILABLE_CORE = 1;
 
+    private static final ExecutionMode DEFAULT_EXECUTION_MODE = ExecutionMode.THREAD_POOL;
+
+    private static final boolean DEFAULT_VIRTUAL_THREADS = true;
+
+    private static final boolean DEFAULT_INPUT_FILE_CACHE = false;
+
+    private static final int DEFAULT_WORKING_DIR_POOL_SIZE = 0;
+
     private final Path localDir;
 
     private final int availableCore;
 
+    private final ExecutionMode executionMode;
+
+    private final boolean virtualThreads;
+
+    private final boolean inputFileCache;
+
+    private final int workingDirPoolSize;
+
     public static LocalComputationConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -72,7 +104,15 @@ public class LocalComputationConfig {
         if (availableCore <= 0) {
             availableCore = Runtime.getRuntime().availableProcessors();
         }
-        return new LocalComputationConfig(localDir, availableCore);
+        ExecutionMode executionMode = config.flatMap(c -> c.getOptionalEnumProperty("execution-mode", ExecutionMode.class))
+                .orElse(DEFAULT_EXECUTION_MODE);
+        boolean virtualThreads = config.flatMap(c -> c.getOptionalBooleanProperty("virtual-threads"))
+                .orElse(DEFAULT_VIRTUAL_THREADS);
+        boolean inputFileCache = config.flatMap(c -> c.getOptionalBooleanProperty("input-file-cache"))
+                .orElse(DEFAULT_INPUT_FILE_CACHE);
+        int workingDirPoolSize = config.map(c -> c.getOptionalIntProperty("working-dir-pool-size").orElse(DEFAULT_WORKING_DIR_POOL_SIZE))
+                .orElse(DEFAULT_WORKING_DIR_POOL_SIZE);
+        return new LocalComputationConfig(localDir, availableCore, executionMode, virtualThreads, inputFileCache, workingDirPoolSize);
     }
 
     public LocalComputationConfig(Path localDir) {
@@ -80,8 +120,24 @@ public class LocalComputationConfig {
     }
 
     public LocalComputationConfig(Path localDir, int availableCore) {
+        this(localDir, availableCore, DEFAULT_EXECUTION_MODE, DEFAULT_VIRTUAL_THREADS);
+    }
+
+    public LocalComputationConfig(Path localDir, int availableCore, ExecutionMode executionMode, boolean virtualThreads) {
+        this(localDir, availableCore, executionMode, virtualThreads, DEFAULT_INPUT_FILE_CACHE, DEFAULT_WORKING_DIR_POOL_SIZE);
+    }
+
+    public LocalComputationConfig(Path localDir, int availableCore, ExecutionMode executionMode, boolean virtualThreads,
+                                  boolean inputFileCache, int workingDirPoolSize) {
         this.localDir = localDir;
         this.availableCore = availableCore;
+        this.executionMode = Objects.requireNonNull(executionMode);
+        this.virtualThreads = virtualThreads;
+        if (workingDirPoolSize < 0) {
+            throw new ConfigurationException("Invalid working directory pool size: " + workingDirPoolSize);
+        }
+        this.inputFileCache = inputFileCache;
+        this.workingDirPoolSize = workingDirPoolSize;
     }
 
     public Path getLocalDir() {
@@ -92,10 +148,42 @@ public class LocalComputationConfig {
         return availableCore;
     }
 
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Whether the commands are scheduled by virtual threads in {@link ExecutionMode#ASYNC} mode, when the runtime
+     * supports them.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether the preprocessed input files are cached by content and linked into the working directories, instead of
+     * being preprocessed for each execution. The commands must then not modify their input files.
+     */
+    public boolean isInputFileCache() {
+        return inputFileCache;
+    }
+
+    /**
+     * Get the maximum number of working directories kept by prefix to be reused by the next executions, 0 if they are
+     * not reused.
+     */
+    public int getWorkingDirPoolSize() {
+        return workingDirPoolSize;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [localDir=" + localDir +
                 ", availableCore=" + availableCore +
+                ", executionMode=" + executionMode +
+                ", virtualThreads=" + virtualThreads +
+                ", inputFileCache=" + inputFileCache +
+                ", workingDirPoolSize=" + workingDirPoolSize +
                 "]";
     }
 }
@@ -27,6 +27,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.IntStream;
@@ -36,6 +38,11 @@ import java.util.zip.GZIPOutputStream;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
+ * Computation manager running the commands on the local host.
+ * <p>
+ * The commands are run according to the {@link LocalComputationConfig.ExecutionMode execution mode} of the
+ * configuration, at most {@link LocalComputationConfig#getAvailableCore()} at a time, and the executions are monitored
+ * by the {@link #getMetrics() metrics} of the manager.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -51,10 +58,34 @@ public class LocalComputationManager implements ComputationManager {
 
     private final Semaphore permits;
 
+    private final AsyncPermits asyncPermits;
+
+    /**
+     * Executor of the pre and post processing of the commands in {@link LocalComputationConfig.ExecutionMode#ASYNC}
+     * mode, null in the other modes.
+     */
+    private final ExecutorService scheduler;
+
+    private final LocalComputationMetrics metrics = new LocalComputationMetrics();
+
+    /**
+     * Cache of the preprocessed input files, null if disabled.
+     */
+    private final WorkingDirectory inputFileCacheDir;
+
+    private final InputFileCache inputFileCache;
+
+    /**
+     * Pool of the working directories, null if disabled.
+     */
+    private final WorkingDirectoryPool workingDirPool;
+
     private final Executor threadPool;
 
     private final LocalCommandExecutor localCommandExecutor;
 
+    private final InProcessCommandExecutor inProcessCommandExecutor = new InProcessCommandExecutor();
+
     private static final Lock LOCK = new ReentrantLock();
 
     private static LocalComputationManager defaultInstance;
@@ -116,14 +147,37 @@ public class LocalComputationManager implements ComputationManager {
         this.threadPool = Objects.requireNonNull(executor);
         status = new LocalComputationResourcesStatus(config.getAvailableCore());
         permits = new Semaphore(config.getAvailableCore());
+        asyncPermits = new AsyncPermits(config.getAvailableCore());
+        scheduler = config.getExecutionMode() == LocalComputationConfig.ExecutionMode.ASYNC ? createScheduler(config) : null;
         //make sure the localdir exists
         Files.createDirectories(config.getLocalDir());
         commonDir = new WorkingDirectory(config.getLocalDir(), "itools_common_", false);
+        if (config.isInputFileCache()) {
+            inputFileCacheDir = new WorkingDirectory(config.getLocalDir(), "itools_cache_", false);
+            inputFileCache = new InputFileCache(inputFileCacheDir.toPath());
+        } else {
+            inputFileCacheDir = null;
+            inputFileCache = null;
+        }
+        workingDirPool = config.getWorkingDirPoolSize() > 0 ? new WorkingDirectoryPool(config.getLocalDir(), config.getWorkingDirPoolSize()) : null;
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info(config.toString());
         }
     }
 
+    private static ExecutorService createScheduler(LocalComputationConfig config) {
+        if (config.isVirtualThreads() && VirtualThreads.isSupported()) {
+            LOGGER.debug("Commands scheduled by virtual threads");
+            return VirtualThreads.newVirtualThreadPerTaskExecutor();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "local-computation-scheduler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Override
     public String getVersion() {
         return "none (local mode)";
@@ -148,7 +202,7 @@ public class LocalComputationManager implements ComputationManager {
     private ExecutionReport execute(Path workingDir, List<CommandExecution> commandExecutionList, Map<String, String> variables, ComputationParameters computationParameters, ExecutionMonitor monitor)
             throws InterruptedException {
         // TODO concurrent
-        List<ExecutionError> errors = new ArrayList<>();
+        List<ExecutionError> errors = Collections.synchronizedList(new ArrayList<>());
         ExecutorService executionSubmitter = Executors.newCachedThreadPool();
 
         for (CommandExecution commandExecution : commandExecutionList) {
@@ -156,8 +210,12 @@ public class LocalComputationManager implements ComputationManager {
             CountDownLatch latch = new CountDownLatch(commandExecution.getExecutionCount());
             IntStream.range(0, commandExecution.getExecutionCount()).forEach(idx ->
                     executionSubmitter.execute(() -> {
+                        long submissionTime = metrics.onSubmitted();
+                        long startTime = -1;
+                        boolean success = false;
                         try {
                             enter();
+                            startTime = metrics.onStarted(submissionTime);
                             if (LOGGER.isDebugEnabled()) {
                                 LOGGER.debug("Executing command {} in working directory {}",
                                         command.toString(idx), workingDir);
@@ -174,12 +232,18 @@ public class LocalComputationManager implements ComputationManager {
                                         command.toString(idx), stopwatch.elapsed(TimeUnit.MILLISECONDS));
                             }
                             postProcess(workingDir, commandExecution, idx, exitValue, errors, monitor);
+                            success = exitValue == 0;
                         } catch (InterruptedException e) {
                             Thread.currentThread().interrupt();
                             LOGGER.warn(e.getMessage(), e);
                         } catch (Exception e) {
                             LOGGER.warn(e.getMessage(), e);
                         } finally {
+                            if (startTime != -1) {
+                                metrics.onEnded(startTime, success);
+                            } else {
+                                metrics.onAbandoned();
+                            }
                             latch.countDown();
                             exit();
                         }
@@ -200,6 +264,82 @@ public class LocalComputationManager implements ComputationManager {
         return new DefaultExecutionReport(workingDir, errors);
     }
 
+    /**
+     * Execute the commands in {@link LocalComputationConfig.ExecutionMode#ASYNC} mode: the executions wait for a core
+     * without blocking a thread, their pre and post processing are run by the scheduler, and the end of their process
+     * is awaited asynchronously. The executions of a command are started once all the executions of the previous
+     * command have ended.
+     */
+    private ExecutionReport executeAsync(Path workingDir, List<CommandExecution> commandExecutionList, Map<String, String> variables, ComputationParameters computationParameters, ExecutionMonitor monitor)
+            throws InterruptedException {
+        List<ExecutionError> errors = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        for (CommandExecution commandExecution : commandExecutionList) {
+            CompletableFuture<?>[] executions = IntStream.range(0, commandExecution.getExecutionCount())
+                    .mapToObj(idx -> executeAsync(workingDir, commandExecution, idx, variables, computationParameters, errors, monitor, cancelled))
+                    .toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(executions).get();
+            } catch (ExecutionException e) {
+                // failures are logged by each execution
+            } catch (InterruptedException e) {
+                // executions not started yet are given up, the running ones are stopped by the caller
+                cancelled.set(true);
+                throw e;
+            }
+        }
+
+        return new DefaultExecutionReport(workingDir, errors);
+    }
+
+    private CompletableFuture<Void> executeAsync(Path workingDir, CommandExecution commandExecution, int executionIndex, Map<String, String> variables,
+                                                 ComputationParameters computationParameters, List<ExecutionError> errors, ExecutionMonitor monitor,
+                                                 AtomicBoolean cancelled) {
+        Command command = commandExecution.getCommand();
+        long submissionTime = metrics.onSubmitted();
+        return asyncPermits.acquire().thenComposeAsync(ignored -> {
+            if (cancelled.get()) {
+                metrics.onAbandoned();
+                asyncPermits.release();
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            status.incrementNumberOfBusyCores();
+            long startTime = metrics.onStarted(submissionTime);
+            CompletableFuture<Integer> execution;
+            try {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Executing command {} in working directory {}", command.toString(executionIndex), workingDir);
+                }
+                preProcess(workingDir, command, executionIndex);
+                execution = processAsync(workingDir, commandExecution, executionIndex, variables, computationParameters)
+                        .thenApplyAsync(exitValue -> {
+                            try {
+                                postProcess(workingDir, commandExecution, executionIndex, exitValue, errors, monitor);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                            return exitValue;
+                        }, scheduler);
+            } catch (IOException | RuntimeException e) {
+                execution = CompletableFuture.failedFuture(e);
+            }
+            return execution.handle((exitValue, e) -> {
+                metrics.onEnded(startTime, e == null && exitValue == 0);
+                status.decrementNumberOfBusyCores();
+                asyncPermits.release();
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    LOGGER.warn(cause.getMessage(), cause);
+                } else if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Command {} executed in {} ms", command.toString(executionIndex),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                }
+                return null;
+            });
+        }, scheduler);
+    }
+
     private void preProcess(Path workingDir, Command command, int executionIndex) throws IOException {
         // pre-processing
         for (InputFile file : command.getInputFiles()) {
@@ -210,6 +350,10 @@ public class LocalComputationManager implements ComputationManager {
                 switch (file.getPreProcessor()) {
                     case FILE_GUNZIP:
                         // gunzip the file
+                        if (inputFileCache != null) {
+                            inputFileCache.linkGunzipped(path, workingDir.resolve(fileName.substring(0, fileName.length() - 3)));
+                            break;
+                        }
                         try (InputStream is = new GZIPInputStream(Files.newInputStream(path));
                              OutputStream os = Files.newOutputStream(workingDir.resolve(fileName.substring(0, fileName.length() - 3)))) {
                             ByteStreams.copy(is, os);
@@ -217,6 +361,10 @@ public class LocalComputationManager implements ComputationManager {
                         break;
                     case ARCHIVE_UNZIP:
                         // extract the archive
+                        if (inputFileCache != null) {
+                            inputFileCache.linkUnzipped(path, workingDir);
+                            break;
+                        }
                         try (ZipFile zipFile = new ZipFile(Files.newByteChannel(path))) {
                             for (ZipArchiveEntry ze : Collections.list(zipFile.getEntries())) {
                                 Files.copy(zipFile.getInputStream(zipFile.getEntry(ze.getName())), workingDir.resolve(ze.getName()), REPLACE_EXISTING);
@@ -263,12 +411,63 @@ public class LocalComputationManager implements ComputationManager {
                     }
                 }
                 break;
+            case JAVA:
+                // no timeout, the command running in the current JVM
+                JavaCommand javaCmd = (JavaCommand) command;
+                exitValue = inProcessCommandExecutor.execute(javaCmd, javaCmd.getArgs(executionIndex), outFile, errFile);
+                break;
             default:
                 throw new IllegalStateException("Unexpected CommandType value: " + command.getType());
         }
         return exitValue;
     }
 
+    private CompletableFuture<Integer> processAsync(Path workingDir, CommandExecution commandExecution, int executionIndex, Map<String, String> variables, ComputationParameters computationParameters) {
+        Command command = commandExecution.getCommand();
+        Path outFile = workingDir.resolve(command.getId() + "_" + executionIndex + ".out");
+        Path errFile = workingDir.resolve(command.getId() + "_" + executionIndex + ".err");
+        Map<String, String> executionVariables = CommandExecution.getExecutionVariables(variables, commandExecution);
+        switch (command.getType()) {
+            case SIMPLE:
+                SimpleCommand simpleCmd = (SimpleCommand) command;
+                long timeout = computationParameters.getTimeout(simpleCmd.getId()).orElse(-1);
+                return localCommandExecutor.executeAsync(simpleCmd.getProgram(), timeout,
+                        simpleCmd.getArgs(executionIndex),
+                        outFile,
+                        errFile,
+                        workingDir,
+                        executionVariables,
+                        scheduler);
+            case GROUP:
+                // the sub commands are run in sequence, until one fails
+                CompletableFuture<Integer> exitValue = CompletableFuture.completedFuture(0);
+                for (GroupCommand.SubCommand subCmd : ((GroupCommand) command).getSubCommands()) {
+                    exitValue = exitValue.thenCompose(previousExitValue -> previousExitValue != 0
+                            ? CompletableFuture.completedFuture(previousExitValue)
+                            : localCommandExecutor.executeAsync(subCmd.getProgram(), -1,
+                                subCmd.getArgs(executionIndex),
+                                outFile,
+                                errFile,
+                                workingDir,
+                                executionVariables,
+                                scheduler));
+                }
+                return exitValue;
+            case JAVA:
+                // the command blocks the thread running it: it is run by the computation executor, not by the scheduler
+                JavaCommand javaCmd = (JavaCommand) command;
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return inProcessCommandExecutor.execute(javaCmd, javaCmd.getArgs(executionIndex), outFile, errFile);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, threadPool);
+            default:
+                throw new IllegalStateException("Unexpected CommandType value: " + command.getType());
+        }
+    }
+
     private void postProcess(Path workingDir, CommandExecution commandExecution, int executionIndex, int exitValue, List<ExecutionError> errors, ExecutionMonitor monitor) throws IOException {
         Command command = commandExecution.getCommand();
         if (exitValue != 0) {
@@ -307,7 +506,11 @@ public class LocalComputationManager implements ComputationManager {
                 throw new PowsyblException("Input file '" + fileName + "' not found in the working and common directory");
             }
             if (file.getPreProcessor() == null) {
-                Files.copy(path, workingDir.resolve(path.getFileName()));
+                if (inputFileCache != null) {
+                    inputFileCache.link(path, workingDir.resolve(path.getFileName().toString()));
+                } else {
+                    Files.copy(path, workingDir.resolve(path.getFileName()));
+                }
             }
         }
         return path;
@@ -343,13 +546,17 @@ public class LocalComputationManager implements ComputationManager {
      */
     private <R> R doExecute(ExecutionEnvironment environment, ExecutionHandler<R> handler, ComputationParameters parameters) throws IOException, InterruptedException {
 
-        try (WorkingDirectory workingDir = new WorkingDirectory(config.getLocalDir(), environment.getWorkingDirPrefix(), environment.isDebug())) {
+        try (WorkingDirectory workingDir = workingDirPool != null
+                ? workingDirPool.acquire(environment.getWorkingDirPrefix(), environment.isDebug())
+                : new WorkingDirectory(config.getLocalDir(), environment.getWorkingDirPrefix(), environment.isDebug())) {
 
             List<CommandExecution> commandExecutionList = handler.before(workingDir.toPath());
 
             ExecutionReport report;
             try {
-                report = execute(workingDir.toPath(), commandExecutionList, environment.getVariables(), parameters, handler::onExecutionCompletion);
+                report = scheduler != null
+                        ? executeAsync(workingDir.toPath(), commandExecutionList, environment.getVariables(), parameters, handler::onExecutionCompletion)
+                        : execute(workingDir.toPath(), commandExecutionList, environment.getVariables(), parameters, handler::onExecutionCompletion);
             } catch (InterruptedException exc) {
                 localCommandExecutor.stop(workingDir.toPath());
                 throw exc;
@@ -363,6 +570,13 @@ public class LocalComputationManager implements ComputationManager {
         return status;
     }
 
+    /**
+     * Get the metrics of the command executions of this manager.
+     */
+    public LocalComputationMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public Executor getExecutor() {
         return threadPool;
@@ -370,8 +584,17 @@ public class LocalComputationManager implements ComputationManager {
 
     @Override
     public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
         try {
             commonDir.close();
+            if (inputFileCacheDir != null) {
+                inputFileCacheDir.close();
+            }
+            if (workingDirPool != null) {
+                workingDirPool.close();
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
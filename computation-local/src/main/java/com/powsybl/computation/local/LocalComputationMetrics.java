@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the command executions of a {@link LocalComputationManager}: executions waiting for a core, running and
+ * ended, and the time spent waiting and executing.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class LocalComputationMetrics {
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private final AtomicInteger runningCount = new AtomicInteger();
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final LongAdder totalQueueNanos = new LongAdder();
+
+    private final LongAdder totalExecutionNanos = new LongAdder();
+
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    LocalComputationMetrics() {
+    }
+
+    /**
+     * Record an execution waiting for a core.
+     *
+     * @return the time of the submission
+     */
+    long onSubmitted() {
+        queuedCount.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record the start of an execution, after it has waited for a core.
+     *
+     * @return the time of the start
+     */
+    long onStarted(long submissionTime) {
+        long startTime = System.nanoTime();
+        queuedCount.decrementAndGet();
+        runningCount.incrementAndGet();
+        totalQueueNanos.add(startTime - submissionTime);
+        return startTime;
+    }
+
+    /**
+     * Record an execution given up before it was started.
+     */
+    void onAbandoned() {
+        queuedCount.decrementAndGet();
+    }
+
+    /**
+     * Record the end of an execution.
+     *
+     * @param success false if the execution has failed with an exception or a non-zero exit code
+     */
+    void onEnded(long startTime, boolean success) {
+        long executionNanos = System.nanoTime() - startTime;
+        runningCount.decrementAndGet();
+        if (success) {
+            completedCount.increment();
+        } else {
+            failedCount.increment();
+        }
+        totalExecutionNanos.add(executionNanos);
+        maxExecutionNanos.accumulateAndGet(executionNanos, Math::max);
+    }
+
+    /**
+     * Get the number of executions waiting for a core.
+     */
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * Get the number of executions in progress.
+     */
+    public int getRunningCount() {
+        return runningCount.get();
+    }
+
+    /**
+     * Get the number of successful executions.
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * Get the number of executions which have failed with an exception or a non-zero exit code.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    private long getEndedCount() {
+        return completedCount.sum() + failedCount.sum();
+    }
+
+    /**
+     * Get the mean time the started executions, running or ended, have waited for a core. The executions still waiting
+     * for a core are not counted.
+     */
+    public Duration getMeanQueueTime() {
+        long count = getEndedCount() + runningCount.get();
+        return count > 0 ? Duration.ofNanos(totalQueueNanos.sum() / count) : Duration.ZERO;
+    }
+
+    /**
+     * Get the mean time of the ended executions, pre and post processing included.
+     */
+    public Duration getMeanExecutionTime() {
+        long count = getEndedCount();
+        return count > 0 ? Duration.ofNanos(totalExecutionNanos.sum() / count) : Duration.ZERO;
+    }
+
+    /**
+     * Get the time of the longest ended execution.
+     */
+    public Duration getMaxExecutionTime() {
+        return Duration.ofNanos(maxExecutionNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [queued=" + getQueuedCount() +
+                ", running=" + getRunningCount() +
+                ", completed=" + getCompletedCount() +
+                ", failed=" + getFailedCount() +
+                ", meanQueueTime=" + getMeanQueueTime() +
+                ", meanExecutionTime=" + getMeanExecutionTime() +
+                ", maxExecutionTime=" + getMaxExecutionTime() +
+                "]";
+    }
+}
@@ -16,6 +16,8 @@ import java.util.concurrent.TimeUnit;
  */
 public final class ProcessHelper {
 
+    static final int TIMEOUT_EXIT_CODE = 124;
+
     private static final long DEFAULT_FAST_POLLING = 500_000_000; // 0.5 seconds
     private static final long BEGINING_NANO = 3_000_000_000L; // 3 seconds
 
@@ -45,7 +47,7 @@ public final class ProcessHelper {
             }
         }
         process.destroy();
-        exitCode = 124;
+        exitCode = TIMEOUT_EXIT_CODE;
 
         closeStream(process);
         return exitCode;
@@ -58,7 +60,7 @@ public final class ProcessHelper {
         return (long) (TimeUnit.SECONDS.toNanos(timeout) * 0.8) - running;
     }
 
-    private static void closeStream(Process process) throws IOException {
+    static void closeStream(Process process) throws IOException {
         // to avoid 'too many open files' exception
         process.getInputStream().close();
         process.getOutputStream().close();
@@ -16,6 +16,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -31,6 +33,15 @@ public class UnixLocalCommandExecutor extends AbstractLocalCommandExecutor {
 
     @Override
     public int execute(String program, long timeoutSecondes, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException, InterruptedException {
+        return execute(getCommandLine(program, args, workingDir, env), workingDir, outFile, errFile, timeoutSecondes);
+    }
+
+    @Override
+    public CompletableFuture<Integer> executeAsync(String program, long timeoutSeconds, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env, Executor executor) {
+        return executeAsync(getCommandLine(program, args, workingDir, env), workingDir, outFile, errFile, timeoutSeconds);
+    }
+
+    private static List<String> getCommandLine(String program, List<String> args, Path workingDir, Map<String, String> env) {
         // set TMPDIR to working dir to avoid issue with /tmp
         Map<String, String> env2 = ImmutableMap.<String, String>builder()
                 .putAll(env)
@@ -52,12 +63,11 @@ public class UnixLocalCommandExecutor extends AbstractLocalCommandExecutor {
             internalCmd.append(" \"").append(arg).append("\"");
         }
 
-        List<String> cmdLs = ImmutableList.<String>builder()
+        return ImmutableList.<String>builder()
                 .add("bash")
                 .add("-c")
                 .add(internalCmd.toString())
                 .build();
-        return execute(cmdLs, workingDir, outFile, errFile, timeoutSecondes);
     }
 
     @Override
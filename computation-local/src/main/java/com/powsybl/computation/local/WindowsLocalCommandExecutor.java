@@ -16,6 +16,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -32,6 +34,15 @@ public class WindowsLocalCommandExecutor extends AbstractLocalCommandExecutor {
 
     @Override
     public int execute(String program, long timeoutSecondes, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException, InterruptedException {
+        return execute(getCommandLine(program, args, workingDir, env), workingDir, outFile, errFile, timeoutSecondes);
+    }
+
+    @Override
+    public CompletableFuture<Integer> executeAsync(String program, long timeoutSeconds, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env, Executor executor) {
+        return executeAsync(getCommandLine(program, args, workingDir, env), workingDir, outFile, errFile, timeoutSeconds);
+    }
+
+    private static List<String> getCommandLine(String program, List<String> args, Path workingDir, Map<String, String> env) {
         // set TMP and TEMP to working dir to avoid issues
         Map<String, String> env2 = ImmutableMap.<String, String>builder()
                 .putAll(env)
@@ -56,12 +67,11 @@ public class WindowsLocalCommandExecutor extends AbstractLocalCommandExecutor {
         }
         internalCmd.append(" & endlocal");
 
-        List<String> cmdLs = ImmutableList.<String>builder()
+        return ImmutableList.<String>builder()
                 .add("cmd")
                 .add("/c")
                 .add(internalCmd.toString())
                 .build();
-        return execute(cmdLs, workingDir, outFile, errFile, timeoutSecondes);
     }
 
     @Override
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.powsybl.commons.io.FileUtil;
+import com.powsybl.commons.io.WorkingDirectory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Pool of working directories by prefix: when closed, a working directory is emptied and kept to be reused by the
+ * next execution with the same prefix, instead of being removed. Working directories in debug mode are never pooled,
+ * as they are kept after the execution.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class WorkingDirectoryPool implements AutoCloseable {
+
+    private final Path parentDir;
+
+    private final int maxIdleCountByPrefix;
+
+    private final Map<String, Deque<Path>> idleDirsByPrefix = new HashMap<>();
+
+    private boolean closed = false;
+
+    /**
+     * @param maxIdleCountByPrefix maximum number of directories kept by prefix
+     */
+    WorkingDirectoryPool(Path parentDir, int maxIdleCountByPrefix) {
+        this.parentDir = Objects.requireNonNull(parentDir);
+        if (maxIdleCountByPrefix <= 0) {
+            throw new IllegalArgumentException("Invalid pool size: " + maxIdleCountByPrefix);
+        }
+        this.maxIdleCountByPrefix = maxIdleCountByPrefix;
+    }
+
+    private final class PooledWorkingDirectory extends WorkingDirectory {
+
+        private final String prefix;
+
+        private boolean released = false;
+
+        private PooledWorkingDirectory(Path path, String prefix) {
+            super(path, false);
+            this.prefix = prefix;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (!released) {
+                released = true;
+                release(prefix, toPath());
+            }
+        }
+    }
+
+    WorkingDirectory acquire(String prefix, boolean debug) throws IOException {
+        Objects.requireNonNull(prefix);
+        if (debug) {
+            return new WorkingDirectory(parentDir, prefix, true);
+        }
+        Path dir = null;
+        synchronized (this) {
+            Deque<Path> idleDirs = idleDirsByPrefix.get(prefix);
+            if (idleDirs != null) {
+                dir = idleDirs.poll();
+            }
+        }
+        return new PooledWorkingDirectory(dir != null ? dir : Files.createTempDirectory(parentDir, prefix), prefix);
+    }
+
+    private void release(String prefix, Path dir) throws IOException {
+        boolean pooled = false;
+        try {
+            emptyDir(dir);
+            synchronized (this) {
+                Deque<Path> idleDirs = idleDirsByPrefix.computeIfAbsent(prefix, k -> new ArrayDeque<>());
+                if (!closed && idleDirs.size() < maxIdleCountByPrefix) {
+                    idleDirs.push(dir);
+                    pooled = true;
+                }
+            }
+        } finally {
+            if (!pooled) {
+                FileUtil.removeDir(dir);
+            }
+        }
+    }
+
+    private static void emptyDir(Path dir) throws IOException {
+        List<Path> children;
+        try (Stream<Path> stream = Files.list(dir)) {
+            children = stream.toList();
+        }
+        for (Path child : children) {
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                FileUtil.removeDir(child);
+            } else {
+                Files.delete(child);
+            }
+        }
+    }
+
+    synchronized int getIdleCount(String prefix) {
+        Deque<Path> idleDirs = idleDirsByPrefix.get(prefix);
+        return idleDirs != null ? idleDirs.size() : 0;
+    }
+
+    /**
+     * Remove the idle directories. The directories in use are removed when closed.
+     */
+    @Override
+    public void close() throws IOException {
+        List<Path> dirs = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            idleDirsByPrefix.values().forEach(dirs::addAll);
+            idleDirsByPrefix.clear();
+        }
+        for (Path dir : dirs) {
+            FileUtil.removeDir(dir);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.computation.DefaultComputationManagerConfig;
+import com.powsybl.computation.JavaCommand;
+import com.powsybl.computation.JavaCommandBuilder;
+import com.powsybl.tools.Command;
+import com.powsybl.tools.CommandLineTools;
+import com.powsybl.tools.Tool;
+import com.powsybl.tools.ToolRunningContext;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintStream;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class InProcessCommandExecutorTest {
+
+    private FileSystem fileSystem;
+
+    private Path outFile;
+
+    private Path errFile;
+
+    private InProcessCommandExecutor executor;
+
+    public static final class TestMain {
+
+        private TestMain() {
+        }
+
+        public static void main(String[] args) throws InterruptedException {
+            System.out.println("main " + String.join(" ", args));
+            // the output of the threads started by the command is redirected too
+            Thread thread = new Thread(() -> System.err.println("thread"));
+            thread.start();
+            thread.join();
+            if (args.length > 0 && args[0].equals("fail")) {
+                throw new IllegalStateException("main failure");
+            }
+        }
+    }
+
+    private static final class TestTool implements Tool {
+
+        @Override
+        public Command getCommand() {
+            return new Command() {
+                @Override
+                public String getName() {
+                    return "test-tool";
+                }
+
+                @Override
+                public String getTheme() {
+                    return "test";
+                }
+
+                @Override
+                public String getDescription() {
+                    return "test tool";
+                }
+
+                @Override
+                public Options getOptions() {
+                    return new Options().addOption(Option.builder().longOpt("value").hasArg().required().build());
+                }
+
+                @Override
+                public String getUsageFooter() {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public void run(CommandLine line, ToolRunningContext context) {
+            String value = line.getOptionValue("value");
+            if (value.equals("fail")) {
+                throw new IllegalStateException("tool failure");
+            }
+            context.getOutputStream().println("tool " + value);
+            System.out.println("stdout " + value);
+            assertNotNull(context.getShortTimeExecutionComputationManager());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        outFile = fileSystem.getPath("/cmd.out");
+        errFile = fileSystem.getPath("/cmd.err");
+        executor = new InProcessCommandExecutor(() -> List.of(new TestTool()),
+            () -> new DefaultComputationManagerConfig(LocalComputationManagerFactory.class, null));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        fileSystem.close();
+    }
+
+    @Test
+    void testMainClass() throws Exception {
+        JavaCommand command = new JavaCommandBuilder()
+                .id("cmd")
+                .mainClass(TestMain.class)
+                .build();
+
+        assertEquals(0, executor.execute(command, List.of("a", "b"), outFile, errFile));
+        assertEquals("main a b" + System.lineSeparator(), Files.readString(outFile));
+        assertEquals("thread" + System.lineSeparator(), Files.readString(errFile));
+
+        assertEquals(InProcessCommandExecutor.MAIN_ERROR_STATUS, executor.execute(command, List.of("fail"), outFile, errFile));
+        assertTrue(Files.readString(errFile).contains("main failure"));
+    }
+
+    @Test
+    void testStandardStreamsRestored() throws Exception {
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        JavaCommand command = new JavaCommandBuilder()
+                .id("cmd")
+                .mainClass(TestMain.class)
+                .build();
+
+        assertEquals(0, executor.execute(command, List.of(), outFile, errFile));
+        assertSame(out, System.out);
+        assertSame(err, System.err);
+        assertEquals(InProcessCommandExecutor.MAIN_ERROR_STATUS, executor.execute(command, List.of("fail"), outFile, errFile));
+        assertSame(out, System.out);
+        assertSame(err, System.err);
+    }
+
+    @Test
+    void testMainClassNotFound() throws Exception {
+        JavaCommand command = new JavaCommandBuilder()
+                .id("cmd")
+                .mainClass("com.powsybl.computation.local.Unknown")
+                .build();
+
+        assertEquals(InProcessCommandExecutor.MAIN_ERROR_STATUS, executor.execute(command, List.of(), outFile, errFile));
+        assertTrue(Files.readString(errFile).startsWith("Error: cannot find the main method of class com.powsybl.computation.local.Unknown"));
+    }
+
+    @Test
+    void testTool() throws Exception {
+        JavaCommand command = new JavaCommandBuilder()
+                .id("cmd")
+                .tool("test-tool")
+                .build();
+
+        assertEquals(CommandLineTools.COMMAND_OK_STATUS, executor.execute(command, List.of("--value", "x"), outFile, errFile));
+        assertEquals("tool x" + System.lineSeparator() + "stdout x" + System.lineSeparator(), Files.readString(outFile));
+
+        assertEquals(CommandLineTools.EXECUTION_ERROR_STATUS, executor.execute(command, List.of("--value", "fail"), outFile, errFile));
+        assertTrue(Files.readString(errFile).contains("tool failure"));
+
+        assertEquals(CommandLineTools.INVALID_COMMAND_STATUS, executor.execute(command, List.of(), outFile, errFile));
+    }
+}
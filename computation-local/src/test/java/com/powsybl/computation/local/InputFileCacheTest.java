@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class InputFileCacheTest {
+
+    private FileSystem fileSystem;
+
+    private Path workingDir1;
+
+    private Path workingDir2;
+
+    private InputFileCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        Path cacheDir = Files.createDirectories(fileSystem.getPath("/tmp/cache"));
+        workingDir1 = Files.createDirectories(fileSystem.getPath("/tmp/work1"));
+        workingDir2 = Files.createDirectories(fileSystem.getPath("/tmp/work2"));
+        cache = new InputFileCache(cacheDir);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static void writeGz(Path file, String content) throws IOException {
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(file))) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeZip(Path file, String... namesAndContents) throws IOException {
+        try (ZipOutputStream os = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                os.putNextEntry(new ZipEntry(namesAndContents[i]));
+                os.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                os.closeEntry();
+            }
+        }
+    }
+
+    @Test
+    void testGunzip() throws IOException {
+        // same content in two working directories: preprocessed once
+        writeGz(workingDir1.resolve("network.xml.gz"), "network");
+        Files.copy(workingDir1.resolve("network.xml.gz"), workingDir2.resolve("network.xml.gz"));
+        cache.linkGunzipped(workingDir1.resolve("network.xml.gz"), workingDir1.resolve("network.xml"));
+        cache.linkGunzipped(workingDir2.resolve("network.xml.gz"), workingDir2.resolve("network.xml"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals("network", Files.readString(workingDir1.resolve("network.xml")));
+        assertEquals("network", Files.readString(workingDir2.resolve("network.xml")));
+        assertTrue(Files.isSameFile(workingDir1.resolve("network.xml"), workingDir2.resolve("network.xml")));
+
+        // other content
+        writeGz(workingDir2.resolve("network.xml.gz"), "other network");
+        cache.linkGunzipped(workingDir2.resolve("network.xml.gz"), workingDir2.resolve("network.xml"));
+        assertEquals(2, cache.getMissCount());
+        assertEquals("other network", Files.readString(workingDir2.resolve("network.xml")));
+        assertEquals("network", Files.readString(workingDir1.resolve("network.xml")));
+    }
+
+    @Test
+    void testUnzip() throws IOException {
+        Path zip = fileSystem.getPath("/tmp/inputs.zip");
+        writeZip(zip, "a.txt", "a", "dir/b.txt", "b");
+        cache.linkUnzipped(zip, workingDir1);
+        cache.linkUnzipped(zip, workingDir2);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        for (Path workingDir : new Path[] {workingDir1, workingDir2}) {
+            assertEquals("a", Files.readString(workingDir.resolve("a.txt")));
+            assertEquals("b", Files.readString(workingDir.resolve("dir/b.txt")));
+        }
+    }
+
+    @Test
+    void testDigestCountBounded() throws IOException {
+        // a file in the working directory of each execution
+        writeGz(workingDir1.resolve("network.xml.gz"), "network");
+        for (int i = 0; i < InputFileCache.MAX_DIGEST_COUNT + 10; i++) {
+            Path workingDir = Files.createDirectories(fileSystem.getPath("/tmp/work" + (i + 3)));
+            Files.copy(workingDir1.resolve("network.xml.gz"), workingDir.resolve("network.xml.gz"));
+            cache.linkGunzipped(workingDir.resolve("network.xml.gz"), workingDir.resolve("network.xml"));
+        }
+        assertEquals(InputFileCache.MAX_DIGEST_COUNT, cache.getDigestCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testInvalidZip() throws IOException {
+        Path zip = fileSystem.getPath("/tmp/invalid.zip");
+        writeZip(zip, "../outside.txt", "x");
+        IOException e = assertThrows(IOException.class, () -> cache.linkUnzipped(zip, workingDir1));
+        assertEquals("Invalid zip entry name: ../outside.txt", e.getMessage());
+        assertFalse(Files.exists(fileSystem.getPath("/tmp/outside.txt")));
+        // failures are not cached
+        assertThrows(IOException.class, () -> cache.linkUnzipped(zip, workingDir1));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testLink() throws IOException {
+        Path file = Files.writeString(fileSystem.getPath("/tmp/common.txt"), "common");
+        Files.writeString(workingDir1.resolve("common.txt"), "old");
+        cache.link(file, workingDir1.resolve("common.txt"));
+        assertEquals("common", Files.readString(workingDir1.resolve("common.txt")));
+    }
+}
@@ -6,16 +6,21 @@
  */
 package com.powsybl.computation.local;
 
+import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -50,4 +55,20 @@ class LocalCommandExecutorTest {
             fail();
         }
     }
+
+    @Test
+    void testExecuteAsync(@TempDir Path workingDir) throws Exception {
+        assumeTrue(SystemUtils.IS_OS_UNIX);
+        UnixLocalCommandExecutor executor = new UnixLocalCommandExecutor();
+        Path outFile = workingDir.resolve("cmd.out");
+        Path errFile = workingDir.resolve("cmd.err");
+        assertEquals(0, executor.executeAsync("echo", -1, List.of("hello"), outFile, errFile, workingDir, Collections.emptyMap(), Runnable::run)
+                .get(10, TimeUnit.SECONDS));
+        assertEquals("hello", Files.readString(outFile).trim());
+        assertEquals(3, executor.executeAsync("exit", -1, List.of("3"), outFile, errFile, workingDir, Collections.emptyMap(), Runnable::run)
+                .get(10, TimeUnit.SECONDS));
+        // the process is destroyed on timeout
+        assertEquals(ProcessHelper.TIMEOUT_EXIT_CODE, executor.executeAsync("sleep", 1, List.of("30"), outFile, errFile, workingDir, Collections.emptyMap(), Runnable::run)
+                .get(10, TimeUnit.SECONDS));
+    }
 }
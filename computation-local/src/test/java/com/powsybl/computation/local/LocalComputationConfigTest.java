@@ -8,6 +8,7 @@ package com.powsybl.computation.local;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.config.ConfigurationException;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.commons.config.MapModuleConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -19,7 +20,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.util.Arrays;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -57,6 +58,34 @@ class LocalComputationConfigTest {
         LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
         assertEquals(fileSystem.getPath(LocalComputationConfig.DEFAULT_LOCAL_DIR), config.getLocalDir());
         assertEquals(1, config.getAvailableCore());
+        assertEquals(LocalComputationConfig.ExecutionMode.THREAD_POOL, config.getExecutionMode());
+        assertTrue(config.isVirtualThreads());
+        assertFalse(config.isInputFileCache());
+        assertEquals(0, config.getWorkingDirPoolSize());
+    }
+
+    @Test
+    void testInputFileCacheAndWorkingDirPool() {
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("computation-local");
+        moduleConfig.setStringProperty("input-file-cache", "true");
+        moduleConfig.setStringProperty("working-dir-pool-size", "4");
+        LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
+        assertTrue(config.isInputFileCache());
+        assertEquals(4, config.getWorkingDirPoolSize());
+
+        moduleConfig.setStringProperty("working-dir-pool-size", "-1");
+        assertThrows(ConfigurationException.class, () -> LocalComputationConfig.load(platformConfig, fileSystem));
+    }
+
+    @Test
+    void testExecutionMode() {
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("computation-local");
+        moduleConfig.setStringProperty("execution-mode", "ASYNC");
+        moduleConfig.setStringProperty("virtual-threads", "false");
+        LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
+        assertEquals(LocalComputationConfig.ExecutionMode.ASYNC, config.getExecutionMode());
+        assertFalse(config.isVirtualThreads());
+        assertTrue(config.toString().contains("executionMode=ASYNC"));
     }
 
     @Test
@@ -21,10 +21,12 @@ import java.io.OutputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.zip.GZIPOutputStream;
@@ -357,4 +359,216 @@ class LocalComputationManagerTest {
         waitForInterruption.await(10, TimeUnit.SECONDS);
         assertTrue(stopped.isTrue());
     }
+
+    @Test
+    void testAsyncMode() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> programs = Collections.synchronizedList(new ArrayList<>());
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws InterruptedException {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                programs.add(program);
+                Thread.sleep(10);
+                running.decrementAndGet();
+                // odd executions fail
+                return Integer.parseInt(args.get(0)) % 2;
+            }
+        };
+        LocalComputationConfig asyncConfig = new LocalComputationConfig(localDir, 2, LocalComputationConfig.ExecutionMode.ASYNC, true);
+        try (LocalComputationManager computationManager = new LocalComputationManager(asyncConfig, localCommandExecutor, ForkJoinPool.commonPool())) {
+            List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+            computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<Object>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) throws IOException {
+                    Command command = new SimpleCommandBuilder()
+                            .id("prog_cmd")
+                            .program("prog")
+                            .args(executionNumber -> List.of(Integer.toString(executionNumber)))
+                            .outputFiles(new OutputFile("out"))
+                            .build();
+                    // the group stops at the first failing sub command
+                    Command groupCommand = new GroupCommandBuilder()
+                            .id("group_cmd")
+                            .subCommand()
+                                .program("group_prog1")
+                                .args(executionNumber -> List.of(Integer.toString(executionNumber)))
+                            .add()
+                            .subCommand()
+                                .program("group_prog2")
+                                .args(executionNumber -> List.of("0"))
+                            .add()
+                            .build();
+                    return List.of(new CommandExecution(command, 10), new CommandExecution(groupCommand, 2));
+                }
+
+                @Override
+                public void onExecutionCompletion(CommandExecution execution, int executionIndex) {
+                    progress.add(executionIndex);
+                }
+
+                @Override
+                public Object after(Path workingDir, ExecutionReport report) {
+                    assertEquals(6, report.getErrors().size());
+                    assertTrue(report.getErrors().stream().allMatch(e -> e.getIndex() % 2 == 1 && e.getExitCode() == 1));
+                    return null;
+                }
+            }).join();
+
+            assertEquals(12, progress.size());
+            assertTrue(maxRunning.get() <= 2);
+            assertEquals(1, programs.stream().filter("group_prog2"::equals).count());
+            LocalComputationMetrics metrics = computationManager.getMetrics();
+            assertEquals(6, metrics.getCompletedCount());
+            assertEquals(6, metrics.getFailedCount());
+            assertEquals(0, metrics.getQueuedCount());
+            assertEquals(0, metrics.getRunningCount());
+            assertTrue(metrics.getMaxExecutionTime().toMillis() >= 10);
+            assertTrue(metrics.getMeanExecutionTime().compareTo(metrics.getMaxExecutionTime()) <= 0);
+            assertEquals(0, computationManager.getResourcesStatus().getBusyCores());
+        }
+    }
+
+    @Test
+    void testThreadPoolModeMetrics() throws Exception {
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) {
+                return 0;
+            }
+        };
+        try (LocalComputationManager computationManager = new LocalComputationManager(config, localCommandExecutor, ForkJoinPool.commonPool())) {
+            computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<Object>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    return dummyExecutions();
+                }
+            }).join();
+            assertEquals(1, computationManager.getMetrics().getCompletedCount());
+            assertEquals(0, computationManager.getMetrics().getFailedCount());
+            assertEquals(0, computationManager.getMetrics().getRunningCount());
+        }
+    }
+
+    @Test
+    void cancelDuringAsyncExecutionShouldStopExecution() throws Exception {
+        CountDownLatch waitForExecution = new CountDownLatch(1);
+        CountDownLatch execution = new CountDownLatch(1); // never decremented
+        CountDownLatch waitForStop = new CountDownLatch(1);
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws InterruptedException {
+                waitForExecution.countDown();
+                execution.await();
+                return 0;
+            }
+
+            @Override
+            public void stop(Path workingDir) {
+                waitForStop.countDown();
+            }
+        };
+        LocalComputationConfig asyncConfig = new LocalComputationConfig(localDir, 1, LocalComputationConfig.ExecutionMode.ASYNC, false);
+        try (LocalComputationManager computationManager = new LocalComputationManager(asyncConfig, localCommandExecutor, ForkJoinPool.commonPool())) {
+            CompletableFuture<Object> result = computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<Object>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    return dummyExecutions();
+                }
+            });
+            waitForExecution.await();
+            result.cancel(true);
+            assertThrows(CancellationException.class, result::get);
+            assertTrue(waitForStop.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testInputFileCacheAndWorkingDirPool() throws Exception {
+        List<Path> workingDirs = Collections.synchronizedList(new ArrayList<>());
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException {
+                workingDirs.add(workingDir);
+                assertEquals("network", Files.readString(workingDir.resolve("network.xml")));
+                assertEquals("parameters", Files.readString(workingDir.resolve("parameters.txt")));
+                return 0;
+            }
+        };
+        LocalComputationConfig cacheConfig = new LocalComputationConfig(localDir, 1, LocalComputationConfig.ExecutionMode.THREAD_POOL, true, true, 1);
+        try (LocalComputationManager computationManager = new LocalComputationManager(cacheConfig, localCommandExecutor, ForkJoinPool.commonPool())) {
+            try (OutputStream os = new GZIPOutputStream(computationManager.newCommonFile("network.xml.gz"))) {
+                os.write("network".getBytes());
+            }
+            try (OutputStream os = computationManager.newCommonFile("parameters.txt")) {
+                os.write("parameters".getBytes());
+            }
+            for (int i = 0; i < 2; i++) {
+                computationManager.execute(new ExecutionEnvironment(Collections.emptyMap(), PREFIX, false), new AbstractExecutionHandler<Object>() {
+                    @Override
+                    public List<CommandExecution> before(Path workingDir) {
+                        Command command = new SimpleCommandBuilder()
+                                .id("prog_cmd")
+                                .program("prog")
+                                .inputFiles(new InputFile("network.xml.gz", FilePreProcessor.FILE_GUNZIP),
+                                            new InputFile("parameters.txt"))
+                                .build();
+                        return Collections.singletonList(new CommandExecution(command, 1));
+                    }
+                }).join();
+            }
+        }
+        // the working directory has been reused
+        assertEquals(2, workingDirs.size());
+        assertEquals(workingDirs.get(0), workingDirs.get(1));
+        assertFalse(Files.exists(workingDirs.get(0)));
+    }
+
+    @Test
+    void testJavaCommand() throws Exception {
+        for (LocalComputationConfig.ExecutionMode mode : LocalComputationConfig.ExecutionMode.values()) {
+            LocalComputationConfig modeConfig = new LocalComputationConfig(localDir, 1, mode, false);
+            try (LocalComputationManager computationManager = new LocalComputationManager(modeConfig)) {
+                String out = computationManager.execute(new ExecutionEnvironment(Collections.emptyMap(), PREFIX, false), new AbstractExecutionHandler<String>() {
+                    @Override
+                    public List<CommandExecution> before(Path workingDir) {
+                        Command command = new JavaCommandBuilder()
+                                .id("java_cmd")
+                                .mainClass(InProcessCommandExecutorTest.TestMain.class)
+                                .args(i -> i == 0 ? List.of("ok") : List.of("fail"))
+                                .build();
+                        return Collections.singletonList(new CommandExecution(command, 2));
+                    }
+
+                    @Override
+                    public String after(Path workingDir, ExecutionReport report) throws IOException {
+                        // the failure of the second execution is reported as for a process
+                        assertEquals(1, report.getErrors().size());
+                        assertEquals(1, report.getErrors().get(0).getIndex());
+                        assertEquals(InProcessCommandExecutor.MAIN_ERROR_STATUS, report.getErrors().get(0).getExitCode());
+                        return Files.readString(workingDir.resolve("java_cmd_0.out"));
+                    }
+                }).join();
+                assertEquals("main ok" + System.lineSeparator(), out);
+                assertEquals(1, computationManager.getMetrics().getFailedCount());
+            }
+        }
+    }
 }
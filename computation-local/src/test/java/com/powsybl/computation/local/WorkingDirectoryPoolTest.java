@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.io.WorkingDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class WorkingDirectoryPoolTest {
+
+    private FileSystem fileSystem;
+
+    private Path localDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        localDir = Files.createDirectories(fileSystem.getPath("/tmp"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    @Test
+    void test() throws IOException {
+        WorkingDirectoryPool pool = new WorkingDirectoryPool(localDir, 1);
+        WorkingDirectory dir1 = pool.acquire("test_", false);
+        WorkingDirectory dir2 = pool.acquire("test_", false);
+        assertNotEquals(dir1.toPath(), dir2.toPath());
+        Files.createDirectories(dir1.toPath().resolve("sub"));
+        Files.writeString(dir1.toPath().resolve("sub/file"), "x");
+        Files.writeString(dir1.toPath().resolve("file"), "x");
+
+        // the first released directory is emptied and pooled, the second one removed
+        dir1.close();
+        dir2.close();
+        assertEquals(1, pool.getIdleCount("test_"));
+        assertTrue(Files.isDirectory(dir1.toPath()));
+        try (var files = Files.list(dir1.toPath())) {
+            assertEquals(0, files.count());
+        }
+        assertFalse(Files.exists(dir2.toPath()));
+
+        // reused by the same prefix only
+        WorkingDirectory dir3 = pool.acquire("other_", false);
+        assertNotEquals(dir1.toPath(), dir3.toPath());
+        WorkingDirectory dir4 = pool.acquire("test_", false);
+        assertEquals(dir1.toPath(), dir4.toPath());
+        assertEquals(0, pool.getIdleCount("test_"));
+
+        // debug directories are kept
+        WorkingDirectory debugDir = pool.acquire("test_", true);
+        debugDir.close();
+        assertTrue(Files.exists(debugDir.toPath()));
+        assertEquals(0, pool.getIdleCount("test_"));
+
+        dir3.close();
+        pool.close();
+        assertFalse(Files.exists(dir3.toPath()));
+        dir4.close();
+        assertFalse(Files.exists(dir4.toPath()));
+    }
+}
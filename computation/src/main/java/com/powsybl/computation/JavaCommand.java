@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import java.util.List;
+
+/**
+ * A command executed in the JVM of the computation manager instead of a new process: either an itools tool, defined by
+ * its command name, or the {@code main} method of a class. The actual values of arguments may depend on the execution
+ * number, when several executions are submitted to a {@link ComputationManager}.
+ *
+ * <p>As the current directory and the environment variables of the JVM cannot be changed, the arguments should be
+ * absolute paths, resolved against the working directory given to {@link ExecutionHandler#before}. The standard output
+ * and error of the command are redirected, like for a {@link SimpleCommand}. A {@code main} method must not call
+ * {@link System#exit}: it succeeds if it returns normally and fails with exit code 1 if it throws an exception.
+ * Computation managers not running in the JVM of the caller do not support this type of command.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public interface JavaCommand extends Command {
+
+    enum EntryPointType {
+        TOOL,
+        MAIN_CLASS
+    }
+
+    /**
+     * Get the type of the entry point of the command.
+     */
+    EntryPointType getEntryPointType();
+
+    /**
+     * Get the command name of the tool or the fully qualified name of the main class.
+     */
+    String getEntryPoint();
+
+    /**
+     * The list of arguments to be passed to the entry point, for the specified execution number.
+     *
+     * @param executionNumber execution number for which arguments are requested.
+     * @return                the list of arguments to be passed to the entry point, for the specified execution number.
+     */
+    List<String> getArgs(int executionNumber);
+}
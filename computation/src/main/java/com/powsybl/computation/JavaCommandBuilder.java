@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+public class JavaCommandBuilder extends AbstractCommandBuilder<JavaCommandBuilder> {
+
+    private JavaCommand.EntryPointType entryPointType;
+
+    private String entryPoint;
+
+    private Function<Integer, List<String>> args = executionNumber -> Collections.emptyList();
+
+    /**
+     * Execute the itools tool with the given command name.
+     */
+    public JavaCommandBuilder tool(String commandName) {
+        this.entryPointType = JavaCommand.EntryPointType.TOOL;
+        this.entryPoint = Objects.requireNonNull(commandName);
+        return this;
+    }
+
+    /**
+     * Execute the {@code main} method of the class with the given fully qualified name.
+     */
+    public JavaCommandBuilder mainClass(String className) {
+        this.entryPointType = JavaCommand.EntryPointType.MAIN_CLASS;
+        this.entryPoint = Objects.requireNonNull(className);
+        return this;
+    }
+
+    /**
+     * Execute the {@code main} method of the given class.
+     */
+    public JavaCommandBuilder mainClass(Class<?> mainClass) {
+        return mainClass(mainClass.getName());
+    }
+
+    public JavaCommandBuilder args(Function<Integer, List<String>> args) {
+        this.args = Objects.requireNonNull(args);
+        return this;
+    }
+
+    public JavaCommandBuilder args(List<String> args) {
+        Objects.requireNonNull(args);
+        this.args = executionNumber -> args.stream()
+                                           .map(arg -> arg.replace(CommandConstants.EXECUTION_NUMBER_PATTERN, executionNumber.toString()))
+                                           .collect(Collectors.toList());
+        return this;
+    }
+
+    public JavaCommandBuilder args(String... args) {
+        Objects.requireNonNull(args);
+        return args(Arrays.asList(args));
+    }
+
+    public JavaCommandBuilder arg(String arg) {
+        Objects.requireNonNull(arg);
+        return arg(i -> arg);
+    }
+
+    public JavaCommandBuilder arg(Function<Integer, String> arg) {
+        Objects.requireNonNull(arg);
+        Function<Integer, List<String>> previous = args;
+        args = i -> {
+            List<String> r = new ArrayList<>(previous.apply(i));
+            r.add(arg.apply(i));
+            return r;
+        };
+        return this;
+    }
+
+    public JavaCommand build() {
+        if (id == null) {
+            throw new PowsyblException("id is not set");
+        }
+        if (entryPoint == null) {
+            throw new PowsyblException("tool or main class is not set");
+        }
+        return new JavaCommandImpl(id, entryPointType, entryPoint, args, inputFiles, outputFiles);
+    }
+}
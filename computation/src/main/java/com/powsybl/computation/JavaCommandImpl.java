@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class JavaCommandImpl extends AbstractCommand implements JavaCommand {
+
+    private final EntryPointType entryPointType;
+
+    private final String entryPoint;
+
+    private final Function<Integer, List<String>> args;
+
+    JavaCommandImpl(String id, EntryPointType entryPointType, String entryPoint, Function<Integer, List<String>> args,
+                    List<InputFile> inputFiles, List<OutputFile> outputFiles) {
+        super(id, inputFiles, outputFiles);
+        this.entryPointType = entryPointType;
+        this.entryPoint = entryPoint;
+        this.args = args;
+    }
+
+    @Override
+    public CommandType getType() {
+        return CommandType.JAVA;
+    }
+
+    @Override
+    public EntryPointType getEntryPointType() {
+        return entryPointType;
+    }
+
+    @Override
+    public String getEntryPoint() {
+        return entryPoint;
+    }
+
+    @Override
+    public List<String> getArgs(int executionNumber) {
+        return args.apply(executionNumber);
+    }
+
+    @Override
+    public String toString(int executionNumber) {
+        return ImmutableList.<String>builder()
+                .add(entryPoint)
+                .addAll(getArgs(executionNumber))
+                .build().toString();
+    }
+}
@@ -58,7 +58,21 @@ public class Partition {
         return taskIndex * size / taskCount;
     }
 
-    private void checkSize(int size) {
+    /**
+     * Same as {@link #startIndex(int)}, for data sets too large to be indexed with an int, like lazily enumerated
+     * contingencies.
+     */
+    public long startIndex(long size) {
+        checkSize(size);
+        return (taskIndex - 1) * size / taskCount;
+    }
+
+    public long endIndex(long size) {
+        checkSize(size);
+        return taskIndex * size / taskCount;
+    }
+
+    private void checkSize(long size) {
         if (size != 0 && size < taskCount) {
             throw new PowsyblException("Data size must be greater than task count");
         }
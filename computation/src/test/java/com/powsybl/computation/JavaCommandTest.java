@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class JavaCommandTest {
+
+    @Test
+    void testTool() {
+        JavaCommand cmd = new JavaCommandBuilder()
+                .id("cmd1")
+                .tool("tool1")
+                .inputFiles(new InputFile("file1"))
+                .args("--input=file" + CommandConstants.EXECUTION_NUMBER_PATTERN)
+                .arg(i -> "--index=" + i)
+                .outputFiles(new OutputFile("out1"))
+                .build();
+
+        assertEquals(CommandType.JAVA, cmd.getType());
+        assertEquals("cmd1", cmd.getId());
+        assertEquals(JavaCommand.EntryPointType.TOOL, cmd.getEntryPointType());
+        assertEquals("tool1", cmd.getEntryPoint());
+        assertEquals(List.of("--input=file2", "--index=2"), cmd.getArgs(2));
+        assertEquals(1, cmd.getInputFiles().size());
+        assertEquals(1, cmd.getOutputFiles().size());
+        assertEquals("[tool1, --input=file2, --index=2]", cmd.toString(2));
+    }
+
+    @Test
+    void testMainClass() {
+        JavaCommand cmd = new JavaCommandBuilder()
+                .id("cmd1")
+                .mainClass(JavaCommandTest.class)
+                .args(i -> List.of("arg" + i))
+                .build();
+
+        assertEquals(JavaCommand.EntryPointType.MAIN_CLASS, cmd.getEntryPointType());
+        assertEquals(JavaCommandTest.class.getName(), cmd.getEntryPoint());
+        assertEquals(List.of("arg1"), cmd.getArgs(1));
+    }
+
+    @Test
+    void testErrors() {
+        JavaCommandBuilder builder = new JavaCommandBuilder().tool("tool1");
+        PowsyblException e = assertThrows(PowsyblException.class, builder::build);
+        assertEquals("id is not set", e.getMessage());
+
+        JavaCommandBuilder builder2 = new JavaCommandBuilder().id("cmd1");
+        e = assertThrows(PowsyblException.class, builder2::build);
+        assertEquals("tool or main class is not set", e.getMessage());
+    }
+}
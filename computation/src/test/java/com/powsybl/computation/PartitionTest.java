@@ -47,6 +47,17 @@ class PartitionTest {
         assertEquals(5, p3of3.endIndex(5)); // 3 * 5 / 3
     }
 
+    @Test
+    void testLongSize() {
+        long size = 3L * Integer.MAX_VALUE;
+        Partition p1of3 = Partition.parse("1/3");
+        Partition p3of3 = Partition.parse("3/3");
+        assertEquals(0L, p1of3.startIndex(size));
+        assertEquals(Integer.MAX_VALUE, p1of3.endIndex(size));
+        assertEquals(2L * Integer.MAX_VALUE, p3of3.startIndex(size));
+        assertEquals(size, p3of3.endIndex(size));
+    }
+
     private void assertPartitionInvalid(String s) {
         PowsyblException exception = assertThrows(PowsyblException.class,
             () -> Partition.parse(s));
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazily enumerates, in lexicographic order, the combinations of k indexes among n, as sorted int arrays.
+ * <p>
+ * The spliterator can be split at any rank, the combination at this rank being computed directly, so that the
+ * enumeration of a huge number of combinations can be distributed without generating the skipped ones.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+class CombinationSpliterator implements Spliterator<int[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private long rank;
+
+    private final long end;
+
+    private int[] current;
+
+    CombinationSpliterator(int n, int k) {
+        this(n, k, 0, count(n, k));
+    }
+
+    private CombinationSpliterator(int n, int k, long rank, long end) {
+        this.n = n;
+        this.k = k;
+        this.rank = rank;
+        this.end = end;
+        this.current = rank < end ? unrank(n, k, rank) : null;
+    }
+
+    /**
+     * Number of combinations of k elements among n.
+     */
+    static long count(int n, int k) {
+        if (n < 0 || k < 0) {
+            throw new IllegalArgumentException("Invalid combination size: " + k + " among " + n);
+        }
+        if (k > n) {
+            return 0;
+        }
+        int m = Math.min(k, n - k);
+        long count = 1;
+        for (int i = 0; i < m; i++) {
+            // exact at each step as count is then the number of combinations of i + 1 elements among n - m + i + 1
+            try {
+                count = Math.multiplyExact(count, n - m + i + 1L) / (i + 1);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Too many combinations of " + k + " elements among " + n, e);
+            }
+        }
+        return count;
+    }
+
+    private static int[] unrank(int n, int k, long rank) {
+        int[] combination = new int[k];
+        long r = rank;
+        int x = 0;
+        for (int i = 0; i < k; i++) {
+            while (true) {
+                // number of combinations starting with x at position i
+                long c = count(n - x - 1, k - i - 1);
+                if (r < c) {
+                    combination[i] = x++;
+                    break;
+                }
+                r -= c;
+                x++;
+            }
+        }
+        return combination;
+    }
+
+    private void next() {
+        int i = k - 1;
+        while (i >= 0 && current[i] == n - k + i) {
+            i--;
+        }
+        current[i]++;
+        for (int j = i + 1; j < k; j++) {
+            current[j] = current[j - 1] + 1;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[]> action) {
+        if (rank >= end) {
+            return false;
+        }
+        int[] combination = Arrays.copyOf(current, k);
+        rank++;
+        if (rank < end) {
+            next();
+        }
+        action.accept(combination);
+        return true;
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+        long size = end - rank;
+        if (size < 2) {
+            return null;
+        }
+        long middle = rank + size / 2;
+        CombinationSpliterator prefix = new CombinationSpliterator(n, k, rank, middle);
+        rank = middle;
+        current = unrank(n, k, middle);
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - rank;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
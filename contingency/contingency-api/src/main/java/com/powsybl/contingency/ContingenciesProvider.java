@@ -9,6 +9,7 @@ package com.powsybl.contingency;
 import com.powsybl.iidm.network.Network;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -17,6 +18,15 @@ public interface ContingenciesProvider {
 
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Return the contingencies for the given network as a stream, which may be lazily computed so that very large
+     * contingency lists never have to be fully in memory.
+     * The default implementation streams the list returned by {@link #getContingencies(Network)}.
+     */
+    default Stream<Contingency> getContingenciesStream(Network network) {
+        return getContingencies(network).stream();
+    }
+
     default String asScript() {
         throw new UnsupportedOperationException("Serialization not supported for contingencies provider of type " + this.getClass().getName());
     }
@@ -49,4 +49,12 @@ public final class ContingenciesProviders {
         return new SubContingenciesProvider(provider, subPart);
     }
 
+    /**
+     * Returns a contingencies provider which lazily provides all the combinations of k contingencies of another
+     * provider.
+     */
+    public static ContingenciesProvider newNkProvider(ContingenciesProvider provider, int k) {
+        return new NkContingenciesProvider(provider, k);
+    }
+
 }
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A contingencies provider which provides all the combinations of k contingencies of another provider: for instance
+ * the N-2 contingencies built from a list of N-1 contingencies.
+ * <p>
+ * Combinations are enumerated lazily by {@link #getContingenciesStream(Network)}, with a spliterator which can be
+ * split, so that millions of combinations can be simulated without being all in memory. The id of a combined
+ * contingency is the ids of its contingencies joined with {@value #ID_SEPARATOR}.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class NkContingenciesProvider implements ContingenciesProvider {
+
+    public static final String ID_SEPARATOR = "+";
+
+    private final ContingenciesProvider delegate;
+
+    private final int k;
+
+    public NkContingenciesProvider(ContingenciesProvider delegate, int k) {
+        this.delegate = Objects.requireNonNull(delegate);
+        if (k < 1) {
+            throw new IllegalArgumentException("Invalid number of contingencies per combination: " + k);
+        }
+        this.k = k;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Return the number of contingencies provided for the given network, without enumerating them.
+     */
+    public long getContingencyCount(Network network) {
+        return CombinationSpliterator.count(delegate.getContingencies(network).size(), k);
+    }
+
+    @Override
+    public List<Contingency> getContingencies(Network network) {
+        return getContingenciesStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingenciesStream(Network network) {
+        List<Contingency> contingencies = delegate.getContingencies(network);
+        return StreamSupport.stream(new CombinationSpliterator(contingencies.size(), k), false)
+                .map(combination -> combine(contingencies, combination));
+    }
+
+    private static Contingency combine(List<Contingency> contingencies, int[] combination) {
+        StringBuilder id = new StringBuilder();
+        List<ContingencyElement> elements = new ArrayList<>();
+        for (int index : combination) {
+            Contingency contingency = contingencies.get(index);
+            if (id.length() > 0) {
+                id.append(ID_SEPARATOR);
+            }
+            id.append(contingency.getId());
+            elements.addAll(contingency.getElements());
+        }
+        return new Contingency(id.toString(), elements);
+    }
+}
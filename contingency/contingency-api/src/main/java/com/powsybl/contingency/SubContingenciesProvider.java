@@ -12,6 +12,9 @@ import com.powsybl.iidm.network.Network;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A contingencies provider which provides a subset of another provider,
@@ -42,4 +45,22 @@ public class SubContingenciesProvider implements ContingenciesProvider {
         return new ArrayList<>(fullList.subList(start, end));
     }
 
+    /**
+     * Streams the subset of contingencies without materializing the full list of the delegate provider: if the size
+     * of the delegate stream is not known in advance, the delegate stream is consumed a first time to count the
+     * contingencies.
+     */
+    @Override
+    public Stream<Contingency> getContingenciesStream(Network network) {
+        Spliterator<Contingency> spliterator = delegate.getContingenciesStream(network).spliterator();
+        long fullSize = spliterator.getExactSizeIfKnown();
+        if (fullSize < 0) {
+            fullSize = StreamSupport.stream(spliterator, false).count();
+            spliterator = delegate.getContingenciesStream(network).spliterator();
+        }
+        long start = partition.startIndex(fullSize);
+        long end = partition.endIndex(fullSize);
+        return StreamSupport.stream(spliterator, false).skip(start).limit(end - start);
+    }
+
 }
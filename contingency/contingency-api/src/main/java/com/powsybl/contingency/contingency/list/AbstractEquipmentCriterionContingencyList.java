@@ -12,12 +12,14 @@ import com.powsybl.contingency.ContingencyElement;
 import com.powsybl.contingency.contingency.list.criterion.Criterion;
 import com.powsybl.contingency.contingency.list.criterion.PropertyCriterion;
 import com.powsybl.contingency.contingency.list.criterion.RegexCriterion;
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Network;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot@rte-france.com>}
@@ -42,13 +44,33 @@ public abstract class AbstractEquipmentCriterionContingencyList implements Conti
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingenciesStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingenciesStream(Network network) {
         return network.getIdentifiableStream(getIdentifiableType())
-                .filter(identifiable -> getCountryCriterion() == null || getCountryCriterion().filter(identifiable, getIdentifiableType()))
-                .filter(identifiable -> getNominalVoltageCriterion() == null || getNominalVoltageCriterion().filter(identifiable, getIdentifiableType()))
-                .filter(identifiable -> getPropertyCriteria().stream().allMatch(propertyCriterion -> propertyCriterion.filter(identifiable, getIdentifiableType())))
-                .filter(identifiable -> getRegexCriterion() == null || getRegexCriterion().filter(identifiable, getIdentifiableType()))
-                .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElement.of(identifiable)))
-                .collect(Collectors.toList());
+                .filter(this::filter)
+                .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElement.of(identifiable)));
+    }
+
+    @Override
+    public Stream<Contingency> getContingenciesStream(Network network, NetworkAttributeIndex index) {
+        Objects.requireNonNull(index);
+        if (index.getNetwork() != network) {
+            throw new IllegalArgumentException("The index has been built for another network");
+        }
+        return CriterionPlanner.getCandidates(this, index)
+                .map(candidates -> candidates.filter(this::filter)
+                        .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElement.of(identifiable))))
+                .orElseGet(() -> getContingenciesStream(network));
+    }
+
+    private boolean filter(Identifiable<?> identifiable) {
+        return (getCountryCriterion() == null || getCountryCriterion().filter(identifiable, getIdentifiableType()))
+                && (getNominalVoltageCriterion() == null || getNominalVoltageCriterion().filter(identifiable, getIdentifiableType()))
+                && getPropertyCriteria().stream().allMatch(propertyCriterion -> propertyCriterion.filter(identifiable, getIdentifiableType()))
+                && (getRegexCriterion() == null || getRegexCriterion().filter(identifiable, getIdentifiableType()));
     }
 
     public IdentifiableType getIdentifiableType() {
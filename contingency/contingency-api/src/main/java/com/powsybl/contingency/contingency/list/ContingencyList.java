@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague@rte-france.com>}
@@ -50,6 +51,28 @@ public interface ContingencyList {
      */
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Return the contingencies for the given network as a stream, which may be lazily computed.
+     */
+    default Stream<Contingency> getContingenciesStream(Network network) {
+        return getContingencies(network).stream();
+    }
+
+    /**
+     * Return a list of contingency for the network of the given index, which may be used to avoid a scan of all the
+     * network equipments.
+     */
+    default List<Contingency> getContingencies(Network network, NetworkAttributeIndex index) {
+        return getContingenciesStream(network, index).collect(Collectors.toList());
+    }
+
+    /**
+     * Return the contingencies for the network of the given index as a stream, which may be lazily computed.
+     */
+    default Stream<Contingency> getContingenciesStream(Network network, NetworkAttributeIndex index) {
+        return getContingenciesStream(network);
+    }
+
     /**
      * Load a {@link ContingencyList} from a path
      *
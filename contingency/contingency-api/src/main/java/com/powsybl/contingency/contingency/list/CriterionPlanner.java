@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency.contingency.list;
+
+import com.powsybl.contingency.contingency.list.criterion.*;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Plans the evaluation of a criterion contingency list with a {@link NetworkAttributeIndex}: each indexable criterion
+ * gives, through the index, a superset of the equipments it accepts, and only the equipments of the smallest of these
+ * candidate sets are then checked against all the criteria of the list.
+ * <p>
+ * Candidates are returned in the network iteration order, so that the contingencies are the same, and in the same
+ * order, as without index.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class CriterionPlanner {
+
+    /**
+     * Equipments accepted by a criterion, either directly identified or located in some voltage levels.
+     */
+    private record Candidates(Set<String> ids, boolean voltageLevels) {
+    }
+
+    private CriterionPlanner() {
+    }
+
+    /**
+     * Get the equipments of the list type which may be accepted by the criteria of the list, or an empty optional if
+     * no criterion can be evaluated through the index and all the equipments have to be checked.
+     */
+    static Optional<Stream<Identifiable<?>>> getCandidates(AbstractEquipmentCriterionContingencyList contingencyList,
+                                                         NetworkAttributeIndex index) {
+        IdentifiableType type = contingencyList.getIdentifiableType();
+        if (!NetworkAttributeIndex.INDEXED_TYPES.contains(type)) {
+            return Optional.empty();
+        }
+
+        List<Candidates> candidatesList = new ArrayList<>();
+        addCountryCandidates(contingencyList.getCountryCriterion(), index, candidatesList);
+        addNominalVoltageCandidates(contingencyList.getNominalVoltageCriterion(), index, candidatesList);
+        for (PropertyCriterion propertyCriterion : contingencyList.getPropertyCriteria()) {
+            addPropertyCandidates(propertyCriterion, index, candidatesList);
+        }
+
+        // the most selective criterion is the one with the fewest candidates
+        return candidatesList.stream()
+                .min(Comparator.comparingInt(candidates -> candidates.ids().size()))
+                .map(candidates -> getEquipments(candidates, type, index));
+    }
+
+    private static void addCountryCandidates(Criterion criterion, NetworkAttributeIndex index, List<Candidates> candidatesList) {
+        if (criterion instanceof SingleCountryCriterion singleCountryCriterion) {
+            addCountryCandidates(singleCountryCriterion.getCountries(), index, candidatesList);
+        } else if (criterion instanceof TwoCountriesCriterion twoCountriesCriterion) {
+            // when a list of countries is not empty, one of the sides has to be in one of its countries
+            addCountryCandidates(twoCountriesCriterion.getCountries1(), index, candidatesList);
+            addCountryCandidates(twoCountriesCriterion.getCountries2(), index, candidatesList);
+        }
+    }
+
+    private static void addCountryCandidates(List<Country> countries, NetworkAttributeIndex index, List<Candidates> candidatesList) {
+        if (!countries.isEmpty()) {
+            candidatesList.add(new Candidates(index.getVoltageLevelIds(countries), true));
+        }
+    }
+
+    private static void addNominalVoltageCandidates(Criterion criterion, NetworkAttributeIndex index, List<Candidates> candidatesList) {
+        // each interval has to contain the nominal voltage of one of the sides
+        if (criterion instanceof SingleNominalVoltageCriterion singleNominalVoltageCriterion) {
+            addNominalVoltageCandidates(singleNominalVoltageCriterion.getVoltageInterval(), index, candidatesList);
+        } else if (criterion instanceof TwoNominalVoltageCriterion twoNominalVoltageCriterion) {
+            addNominalVoltageCandidates(twoNominalVoltageCriterion.getVoltageInterval1(), index, candidatesList);
+            addNominalVoltageCandidates(twoNominalVoltageCriterion.getVoltageInterval2(), index, candidatesList);
+        } else if (criterion instanceof ThreeNominalVoltageCriterion threeNominalVoltageCriterion) {
+            addNominalVoltageCandidates(threeNominalVoltageCriterion.getVoltageInterval1(), index, candidatesList);
+            addNominalVoltageCandidates(threeNominalVoltageCriterion.getVoltageInterval2(), index, candidatesList);
+            addNominalVoltageCandidates(threeNominalVoltageCriterion.getVoltageInterval3(), index, candidatesList);
+        }
+    }
+
+    private static void addNominalVoltageCandidates(SingleNominalVoltageCriterion.VoltageInterval voltageInterval, NetworkAttributeIndex index,
+                                                    List<Candidates> candidatesList) {
+        if (voltageInterval != null && !voltageInterval.isNull()) {
+            candidatesList.add(new Candidates(index.getVoltageLevelIds(voltageInterval), true));
+        }
+    }
+
+    private static void addPropertyCandidates(PropertyCriterion propertyCriterion, NetworkAttributeIndex index, List<Candidates> candidatesList) {
+        Network network = index.getNetwork();
+        Set<String> ids = index.getIds(propertyCriterion.getPropertyKey(), propertyCriterion.getPropertyValues());
+        switch (propertyCriterion.getEquipmentToCheck()) {
+            case SELF -> candidatesList.add(new Candidates(ids, false));
+            case VOLTAGE_LEVEL -> {
+                // whatever the side to check, the voltage level of one of the sides has to match
+                ids.removeIf(id -> network.getVoltageLevel(id) == null);
+                candidatesList.add(new Candidates(ids, true));
+            }
+            case SUBSTATION -> {
+                Set<String> voltageLevelIds = new HashSet<>();
+                for (String id : ids) {
+                    Substation substation = network.getSubstation(id);
+                    if (substation != null) {
+                        substation.getVoltageLevelStream().forEach(voltageLevel -> voltageLevelIds.add(voltageLevel.getId()));
+                    }
+                }
+                candidatesList.add(new Candidates(voltageLevelIds, true));
+            }
+        }
+    }
+
+    private static Stream<Identifiable<?>> getEquipments(Candidates candidates, IdentifiableType type, NetworkAttributeIndex index) {
+        Network network = index.getNetwork();
+        Stream<Identifiable<?>> equipments;
+        if (candidates.voltageLevels()) {
+            equipments = candidates.ids().stream()
+                    .map(network::getVoltageLevel)
+                    .flatMap(voltageLevel -> getEquipments(voltageLevel, type));
+        } else {
+            equipments = candidates.ids().stream()
+                    .<Identifiable<?>>map(network::getIdentifiable)
+                    .filter(identifiable -> identifiable.getType() == type);
+        }
+        // equipments connected several times to the same voltage level or to several candidate voltage levels are
+        // only kept once, and sorted back in the network order
+        return equipments.distinct()
+                .filter(identifiable -> index.getOrder(type, identifiable.getId()) >= 0)
+                .sorted(Comparator.comparingLong(identifiable -> index.getOrder(type, identifiable.getId())));
+    }
+
+    private static Stream<? extends Identifiable<?>> getEquipments(VoltageLevel voltageLevel, IdentifiableType type) {
+        return switch (type) {
+            case LINE -> voltageLevel.getConnectableStream(Line.class);
+            case TWO_WINDINGS_TRANSFORMER -> voltageLevel.getConnectableStream(TwoWindingsTransformer.class);
+            case THREE_WINDINGS_TRANSFORMER -> voltageLevel.getConnectableStream(ThreeWindingsTransformer.class);
+            case GENERATOR -> voltageLevel.getConnectableStream(Generator.class);
+            case BATTERY -> voltageLevel.getConnectableStream(Battery.class);
+            case LOAD -> voltageLevel.getConnectableStream(Load.class);
+            case SHUNT_COMPENSATOR -> voltageLevel.getConnectableStream(ShuntCompensator.class);
+            case DANGLING_LINE -> voltageLevel.getConnectableStream(DanglingLine.class);
+            case STATIC_VAR_COMPENSATOR -> voltageLevel.getConnectableStream(StaticVarCompensator.class);
+            case BUSBAR_SECTION -> voltageLevel.getConnectableStream(BusbarSection.class);
+            case TIE_LINE -> voltageLevel.getDanglingLineStream(DanglingLineFilter.PAIRED)
+                    .flatMap(danglingLine -> danglingLine.getTieLine().stream());
+            case HVDC_LINE -> voltageLevel.getConnectableStream(HvdcConverterStation.class)
+                    .map(HvdcConverterStation::getHvdcLine)
+                    .filter(Objects::nonNull);
+            case SWITCH -> StreamSupport.stream(voltageLevel.getSwitches().spliterator(), false);
+            default -> throw new IllegalStateException("Unexpected type: " + type);
+        };
+    }
+}
@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.Network;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot@rte-france.com>}
@@ -38,9 +39,19 @@ public class ListOfContingencyLists implements ContingencyList {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingenciesStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingenciesStream(Network network) {
+        return contingencyLists.stream()
+                .flatMap(contingencyList -> contingencyList.getContingenciesStream(network));
+    }
+
+    @Override
+    public Stream<Contingency> getContingenciesStream(Network network, NetworkAttributeIndex index) {
         return contingencyLists.stream()
-                .flatMap(contingencyList -> contingencyList.getContingencies(network).stream())
-                .collect(Collectors.toList());
+                .flatMap(contingencyList -> contingencyList.getContingenciesStream(network, index));
     }
 
     public List<ContingencyList> getContingencyLists() {
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency.contingency.list;
+
+import com.powsybl.contingency.contingency.list.criterion.SingleNominalVoltageCriterion;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Index of the network attributes used by criterion contingency lists: voltage levels by country and by nominal
+ * voltage, identifiables by property value, and the order of the equipments in the network.
+ * <p>
+ * The index is built once and then kept up to date thanks to a {@link NetworkListener}, so that it can be shared by
+ * all the criterion contingency lists evaluated on the network, see
+ * {@link ContingencyList#getContingencies(Network, NetworkAttributeIndex)}. It has to be closed to unregister its
+ * listener. Like the network itself, it is not thread safe.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class NetworkAttributeIndex implements AutoCloseable {
+
+    /**
+     * Types of equipments which can be found from their voltage levels.
+     */
+    static final Set<IdentifiableType> INDEXED_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            IdentifiableType.LINE,
+            IdentifiableType.TWO_WINDINGS_TRANSFORMER,
+            IdentifiableType.THREE_WINDINGS_TRANSFORMER,
+            IdentifiableType.GENERATOR,
+            IdentifiableType.BATTERY,
+            IdentifiableType.LOAD,
+            IdentifiableType.SHUNT_COMPENSATOR,
+            IdentifiableType.DANGLING_LINE,
+            IdentifiableType.TIE_LINE,
+            IdentifiableType.STATIC_VAR_COMPENSATOR,
+            IdentifiableType.HVDC_LINE,
+            IdentifiableType.BUSBAR_SECTION,
+            IdentifiableType.SWITCH));
+
+    private static final String PROPERTIES_ATTRIBUTE_PREFIX = "properties[";
+
+    private final Network network;
+
+    private final Map<Country, Set<String>> voltageLevelIdsByCountry = new EnumMap<>(Country.class);
+
+    private final NavigableMap<Double, Set<String>> voltageLevelIdsByNominalV = new TreeMap<>();
+
+    private final Map<String, Map<String, Set<String>>> idsByProperty = new HashMap<>();
+
+    private final Map<IdentifiableType, Map<String, Long>> orderByType = new EnumMap<>(IdentifiableType.class);
+
+    private long nextOrder = 0;
+
+    private final NetworkListener listener = new DefaultNetworkListener() {
+
+        @Override
+        public void onCreation(Identifiable identifiable) {
+            add(identifiable);
+        }
+
+        @Override
+        public void beforeRemoval(Identifiable identifiable) {
+            remove(identifiable);
+        }
+
+        @Override
+        public void onUpdate(Identifiable identifiable, String attribute, Object oldValue, Object newValue) {
+            if (identifiable instanceof VoltageLevel voltageLevel && "nominalV".equals(attribute)) {
+                removeFromMultimap(voltageLevelIdsByNominalV, (Double) oldValue, voltageLevel.getId());
+                voltageLevelIdsByNominalV.computeIfAbsent(voltageLevel.getNominalV(), k -> new HashSet<>()).add(voltageLevel.getId());
+            } else if (identifiable instanceof Substation substation && "country".equals(attribute)) {
+                substation.getVoltageLevelStream().forEach(voltageLevel -> {
+                    removeCountry(voltageLevel.getId());
+                    addCountry(voltageLevel);
+                });
+            }
+        }
+
+        @Override
+        public void onElementAdded(Identifiable identifiable, String attribute, Object newValue) {
+            String key = getPropertyKey(attribute);
+            if (key != null) {
+                addProperty(identifiable.getId(), key, (String) newValue);
+            }
+        }
+
+        @Override
+        public void onElementReplaced(Identifiable identifiable, String attribute, Object oldValue, Object newValue) {
+            String key = getPropertyKey(attribute);
+            if (key != null) {
+                removeProperty(identifiable.getId(), key, (String) oldValue);
+                addProperty(identifiable.getId(), key, (String) newValue);
+            }
+        }
+
+        @Override
+        public void onElementRemoved(Identifiable identifiable, String attribute, Object oldValue) {
+            String key = getPropertyKey(attribute);
+            if (key != null) {
+                removeProperty(identifiable.getId(), key, (String) oldValue);
+            }
+        }
+    };
+
+    public NetworkAttributeIndex(Network network) {
+        this.network = Objects.requireNonNull(network);
+        for (IdentifiableType type : INDEXED_TYPES) {
+            Map<String, Long> order = new HashMap<>();
+            network.getIdentifiableStream(type).forEach(identifiable -> order.put(identifiable.getId(), nextOrder++));
+            orderByType.put(type, order);
+        }
+        network.getVoltageLevelStream().forEach(this::addVoltageLevel);
+        network.getIdentifiables().forEach(this::addProperties);
+        network.addListener(listener);
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    private static String getPropertyKey(String attribute) {
+        if (attribute.startsWith(PROPERTIES_ATTRIBUTE_PREFIX) && attribute.endsWith("]")) {
+            return attribute.substring(PROPERTIES_ATTRIBUTE_PREFIX.length(), attribute.length() - 1);
+        }
+        return null;
+    }
+
+    private static <K> void removeFromMultimap(Map<K, Set<String>> map, K key, String id) {
+        Set<String> ids = map.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private void add(Identifiable<?> identifiable) {
+        if (INDEXED_TYPES.contains(identifiable.getType())) {
+            orderByType.get(identifiable.getType()).put(identifiable.getId(), nextOrder++);
+        }
+        if (identifiable instanceof VoltageLevel voltageLevel) {
+            addVoltageLevel(voltageLevel);
+        }
+        addProperties(identifiable);
+    }
+
+    private void remove(Identifiable<?> identifiable) {
+        if (INDEXED_TYPES.contains(identifiable.getType())) {
+            orderByType.get(identifiable.getType()).remove(identifiable.getId());
+        }
+        if (identifiable instanceof VoltageLevel voltageLevel) {
+            removeFromMultimap(voltageLevelIdsByNominalV, voltageLevel.getNominalV(), voltageLevel.getId());
+            removeCountry(voltageLevel.getId());
+        }
+        for (String key : identifiable.getPropertyNames()) {
+            removeProperty(identifiable.getId(), key, identifiable.getProperty(key));
+        }
+    }
+
+    private void addVoltageLevel(VoltageLevel voltageLevel) {
+        voltageLevelIdsByNominalV.computeIfAbsent(voltageLevel.getNominalV(), k -> new HashSet<>()).add(voltageLevel.getId());
+        addCountry(voltageLevel);
+    }
+
+    private void addCountry(VoltageLevel voltageLevel) {
+        voltageLevel.getSubstation()
+                .flatMap(Substation::getCountry)
+                .ifPresent(country -> voltageLevelIdsByCountry.computeIfAbsent(country, k -> new HashSet<>()).add(voltageLevel.getId()));
+    }
+
+    private void removeCountry(String voltageLevelId) {
+        voltageLevelIdsByCountry.values().forEach(ids -> ids.remove(voltageLevelId));
+    }
+
+    private void addProperties(Identifiable<?> identifiable) {
+        for (String key : identifiable.getPropertyNames()) {
+            addProperty(identifiable.getId(), key, identifiable.getProperty(key));
+        }
+    }
+
+    private void addProperty(String id, String key, String value) {
+        idsByProperty.computeIfAbsent(key, k -> new HashMap<>())
+                .computeIfAbsent(value, k -> new HashSet<>())
+                .add(id);
+    }
+
+    private void removeProperty(String id, String key, String value) {
+        Map<String, Set<String>> idsByValue = idsByProperty.get(key);
+        if (idsByValue != null) {
+            removeFromMultimap(idsByValue, value, id);
+            if (idsByValue.isEmpty()) {
+                idsByProperty.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get the ids of the voltage levels located in one of the given countries.
+     */
+    public Set<String> getVoltageLevelIds(Collection<Country> countries) {
+        Set<String> ids = new HashSet<>();
+        for (Country country : countries) {
+            ids.addAll(voltageLevelIdsByCountry.getOrDefault(country, Collections.emptySet()));
+        }
+        return ids;
+    }
+
+    /**
+     * Get the ids of the voltage levels whose nominal voltage is in the given interval, which must not be null.
+     */
+    public Set<String> getVoltageLevelIds(SingleNominalVoltageCriterion.VoltageInterval voltageInterval) {
+        Set<String> ids = new HashSet<>();
+        if (voltageInterval.getNominalVoltageLowBound() > voltageInterval.getNominalVoltageHighBound()) {
+            return ids;
+        }
+        voltageLevelIdsByNominalV.subMap(voltageInterval.getNominalVoltageLowBound(), voltageInterval.getLowClosed(),
+                        voltageInterval.getNominalVoltageHighBound(), voltageInterval.getHighClosed())
+                .values()
+                .forEach(ids::addAll);
+        return ids;
+    }
+
+    /**
+     * Get the ids of the identifiables having one of the given values for the given property.
+     */
+    public Set<String> getIds(String propertyKey, Collection<String> propertyValues) {
+        Map<String, Set<String>> idsByValue = idsByProperty.getOrDefault(propertyKey, Collections.emptyMap());
+        Set<String> ids = new HashSet<>();
+        for (String value : propertyValues) {
+            ids.addAll(idsByValue.getOrDefault(value, Collections.emptySet()));
+        }
+        return ids;
+    }
+
+    /**
+     * Get the rank of an equipment in the network iteration order of its type, or -1 if it is unknown.
+     */
+    long getOrder(IdentifiableType type, String id) {
+        Map<String, Long> order = orderByType.get(type);
+        if (order == null) {
+            return -1;
+        }
+        return order.getOrDefault(id, -1L);
+    }
+
+    @Override
+    public void close() {
+        network.removeListener(listener);
+    }
+}
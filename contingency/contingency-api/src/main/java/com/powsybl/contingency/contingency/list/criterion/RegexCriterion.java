@@ -18,6 +18,8 @@ public class RegexCriterion implements Criterion {
 
     private final String regex;
 
+    private volatile Pattern pattern;
+
     public RegexCriterion(String regex) {
         this.regex = regex;
     }
@@ -29,7 +31,14 @@ public class RegexCriterion implements Criterion {
 
     @Override
     public boolean filter(Identifiable<?> identifiable, IdentifiableType type) {
-        return Pattern.compile(regex).matcher(identifiable.getId()).find();
+        // compiled on first use, so that an invalid regex only fails when filtering. The criterion may be shared by
+        // concurrent filters: the pattern is published through a volatile field, compiling it twice being harmless
+        Pattern p = pattern;
+        if (p == null) {
+            p = Pattern.compile(regex);
+            pattern = p;
+        }
+        return p.matcher(identifiable.getId()).find();
     }
 
     public String getRegex() {
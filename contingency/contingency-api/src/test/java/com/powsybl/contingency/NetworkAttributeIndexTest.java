@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.contingency.contingency.list.*;
+import com.powsybl.contingency.contingency.list.criterion.*;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class NetworkAttributeIndexTest {
+
+    private Network network;
+
+    @BeforeEach
+    void setup() {
+        network = FourSubstationsNodeBreakerFactory.create();
+        network.getSubstation("S1").setCountry(Country.FR);
+        network.getSubstation("S2").setCountry(Country.BE);
+        network.getSubstation("S3").setCountry(Country.FR);
+        network.getSubstation("S4").setCountry(Country.LU);
+
+        network.getSubstation("S2").setProperty("property", "valueA");
+        network.getSubstation("S3").setProperty("property", "valueB");
+        network.getSubstation("S4").setProperty("property", "valueB");
+
+        network.getGenerator("GH1").setProperty("property", "val1");
+        network.getGenerator("GH3").setProperty("property", "val4");
+        network.getGenerator("GTH1").setProperty("property", "val2");
+        network.getGenerator("GTH2").setProperty("property", "val3");
+
+        network.getVoltageLevel("S1VL1").setProperty("property", "value1");
+        network.getVoltageLevel("S1VL2").setProperty("property", "value2");
+    }
+
+    private static List<List<Country>> countryLists() {
+        return List.of(Collections.emptyList(), List.of(Country.FR), List.of(Country.BE), List.of(Country.FR, Country.LU), List.of(Country.DE));
+    }
+
+    private static List<SingleNominalVoltageCriterion.VoltageInterval> voltageIntervals() {
+        return Arrays.asList(null,
+                new SingleNominalVoltageCriterion.VoltageInterval(200.0, 230.0, true, true),
+                new SingleNominalVoltageCriterion.VoltageInterval(225.0, 400.0, false, true),
+                new SingleNominalVoltageCriterion.VoltageInterval(380.0, 420.0, true, false),
+                new SingleNominalVoltageCriterion.VoltageInterval(400.0, 100.0, true, true));
+    }
+
+    private static List<List<PropertyCriterion>> propertyCriteriaLists(PropertyCriterion.SideToCheck sideToCheck) {
+        return List.of(Collections.emptyList(),
+                List.of(new PropertyCriterion("property", List.of("val1", "val2"), PropertyCriterion.EquipmentToCheck.SELF)),
+                List.of(new PropertyCriterion("property", List.of("value1"), PropertyCriterion.EquipmentToCheck.VOLTAGE_LEVEL, sideToCheck)),
+                List.of(new PropertyCriterion("property", List.of("valueB"), PropertyCriterion.EquipmentToCheck.SUBSTATION, sideToCheck),
+                        new PropertyCriterion("property", List.of("value1", "value2"), PropertyCriterion.EquipmentToCheck.VOLTAGE_LEVEL, sideToCheck)),
+                List.of(new PropertyCriterion("unknown", List.of("value1"), PropertyCriterion.EquipmentToCheck.VOLTAGE_LEVEL, sideToCheck)));
+    }
+
+    private static List<ContingencyList> createContingencyLists() {
+        List<ContingencyList> contingencyLists = new ArrayList<>();
+        for (List<Country> countries : countryLists()) {
+            for (SingleNominalVoltageCriterion.VoltageInterval interval : voltageIntervals()) {
+                for (PropertyCriterion.SideToCheck sideToCheck : List.of(PropertyCriterion.SideToCheck.ONE, PropertyCriterion.SideToCheck.BOTH)) {
+                    for (List<PropertyCriterion> propertyCriteria : propertyCriteriaLists(sideToCheck)) {
+                        for (String type : List.of("GENERATOR", "LOAD", "SHUNT_COMPENSATOR", "STATIC_VAR_COMPENSATOR", "BUSBAR_SECTION", "SWITCH")) {
+                            contingencyLists.add(new InjectionCriterionContingencyList("injections", type, new SingleCountryCriterion(countries),
+                                    interval == null ? null : new SingleNominalVoltageCriterion(interval), propertyCriteria, null));
+                        }
+                        contingencyLists.add(new LineCriterionContingencyList("lines", new TwoCountriesCriterion(countries, List.of(Country.BE)),
+                                new TwoNominalVoltageCriterion(interval, null), propertyCriteria, null));
+                        contingencyLists.add(new HvdcLineCriterionContingencyList("hvdc", new TwoCountriesCriterion(countries),
+                                new TwoNominalVoltageCriterion(null, interval), propertyCriteria, null));
+                        contingencyLists.add(new TwoWindingsTransformerCriterionContingencyList("twt", new SingleCountryCriterion(countries),
+                                new TwoNominalVoltageCriterion(interval, interval), propertyCriteria, new RegexCriterion("T")));
+                    }
+                }
+            }
+        }
+        return contingencyLists;
+    }
+
+    private static void assertSameContingencies(Network network, List<ContingencyList> contingencyLists, NetworkAttributeIndex index) {
+        for (ContingencyList contingencyList : contingencyLists) {
+            assertEquals(contingencyList.getContingencies(network), contingencyList.getContingencies(network, index));
+        }
+    }
+
+    @Test
+    void testSameContingenciesAsScan() {
+        List<ContingencyList> contingencyLists = createContingencyLists();
+        try (NetworkAttributeIndex index = new NetworkAttributeIndex(network)) {
+            assertSameContingencies(network, contingencyLists, index);
+
+            // some lists are not empty
+            assertTrue(contingencyLists.stream().filter(l -> !l.getContingencies(network, index).isEmpty()).count() > 100);
+
+            ListOfContingencyLists listOfContingencyLists = new ListOfContingencyLists("all", contingencyLists);
+            assertEquals(listOfContingencyLists.getContingencies(network), listOfContingencyLists.getContingencies(network, index));
+        }
+    }
+
+    @Test
+    void testThreeWindingsTransformer() {
+        Network threeWindingsTransformerNetwork = ThreeWindingsTransformerNetworkFactory.create();
+        threeWindingsTransformerNetwork.getSubstation("SUBSTATION").setCountry(Country.FR);
+        threeWindingsTransformerNetwork.getVoltageLevel("VL_33").setProperty("property", "value");
+        List<ContingencyList> contingencyLists = new ArrayList<>();
+        for (SingleNominalVoltageCriterion.VoltageInterval interval : voltageIntervals()) {
+            for (PropertyCriterion.SideToCheck sideToCheck : PropertyCriterion.SideToCheck.values()) {
+                contingencyLists.add(new ThreeWindingsTransformerCriterionContingencyList("list", new SingleCountryCriterion(List.of(Country.FR)),
+                        new ThreeNominalVoltageCriterion(interval, null, null),
+                        List.of(new PropertyCriterion("property", List.of("value"), PropertyCriterion.EquipmentToCheck.VOLTAGE_LEVEL, sideToCheck)),
+                        null));
+            }
+        }
+        try (NetworkAttributeIndex index = new NetworkAttributeIndex(threeWindingsTransformerNetwork)) {
+            assertSameContingencies(threeWindingsTransformerNetwork, contingencyLists, index);
+        }
+    }
+
+    @Test
+    void testIndexUpdate() {
+        List<ContingencyList> contingencyLists = createContingencyLists();
+        NetworkAttributeIndex index = new NetworkAttributeIndex(network);
+
+        network.getSubstation("S2").setCountry(Country.FR);
+        network.getSubstation("S1").setProperty("property", "valueB");
+        network.getVoltageLevel("S1VL1").setProperty("property", "value2");
+        network.getVoltageLevel("S3VL1").setNominalV(225.0);
+        network.getGenerator("GH2").setProperty("property", "val1");
+        network.getGenerator("GH1").removeProperty("property");
+        network.getLine("LINE_S2S3").remove();
+        network.getVoltageLevel("S1VL1").newLoad()
+                .setId("NEW_LOAD")
+                .setNode(100)
+                .setP0(10.0)
+                .setQ0(0.0)
+                .add();
+        network.newSubstation().setId("S5").setCountry(Country.BE).add()
+                .newVoltageLevel()
+                .setId("S5VL1")
+                .setNominalV(400.0)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        network.getVoltageLevel("S5VL1").getBusBreakerView().newBus().setId("S5B1").add();
+        network.getVoltageLevel("S5VL1").newGenerator()
+                .setId("S5G1")
+                .setBus("S5B1")
+                .setMinP(0.0)
+                .setMaxP(100.0)
+                .setTargetP(10.0)
+                .setTargetV(400.0)
+                .setVoltageRegulatorOn(true)
+                .add()
+                .setProperty("property", "val2");
+        assertSameContingencies(network, contingencyLists, index);
+
+        assertEquals(List.of("GH2", "GTH1", "S5G1"), new InjectionCriterionContingencyList("list", "GENERATOR", null, null,
+                List.of(new PropertyCriterion("property", List.of("val1", "val2"), PropertyCriterion.EquipmentToCheck.SELF)), null)
+                .getContingencies(network, index).stream().map(Contingency::getId).toList());
+
+        // after closing, the index is not updated anymore
+        index.close();
+        network.getGenerator("GH3").setProperty("property", "val1");
+        assertEquals(List.of("GH2", "GTH1", "S5G1"), new InjectionCriterionContingencyList("list", "GENERATOR", null, null,
+                List.of(new PropertyCriterion("property", List.of("val1", "val2"), PropertyCriterion.EquipmentToCheck.SELF)), null)
+                .getContingencies(network, index).stream().map(Contingency::getId).toList());
+    }
+
+    @Test
+    void testOtherNetwork() {
+        ContingencyList contingencyList = new InjectionCriterionContingencyList("list", "GENERATOR", null, null, Collections.emptyList(), null);
+        try (NetworkAttributeIndex index = new NetworkAttributeIndex(network)) {
+            Network other = FourSubstationsNodeBreakerFactory.create();
+            assertThrows(IllegalArgumentException.class, () -> contingencyList.getContingencies(other, index));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.computation.Partition;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class NkContingenciesProviderTest {
+
+    private final Network network = Mockito.mock(Network.class);
+
+    private static ContingenciesProvider createN1Provider(int n) {
+        return network -> IntStream.range(0, n)
+                .mapToObj(i -> new Contingency("L" + i, new BranchContingency("L" + i)))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testN2() {
+        NkContingenciesProvider provider = new NkContingenciesProvider(createN1Provider(4), 2);
+        assertEquals(2, provider.getK());
+        assertEquals(6, provider.getContingencyCount(network));
+
+        List<Contingency> contingencies = provider.getContingencies(network);
+        assertEquals(List.of("L0+L1", "L0+L2", "L0+L3", "L1+L2", "L1+L3", "L2+L3"),
+                contingencies.stream().map(Contingency::getId).collect(Collectors.toList()));
+        assertEquals(List.of("L1", "L3"), contingencies.get(4).getElements().stream().map(ContingencyElement::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testEmptyOrTooSmall() {
+        assertTrue(new NkContingenciesProvider(createN1Provider(0), 2).getContingencies(network).isEmpty());
+        assertTrue(new NkContingenciesProvider(createN1Provider(2), 3).getContingencies(network).isEmpty());
+        assertEquals(1, new NkContingenciesProvider(createN1Provider(3), 3).getContingencies(network).size());
+        assertThrows(IllegalArgumentException.class, () -> new NkContingenciesProvider(createN1Provider(3), 0));
+    }
+
+    @Test
+    void testCount() {
+        assertEquals(1, CombinationSpliterator.count(10, 0));
+        assertEquals(10, CombinationSpliterator.count(10, 1));
+        assertEquals(45, CombinationSpliterator.count(10, 2));
+        assertEquals(120, CombinationSpliterator.count(10, 3));
+        assertEquals(0, CombinationSpliterator.count(2, 3));
+        assertEquals(49995000L, CombinationSpliterator.count(10000, 2));
+        assertEquals(166616670000L, CombinationSpliterator.count(10000, 3));
+        assertThrows(IllegalArgumentException.class, () -> CombinationSpliterator.count(1000000, 10));
+    }
+
+    @Test
+    void testLazyEnumeration() {
+        // 10000 N-1 contingencies give almost 1.7e11 N-3 contingencies, only the first ones are built
+        NkContingenciesProvider provider = new NkContingenciesProvider(createN1Provider(10000), 3);
+        assertEquals(166616670000L, provider.getContingenciesStream(network).spliterator().getExactSizeIfKnown());
+        assertEquals(List.of("L0+L1+L2", "L0+L1+L3"), provider.getContingenciesStream(network).limit(2)
+                .map(Contingency::getId).collect(Collectors.toList()));
+
+        // last partition is directly reached
+        List<Contingency> last = new SubContingenciesProvider(new NkContingenciesProvider(createN1Provider(5), 2), new Partition(5, 5))
+                .getContingenciesStream(network).collect(Collectors.toList());
+        assertEquals(List.of("L2+L4", "L3+L4"), last.stream().map(Contingency::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSplit() {
+        for (int n = 1; n <= 8; n++) {
+            for (int k = 1; k <= n; k++) {
+                List<String> sequential = new ArrayList<>();
+                StreamSupport.stream(new CombinationSpliterator(n, k), false).forEach(c -> sequential.add(Arrays.toString(c)));
+                assertEquals(CombinationSpliterator.count(n, k), sequential.size());
+
+                // recursively split and check that the concatenation of the parts is the same as the sequential enumeration
+                List<String> split = new ArrayList<>();
+                collect(new CombinationSpliterator(n, k), split);
+                assertEquals(sequential, split);
+
+                List<String> parallel = StreamSupport.stream(new CombinationSpliterator(n, k), true)
+                        .map(Arrays::toString)
+                        .collect(Collectors.toList());
+                assertEquals(sequential, parallel);
+            }
+        }
+    }
+
+    private static void collect(Spliterator<int[]> spliterator, List<String> result) {
+        Spliterator<int[]> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            assertTrue(prefix.estimateSize() > 0 && spliterator.estimateSize() > 0);
+            collect(prefix, result);
+            collect(spliterator, result);
+        } else {
+            spliterator.forEachRemaining(c -> result.add(Arrays.toString(c)));
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -45,6 +46,37 @@ class SubContingenciesProviderTest {
         assertEquals(ImmutableList.of("contingency-3", "contingency-4"), subList2);
     }
 
+    @Test
+    void testStream() {
+        ContingenciesProvider provider = n -> IntStream.range(1, 6)
+                .mapToObj(i -> new Contingency("contingency-" + i))
+                .collect(Collectors.toList());
+        // same contingencies but with an unknown size
+        ContingenciesProvider filteredProvider = new ContingenciesProvider() {
+            @Override
+            public List<Contingency> getContingencies(Network network) {
+                return provider.getContingencies(network);
+            }
+
+            @Override
+            public Stream<Contingency> getContingenciesStream(Network network) {
+                return provider.getContingencies(network).stream().filter(c -> true);
+            }
+        };
+
+        Network network = Mockito.mock(Network.class);
+        for (ContingenciesProvider p : List.of(provider, filteredProvider)) {
+            for (int i = 1; i <= 3; i++) {
+                SubContingenciesProvider subProvider = new SubContingenciesProvider(p, new Partition(i, 3));
+                assertEquals(subProvider.getContingencies(network).stream().map(Contingency::getId).collect(Collectors.toList()),
+                        subProvider.getContingenciesStream(network).map(Contingency::getId).collect(Collectors.toList()));
+            }
+        }
+        assertEquals(ImmutableList.of("contingency-2", "contingency-3"),
+                new SubContingenciesProvider(filteredProvider, new Partition(2, 3)).getContingenciesStream(network)
+                        .map(Contingency::getId).collect(Collectors.toList()));
+    }
+
     @Test
     void testEmpty() {
         ContingenciesProvider provider = n -> Collections.emptyList();
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.dynamicsimulation.binary;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.dynamicsimulation.DynamicSimulationResult;
+import com.powsybl.timeseries.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Dynamic simulation result read from a binary file written by {@link BinaryDynamicSimulationResultWriter}.
+ * <p>
+ * Only the footer of the file is read when the result is created: each curve is read from the file when it is
+ * requested, so that reading a few curves of a long simulation does not require loading all of them. The curves are
+ * not kept in memory by the result, and the file is only opened while reading, so it must not be modified or deleted
+ * while the result is used.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public final class BinaryDynamicSimulationResult implements DynamicSimulationResult {
+
+    private final Path file;
+
+    private final boolean ok;
+
+    private final String logs;
+
+    private final StringTimeSeries timeLine;
+
+    private final Map<String, Long> curvePositions;
+
+    private BinaryDynamicSimulationResult(Path file, boolean ok, String logs, StringTimeSeries timeLine, Map<String, Long> curvePositions) {
+        this.file = file;
+        this.ok = ok;
+        this.logs = logs;
+        this.timeLine = timeLine;
+        this.curvePositions = curvePositions;
+    }
+
+    public static BinaryDynamicSimulationResult read(Path file) {
+        Objects.requireNonNull(file);
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            DataInputStream is = newDataInputStream(channel, 0);
+            if (is.readInt() != BinaryDynamicSimulationResultWriter.MAGIC_NUMBER) {
+                throw new PowsyblException("Not a binary dynamic simulation result file: " + file);
+            }
+            int version = is.readInt();
+            if (version != BinaryDynamicSimulationResultWriter.VERSION) {
+                throw new PowsyblException("Unsupported binary dynamic simulation result version: " + version);
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES);
+            channel.position(channel.size() - Long.BYTES);
+            while (trailer.hasRemaining() && channel.read(trailer) != -1) {
+                // read until the trailer is complete
+            }
+            trailer.flip();
+            is = newDataInputStream(channel, trailer.getLong());
+
+            boolean ok = is.readBoolean();
+            String logs = readString(is);
+            List<TimeSeries> timeLines = TimeSeries.parseJson(readString(is));
+            StringTimeSeries timeLine = timeLines.isEmpty() ? DynamicSimulationResult.emptyTimeLine() : (StringTimeSeries) timeLines.get(0);
+            int curveCount = is.readInt();
+            Map<String, Long> curvePositions = new LinkedHashMap<>(curveCount);
+            for (int i = 0; i < curveCount; i++) {
+                String name = readString(is);
+                curvePositions.put(name, is.readLong());
+            }
+            return new BinaryDynamicSimulationResult(file, ok, logs, timeLine, curvePositions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DataInputStream newDataInputStream(SeekableByteChannel channel, long position) throws IOException {
+        channel.position(position);
+        // not closed, to keep the channel open
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+    }
+
+    @Override
+    public boolean isOk() {
+        return ok;
+    }
+
+    @Override
+    public String getLogs() {
+        return logs;
+    }
+
+    public Set<String> getCurveNames() {
+        return Collections.unmodifiableSet(curvePositions.keySet());
+    }
+
+    /**
+     * Read all the curves from the file, prefer {@link #getCurve(String)} to read only some of them.
+     */
+    @Override
+    public Map<String, TimeSeries> getCurves() {
+        return Collections.unmodifiableMap(readCurves(curvePositions.keySet()));
+    }
+
+    /**
+     * Read some curves from the file, in one opening of the file.
+     *
+     * @return the curves by name, in the order of the file, unknown names being ignored
+     */
+    public Map<String, TimeSeries> readCurves(Collection<String> names) {
+        Objects.requireNonNull(names);
+        Map<String, TimeSeries> curves = new LinkedHashMap<>();
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            for (Map.Entry<String, Long> e : curvePositions.entrySet()) {
+                if (names.contains(e.getKey())) {
+                    curves.put(e.getKey(), readCurve(newDataInputStream(channel, e.getValue())));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return curves;
+    }
+
+    @Override
+    public TimeSeries getCurve(String curve) {
+        Objects.requireNonNull(curve);
+        Long position = curvePositions.get(curve);
+        if (position == null) {
+            return null;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            return readCurve(newDataInputStream(channel, position));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public StringTimeSeries getTimeLine() {
+        return timeLine;
+    }
+
+    private static DoubleTimeSeries readCurve(DataInputStream is) throws IOException {
+        TimeSeriesMetadata metadata = JsonUtil.parseJson(readString(is), TimeSeriesMetadata::parseJson);
+        int chunkCount = is.readInt();
+        List<DoubleDataChunk> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(readChunk(is));
+        }
+        return new StoredDoubleTimeSeries(metadata, chunks);
+    }
+
+    private static DoubleDataChunk readChunk(DataInputStream is) throws IOException {
+        boolean compressed = is.readBoolean();
+        int offset = is.readInt();
+        if (compressed) {
+            int uncompressedLength = is.readInt();
+            int stepCount = is.readInt();
+            double[] stepValues = new double[stepCount];
+            for (int i = 0; i < stepCount; i++) {
+                stepValues[i] = is.readDouble();
+            }
+            int[] stepLengths = new int[stepCount];
+            for (int i = 0; i < stepCount; i++) {
+                stepLengths[i] = is.readInt();
+            }
+            return new CompressedDoubleDataChunk(offset, uncompressedLength, stepValues, stepLengths);
+        }
+        double[] values = new double[is.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = is.readDouble();
+        }
+        return new UncompressedDoubleDataChunk(offset, values);
+    }
+
+    private static String readString(DataInput is) throws IOException {
+        int length = is.readInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        is.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
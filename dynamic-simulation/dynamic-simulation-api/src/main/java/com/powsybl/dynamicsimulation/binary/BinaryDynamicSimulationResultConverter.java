@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.dynamicsimulation.binary;
+
+import com.powsybl.dynamicsimulation.json.DynamicSimulationResultDeserializer;
+import com.powsybl.dynamicsimulation.json.DynamicSimulationResultSerializer;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Conversion of dynamic simulation result files between the JSON and the binary formats.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public final class BinaryDynamicSimulationResultConverter {
+
+    private BinaryDynamicSimulationResultConverter() {
+    }
+
+    public static void jsonToBinary(Path jsonFile, Path binaryFile) {
+        Objects.requireNonNull(binaryFile);
+        BinaryDynamicSimulationResultWriter.write(DynamicSimulationResultDeserializer.read(jsonFile), binaryFile);
+    }
+
+    public static void binaryToJson(Path binaryFile, Path jsonFile) {
+        Objects.requireNonNull(jsonFile);
+        DynamicSimulationResultSerializer.write(BinaryDynamicSimulationResult.read(binaryFile), jsonFile);
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.dynamicsimulation.binary;
+
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.dynamicsimulation.DynamicSimulationResult;
+import com.powsybl.timeseries.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Writer of a dynamic simulation result in a binary file, the curves being written one after the other as soon as
+ * they are available, without keeping them in memory.
+ * <p>
+ * The file starts with a header, then each curve is written with its metadata in JSON and its data chunks in binary,
+ * compressed with the run-length encoding of {@link CompressedDoubleDataChunk} when it is efficient. When the writer is
+ * closed, a footer is written with the status, the logs and the timeline of the result, and the position of each curve
+ * in the file, so that a curve can be read without reading the others, see {@link BinaryDynamicSimulationResult}.
+ * Only double curves are supported.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class BinaryDynamicSimulationResultWriter implements Closeable {
+
+    static final int MAGIC_NUMBER = 0x50444352; // PDCR
+
+    static final int VERSION = 1;
+
+    private final CountingOutputStream countingOutputStream;
+
+    private final DataOutputStream os;
+
+    private final Map<String, Long> curvePositions = new LinkedHashMap<>();
+
+    private boolean ok;
+
+    private String logs = "";
+
+    private StringTimeSeries timeLine = DynamicSimulationResult.emptyTimeLine();
+
+    private boolean closed = false;
+
+    public BinaryDynamicSimulationResultWriter(Path file) throws IOException {
+        this(Files.newOutputStream(file));
+    }
+
+    public BinaryDynamicSimulationResultWriter(OutputStream os) throws IOException {
+        countingOutputStream = new CountingOutputStream(new BufferedOutputStream(Objects.requireNonNull(os)));
+        this.os = new DataOutputStream(countingOutputStream);
+        this.os.writeInt(MAGIC_NUMBER);
+        this.os.writeInt(VERSION);
+    }
+
+    /**
+     * Write a double curve.
+     */
+    public BinaryDynamicSimulationResultWriter writeCurve(TimeSeries curve) throws IOException {
+        Objects.requireNonNull(curve);
+        if (curve instanceof StoredDoubleTimeSeries storedCurve) {
+            return writeCurve(storedCurve.getMetadata(), storedCurve.getChunks());
+        } else if (curve instanceof DoubleTimeSeries doubleCurve) {
+            return writeCurve(doubleCurve.getMetadata(), List.of(DataChunk.create(doubleCurve.toArray())));
+        }
+        throw new PowsyblException("Curve '" + curve.getMetadata().getName() + "' is not a double time series");
+    }
+
+    /**
+     * Write a double curve given by its metadata and its data chunks.
+     */
+    public BinaryDynamicSimulationResultWriter writeCurve(TimeSeriesMetadata metadata, List<DoubleDataChunk> chunks) throws IOException {
+        Objects.requireNonNull(metadata);
+        Objects.requireNonNull(chunks);
+        checkNotClosed();
+        if (metadata.getDataType() != TimeSeriesDataType.DOUBLE) {
+            throw new PowsyblException("Curve '" + metadata.getName() + "' is not a double time series");
+        }
+        if (curvePositions.containsKey(metadata.getName())) {
+            throw new PowsyblException("Curve '" + metadata.getName() + "' already written");
+        }
+        curvePositions.put(metadata.getName(), countingOutputStream.getCount());
+        writeString(os, JsonUtil.toJson(metadata::writeJson));
+        os.writeInt(chunks.size());
+        for (DoubleDataChunk chunk : chunks) {
+            writeChunk(chunk.tryToCompress());
+        }
+        return this;
+    }
+
+    private void writeChunk(DoubleDataChunk chunk) throws IOException {
+        if (chunk instanceof CompressedDoubleDataChunk compressedChunk) {
+            os.writeBoolean(true);
+            os.writeInt(compressedChunk.getOffset());
+            os.writeInt(compressedChunk.getUncompressedLength());
+            double[] stepValues = compressedChunk.getStepValues();
+            int[] stepLengths = compressedChunk.getStepLengths();
+            os.writeInt(stepValues.length);
+            for (double stepValue : stepValues) {
+                os.writeDouble(stepValue);
+            }
+            for (int stepLength : stepLengths) {
+                os.writeInt(stepLength);
+            }
+        } else if (chunk instanceof UncompressedDoubleDataChunk uncompressedChunk) {
+            os.writeBoolean(false);
+            os.writeInt(uncompressedChunk.getOffset());
+            double[] values = uncompressedChunk.getValues();
+            os.writeInt(values.length);
+            for (double value : values) {
+                os.writeDouble(value);
+            }
+        } else {
+            throw new PowsyblException("Unsupported data chunk: " + chunk.getClass().getName());
+        }
+    }
+
+    /**
+     * Set the status, the logs and the timeline of the result, written in the footer when the writer is closed.
+     */
+    public BinaryDynamicSimulationResultWriter setResult(boolean ok, String logs, StringTimeSeries timeLine) {
+        this.ok = ok;
+        this.logs = logs;
+        this.timeLine = Objects.requireNonNull(timeLine);
+        return this;
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new PowsyblException("Writer is closed");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (DataOutputStream closedOs = os) {
+            long footerPosition = countingOutputStream.getCount();
+            closedOs.writeBoolean(ok);
+            writeString(closedOs, logs);
+            writeString(closedOs, TimeSeries.toJson(List.of(timeLine)));
+            closedOs.writeInt(curvePositions.size());
+            for (Map.Entry<String, Long> e : curvePositions.entrySet()) {
+                writeString(closedOs, e.getKey());
+                closedOs.writeLong(e.getValue());
+            }
+            closedOs.writeLong(footerPosition);
+        }
+    }
+
+    /**
+     * Write a result, for instance read from JSON, in a binary file.
+     */
+    public static void write(DynamicSimulationResult result, Path file) {
+        Objects.requireNonNull(result);
+        try (BinaryDynamicSimulationResultWriter writer = new BinaryDynamicSimulationResultWriter(file)) {
+            for (TimeSeries curve : result.getCurves().values()) {
+                writer.writeCurve(curve);
+            }
+            writer.setResult(result.isOk(), result.getLogs(), result.getTimeLine());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutput os, String value) throws IOException {
+        if (value == null) {
+            os.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            os.writeInt(bytes.length);
+            os.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.dynamicsimulation.binary;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.test.AbstractConverterTest;
+import com.powsybl.commons.test.ComparisonUtils;
+import com.powsybl.dynamicsimulation.DynamicSimulationResult;
+import com.powsybl.timeseries.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class BinaryDynamicSimulationResultTest extends AbstractConverterTest {
+
+    @Test
+    void writeReadTest() throws IOException {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 5, 1);
+        StoredDoubleTimeSeries curve1 = TimeSeries.createDouble("curve1", index, 0.0, 0.1, 0.1, 0.2, 0.1, 0.0);
+        StoredDoubleTimeSeries curve2 = new StoredDoubleTimeSeries(new TimeSeriesMetadata("curve2", TimeSeriesDataType.DOUBLE, Map.of("tag", "value"), index),
+                new CompressedDoubleDataChunk(0, 4, new double[] {1.0, 2.0}, new int[] {3, 1}),
+                new UncompressedDoubleDataChunk(4, new double[] {3.0, 4.0}));
+        StringTimeSeries timeLine = TimeSeries.createString("timeLine", new RegularTimeSeriesIndex(0, 1, 1), "event1", "event2");
+
+        Path file = tmpDir.resolve("result.bin");
+        try (BinaryDynamicSimulationResultWriter writer = new BinaryDynamicSimulationResultWriter(file)) {
+            writer.writeCurve(curve1)
+                    .writeCurve(curve2)
+                    .setResult(true, "logs", timeLine);
+            assertThrows(PowsyblException.class, () -> writer.writeCurve(curve1));
+            assertThrows(PowsyblException.class, () -> writer.writeCurve(timeLine));
+        }
+
+        BinaryDynamicSimulationResult result = BinaryDynamicSimulationResult.read(file);
+        assertTrue(result.isOk());
+        assertEquals("logs", result.getLogs());
+        assertEquals(timeLine, result.getTimeLine());
+        assertEquals(Set.of("curve1", "curve2"), result.getCurveNames());
+        assertArrayEquals(curve1.toArray(), ((DoubleTimeSeries) result.getCurve("curve1")).toArray());
+        assertEquals(curve2, result.getCurve("curve2"));
+        assertNull(result.getCurve("unknown"));
+        assertEquals(List.of("curve2"), List.copyOf(result.readCurves(List.of("curve2", "unknown")).keySet()));
+        Map<String, TimeSeries> curves = result.getCurves();
+        assertEquals(2, curves.size());
+        assertEquals(curve2, curves.get("curve2"));
+    }
+
+    @Test
+    void emptyResultTest() throws IOException {
+        Path file = tmpDir.resolve("empty.bin");
+        new BinaryDynamicSimulationResultWriter(file).close();
+        BinaryDynamicSimulationResult result = BinaryDynamicSimulationResult.read(file);
+        assertFalse(result.isOk());
+        assertEquals("", result.getLogs());
+        assertTrue(result.getCurves().isEmpty());
+        assertEquals(DynamicSimulationResult.emptyTimeLine(), result.getTimeLine());
+    }
+
+    @Test
+    void invalidFileTest() throws IOException {
+        Path file = tmpDir.resolve("invalid.bin");
+        Files.writeString(file, "{ not a binary file }");
+        assertThrows(PowsyblException.class, () -> BinaryDynamicSimulationResult.read(file));
+    }
+
+    @Test
+    void convertTest() throws IOException {
+        Path jsonFile = tmpDir.resolve("result.json");
+        try (InputStream is = Objects.requireNonNull(getClass().getResourceAsStream("/DynamicSimulationResult.json"))) {
+            Files.copy(is, jsonFile);
+        }
+        Path binaryFile = tmpDir.resolve("result.bin");
+        BinaryDynamicSimulationResultConverter.jsonToBinary(jsonFile, binaryFile);
+        Path convertedJsonFile = tmpDir.resolve("converted.json");
+        BinaryDynamicSimulationResultConverter.binaryToJson(binaryFile, convertedJsonFile);
+        try (InputStream expected = Files.newInputStream(jsonFile);
+             InputStream actual = Files.newInputStream(convertedJsonFile)) {
+            ComparisonUtils.compareTxt(expected, actual);
+        }
+    }
+}
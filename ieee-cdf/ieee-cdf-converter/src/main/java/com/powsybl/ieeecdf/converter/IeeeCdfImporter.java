@@ -80,6 +80,11 @@ public class IeeeCdfImporter implements Importer {
         return "IEEE Common Data Format to IIDM converter";
     }
 
+    @Override
+    public List<String> getSupportedExtensions() {
+        return Collections.singletonList(EXT);
+    }
+
     @Override
     public boolean exists(ReadOnlyDataSource dataSource) {
         try {
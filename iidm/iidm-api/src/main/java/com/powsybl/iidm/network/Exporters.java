@@ -9,12 +9,14 @@ package com.powsybl.iidm.network;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.DataSourceObserver;
 import com.powsybl.commons.datasource.DataSourceUtil;
+import com.powsybl.commons.datasource.ZipSessionDataSource;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * A utility class to work with IIDM exporters.
@@ -42,4 +44,29 @@ public final class Exporters {
     public static DataSource createDataSource(Path file) {
         return createDataSource(file, null);
     }
+
+    /**
+     * Write a file through a data source, as created by {@link #createDataSource(Path, DataSourceObserver)}, except
+     * for a zip file: it is written by a {@link ZipSessionDataSource}, its entries being added to the archive in a
+     * single session once all of them have been written.
+     */
+    public static void write(Path file, DataSourceObserver observer, Consumer<DataSource> writer) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(writer);
+        String fileName = file.getFileName().toString();
+        if (!fileName.endsWith(".zip")) {
+            writer.accept(createDataSource(file, observer));
+            return;
+        }
+        if (Files.exists(file) && !Files.isRegularFile(file)) {
+            throw new UncheckedIOException(new IOException("File " + file + " already exists and is not a regular file"));
+        }
+        Path absFile = file.toAbsolutePath();
+        String baseName = DataSourceUtil.getBaseName(fileName.substring(0, fileName.length() - 4));
+        try (ZipSessionDataSource dataSource = new ZipSessionDataSource(absFile.getParent(), fileName, baseName, observer)) {
+            writer.accept(dataSource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
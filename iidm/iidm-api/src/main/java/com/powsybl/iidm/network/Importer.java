@@ -15,7 +15,10 @@ import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.commons.parameters.Parameter;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -69,6 +72,16 @@ public interface Importer {
             return importer.getComment();
         }
 
+        @Override
+        public List<String> getSupportedExtensions() {
+            return importer.getSupportedExtensions();
+        }
+
+        @Override
+        public boolean mayExist(ReadOnlyDataSource dataSource) {
+            return importer.mayExist(dataSource);
+        }
+
         @Override
         public boolean exists(ReadOnlyDataSource dataSource) {
             return importer.exists(dataSource);
@@ -253,13 +266,32 @@ public interface Importer {
         return importer;
     }
 
+    /**
+     * Find the importer of a data source, the importers being probed in parallel by the tasks of the executor of the
+     * computation manager.
+     *
+     * @return the importer with the highest priority accepting the data source, or <code>null</code> if none accepts it
+     */
     static Importer find(ReadOnlyDataSource dataSource, ImportersLoader loader, ComputationManager computationManager, ImportConfig config) {
-        for (Importer importer : list(loader, computationManager, config)) {
-            if (importer.exists(dataSource)) {
-                return importer;
-            }
-        }
-        return null;
+        return find(dataSource, loader, computationManager, config, computationManager != null ? computationManager.getExecutor() : null);
+    }
+
+    /**
+     * Find the importer of a data source. The importers are first filtered by their cheap
+     * {@link #mayExist(ReadOnlyDataSource)} check, then the remaining ones are probed by
+     * {@link #exists(ReadOnlyDataSource)}, in parallel if an executor is given. The importer with the highest priority
+     * accepting the data source is returned, and exceptions are thrown, as if the importers were probed one after the
+     * other. When probing in parallel, the format found is cached by layout of the data source, so that the importers
+     * with a lower priority than the one of the cached format are only probed if none of the others accepts the data
+     * source.
+     *
+     * @param executor executor of the parallel probes, or null to probe the importers sequentially
+     * @return the importer with the highest priority accepting the data source, or <code>null</code> if none accepts it
+     */
+    static Importer find(ReadOnlyDataSource dataSource, ImportersLoader loader, ComputationManager computationManager, ImportConfig config,
+                         @Nullable Executor executor) {
+        Objects.requireNonNull(dataSource);
+        return ImporterDetector.find(dataSource, list(loader, computationManager, config), executor);
     }
 
     static Importer find(ReadOnlyDataSource dataSource, ComputationManager computationManager) {
@@ -288,6 +320,39 @@ public interface Importer {
      */
     String getComment();
 
+    /**
+     * Get the extensions of the files read by this importer: a data source is importable only if it contains a file
+     * named after its base name with one of these extensions. An empty list means that the read files may have any name.
+     */
+    default List<String> getSupportedExtensions() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Check cheaply if the data source may be importable, before calling {@link #exists(ReadOnlyDataSource)}: this
+     * method must return true if the data source is importable, but may also return true if it is not. By default,
+     * check that a file with one of the {@link #getSupportedExtensions() supported extensions} exists. Importers may
+     * override it to also check some magic bytes at the beginning of the file.
+     * @param dataSource the data source
+     * @return false if the data source is not importable, true if it may be importable
+     */
+    default boolean mayExist(ReadOnlyDataSource dataSource) {
+        List<String> extensions = getSupportedExtensions();
+        if (extensions.isEmpty()) {
+            return true;
+        }
+        try {
+            for (String ext : extensions) {
+                if (dataSource.exists(null, ext)) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return false;
+    }
+
     /**
      * Check if the data source is importable
      * @param dataSource the data source
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Find the importer of a data source for {@link Importer#find(ReadOnlyDataSource, ImportersLoader, com.powsybl.computation.ComputationManager, ImportConfig, Executor)}.
+ * <p>
+ * The importers are first filtered by their cheap {@link Importer#mayExist(ReadOnlyDataSource)} check. The remaining
+ * ones are probed one after the other without executor, and in parallel by the tasks of the executor otherwise, the
+ * results being consumed in priority order. A probe which has not been started by a task when its result is needed is
+ * run by the calling thread, so that finding an importer does not wait for a busy executor.
+ * <p>
+ * When probing in parallel, the format found for a data source is cached by fingerprint of the data source: its type
+ * and the extensions of its files, the ones named after the base name of the data source being distinguished. For a
+ * data source with a cached fingerprint, only the importers up to the one of the cached format are probed at first,
+ * in priority order, so that the importers with a higher priority are not bypassed, and the others only if none of
+ * them accepts the data source.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class ImporterDetector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImporterDetector.class);
+
+    static final int CACHE_SIZE = 1024;
+
+    private static final Map<Fingerprint, String> FORMATS_BY_FINGERPRINT = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Fingerprint, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    private record Fingerprint(Class<?> dataSourceClass, List<String> extensions) {
+    }
+
+    private ImporterDetector() {
+    }
+
+    static Importer find(ReadOnlyDataSource dataSource, Collection<Importer> importers, Executor executor) {
+        List<Importer> candidates = importers.stream()
+                .filter(importer -> importer.mayExist(dataSource))
+                .toList();
+        if (executor == null || candidates.size() <= 1) {
+            return probeSequentially(candidates, dataSource);
+        }
+
+        Fingerprint fingerprint = getFingerprint(dataSource);
+        int firstProbedCount = candidates.size();
+        if (fingerprint != null) {
+            String format = FORMATS_BY_FINGERPRINT.get(fingerprint);
+            for (int i = 0; format != null && i < candidates.size(); i++) {
+                if (candidates.get(i).getFormat().equals(format)) {
+                    firstProbedCount = i + 1;
+                    break;
+                }
+            }
+        }
+        Importer found = probeConcurrently(candidates.subList(0, firstProbedCount), dataSource, executor);
+        if (found == null && firstProbedCount < candidates.size()) {
+            found = probeConcurrently(candidates.subList(firstProbedCount, candidates.size()), dataSource, executor);
+        }
+        if (found != null && fingerprint != null) {
+            FORMATS_BY_FINGERPRINT.put(fingerprint, found.getFormat());
+        }
+        return found;
+    }
+
+    private static Importer probeSequentially(List<Importer> candidates, ReadOnlyDataSource dataSource) {
+        for (Importer importer : candidates) {
+            if (importer.exists(dataSource)) {
+                return importer;
+            }
+        }
+        return null;
+    }
+
+    private static Importer probeConcurrently(List<Importer> candidates, ReadOnlyDataSource dataSource, Executor executor) {
+        if (candidates.size() <= 1) {
+            return probeSequentially(candidates, dataSource);
+        }
+        List<Probe> probes = new ArrayList<>(candidates.size());
+        for (Importer importer : candidates) {
+            Probe probe = new Probe(importer, dataSource);
+            probes.add(probe);
+            try {
+                executor.execute(probe);
+            } catch (RejectedExecutionException e) {
+                // run by the calling thread when its result is needed
+                LOGGER.debug("Probe of importer {} rejected by executor: {}", importer.getFormat(), e.toString());
+            }
+        }
+        // results are consumed in priority order, so that the first accepting importer wins and exceptions are thrown
+        // as if the importers were probed sequentially
+        for (int i = 0; i < candidates.size(); i++) {
+            if (probes.get(i).join()) {
+                probes.subList(i + 1, probes.size()).forEach(Probe::cancel);
+                return candidates.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static Fingerprint getFingerprint(ReadOnlyDataSource dataSource) {
+        try {
+            String prefix = dataSource.getBaseName() + ".";
+            Set<String> extensions = new TreeSet<>();
+            for (String name : dataSource.listNames(".*")) {
+                if (name.startsWith(prefix)) {
+                    extensions.add(name.substring(prefix.length() - 1));
+                } else {
+                    int dot = name.lastIndexOf('.');
+                    extensions.add("*" + (dot >= 0 ? name.substring(dot) : ""));
+                }
+            }
+            return new Fingerprint(dataSource.getClass(), List.copyOf(extensions));
+        } catch (IOException | RuntimeException e) {
+            // data source not listable, not cached
+            LOGGER.debug("Cannot list names of data source {}: {}", dataSource.getBaseName(), e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Remove all the cached formats.
+     */
+    static void clearCache() {
+        FORMATS_BY_FINGERPRINT.clear();
+    }
+
+    /**
+     * Probe of an importer, run either by a task of the executor or by the calling thread, whichever starts it first.
+     */
+    private static final class Probe implements Runnable {
+
+        private final Importer importer;
+
+        private final ReadOnlyDataSource dataSource;
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private Probe(Importer importer, ReadOnlyDataSource dataSource) {
+            this.importer = importer;
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public void run() {
+            if (started.compareAndSet(false, true)) {
+                try {
+                    result.complete(importer.exists(dataSource));
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        private void cancel() {
+            started.set(true);
+        }
+
+        private boolean join() {
+            run();
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1119,6 +1119,28 @@ public interface Network extends Container<Network> {
      */
     Identifiable<?> getIdentifiable(String id);
 
+    /**
+     * Get the handle of an equipment: an int identifying the equipment in the network, valid until the equipment is
+     * removed, and which may be used instead of its ID to key data by equipment. Handles are dense, so that they may be
+     * used as array indexes.
+     *
+     * @param id the id or an alias of the equipment
+     * @return the handle of the equipment or -1 if not found
+     */
+    default int getIdentifiableHandle(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get an equipment by its handle.
+     *
+     * @param handle the handle of the equipment, as given by {@link #getIdentifiableHandle(String)}
+     * @return the equipment or null if not found
+     */
+    default Identifiable<?> getIdentifiableByHandle(int handle) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Get all identifiables of the network.
      *
@@ -1404,8 +1426,7 @@ public interface Network extends Container<Network> {
      * @param reporter the reporter used for functional logs
      */
     default void write(ExportersLoader loader, String format, Properties parameters, Path file, Reporter reporter) {
-        DataSource dataSource = Exporters.createDataSource(file);
-        write(loader, format, parameters, dataSource, reporter);
+        Exporters.write(file, null, dataSource -> write(loader, format, parameters, dataSource, reporter));
     }
 
     default void write(ExportersLoader loader, String format, Properties parameters, Path file) {
@@ -8,7 +8,6 @@ package com.powsybl.iidm.network.tools;
 
 import com.google.auto.service.AutoService;
 import com.powsybl.commons.PowsyblException;
-import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.DefaultDataSourceObserver;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.iidm.network.*;
@@ -110,12 +109,11 @@ public class ConversionTool implements Tool {
         Network network = Network.read(context.getFileSystem().getPath(inputFile), context.getShortTimeExecutionComputationManager(), createImportConfig(), inputParams, createNetworkFactory(), new ImportersServiceLoader(), Reporter.NO_OP);
 
         Properties outputParams = ConversionToolUtils.readProperties(line, ConversionToolUtils.OptionType.EXPORT, context);
-        DataSource ds2 = Exporters.createDataSource(context.getFileSystem().getPath(outputFile), new DefaultDataSourceObserver() {
+        Exporters.write(context.getFileSystem().getPath(outputFile), new DefaultDataSourceObserver() {
             @Override
             public void opened(String streamName) {
                 context.getOutputStream().println("Generating file " + streamName + "...");
             }
-        });
-        exporter.export(network, outputParams, ds2);
+        }, dataSource -> exporter.export(network, outputParams, dataSource));
     }
 }
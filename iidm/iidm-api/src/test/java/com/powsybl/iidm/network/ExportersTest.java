@@ -24,6 +24,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -106,6 +107,18 @@ class ExportersTest extends AbstractConvertersTest {
         }
     }
 
+    @Test
+    void exportZip() throws IOException {
+        Path zipFile = fileSystem.getPath("/work/foo.zip");
+        Network network = Mockito.spy(Network.class);
+        network.write(loader, TEST_FORMAT, null, zipFile);
+        DataSource dataSource = Exporters.createDataSource(zipFile);
+        assertEquals(Set.of(FOO_TST), dataSource.listNames(".*"));
+        try (var is = dataSource.newInputStream(null, EXTENSION)) {
+            assertEquals(1, is.read());
+        }
+    }
+
     @Test
     void export3() throws IOException {
         Path dir = Files.createTempDirectory("tmp-export");
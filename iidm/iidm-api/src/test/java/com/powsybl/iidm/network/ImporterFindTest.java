@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.computation.ComputationManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class ImporterFindTest {
+
+    private final ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+
+    private final ImportConfig importConfig = new ImportConfig();
+
+    private ExecutorService executor;
+
+    private static class ProbedImporter implements Importer {
+
+        private final String format;
+
+        private final String ext;
+
+        private final List<String> supportedExtensions;
+
+        private final long probeMillis;
+
+        private final AtomicInteger probeCount = new AtomicInteger();
+
+        ProbedImporter(String format, String ext, List<String> supportedExtensions, long probeMillis) {
+            this.format = format;
+            this.ext = ext;
+            this.supportedExtensions = supportedExtensions;
+            this.probeMillis = probeMillis;
+        }
+
+        @Override
+        public String getFormat() {
+            return format;
+        }
+
+        @Override
+        public String getComment() {
+            return format;
+        }
+
+        @Override
+        public List<String> getSupportedExtensions() {
+            return supportedExtensions;
+        }
+
+        @Override
+        public boolean exists(ReadOnlyDataSource dataSource) {
+            probeCount.incrementAndGet();
+            try {
+                Thread.sleep(probeMillis);
+                return dataSource.exists(null, ext);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PowsyblException(e);
+            }
+        }
+    }
+
+    private static ReadOnlyDataSource createDataSource(String baseName, String ext) {
+        ReadOnlyMemDataSource dataSource = new ReadOnlyMemDataSource(baseName);
+        dataSource.putData(baseName + "." + ext, new byte[0]);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        ImporterDetector.clearCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testPriority() {
+        // both importers accept the data source, the slow one has the highest priority
+        ProbedImporter slow = new ProbedImporter("SLOW", "tst", Collections.emptyList(), 100);
+        ProbedImporter fast = new ProbedImporter("FAST", "tst", Collections.emptyList(), 0);
+        ImportersLoader loader = new ImportersLoaderList(slow, fast);
+        ReadOnlyDataSource dataSource = createDataSource("case", "tst");
+        assertSame(slow, Importer.find(dataSource, loader, computationManager, importConfig, executor));
+        assertSame(slow, Importer.find(dataSource, loader, computationManager, importConfig));
+
+        assertNull(Importer.find(createDataSource("case", "other"), loader, computationManager, importConfig, executor));
+    }
+
+    @Test
+    void testPrefilter() {
+        ProbedImporter abc = new ProbedImporter("ABC", "abc", List.of("abc"), 0);
+        ProbedImporter tst = new ProbedImporter("TST", "tst", List.of("tst"), 0);
+        ImportersLoader loader = new ImportersLoaderList(abc, tst);
+        assertSame(tst, Importer.find(createDataSource("case", "tst"), loader, computationManager, importConfig, executor));
+        assertEquals(0, abc.probeCount.get());
+        assertEquals(1, tst.probeCount.get());
+        assertNull(Importer.find(createDataSource("case", "xyz"), loader, computationManager, importConfig, executor));
+        assertEquals(0, abc.probeCount.get());
+        assertEquals(1, tst.probeCount.get());
+
+        // same filtering when finding the importer sequentially
+        assertSame(tst, Importer.find(createDataSource("case", "tst"), loader, computationManager, importConfig));
+        assertEquals(0, abc.probeCount.get());
+    }
+
+    @Test
+    void testException() {
+        Importer failing = new ProbedImporter("FAILING", "tst", Collections.emptyList(), 0) {
+            @Override
+            public boolean exists(ReadOnlyDataSource dataSource) {
+                throw new PowsyblException("Probe failure");
+            }
+        };
+        ProbedImporter tst = new ProbedImporter("TST", "tst", Collections.emptyList(), 0);
+        ReadOnlyDataSource dataSource = createDataSource("case", "tst");
+
+        // exception of an importer with a higher priority
+        ImportersLoader loader = new ImportersLoaderList(failing, tst);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> Importer.find(dataSource, loader, computationManager, importConfig, executor));
+        assertEquals("Probe failure", e.getMessage());
+
+        // exception of an importer with a lower priority is ignored
+        assertSame(tst, Importer.find(dataSource, new ImportersLoaderList(tst, failing), computationManager, importConfig, executor));
+    }
+
+    @Test
+    void testCache() {
+        // the importer with the highest priority only accepts the data sources named "accepted"
+        ProbedImporter first = new ProbedImporter("FIRST", "tst", Collections.emptyList(), 0) {
+            @Override
+            public boolean exists(ReadOnlyDataSource dataSource) {
+                return super.exists(dataSource) && dataSource.getBaseName().equals("accepted");
+            }
+        };
+        ProbedImporter second = new ProbedImporter("SECOND", "tst", Collections.emptyList(), 0);
+        ProbedImporter third = new ProbedImporter("THIRD", "tst", Collections.emptyList(), 50);
+        ImportersLoader loader = new ImportersLoaderList(first, second, third);
+        assertSame(second, Importer.find(createDataSource("case1", "tst"), loader, computationManager, importConfig, executor));
+
+        // same layout: the importers with a lower priority than the cached one are not probed
+        int thirdProbeCount = third.probeCount.get();
+        assertSame(second, Importer.find(createDataSource("case2", "tst"), loader, computationManager, importConfig, executor));
+        assertEquals(thirdProbeCount, third.probeCount.get());
+
+        // the importers with a higher priority than the cached one are still probed
+        assertSame(first, Importer.find(createDataSource("accepted", "tst"), loader, computationManager, importConfig, executor));
+    }
+
+    @Test
+    void testComputationManagerExecutor() {
+        ProbedImporter slow = new ProbedImporter("SLOW", "tst", Collections.emptyList(), 100);
+        ProbedImporter fast = new ProbedImporter("FAST", "tst", Collections.emptyList(), 0);
+        ComputationManager parallelComputationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(parallelComputationManager.getExecutor()).thenReturn(executor);
+        ImportersLoader loader = new ImportersLoaderList(slow, fast);
+        assertSame(slow, Importer.find(createDataSource("case", "tst"), loader, parallelComputationManager, importConfig));
+        Mockito.verify(parallelComputationManager, Mockito.atLeastOnce()).getExecutor();
+    }
+
+    @Test
+    void testBusyExecutor() throws Exception {
+        // the only thread of the executor is busy: the probes are run by the calling thread
+        ExecutorService busyExecutor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            busyExecutor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            ProbedImporter abc = new ProbedImporter("ABC", "abc", Collections.emptyList(), 0);
+            ProbedImporter tst = new ProbedImporter("TST", "tst", Collections.emptyList(), 0);
+            ImportersLoader loader = new ImportersLoaderList(abc, tst);
+            assertSame(tst, Importer.find(createDataSource("case", "tst"), loader, computationManager, importConfig, busyExecutor));
+        } finally {
+            release.countDown();
+            busyExecutor.shutdown();
+        }
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.iidm.network.impl;
 import com.google.common.base.Strings;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.extensions.AbstractExtendable;
+import com.powsybl.commons.util.CompactMap;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Validable;
 import com.powsybl.iidm.network.util.Identifiables;
@@ -27,10 +28,13 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
 
     protected boolean fictitious = false;
 
-    protected final Properties properties = new Properties();
+    // properties and aliases maps are allocated on first use, as most identifiables have none or only a few ones
+    private Map<Object, Object> properties;
 
-    private final Set<String> aliasesWithoutType = new HashSet<>();
-    private final Map<String, String> aliasesByType = new HashMap<>();
+    /**
+     * Alias types indexed by alias, an empty string being the type of the aliases without type.
+     */
+    private Map<String, String> aliases;
 
     AbstractIdentifiable(String id, String name) {
         this.id = id;
@@ -71,19 +75,28 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
 
     @Override
     public Set<String> getAliases() {
-        Set<String> aliases = new HashSet<>();
-        aliases.addAll(aliasesWithoutType);
-        aliases.addAll(aliasesByType.values());
-        return Collections.unmodifiableSet(aliases);
+        if (aliases == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new HashSet<>(aliases.keySet()));
     }
 
     @Override
     public Optional<String> getAliasType(String alias) {
         Objects.requireNonNull(alias);
-        if (aliasesWithoutType.contains(alias)) {
-            return Optional.empty();
+        String type = aliases != null ? aliases.get(alias) : null;
+        return Strings.isNullOrEmpty(type) ? Optional.empty() : Optional.of(type);
+    }
+
+    private String findAliasFromType(String aliasType) {
+        if (aliases != null) {
+            for (Map.Entry<String, String> e : aliases.entrySet()) {
+                if (e.getValue().equals(aliasType)) {
+                    return e.getKey();
+                }
+            }
         }
-        return aliasesByType.entrySet().stream().filter(entry -> entry.getValue().equals(alias)).map(Map.Entry::getKey).findFirst();
+        return null;
     }
 
     @Override
@@ -91,7 +104,7 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
         if (Strings.isNullOrEmpty(aliasType)) {
             throw new PowsyblException("Alias type must not be null or empty");
         }
-        return Optional.ofNullable(aliasesByType.get(aliasType));
+        return Optional.ofNullable(findAliasFromType(aliasType));
     }
 
     @Override
@@ -116,15 +129,14 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
         if (ensureAliasUnicity) {
             uniqueAlias = Identifiables.getUniqueId(alias, getNetwork().getIndex()::contains);
         }
-        if (!Strings.isNullOrEmpty(aliasType) && aliasesByType.containsKey(aliasType)) {
+        if (!Strings.isNullOrEmpty(aliasType) && findAliasFromType(aliasType) != null) {
             throw new PowsyblException(id + " already has an alias of type " + aliasType);
         }
         if (getNetwork().getIndex().addAlias(this, uniqueAlias)) {
-            if (Strings.isNullOrEmpty(aliasType)) {
-                aliasesWithoutType.add(uniqueAlias);
-            } else {
-                aliasesByType.put(aliasType, uniqueAlias);
+            if (aliases == null) {
+                aliases = new CompactMap<>();
             }
+            aliases.put(uniqueAlias, Strings.isNullOrEmpty(aliasType) ? "" : getNetwork().getIndex().intern(aliasType));
         }
     }
 
@@ -132,17 +144,14 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
     public void removeAlias(String alias) {
         Objects.requireNonNull(alias);
         getNetwork().getIndex().removeAlias(this, alias);
-        String type = aliasesByType.entrySet().stream().filter(entry -> entry.getValue().equals(alias)).map(Map.Entry::getKey).filter(Objects::nonNull).findFirst().orElse(null);
-        if (Strings.isNullOrEmpty(type)) {
-            aliasesWithoutType.remove(alias);
-        } else {
-            aliasesByType.remove(type);
+        if (aliases != null) {
+            aliases.remove(alias);
         }
     }
 
     @Override
     public boolean hasAliases() {
-        return !aliasesWithoutType.isEmpty() || !aliasesByType.isEmpty();
+        return aliases != null && !aliases.isEmpty();
     }
 
     @Override
@@ -167,35 +176,54 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
         return getTypeDescription() + " '" + id + "': ";
     }
 
+    /**
+     * @deprecated Use {@link #getPropertyNames()}, {@link #getProperty(String)}, {@link #setProperty(String, String)}
+     * and {@link #removeProperty(String)} instead, which notify the network listeners. The properties of this
+     * identifiable are moved to the returned {@link Properties}, and modifying it modifies them.
+     */
+    @Deprecated(since = "6.1.0")
     public Properties getProperties() {
-        return properties;
+        if (!(properties instanceof Properties)) {
+            Properties live = new Properties();
+            if (properties != null) {
+                live.putAll(properties);
+            }
+            properties = live;
+        }
+        return (Properties) properties;
     }
 
     @Override
     public boolean hasProperty() {
-        return !properties.isEmpty();
+        return properties != null && !properties.isEmpty();
     }
 
     @Override
     public boolean hasProperty(String key) {
-        return properties.containsKey(key);
+        return properties != null && properties.containsKey(key);
     }
 
     @Override
     public String getProperty(String key) {
-        Object val = properties.get(key);
+        Object val = properties != null ? properties.get(key) : null;
         return val != null ? val.toString() : null;
     }
 
     @Override
     public String getProperty(String key, String defaultValue) {
-        Object val = properties.getOrDefault(key, defaultValue);
+        Object val = properties != null ? properties.getOrDefault(key, defaultValue) : defaultValue;
         return val != null ? val.toString() : null;
     }
 
     @Override
     public String setProperty(String key, String value) {
-        String oldValue = (String) properties.put(key, value);
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        if (properties == null) {
+            properties = new CompactMap<>();
+        }
+        Object oldVal = properties.put(getNetwork().getIndex().intern(key), value);
+        String oldValue = oldVal != null ? oldVal.toString() : null;
         if (Objects.isNull(oldValue)) {
             getNetwork().getListeners().notifyElementAdded(this, () -> "properties[" + key + "]", value);
         } else {
@@ -206,7 +234,7 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
 
     @Override
     public boolean removeProperty(String key) {
-        Object oldValue = properties.remove(key);
+        Object oldValue = properties != null ? properties.remove(key) : null;
         if (oldValue != null) {
             getNetwork().getListeners().notifyElementRemoved(this, () -> "properties[" + key + "]", oldValue);
             return true;
@@ -216,7 +244,7 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
 
     @Override
     public Set<String> getPropertyNames() {
-        return properties.keySet().stream().map(Object::toString).collect(Collectors.toSet());
+        return properties != null ? properties.keySet().stream().map(Object::toString).collect(Collectors.toSet()) : new HashSet<>();
     }
 
     @Override
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open addressing hash map from ids to int handles, with linear probing.
+ * <p>
+ * Keys and handles are stored in two parallel arrays, without any entry object: compared to a {@link java.util.HashMap},
+ * an entry costs two array slots instead of a node and a table slot. The ids are not copied, the strings of the
+ * identifiables being referenced, and their hash code is cached by the strings.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class IdDictionary {
+
+    static final int NO_HANDLE = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Key of the removed entries, so that the probe sequences of the other keys are not broken.
+     */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String REMOVED = new String("");
+
+    private String[] keys = new String[MIN_CAPACITY];
+
+    private int[] handles = new int[MIN_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Number of slots not free: entries and removed entries.
+     */
+    private int usedSlots = 0;
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(String key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        String k;
+        while ((k = keys[i]) != null) {
+            if (k != REMOVED && k.equals(key)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(String key) {
+        Objects.requireNonNull(key);
+        int i = indexOf(key);
+        return i != -1 ? handles[i] : NO_HANDLE;
+    }
+
+    boolean containsKey(String key) {
+        return get(key) != NO_HANDLE;
+    }
+
+    /**
+     * Associate a handle to a key.
+     *
+     * @return the previous handle of the key, or {@link #NO_HANDLE}
+     */
+    int put(String key, int handle) {
+        Objects.requireNonNull(key);
+        int i = indexOf(key);
+        if (i != -1) {
+            int oldHandle = handles[i];
+            handles[i] = handle;
+            return oldHandle;
+        }
+        // load factor of 2/3, removed entries included
+        if (3 * (usedSlots + 1) > 2 * keys.length) {
+            rehash(3 * (size + 1) > keys.length ? 2 * keys.length : keys.length);
+        }
+        int mask = keys.length - 1;
+        i = hash(key) & mask;
+        while (keys[i] != null && keys[i] != REMOVED) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == null) {
+            usedSlots++;
+        }
+        keys[i] = key;
+        handles[i] = handle;
+        size++;
+        return NO_HANDLE;
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @return the handle of the key, or {@link #NO_HANDLE}
+     */
+    int remove(String key) {
+        Objects.requireNonNull(key);
+        int i = indexOf(key);
+        if (i == -1) {
+            return NO_HANDLE;
+        }
+        int handle = handles[i];
+        keys[i] = REMOVED;
+        handles[i] = NO_HANDLE;
+        size--;
+        return handle;
+    }
+
+    void clear() {
+        keys = new String[MIN_CAPACITY];
+        handles = new int[MIN_CAPACITY];
+        size = 0;
+        usedSlots = 0;
+    }
+
+    private void rehash(int capacity) {
+        String[] oldKeys = keys;
+        int[] oldHandles = handles;
+        keys = new String[capacity];
+        handles = new int[capacity];
+        Arrays.fill(handles, NO_HANDLE);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            String key = oldKeys[j];
+            if (key != null && key != REMOVED) {
+                int i = hash(key) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                handles[i] = oldHandles[j];
+            }
+        }
+        usedSlots = size;
+    }
+}
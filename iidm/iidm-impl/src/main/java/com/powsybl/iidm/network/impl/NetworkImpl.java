@@ -681,6 +681,16 @@ class NetworkImpl extends AbstractNetwork implements VariantManagerHolder, Multi
         return index.get(id, Identifiable.class);
     }
 
+    @Override
+    public int getIdentifiableHandle(String id) {
+        return index.getHandle(id);
+    }
+
+    @Override
+    public Identifiable<?> getIdentifiableByHandle(int handle) {
+        return index.get(handle);
+    }
+
     @Override
     public Collection<Identifiable<?>> getIdentifiables() {
         return index.getAll();
@@ -15,15 +15,54 @@ import java.io.PrintStream;
 import java.util.*;
 
 /**
+ * Index of the identifiables of a network, by id, alias and class.
+ * <p>
+ * Each identifiable is given a handle when added, a dense int which stays valid until the identifiable is removed
+ * from the index, and which may then be given to another identifiable. The identifiables are stored in an array
+ * indexed by handle, the ids and aliases are mapped to handles by {@link IdDictionary}, and all the identifiables as
+ * well as the identifiables of each class are stored as arrays of handles in insertion order, which is the iteration
+ * order of {@link #getAll()} and {@link #getAll(Class)}.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 class NetworkIndex {
 
-    private final Map<String, Identifiable<?>> objectsById = new HashMap<>();
-    private final Map<String, String> idByAlias = new HashMap<>();
+    static final int NO_HANDLE = IdDictionary.NO_HANDLE;
 
-    private final Map<Class<? extends Identifiable>, Set<Identifiable<?>>> objectsByClass = new HashMap<>();
+    private static final int MIN_CAPACITY = 16;
+
+    private final IdDictionary handleById = new IdDictionary();
+    private final IdDictionary handleByAlias = new IdDictionary();
+
+    private Identifiable<?>[] objectsByHandle = new Identifiable<?>[MIN_CAPACITY];
+
+    /**
+     * Position of the handles in the array of all the handles.
+     */
+    private int[] positionByHandle = new int[MIN_CAPACITY];
+
+    /**
+     * Position of the handles in the array of handles of their class.
+     */
+    private int[] classPositionByHandle = new int[MIN_CAPACITY];
+
+    private int handleCount = 0;
+
+    /**
+     * Handles of the removed identifiables, given to the next added ones.
+     */
+    private int[] freeHandles = new int[MIN_CAPACITY];
+
+    private int freeHandleCount = 0;
+
+    private final HandleSet allObjects = new HandleSet(false);
+
+    private final Map<Class<? extends Identifiable>, HandleSet> objectsByClass = new HashMap<>();
+
+    /**
+     * Property keys and alias types, shared by all the identifiables of the network.
+     */
+    private final Map<String, String> internedStrings = new HashMap<>();
 
     static void checkId(String id) {
         if (id == null || id.isEmpty()) {
@@ -35,25 +74,51 @@ class NetworkIndex {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Get the instance of a property key or an alias type shared by the identifiables of the network, as the same
+     * keys and types are used by many identifiables.
+     */
+    String intern(String s) {
+        return internedStrings.computeIfAbsent(s, k -> k);
+    }
+
     void checkAndAdd(Identifiable<?> obj) {
         checkId(obj.getId());
-        if (objectsById.containsKey(obj.getId())) {
+        if (handleById.containsKey(obj.getId())) {
             throw new PowsyblException("Object (" + obj.getClass().getName()
                     + ") '" + obj.getId() + "' already exists");
         }
-        objectsById.put(obj.getId(), obj);
+        int handle = newHandle();
+        objectsByHandle[handle] = obj;
+        handleById.put(obj.getId(), handle);
         obj.getAliases().forEach(alias -> addAlias(obj, alias));
 
-        Set<Identifiable<?>> all = objectsByClass.get(obj.getClass());
-        if (all == null) {
-            all = new LinkedHashSet<>();
-            objectsByClass.put(obj.getClass(), all);
+        allObjects.add(handle);
+        objectsByClass.computeIfAbsent(obj.getClass(), k -> new HandleSet(true)).add(handle);
+    }
+
+    private int newHandle() {
+        if (freeHandleCount > 0) {
+            return freeHandles[--freeHandleCount];
         }
-        all.add(obj);
+        if (handleCount == objectsByHandle.length) {
+            objectsByHandle = Arrays.copyOf(objectsByHandle, 2 * handleCount);
+            positionByHandle = Arrays.copyOf(positionByHandle, 2 * handleCount);
+            classPositionByHandle = Arrays.copyOf(classPositionByHandle, 2 * handleCount);
+        }
+        return handleCount++;
+    }
+
+    private void freeHandle(int handle) {
+        objectsByHandle[handle] = null;
+        if (freeHandleCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, 2 * freeHandleCount);
+        }
+        freeHandles[freeHandleCount++] = handle;
     }
 
     boolean addAlias(Identifiable<?> obj, String alias) {
-        Identifiable<?> aliasConflict = objectsById.get(alias);
+        Identifiable<?> aliasConflict = get(handleById.get(alias));
         if (aliasConflict != null) {
             if (aliasConflict.equals(obj)) {
                 // Silently ignore affecting the objects id to its own aliases
@@ -66,9 +131,8 @@ class NetworkIndex {
                     aliasConflict.getId());
             throw new PowsyblException(message);
         }
-        String idForAlias = idByAlias.get(alias);
-        if (idForAlias != null) {
-            aliasConflict = objectsById.get(idForAlias);
+        aliasConflict = get(handleByAlias.get(alias));
+        if (aliasConflict != null) {
             if (aliasConflict.equals(obj)) {
                 // Silently ignore affecting the same alias twice to an object
                 return false;
@@ -80,25 +144,43 @@ class NetworkIndex {
                     aliasConflict.getId());
             throw new PowsyblException(message);
         }
-        idByAlias.put(alias, obj.getId());
+        handleByAlias.put(alias, handleById.get(obj.getId()));
         return true;
     }
 
     public <I extends Identifiable<I>> void removeAlias(Identifiable<?> obj, String alias) {
-        String idForAlias = idByAlias.get(alias);
-        if (idForAlias == null) {
+        Identifiable<?> objForAlias = get(handleByAlias.get(alias));
+        if (objForAlias == null) {
             throw new PowsyblException(String.format("No alias '%s' found in the network", alias));
-        } else if (!idForAlias.equals(obj.getId())) {
+        } else if (!objForAlias.getId().equals(obj.getId())) {
             throw new PowsyblException(String.format("Alias '%s' do not correspond to object '%s'", alias, obj.getId()));
         } else {
-            idByAlias.remove(alias);
+            handleByAlias.remove(alias);
         }
     }
 
+    /**
+     * Get the handle of an identifiable.
+     *
+     * @return the handle of the identifiable with the given id or alias, or {@link #NO_HANDLE} if not found
+     */
+    int getHandle(String idOrAlias) {
+        checkId(idOrAlias);
+        int handle = handleByAlias.get(idOrAlias);
+        return handle != NO_HANDLE ? handle : handleById.get(idOrAlias);
+    }
+
+    /**
+     * Get an identifiable by handle.
+     *
+     * @return the identifiable of the handle, or <code>null</code> if no identifiable has this handle
+     */
+    Identifiable<?> get(int handle) {
+        return handle >= 0 && handle < handleCount ? objectsByHandle[handle] : null;
+    }
+
     Identifiable get(String idOrAlias) {
-        String id = idByAlias.getOrDefault(idOrAlias, idOrAlias);
-        checkId(id);
-        return objectsById.get(id);
+        return get(getHandle(idOrAlias));
     }
 
     <T extends Identifiable> T get(String id, Class<T> clazz) {
@@ -111,39 +193,50 @@ class NetworkIndex {
     }
 
     Collection<Identifiable<?>> getAll() {
-        return objectsById.values();
+        return allObjects;
     }
 
     <T extends Identifiable> Set<T> getAll(Class<T> clazz) {
-        Set<Identifiable<?>> all = objectsByClass.get(clazz);
-        if (all == null) {
+        Set<Identifiable<?>> objects = objectsByClass.get(clazz);
+        if (objects == null) {
             return Collections.emptySet();
         }
-        return (Set<T>) all;
+        return (Set<T>) objects;
     }
 
     boolean contains(String id) {
-        String idFromPotentialAlias = idByAlias.getOrDefault(id, id);
-        checkId(idFromPotentialAlias);
-        return objectsById.containsKey(idFromPotentialAlias);
+        return getHandle(id) != NO_HANDLE;
     }
 
     void remove(Identifiable obj) {
         checkId(obj.getId());
-        Identifiable old = objectsById.remove(obj.getId());
-        if (old == null || old != obj) {
+        int handle = handleById.get(obj.getId());
+        if (handle == NO_HANDLE || objectsByHandle[handle] != obj) {
             throw new PowsyblException("Object (" + obj.getClass().getName()
                     + ") '" + obj.getId() + "' not found");
         }
-        obj.getAliases().forEach(idByAlias::remove);
-        Set<Identifiable<?>> all = objectsByClass.get(obj.getClass());
-        if (all != null) {
-            all.remove(obj);
+        handleById.remove(obj.getId());
+        for (String alias : (Set<String>) obj.getAliases()) {
+            handleByAlias.remove(alias);
         }
+        allObjects.remove(handle);
+        HandleSet objects = objectsByClass.get(obj.getClass());
+        if (objects != null) {
+            objects.remove(handle);
+        }
+        freeHandle(handle);
     }
 
     void clean() {
-        objectsById.clear();
+        handleById.clear();
+        handleByAlias.clear();
+        objectsByHandle = new Identifiable<?>[MIN_CAPACITY];
+        positionByHandle = new int[MIN_CAPACITY];
+        classPositionByHandle = new int[MIN_CAPACITY];
+        handleCount = 0;
+        freeHandles = new int[MIN_CAPACITY];
+        freeHandleCount = 0;
+        allObjects.reset();
         objectsByClass.clear();
     }
 
@@ -154,16 +247,16 @@ class NetworkIndex {
      */
     Multimap<Class<? extends Identifiable>, String> intersection(NetworkIndex other) {
         Multimap<Class<? extends Identifiable>, String> intersection = HashMultimap.create();
-        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : other.objectsByClass.entrySet()) {
+        for (Map.Entry<Class<? extends Identifiable>, HandleSet> entry : other.objectsByClass.entrySet()) {
             Class<? extends Identifiable> clazz = entry.getKey();
             Set<Identifiable<?>> objects = entry.getValue();
             for (Identifiable obj : objects) {
-                if (objectsById.containsKey(obj.getId()) || idByAlias.containsKey(obj.getId())) {
+                if (handleById.containsKey(obj.getId()) || handleByAlias.containsKey(obj.getId())) {
                     intersection.put(clazz, obj.getId());
                 }
                 Set<String> aliases = obj.getAliases();
                 for (String alias : aliases) {
-                    if (objectsById.containsKey(alias) || idByAlias.containsKey(alias)) {
+                    if (handleById.containsKey(alias) || handleByAlias.containsKey(alias)) {
                         intersection.put(clazz, alias);
                     }
                 }
@@ -178,18 +271,142 @@ class NetworkIndex {
      * @param other the index to merge
      */
     void merge(NetworkIndex other) {
-        for (Identifiable obj : other.objectsById.values()) {
+        for (Identifiable obj : other.getAll()) {
             checkAndAdd(obj);
         }
         other.clean();
     }
 
     void printForDebug(PrintStream out) {
-        for (Map.Entry<String, Identifiable<?>> entry : objectsById.entrySet()) {
-            out.println(entry.getKey() + " " + System.identityHashCode(entry.getValue()));
+        for (Identifiable<?> obj : allObjects) {
+            out.println(obj.getId() + " " + System.identityHashCode(obj));
         }
-        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : objectsByClass.entrySet()) {
+        for (Map.Entry<Class<? extends Identifiable>, HandleSet> entry : objectsByClass.entrySet()) {
             out.println(entry.getKey() + " " + entry.getValue().stream().map(System::identityHashCode).toList());
         }
     }
+
+    private boolean isIndexed(Object o) {
+        return o instanceof Identifiable<?> obj && obj.getId() != null && get(handleById.get(obj.getId())) == obj;
+    }
+
+    /**
+     * Read only set of identifiables, all of them or the ones of a class, in insertion order. The handles are stored in
+     * an array, the removed ones being replaced by {@link #NO_HANDLE} until the array is compacted. The iterators are
+     * fail-fast: they only fail on the modifications of this set, so that identifiables of another class may be added
+     * or removed while iterating over a class.
+     */
+    private final class HandleSet extends AbstractSet<Identifiable<?>> {
+
+        private static final int MIN_COMPACTED_LENGTH = 16;
+
+        private final boolean classSet;
+
+        private int[] handles = new int[4];
+
+        private int end = 0;
+
+        private int size = 0;
+
+        private int modCount = 0;
+
+        HandleSet(boolean classSet) {
+            this.classSet = classSet;
+        }
+
+        private int[] positions() {
+            return classSet ? classPositionByHandle : positionByHandle;
+        }
+
+        void add(int handle) {
+            if (end == handles.length) {
+                if (2 * size < end) {
+                    compact();
+                } else {
+                    handles = Arrays.copyOf(handles, 2 * end);
+                }
+            }
+            positions()[handle] = end;
+            handles[end++] = handle;
+            size++;
+            modCount++;
+        }
+
+        void remove(int handle) {
+            handles[positions()[handle]] = NO_HANDLE;
+            size--;
+            modCount++;
+            if (end > MIN_COMPACTED_LENGTH && 4 * size < end) {
+                compact();
+            }
+        }
+
+        void reset() {
+            handles = new int[4];
+            end = 0;
+            size = 0;
+            modCount++;
+        }
+
+        private void compact() {
+            int[] positions = positions();
+            int j = 0;
+            for (int i = 0; i < end; i++) {
+                int handle = handles[i];
+                if (handle != NO_HANDLE) {
+                    handles[j] = handle;
+                    positions[handle] = j;
+                    j++;
+                }
+            }
+            Arrays.fill(handles, j, end, NO_HANDLE);
+            end = j;
+        }
+
+        private int skipRemoved(int position) {
+            int p = position;
+            while (p < end && handles[p] == NO_HANDLE) {
+                p++;
+            }
+            return p;
+        }
+
+        @Override
+        public Iterator<Identifiable<?>> iterator() {
+            return new Iterator<>() {
+
+                private final int expectedModCount = modCount;
+
+                private int next = skipRemoved(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < end;
+                }
+
+                @Override
+                public Identifiable<?> next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Identifiable<?> obj = objectsByHandle[handles[next]];
+                    next = skipRemoved(next + 1);
+                    return obj;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return isIndexed(o) && (!classSet || objectsByClass.get(o.getClass()) == this);
+        }
+    }
 }
@@ -594,6 +594,18 @@ public class SubnetworkImpl extends AbstractNetwork {
         return contains(i) ? i : null;
     }
 
+    @Override
+    public int getIdentifiableHandle(String id) {
+        int handle = getNetwork().getIdentifiableHandle(id);
+        return contains(getNetwork().getIdentifiableByHandle(handle)) ? handle : -1;
+    }
+
+    @Override
+    public Identifiable<?> getIdentifiableByHandle(int handle) {
+        Identifiable<?> i = getNetwork().getIdentifiableByHandle(handle);
+        return contains(i) ? i : null;
+    }
+
     @Override
     public Collection<Identifiable<?>> getIdentifiables() {
         return getNetwork().getIdentifiables().stream().filter(this::contains).toList();
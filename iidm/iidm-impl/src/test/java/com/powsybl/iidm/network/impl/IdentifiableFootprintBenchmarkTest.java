@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EuropeanLvTestFeederFactory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerWithExtensionsFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Heap footprint of the identifiables, measured as the heap retained by networks after garbage collection.
+ * <p>
+ * Only run when the {@code powsybl.benchmarks} system property is {@code true}, the size of the synthetic network
+ * being given by the {@code powsybl.benchmarks.substation-count} system property.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class IdentifiableFootprintBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdentifiableFootprintBenchmarkTest.class);
+
+    private static final int COPY_COUNT = 100;
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void measure(String name, int copyCount, Supplier<Network> networkSupplier) {
+        List<Network> networks = new ArrayList<>(copyCount);
+        long usedMemoryBefore = getUsedMemory();
+        for (int i = 0; i < copyCount; i++) {
+            networks.add(networkSupplier.get());
+        }
+        long retainedMemory = getUsedMemory() - usedMemoryBefore;
+        int identifiableCount = networks.stream().mapToInt(network -> network.getIdentifiables().size()).sum();
+        assertTrue(identifiableCount > 0);
+        LOGGER.info("{}: {} identifiables, {} bytes retained, {} bytes per identifiable",
+                name, identifiableCount, retainedMemory, retainedMemory / identifiableCount);
+    }
+
+    private static Network createSyntheticNetwork(int substationCount, boolean withProperties) {
+        Network network = Network.create("synthetic", "test");
+        VoltageLevel previousVoltageLevel = null;
+        for (int i = 0; i < substationCount; i++) {
+            Substation substation = network.newSubstation()
+                    .setId("S" + i)
+                    .add();
+            VoltageLevel voltageLevel = substation.newVoltageLevel()
+                    .setId("VL" + i)
+                    .setNominalV(400)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER)
+                    .add();
+            Bus bus = voltageLevel.getBusBreakerView().newBus()
+                    .setId("B" + i)
+                    .add();
+            Load load = voltageLevel.newLoad()
+                    .setId("LOAD" + i)
+                    .setBus(bus.getId())
+                    .setConnectableBus(bus.getId())
+                    .setP0(10)
+                    .setQ0(1)
+                    .add();
+            if (withProperties) {
+                load.setProperty("type", "residential");
+            }
+            if (previousVoltageLevel != null) {
+                network.newLine()
+                        .setId("LINE" + i)
+                        .setVoltageLevel1(previousVoltageLevel.getId())
+                        .setBus1("B" + (i - 1))
+                        .setConnectableBus1("B" + (i - 1))
+                        .setVoltageLevel2(voltageLevel.getId())
+                        .setBus2(bus.getId())
+                        .setConnectableBus2(bus.getId())
+                        .setR(1)
+                        .setX(10)
+                        .setG1(0)
+                        .setB1(0)
+                        .setG2(0)
+                        .setB2(0)
+                        .add();
+            }
+            previousVoltageLevel = voltageLevel;
+        }
+        return network;
+    }
+
+    @Test
+    void testFactories() {
+        measure("EuropeanLvTestFeeder", COPY_COUNT, EuropeanLvTestFeederFactory::create);
+        measure("FourSubstationsNodeBreakerWithExtensions", COPY_COUNT, FourSubstationsNodeBreakerWithExtensionsFactory::create);
+    }
+
+    @Test
+    void testSyntheticNetwork() {
+        int substationCount = Integer.getInteger("powsybl.benchmarks.substation-count", 100_000);
+        measure("Synthetic", 1, () -> createSyntheticNetwork(substationCount, false));
+        measure("Synthetic with properties", 1, () -> createSyntheticNetwork(substationCount, true));
+    }
+}
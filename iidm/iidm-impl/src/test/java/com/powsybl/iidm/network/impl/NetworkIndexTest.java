@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class NetworkIndexTest {
+
+    @Test
+    void testIdDictionary() {
+        IdDictionary dictionary = new IdDictionary();
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(IdDictionary.NO_HANDLE, dictionary.put("id" + i, i));
+            expected.put("id" + i, i);
+        }
+        // removing creates tombstones which must not break the lookups of the other ids
+        for (int i = 0; i < 1000; i += 3) {
+            assertEquals(i, dictionary.remove("id" + i));
+            expected.remove("id" + i);
+        }
+        assertEquals(IdDictionary.NO_HANDLE, dictionary.remove("id0"));
+        for (int i = 1000; i < 2000; i++) {
+            dictionary.put("id" + i, i);
+            expected.put("id" + i, i);
+        }
+        assertEquals(1001, dictionary.put("id1001", 5));
+        expected.put("id1001", 5);
+        assertEquals(expected.size(), dictionary.size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(expected.getOrDefault("id" + i, IdDictionary.NO_HANDLE), dictionary.get("id" + i));
+        }
+        dictionary.clear();
+        assertEquals(0, dictionary.size());
+        assertFalse(dictionary.containsKey("id1"));
+    }
+
+    @Test
+    void testHandles() {
+        Network network = EurostagTutorialExample1Factory.create();
+        NetworkIndex index = ((NetworkImpl) network).getIndex();
+        Load load = network.getLoad("LOAD");
+        load.addAlias("LOAD_ALIAS");
+
+        int handle = index.getHandle("LOAD");
+        assertTrue(handle >= 0);
+        assertEquals(handle, index.getHandle("LOAD_ALIAS"));
+        assertSame(load, index.get(handle));
+        assertEquals(NetworkIndex.NO_HANDLE, index.getHandle("UNKNOWN"));
+        assertNull(index.get(NetworkIndex.NO_HANDLE));
+        assertNull(index.get(Integer.MAX_VALUE));
+        assertEquals(handle, network.getIdentifiableHandle("LOAD_ALIAS"));
+        assertSame(load, network.getIdentifiableByHandle(handle));
+        assertEquals(-1, network.getIdentifiableHandle("UNKNOWN"));
+        assertNull(network.getIdentifiableByHandle(-1));
+
+        // handles are dense and identify every identifiable
+        Set<Integer> handles = new HashSet<>();
+        for (Identifiable<?> identifiable : network.getIdentifiables()) {
+            int h = index.getHandle(identifiable.getId());
+            assertSame(identifiable, index.get(h));
+            handles.add(h);
+        }
+        assertEquals(network.getIdentifiables().size(), handles.size());
+        assertTrue(handles.stream().allMatch(h -> h < handles.size()));
+
+        // handles of removed identifiables are given to the next added ones
+        load.remove();
+        assertNull(index.get(handle));
+        assertEquals(NetworkIndex.NO_HANDLE, index.getHandle("LOAD"));
+        assertEquals(NetworkIndex.NO_HANDLE, index.getHandle("LOAD_ALIAS"));
+        Load newLoad = network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD2")
+                .setBus("NLOAD")
+                .setP0(1)
+                .setQ0(0)
+                .add();
+        assertEquals(handle, index.getHandle("LOAD2"));
+        assertSame(newLoad, index.get(handle));
+
+        // handles do not grow over add and remove cycles
+        for (int i = 0; i < 100; i++) {
+            network.getLoad("LOAD2").remove();
+            network.getVoltageLevel("VLLOAD").newLoad()
+                    .setId("LOAD2")
+                    .setBus("NLOAD")
+                    .setP0(1)
+                    .setQ0(0)
+                    .add();
+        }
+        assertEquals(handle, index.getHandle("LOAD2"));
+        assertEquals(List.of("LOAD2"), network.getLoadStream().map(Identifiable::getId).toList());
+    }
+
+    @Test
+    void testViews() {
+        Network network = EurostagTutorialExample1Factory.create();
+        NetworkIndex index = ((NetworkImpl) network).getIndex();
+        int count = network.getIdentifiables().size();
+        Generator generator = network.getGenerator("GEN");
+        assertTrue(network.getIdentifiables().contains(generator));
+        assertTrue(index.getAll(GeneratorImpl.class).contains(generator));
+        assertFalse(index.getAll(LoadImpl.class).contains(generator));
+
+        // insertion order of the identifiables of a class
+        VoltageLevel vl = network.getVoltageLevel("VLGEN");
+        List<String> expectedIds = new ArrayList<>();
+        expectedIds.add("GEN");
+        for (int i = 0; i < 100; i++) {
+            String id = "G" + i;
+            vl.newGenerator()
+                    .setId(id)
+                    .setBus("NGEN")
+                    .setMinP(0)
+                    .setMaxP(100)
+                    .setTargetP(10)
+                    .setVoltageRegulatorOn(false)
+                    .setTargetQ(0)
+                    .add();
+            expectedIds.add(id);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            network.getGenerator("G" + i).remove();
+            expectedIds.remove("G" + i);
+        }
+        assertEquals(expectedIds, index.getAll(GeneratorImpl.class).stream().map(Identifiable::getId).toList());
+        assertEquals(expectedIds.size(), index.getAll(GeneratorImpl.class).size());
+        assertEquals(count + 50, network.getIdentifiables().size());
+        assertEquals(count + 50, network.getIdentifiables().stream().count());
+        assertFalse(network.getIdentifiables().contains(generator.getTerminal()));
+
+        // views are fail-fast and read only
+        Iterator<Identifiable<?>> it = network.getIdentifiables().iterator();
+        it.next();
+        network.getGenerator("G1").remove();
+        assertThrows(ConcurrentModificationException.class, it::next);
+        Collection<Identifiable<?>> identifiables = network.getIdentifiables();
+        assertThrows(UnsupportedOperationException.class, () -> identifiables.remove(generator));
+    }
+
+    @Test
+    void testSubnetworkHandles() {
+        Network n1 = EurostagTutorialExample1Factory.create();
+        Network n2 = Network.create("n2", "test");
+        n2.newSubstation().setId("S2").add();
+        Network merged = Network.merge(n1, n2);
+        Network subnetwork1 = merged.getSubnetwork(n1.getId());
+        int handle = merged.getIdentifiableHandle("S2");
+        assertSame(merged.getSubstation("S2"), merged.getIdentifiableByHandle(handle));
+        assertEquals(-1, subnetwork1.getIdentifiableHandle("S2"));
+        assertNull(subnetwork1.getIdentifiableByHandle(handle));
+        int loadHandle = subnetwork1.getIdentifiableHandle("LOAD");
+        assertSame(merged.getLoad("LOAD"), subnetwork1.getIdentifiableByHandle(loadHandle));
+    }
+
+    @Test
+    void testIdentifiablesOrder() {
+        // the identifiables are iterated in insertion order, even when handles of removed identifiables are reused
+        Network network = Network.create("test", "test");
+        Map<String, String> expectedIds = new LinkedHashMap<>();
+        expectedIds.put("test", "test");
+        for (int i = 0; i < 50; i++) {
+            network.newSubstation().setId("S" + i).add();
+            expectedIds.put("S" + i, "S" + i);
+        }
+        for (int i = 0; i < 50; i += 3) {
+            network.getSubstation("S" + i).remove();
+            expectedIds.remove("S" + i);
+        }
+        for (int i = 50; i < 60; i++) {
+            network.newSubstation().setId("S" + i).add();
+            expectedIds.put("S" + i, "S" + i);
+        }
+        assertEquals(List.copyOf(expectedIds.keySet()), network.getIdentifiables().stream().map(Identifiable::getId).toList());
+    }
+
+    @Test
+    void testModifyOtherClassWhileIterating() {
+        Network network = EurostagTutorialExample1Factory.create();
+
+        // adding a substation while iterating on the voltage levels
+        List<String> voltageLevelIds = new ArrayList<>();
+        int i = 0;
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            network.newSubstation().setId("S" + i++).add();
+            voltageLevelIds.add(vl.getId());
+        }
+        assertEquals(List.of("VLGEN", "VLHV1", "VLHV2", "VLLOAD"), voltageLevelIds);
+
+        // adding a load while iterating on the lines
+        List<String> lineIds = new ArrayList<>();
+        for (Line line : network.getLines()) {
+            network.getVoltageLevel("VLLOAD").newLoad()
+                    .setId("LOAD_" + line.getId())
+                    .setBus("NLOAD")
+                    .setP0(1)
+                    .setQ0(0)
+                    .add();
+            lineIds.add(line.getId());
+        }
+        assertEquals(List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), lineIds);
+        assertEquals(3, network.getLoadCount());
+
+        // removing an identifiable of the iterated class is still detected
+        Iterator<Line> it = network.getLines().iterator();
+        it.next();
+        network.getLine("NHV1_NHV2_2").remove();
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+}
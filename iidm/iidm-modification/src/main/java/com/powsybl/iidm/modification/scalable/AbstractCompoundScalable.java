@@ -88,6 +88,10 @@ abstract class AbstractCompoundScalable extends AbstractScalable {
      * @return the value of scaling asked bounded by the minValue and maxValue, according to the scalingConvention.
      */
     protected double getBoundedVariation(double variationAsked, double currentGlobalPower, ScalingConvention scalingConvention) {
+        return getBoundedVariation(variationAsked, currentGlobalPower, scalingConvention, minValue, maxValue);
+    }
+
+    static double getBoundedVariation(double variationAsked, double currentGlobalPower, ScalingConvention scalingConvention, double minValue, double maxValue) {
         double minWithConvention = scalingConvention == ScalingConvention.GENERATOR ? minValue : -maxValue;
         double maxWithConvention = scalingConvention == ScalingConvention.GENERATOR ? maxValue : -minValue;
         return Math.min(maxWithConvention - currentGlobalPower, Math.max(minWithConvention - currentGlobalPower, variationAsked));
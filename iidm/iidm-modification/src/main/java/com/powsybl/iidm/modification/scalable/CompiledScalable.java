@@ -0,0 +1,597 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.modification.scalable;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.modification.ConnectGenerator;
+import com.powsybl.iidm.network.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static com.powsybl.iidm.modification.scalable.Scalable.ScalingConvention.GENERATOR;
+import static com.powsybl.iidm.modification.scalable.Scalable.ScalingConvention.LOAD;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.RESPECT_OF_DISTRIBUTION;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.RESPECT_OF_VOLUME_ASKED;
+
+/**
+ * A {@link Scalable} compiled for a network, to scale it many times.
+ * <p>
+ * The injections of the scalable are looked up once in the network when it is compiled, and their active power
+ * setpoints, limits and connection status are kept in arrays, so that a scaling does not look up the injections by
+ * their id, nor read and write the network for each intermediate result of the distribution. The setpoints are
+ * written to the network at the end of each scaling, for the modified injections only. The result of a scaling is the
+ * same as the one of the scalable.
+ * <p>
+ * Generator, load and dangling line scalables, scalables created from an injection or its id, and proportional, stack
+ * and up-down scalables of them can be compiled. The setpoints are read from the working variant when the scalable is
+ * compiled: if they are modified by something else than the compiled scalable, {@link #refresh()} has to be called
+ * before scaling again.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public final class CompiledScalable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledScalable.class);
+
+    private enum InjectionType {
+        GENERATOR,
+        LOAD,
+        DANGLING_LINE
+    }
+
+    private final Network network;
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private final List<Injection<?>> injections = new ArrayList<>();
+
+    private final List<InjectionType> types = new ArrayList<>();
+
+    // active power setpoint: target P of the generators, P0 of the loads and dangling lines
+    private double[] values;
+
+    private double[] q0s;
+
+    private double[] minPs;
+
+    private double[] maxPs;
+
+    private boolean[] connected;
+
+    private boolean[] modified;
+
+    private boolean[] q0Modified;
+
+    private int[] modifiedIndexes;
+
+    private int modifiedCount = 0;
+
+    private final AbstractNode root;
+
+    private CompiledScalable(Scalable scalable, Network network) {
+        this.network = network;
+        this.root = compile(scalable);
+        int size = injections.size();
+        values = new double[size];
+        q0s = new double[size];
+        minPs = new double[size];
+        maxPs = new double[size];
+        connected = new boolean[size];
+        modified = new boolean[size];
+        q0Modified = new boolean[size];
+        modifiedIndexes = new int[size];
+        refresh();
+    }
+
+    public static CompiledScalable compile(Scalable scalable, Network network) {
+        Objects.requireNonNull(scalable);
+        Objects.requireNonNull(network);
+        return new CompiledScalable(scalable, network);
+    }
+
+    /**
+     * Read again the setpoints, limits and connection status of the injections from the working variant.
+     */
+    public void refresh() {
+        for (int i = 0; i < injections.size(); i++) {
+            Injection<?> injection = injections.get(i);
+            switch (types.get(i)) {
+                case GENERATOR -> {
+                    Generator generator = (Generator) injection;
+                    values[i] = generator.getTargetP();
+                    minPs[i] = generator.getMinP();
+                    maxPs[i] = generator.getMaxP();
+                }
+                case LOAD -> {
+                    Load load = (Load) injection;
+                    values[i] = load.getP0();
+                    q0s[i] = load.getQ0();
+                }
+                case DANGLING_LINE -> values[i] = ((DanglingLine) injection).getP0();
+            }
+            connected[i] = injection.getTerminal().isConnected();
+        }
+    }
+
+    public double scale(double asked) {
+        return scale(asked, new ScalingParameters());
+    }
+
+    /**
+     * Scale the network as {@link Scalable#scale(Network, double, ScalingParameters)}.
+     *
+     * @return the actual value of the scalable active power adjustment
+     */
+    public double scale(double asked, ScalingParameters parameters) {
+        Objects.requireNonNull(parameters);
+        try {
+            return root.scale(asked, parameters);
+        } finally {
+            write();
+        }
+    }
+
+    /**
+     * @see Scalable#getSteadyStatePower(Network, double, Scalable.ScalingConvention)
+     */
+    public double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention) {
+        Objects.requireNonNull(scalingConvention);
+        return root.getSteadyStatePower(asked, scalingConvention);
+    }
+
+    /**
+     * Write the modified setpoints to the network. The modifications are forgotten even if a setpoint is rejected by
+     * the network, so that the next scaling does not write them again: {@link #refresh()} has then to be called to read
+     * the setpoints of the network again.
+     */
+    private void write() {
+        try {
+            for (int k = 0; k < modifiedCount; k++) {
+                int i = modifiedIndexes[k];
+                Injection<?> injection = injections.get(i);
+                switch (types.get(i)) {
+                    case GENERATOR -> ((Generator) injection).setTargetP(values[i]);
+                    case LOAD -> {
+                        Load load = (Load) injection;
+                        load.setP0(values[i]);
+                        if (q0Modified[i]) {
+                            load.setQ0(q0s[i]);
+                        }
+                    }
+                    case DANGLING_LINE -> ((DanglingLine) injection).setP0(values[i]);
+                }
+            }
+        } finally {
+            for (int k = 0; k < modifiedCount; k++) {
+                int i = modifiedIndexes[k];
+                modified[i] = false;
+                q0Modified[i] = false;
+            }
+            modifiedCount = 0;
+        }
+    }
+
+    private void setValue(int i, double value) {
+        values[i] = value;
+        if (!modified[i]) {
+            modified[i] = true;
+            modifiedIndexes[modifiedCount++] = i;
+        }
+    }
+
+    private AbstractNode compile(Scalable scalable) {
+        if (scalable instanceof ProportionalScalable proportionalScalable) {
+            return new ProportionalNode(proportionalScalable);
+        } else if (scalable instanceof StackScalable stackScalable) {
+            return new StackNode(stackScalable);
+        } else if (scalable instanceof UpDownScalable upDownScalable) {
+            return new UpDownNode(upDownScalable);
+        } else if (scalable instanceof GeneratorScalable generatorScalable) {
+            return newInjectionNode(network.getGenerator(generatorScalable.id), InjectionType.GENERATOR, generatorScalable);
+        } else if (scalable instanceof LoadScalable loadScalable) {
+            return newInjectionNode(network.getLoad(loadScalable.id), InjectionType.LOAD, loadScalable);
+        } else if (scalable instanceof DanglingLineScalable danglingLineScalable) {
+            return newInjectionNode(network.getDanglingLine(danglingLineScalable.id), InjectionType.DANGLING_LINE, danglingLineScalable);
+        } else if (scalable instanceof ScalableAdapter scalableAdapter) {
+            Identifiable<?> identifiable = network.getIdentifiable(scalableAdapter.getId());
+            if (identifiable instanceof Generator generator) {
+                return newInjectionNode(generator, InjectionType.GENERATOR, new GeneratorScalable(generator.getId()), scalableAdapter);
+            } else if (identifiable instanceof Load load) {
+                return newInjectionNode(load, InjectionType.LOAD, new LoadScalable(load.getId()), scalableAdapter);
+            } else if (identifiable instanceof DanglingLine danglingLine) {
+                return newInjectionNode(danglingLine, InjectionType.DANGLING_LINE, new DanglingLineScalable(danglingLine.getId()), scalableAdapter);
+            }
+            throw new PowsyblException("Unable to create a scalable from " + (identifiable != null ? identifiable.getClass() : scalableAdapter.getId()));
+        }
+        throw new PowsyblException("Unable to compile a scalable of class " + scalable.getClass());
+    }
+
+    private AbstractNode newInjectionNode(Injection<?> injection, InjectionType type, AbstractInjectionScalable scalable) {
+        return newInjectionNode(injection, type, scalable, scalable);
+    }
+
+    private AbstractNode newInjectionNode(Injection<?> injection, InjectionType type, AbstractInjectionScalable scalable, Scalable source) {
+        if (injection == null) {
+            LOGGER.warn("Injection {} not found, not scaled", scalable.id);
+            return new MissingInjectionNode(scalable.id, source);
+        }
+        Integer index = indexes.get(injection.getId());
+        if (index == null) {
+            index = injections.size();
+            indexes.put(injection.getId(), index);
+            injections.add(injection);
+            types.add(type);
+        }
+        return new InjectionNode(index, type, scalable.minValue, scalable.maxValue, source);
+    }
+
+    private abstract static class AbstractNode {
+
+        protected final Scalable source;
+
+        protected AbstractNode(Scalable source) {
+            this.source = source;
+        }
+
+        abstract double scale(double asked, ScalingParameters parameters);
+
+        abstract double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention);
+
+        /**
+         * @see GeneratorScalable#availablePowerInPercentageOfAsked(Network, double, double, Scalable.ScalingConvention)
+         */
+        double availablePowerInPercentageOfAsked(double asked, double scalingPercentage, Scalable.ScalingConvention scalingConvention) {
+            throw new PowsyblException(String.format("RESPECT_OF_DISTRIBUTION mode can only be used with ScalableAdapter or GeneratorScalable, not %s",
+                source.getClass()));
+        }
+    }
+
+    private static final class MissingInjectionNode extends AbstractNode {
+
+        private final String id;
+
+        private MissingInjectionNode(String id, Scalable source) {
+            super(source);
+            this.id = id;
+        }
+
+        @Override
+        double scale(double asked, ScalingParameters parameters) {
+            return 0;
+        }
+
+        @Override
+        double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention) {
+            return 0.0;
+        }
+
+        @Override
+        double availablePowerInPercentageOfAsked(double asked, double scalingPercentage, Scalable.ScalingConvention scalingConvention) {
+            if (source instanceof GeneratorScalable) {
+                throw new PowsyblException("Generator '" + id + "' not found");
+            }
+            return super.availablePowerInPercentageOfAsked(asked, scalingPercentage, scalingConvention);
+        }
+    }
+
+    /**
+     * Injection scaled as by {@link GeneratorScalable}, {@link LoadScalable} or {@link DanglingLineScalable}.
+     */
+    private final class InjectionNode extends AbstractNode {
+
+        private final int index;
+
+        private final InjectionType type;
+
+        private final double minValue;
+
+        private final double maxValue;
+
+        private InjectionNode(int index, InjectionType type, double minValue, double maxValue, Scalable source) {
+            super(source);
+            this.index = index;
+            this.type = type;
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+        }
+
+        private void connect() {
+            Injection<?> injection = injections.get(index);
+            if (type == InjectionType.GENERATOR) {
+                new ConnectGenerator(injection.getId()).apply(network);
+            } else {
+                injection.getTerminal().connect();
+            }
+            connected[index] = injection.getTerminal().isConnected();
+        }
+
+        @Override
+        double scale(double asked, ScalingParameters parameters) {
+            if (!connected[index]) {
+                if (parameters.isReconnect()) {
+                    connect();
+                } else {
+                    return 0.;
+                }
+            }
+            return type == InjectionType.GENERATOR ? scaleGenerator(asked, parameters) : scaleLoad(asked, parameters);
+        }
+
+        private double scaleGenerator(double asked, ScalingParameters parameters) {
+            double oldTargetP = values[index];
+            double minimumTargetP = Math.max(minPs[index], minValue);
+            double maximumTargetP = Math.min(maxPs[index], maxValue);
+            if (!parameters.isAllowsGeneratorOutOfActivePowerLimits() && (oldTargetP < minimumTargetP || oldTargetP > maximumTargetP)) {
+                LOGGER.error("Error scaling generator {}: Initial P is not in the range [Pmin, Pmax], skipped", injections.get(index).getId());
+                return 0.;
+            }
+
+            double availableUp = maximumTargetP - oldTargetP;
+            double availableDown = oldTargetP - minimumTargetP;
+
+            double done;
+            if (parameters.getScalingConvention() == GENERATOR) {
+                done = asked > 0 ? Math.min(asked, availableUp) : -Math.min(-asked, availableDown);
+                setValue(index, oldTargetP + done);
+            } else {
+                done = asked > 0 ? Math.min(asked, availableDown) : -Math.min(-asked, availableUp);
+                setValue(index, oldTargetP - done);
+            }
+            return done;
+        }
+
+        private double scaleLoad(double asked, ScalingParameters parameters) {
+            double oldP0 = values[index];
+            if (oldP0 < minValue || oldP0 > maxValue) {
+                LOGGER.error("Error scaling {}: Initial P is not in the range [Pmin, Pmax]", injections.get(index).getId());
+                return 0.;
+            }
+
+            double availableDown = oldP0 - minValue;
+            double availableUp = maxValue - oldP0;
+
+            double done;
+            if (parameters.getScalingConvention() == LOAD) {
+                done = asked > 0 ? Math.min(asked, availableUp) : -Math.min(-asked, availableDown);
+                setValue(index, oldP0 + done);
+            } else {
+                done = asked > 0 ? Math.min(asked, availableDown) : -Math.min(-asked, availableUp);
+                setValue(index, oldP0 - done);
+            }
+
+            if (type == InjectionType.LOAD && parameters.isConstantPowerFactor()) {
+                q0s[index] = values[index] * q0s[index] / oldP0;
+                q0Modified[index] = true;
+            }
+            return done;
+        }
+
+        @Override
+        double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention) {
+            Scalable.ScalingConvention naturalConvention = type == InjectionType.GENERATOR ? GENERATOR : LOAD;
+            return scalingConvention == naturalConvention ? values[index] : -values[index];
+        }
+
+        @Override
+        double availablePowerInPercentageOfAsked(double asked, double scalingPercentage, Scalable.ScalingConvention scalingConvention) {
+            if (source instanceof ScalableAdapter && type != InjectionType.GENERATOR) {
+                throw new PowsyblException(String.format("RESPECT_OF_DISTRIBUTION mode can only be used with a Generator, not %s",
+                    injections.get(index).getClass()));
+            }
+            if (!(source instanceof ScalableAdapter) && !(source instanceof GeneratorScalable)) {
+                return super.availablePowerInPercentageOfAsked(asked, scalingPercentage, scalingConvention);
+            }
+
+            double askedPower = asked * scalingPercentage / 100;
+            if (scalingConvention == LOAD) {
+                askedPower = -askedPower;
+            }
+
+            if (askedPower >= 0) {
+                double availablePower = Math.min(maxPs[index], maxValue) - values[index];
+                return askedPower > availablePower ? availablePower / askedPower : 100.0;
+            } else {
+                double availablePower = Math.max(minPs[index], minValue) - values[index];
+                return askedPower < availablePower ? availablePower / askedPower : 100.0;
+            }
+        }
+    }
+
+    /**
+     * Scaled as {@link ProportionalScalable}.
+     */
+    private final class ProportionalNode extends AbstractNode {
+
+        private final AbstractNode[] children;
+
+        private final double[] percentages;
+
+        private final double[] iterationPercentages;
+
+        private final double minValue;
+
+        private final double maxValue;
+
+        private ProportionalNode(ProportionalScalable scalable) {
+            super(scalable);
+            List<ProportionalScalable.ScalablePercentage> scalablePercentages = scalable.getScalablePercentageList();
+            children = new AbstractNode[scalablePercentages.size()];
+            percentages = new double[scalablePercentages.size()];
+            iterationPercentages = new double[scalablePercentages.size()];
+            for (int i = 0; i < children.length; i++) {
+                children[i] = compile(scalablePercentages.get(i).getScalable());
+                percentages[i] = scalablePercentages.get(i).getPercentage();
+            }
+            minValue = scalable.minValue;
+            maxValue = scalable.maxValue;
+        }
+
+        @Override
+        double scale(double asked, ScalingParameters parameters) {
+            double currentGlobalPower = getSteadyStatePower(asked, parameters.getScalingConvention());
+            double variationAsked = Scalable.getVariationAsked(parameters, asked, currentGlobalPower);
+            double boundedVariation = AbstractCompoundScalable.getBoundedVariation(variationAsked, currentGlobalPower,
+                parameters.getScalingConvention(), minValue, maxValue);
+
+            if (parameters.getPriority() == RESPECT_OF_DISTRIBUTION) {
+                boundedVariation = resizeAskedForFixedDistribution(boundedVariation, parameters);
+            }
+
+            System.arraycopy(percentages, 0, iterationPercentages, 0, percentages.length);
+            if (parameters.getPriority() == RESPECT_OF_VOLUME_ASKED) {
+                return iterativeScale(boundedVariation, parameters);
+            } else {
+                return scaleIteration(boundedVariation, parameters);
+            }
+        }
+
+        private double resizeAskedForFixedDistribution(double asked, ScalingParameters parameters) {
+            double resizingPercentage = 1.0;
+            for (int i = 0; i < children.length; i++) {
+                resizingPercentage = Math.min(children[i].availablePowerInPercentageOfAsked(asked, percentages[i], parameters.getScalingConvention()),
+                    resizingPercentage);
+            }
+            return asked * resizingPercentage;
+        }
+
+        private double iterativeScale(double asked, ScalingParameters parameters) {
+            double done = 0;
+            while (Math.abs(asked - done) > ProportionalScalable.EPSILON && notSaturated()) {
+                checkIterationPercentages();
+                done += scaleIteration(asked - done, parameters);
+                updateIterationPercentages();
+            }
+            return done;
+        }
+
+        private double scaleIteration(double asked, ScalingParameters parameters) {
+            double done = 0;
+            for (int i = 0; i < children.length; i++) {
+                double askedOnScalable = iterationPercentages[i] / 100 * asked;
+                double doneOnScalable = children[i].scale(askedOnScalable, parameters);
+                if (Math.abs(doneOnScalable - askedOnScalable) > ProportionalScalable.EPSILON) {
+                    iterationPercentages[i] = 0;
+                }
+                done += doneOnScalable;
+            }
+            return done;
+        }
+
+        private boolean notSaturated() {
+            for (double iterationPercentage : iterationPercentages) {
+                if (iterationPercentage != 0.0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void checkIterationPercentages() {
+            // summed by a stream, as the proportional scalable, for the same rounding
+            double iterationPercentagesSum = Arrays.stream(iterationPercentages).sum();
+            if (Math.abs(100 - iterationPercentagesSum) > ProportionalScalable.EPSILON) {
+                throw new IllegalStateException(String.format("Error in proportional scalable ventilation. Sum of percentages must be equals to 100 (%.2f)", iterationPercentagesSum));
+            }
+        }
+
+        private void updateIterationPercentages() {
+            double unsaturatedPercentagesSum = Arrays.stream(iterationPercentages).filter(p -> p != 0.0).sum();
+            for (int i = 0; i < iterationPercentages.length; i++) {
+                if (iterationPercentages[i] != 0.0) {
+                    iterationPercentages[i] = iterationPercentages[i] / unsaturatedPercentagesSum * 100;
+                }
+            }
+        }
+
+        @Override
+        double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention) {
+            return Arrays.stream(children).mapToDouble(child -> child.getSteadyStatePower(asked, scalingConvention)).sum();
+        }
+    }
+
+    /**
+     * Scaled as {@link StackScalable}.
+     */
+    private final class StackNode extends AbstractNode {
+
+        private final AbstractNode[] children;
+
+        private final double minValue;
+
+        private final double maxValue;
+
+        private StackNode(StackScalable scalable) {
+            super(scalable);
+            children = scalable.getScalables().stream().map(CompiledScalable.this::compile).toArray(AbstractNode[]::new);
+            minValue = scalable.minValue;
+            maxValue = scalable.maxValue;
+        }
+
+        @Override
+        double scale(double asked, ScalingParameters parameters) {
+            double currentGlobalPower = getSteadyStatePower(asked, parameters.getScalingConvention());
+            double variationAsked = Scalable.getVariationAsked(parameters, asked, currentGlobalPower);
+            double boundedVariation = AbstractCompoundScalable.getBoundedVariation(variationAsked, currentGlobalPower,
+                parameters.getScalingConvention(), minValue, maxValue);
+
+            double done = 0;
+            double remaining = boundedVariation;
+            for (AbstractNode child : children) {
+                if (Math.abs(remaining) > StackScalable.EPSILON) {
+                    double v = child.scale(remaining, parameters);
+                    done += v;
+                    remaining -= v;
+                }
+            }
+            return done;
+        }
+
+        @Override
+        double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention) {
+            return Arrays.stream(children).mapToDouble(child -> child.getSteadyStatePower(asked, scalingConvention)).sum();
+        }
+    }
+
+    /**
+     * Scaled as {@link UpDownScalable}.
+     */
+    private final class UpDownNode extends AbstractNode {
+
+        private final AbstractNode up;
+
+        private final AbstractNode down;
+
+        private final double minValue;
+
+        private final double maxValue;
+
+        private UpDownNode(UpDownScalable scalable) {
+            super(scalable);
+            up = compile(scalable.getUpScalable());
+            down = compile(scalable.getDownScalable());
+            minValue = scalable.getMinValue();
+            maxValue = scalable.getMaxValue();
+        }
+
+        @Override
+        double scale(double asked, ScalingParameters parameters) {
+            double minWithConvention = parameters.getScalingConvention() == GENERATOR ? minValue : -maxValue;
+            double maxWithConvention = parameters.getScalingConvention() == GENERATOR ? maxValue : -minValue;
+            double boundedAsked = asked > 0 ?
+                Math.min(asked, maxWithConvention - getSteadyStatePower(asked, parameters.getScalingConvention())) :
+                Math.max(asked, minWithConvention - getSteadyStatePower(asked, parameters.getScalingConvention()));
+            return asked > 0 ? up.scale(boundedAsked, parameters) : down.scale(boundedAsked, parameters);
+        }
+
+        @Override
+        double getSteadyStatePower(double asked, Scalable.ScalingConvention scalingConvention) {
+            return asked > 0 ? up.getSteadyStatePower(asked, scalingConvention) : down.getSteadyStatePower(asked, scalingConvention);
+        }
+    }
+}
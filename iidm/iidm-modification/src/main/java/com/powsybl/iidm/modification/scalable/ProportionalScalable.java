@@ -23,7 +23,7 @@ import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public class ProportionalScalable extends AbstractCompoundScalable {
-    private static final double EPSILON = 1e-2;
+    static final double EPSILON = 1e-2;
     private static final String GENERIC_SCALABLE_CLASS_ERROR = "Unable to create a scalable from %s";
     private static final String GENERIC_INCONSISTENCY_ERROR = "Variable %s inconsistent with injection type %s";
 
@@ -197,6 +197,10 @@ public class ProportionalScalable extends AbstractCompoundScalable {
         }
     }
 
+    List<ScalablePercentage> getScalablePercentageList() {
+        return scalablePercentageList;
+    }
+
     Collection<Scalable> getScalables() {
         return scalablePercentageList.stream().map(ScalablePercentage::getScalable).toList();
     }
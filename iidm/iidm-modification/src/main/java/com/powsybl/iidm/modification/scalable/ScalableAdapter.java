@@ -25,6 +25,10 @@ class ScalableAdapter extends AbstractScalable {
         this.id = injection.getId();
     }
 
+    String getId() {
+        return id;
+    }
+
     private Scalable getScalable(Network n) {
         Objects.requireNonNull(n);
         Identifiable<?> identifiable = n.getIdentifiable(id);
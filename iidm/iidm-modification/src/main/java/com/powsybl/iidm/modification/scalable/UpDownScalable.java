@@ -32,6 +32,22 @@ class UpDownScalable extends AbstractScalable {
         this.maxValue = maxValue;
     }
 
+    Scalable getUpScalable() {
+        return upScalable;
+    }
+
+    Scalable getDownScalable() {
+        return downScalable;
+    }
+
+    double getMinValue() {
+        return minValue;
+    }
+
+    double getMaxValue() {
+        return maxValue;
+    }
+
     @Override
     public double initialValue(Network n) {
         return upScalable.initialValue(n) + downScalable.initialValue(n);
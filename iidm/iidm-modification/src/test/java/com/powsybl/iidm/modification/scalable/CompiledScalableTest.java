@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.modification.scalable;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.powsybl.iidm.modification.scalable.ProportionalScalable.DistributionMode.*;
+import static com.powsybl.iidm.modification.scalable.Scalable.ScalingConvention.GENERATOR;
+import static com.powsybl.iidm.modification.scalable.Scalable.ScalingConvention.LOAD;
+import static com.powsybl.iidm.modification.scalable.ScalableTestNetwork.createNetworkwithDanglingLineAndBattery;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.*;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.ScalingType.DELTA_P;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.ScalingType.TARGET_P;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class CompiledScalableTest {
+
+    private static final double[] ASKED = {10, 50, -30, 200, -400, 0, 15.5, 1000};
+
+    private static final List<ScalingParameters> PARAMETERS = List.of(
+        new ScalingParameters(),
+        new ScalingParameters().setPriority(RESPECT_OF_VOLUME_ASKED),
+        new ScalingParameters().setPriority(RESPECT_OF_VOLUME_ASKED).setScalingConvention(LOAD).setConstantPowerFactor(true),
+        new ScalingParameters().setPriority(RESPECT_OF_VOLUME_ASKED).setScalingType(TARGET_P),
+        new ScalingParameters().setScalingType(DELTA_P).setReconnect(true).setAllowsGeneratorOutOfActivePowerLimits(true));
+
+    private static void checkSameResults(Function<Network, Scalable> scalableFactory, List<ScalingParameters> parametersList, Function<Network, Double> askedOffset) {
+        for (ScalingParameters parameters : parametersList) {
+            Network expected = createNetworkwithDanglingLineAndBattery();
+            Network actual = createNetworkwithDanglingLineAndBattery();
+            expected.getLoad("l1").setQ0(10);
+            actual.getLoad("l1").setQ0(10);
+            expected.getGenerator("g2").getTerminal().disconnect();
+            actual.getGenerator("g2").getTerminal().disconnect();
+
+            Scalable scalable = scalableFactory.apply(expected);
+            CompiledScalable compiledScalable = CompiledScalable.compile(scalableFactory.apply(actual), actual);
+            for (double asked : ASKED) {
+                double askedValue = asked + askedOffset.apply(expected);
+                assertEquals(scalable.getSteadyStatePower(expected, askedValue, parameters.getScalingConvention()),
+                    compiledScalable.getSteadyStatePower(askedValue, parameters.getScalingConvention()));
+                double done;
+                try {
+                    done = scalable.scale(expected, askedValue, parameters);
+                } catch (ValidationException e) {
+                    // for instance a load scaled to 0 with a constant power factor
+                    assertThrows(e.getClass(), () -> compiledScalable.scale(askedValue, parameters));
+                    break;
+                }
+                assertEquals(done, compiledScalable.scale(askedValue, parameters));
+                checkSameValues(expected, actual);
+            }
+        }
+    }
+
+    private static void checkSameValues(Network expected, Network actual) {
+        expected.getGenerators().forEach(g -> {
+            Generator other = actual.getGenerator(g.getId());
+            assertEquals(g.getTargetP(), other.getTargetP());
+            assertEquals(g.getTerminal().isConnected(), other.getTerminal().isConnected());
+        });
+        expected.getLoads().forEach(l -> {
+            assertEquals(l.getP0(), actual.getLoad(l.getId()).getP0());
+            assertEquals(l.getQ0(), actual.getLoad(l.getId()).getQ0());
+        });
+        expected.getDanglingLines().forEach(dl -> assertEquals(dl.getP0(), actual.getDanglingLine(dl.getId()).getP0()));
+    }
+
+    @Test
+    void testProportional() {
+        checkSameResults(n -> Scalable.proportional(List.of(20.0, 30.0, 10.0, 25.0, 15.0),
+                List.of(Scalable.onGenerator("g1"), Scalable.onGenerator("g2"), Scalable.onGenerator("g3", -10, 80),
+                    Scalable.onLoad("l2", 20, 80), Scalable.onDanglingLine("dl1", 20, 80))),
+            PARAMETERS, n -> 0.0);
+        checkSameResults(n -> Scalable.proportional(List.of(n.getGenerator("g1"), n.getGenerator("g2"), n.getGenerator("g3")), PROPORTIONAL_TO_PMAX, 0, 300),
+            PARAMETERS, n -> 0.0);
+        checkSameResults(n -> Scalable.proportional(List.of(n.getLoad("l1"), n.getLoad("l2"), n.getDanglingLine("dl1")), PROPORTIONAL_TO_P0),
+            PARAMETERS, n -> 0.0);
+    }
+
+    @Test
+    void testRespectOfDistribution() {
+        ScalingParameters parameters = new ScalingParameters().setPriority(RESPECT_OF_DISTRIBUTION);
+        checkSameResults(n -> Scalable.proportional(List.of(n.getGenerator("g1"), n.getGenerator("g3")), PROPORTIONAL_TO_DIFF_PMAX_TARGETP),
+            List.of(parameters, new ScalingParameters().setPriority(RESPECT_OF_DISTRIBUTION).setScalingConvention(LOAD)), n -> 0.0);
+
+        Network network = createNetworkwithDanglingLineAndBattery();
+        CompiledScalable compiledScalable = CompiledScalable.compile(Scalable.proportional(List.of(50.0, 50.0),
+            List.of(Scalable.onGenerator("g1"), Scalable.onLoad("l1"))), network);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> compiledScalable.scale(10, parameters));
+        assertEquals("RESPECT_OF_DISTRIBUTION mode can only be used with ScalableAdapter or GeneratorScalable, not class com.powsybl.iidm.modification.scalable.LoadScalable", e.getMessage());
+    }
+
+    @Test
+    void testStackAndUpDown() {
+        checkSameResults(n -> Scalable.stack(Scalable.onGenerator("g1"), Scalable.onGenerator("g2"), Scalable.onGenerator("unknown"), Scalable.onLoad("l1")),
+            PARAMETERS, n -> 0.0);
+        checkSameResults(n -> Scalable.stack(-100, 400, "g3", "l3", "dl1"), PARAMETERS, n -> 0.0);
+        checkSameResults(n -> Scalable.upDown(Scalable.stack("g1", "g3"),
+                Scalable.proportional(50, Scalable.onLoad("l1"), 50, Scalable.onLoad("l2")), -500, 500),
+            PARAMETERS, n -> 0.0);
+    }
+
+    @Test
+    void testTargetP() {
+        checkSameResults(n -> Scalable.stack("g1", "g3"), List.of(new ScalingParameters().setScalingType(TARGET_P)),
+            n -> n.getGenerator("g1").getTargetP() + n.getGenerator("g3").getTargetP());
+    }
+
+    @Test
+    void testRefresh() {
+        Network network = createNetworkwithDanglingLineAndBattery();
+        CompiledScalable compiledScalable = CompiledScalable.compile(Scalable.stack("g1"), network);
+        assertEquals(80.0, compiledScalable.getSteadyStatePower(10, GENERATOR));
+        network.getGenerator("g1").setTargetP(100.0);
+        compiledScalable.refresh();
+        assertEquals(100.0, compiledScalable.getSteadyStatePower(10, GENERATOR));
+        assertEquals(50.0, compiledScalable.scale(100));
+        assertEquals(150.0, network.getGenerator("g1").getTargetP());
+    }
+
+    @Test
+    void testNotCompiled() {
+        Network network = createNetworkwithDanglingLineAndBattery();
+        Scalable scalable = Scalable.scalable("BAT");
+        assertThrows(PowsyblException.class, () -> CompiledScalable.compile(scalable, network));
+    }
+}
@@ -41,6 +41,9 @@ abstract class AbstractIdentifiableXml<T extends Identifiable<? super T>, A exte
         if (!isValid(identifiable, parent)) {
             return;
         }
+        // recorded before the sub elements, so that the extensions are written in the order of the document
+        context.addExportedEquipment(identifiable);
+
         boolean isNotEmptyElement = hasSubElements(identifiable, context) || identifiable.hasProperty() || identifiable.hasAliases();
         if (isNotEmptyElement) {
             context.getWriter().writeStartElement(context.getVersion().getNamespaceURI(context.isValid()), getRootElementName());
@@ -74,8 +77,6 @@ abstract class AbstractIdentifiableXml<T extends Identifiable<? super T>, A exte
         if (isNotEmptyElement) {
             context.getWriter().writeEndElement();
         }
-
-        context.addExportedEquipment(identifiable);
     }
 
     protected abstract A createAdder(P parent);
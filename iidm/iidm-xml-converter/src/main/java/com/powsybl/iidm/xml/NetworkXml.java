@@ -221,8 +221,10 @@ public final class NetworkXml {
     }
 
     private static void writeExtensions(Network n, NetworkXmlWriterContext context) throws XMLStreamException {
-        for (Identifiable<?> identifiable : IidmXmlUtil.sorted(n.getIdentifiables(), context.getOptions())) {
-            if (context.isExportedEquipment(identifiable) && isElementWrittenInsideNetwork(identifiable, n, context)) {
+        // written in the order of the document, which is the order the identifiables are created in when reading it
+        // back, so that the extensions order is kept by a round trip
+        for (Identifiable<?> identifiable : IidmXmlUtil.sorted(context.getExportedEquipments(), context.getOptions())) {
+            if (isElementWrittenInsideNetwork(identifiable, n, context)) {
                 Collection<? extends Extension<? extends Identifiable<?>>> extensions = identifiable.getExtensions().stream()
                         .filter(e -> canTheExtensionBeWritten(getExtensionXmlSerializer(context.getOptions(), e), context.getVersion(), context.getOptions()))
                         .collect(Collectors.toList());
@@ -12,7 +12,7 @@ import com.powsybl.iidm.network.Identifiable;
 
 import javax.xml.stream.XMLStreamWriter;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -33,7 +33,7 @@ public class NetworkXmlWriterContext extends AbstractNetworkXmlContext<ExportOpt
         this.options = options;
         this.filter = filter;
         this.valid = valid;
-        this.exportedEquipments = new HashSet<>();
+        this.exportedEquipments = new LinkedHashSet<>();
     }
 
     NetworkXmlWriterContext(Anonymizer anonymizer, XMLStreamWriter writer, ExportOptions options, BusFilter filter, IidmXmlVersion version) {
@@ -71,6 +71,9 @@ public class NetworkXmlWriterContext extends AbstractNetworkXmlContext<ExportOpt
         // only kept to prevent breaking change
     }
 
+    /**
+     * Get the exported equipments, in the order they have been written.
+     */
     public Set<Identifiable> getExportedEquipments() {
         return Collections.unmodifiableSet(exportedEquipments);
     }
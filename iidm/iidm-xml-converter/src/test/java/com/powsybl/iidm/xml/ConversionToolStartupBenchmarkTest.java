@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.powsybl.commons.util.ServiceIndex;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Time to first import of {@code itools convert-network}, each run being a new JVM, with and without a service index
+ * generated from the test classpath as the itools packager does.
+ * <p>
+ * Only run when the {@code powsybl.benchmarks} system property is {@code true}.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class ConversionToolStartupBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConversionToolStartupBenchmarkTest.class);
+
+    private static final String SERVICES_DIR = "META-INF/services/";
+
+    private static final int RUN_COUNT = 10;
+
+    @TempDir
+    Path tmpDir;
+
+    private static void addProviders(String service, InputStream is, Map<String, Set<String>> providersByService) throws IOException {
+        Set<String> providers = providersByService.computeIfAbsent(service, k -> new LinkedHashSet<>());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int commentIndex = line.indexOf('#');
+                String provider = (commentIndex >= 0 ? line.substring(0, commentIndex) : line).trim();
+                if (!provider.isEmpty()) {
+                    providers.add(provider);
+                }
+            }
+        }
+    }
+
+    private static void addProviders(Path classPathEntry, Map<String, Set<String>> providersByService) throws IOException {
+        if (Files.isDirectory(classPathEntry)) {
+            Path servicesDir = classPathEntry.resolve(SERVICES_DIR);
+            if (Files.isDirectory(servicesDir)) {
+                try (Stream<Path> files = Files.list(servicesDir)) {
+                    for (Path file : files.toList()) {
+                        try (InputStream is = Files.newInputStream(file)) {
+                            addProviders(file.getFileName().toString(), is, providersByService);
+                        }
+                    }
+                }
+            }
+        } else if (Files.isRegularFile(classPathEntry)) {
+            try (ZipFile zipFile = new ZipFile(classPathEntry.toFile())) {
+                for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                    if (!entry.isDirectory() && entry.getName().startsWith(SERVICES_DIR)) {
+                        try (InputStream is = zipFile.getInputStream(entry)) {
+                            addProviders(entry.getName().substring(SERVICES_DIR.length()), is, providersByService);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeServiceIndex(String classPath, Path indexDir) throws IOException {
+        Map<String, Set<String>> providersByService = new TreeMap<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            addProviders(Paths.get(entry), providersByService);
+        }
+        Path indexFile = indexDir.resolve(ServiceIndex.RESOURCE_NAME);
+        Files.createDirectories(indexFile.getParent());
+        List<String> lines = new ArrayList<>();
+        providersByService.forEach((service, providers) -> lines.add(service + "=" + String.join(",", providers)));
+        Files.write(indexFile, lines, StandardCharsets.UTF_8);
+    }
+
+    private long runConversion(String classPath, boolean serviceIndex) throws IOException, InterruptedException {
+        Path javaExecutable = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Path log = tmpDir.resolve("conversion.log");
+        Process process = new ProcessBuilder(javaExecutable.toString(),
+                "-D" + ServiceIndex.ENABLED_PROPERTY + "=" + serviceIndex,
+                "-cp", classPath,
+                "com.powsybl.tools.Main",
+                "convert-network",
+                "--input-file", tmpDir.resolve("network.xiidm").toString(),
+                "--output-format", "XIIDM",
+                "--output-file", tmpDir.resolve("converted.xiidm").toString())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        long start = System.nanoTime();
+        int status = process.waitFor();
+        long time = System.nanoTime() - start;
+        assertEquals(0, status, () -> {
+            try {
+                return Files.readString(log);
+            } catch (IOException e) {
+                return e.toString();
+            }
+        });
+        return time;
+    }
+
+    private void measure(String name, String classPath, boolean serviceIndex) throws IOException, InterruptedException {
+        long[] times = new long[RUN_COUNT];
+        for (int i = 0; i < RUN_COUNT; i++) {
+            times[i] = runConversion(classPath, serviceIndex);
+        }
+        Arrays.sort(times);
+        LOGGER.info("{}: median {} ms, min {} ms over {} runs", name, times[RUN_COUNT / 2] / 1_000_000, times[0] / 1_000_000, RUN_COUNT);
+    }
+
+    @Test
+    void test() throws IOException, InterruptedException {
+        NetworkXml.write(EurostagTutorialExample1Factory.create(), tmpDir.resolve("network.xiidm"));
+        String classPath = System.getProperty("java.class.path");
+        Path indexDir = tmpDir.resolve("index");
+        writeServiceIndex(classPath, indexDir);
+        String indexedClassPath = indexDir + File.pathSeparator + classPath;
+
+        // first run not measured, to warm up the file system cache
+        runConversion(classPath, false);
+        measure("Without service index", classPath, false);
+        measure("With service index", indexedClassPath, true);
+    }
+}
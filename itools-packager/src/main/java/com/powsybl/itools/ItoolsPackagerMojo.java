@@ -8,6 +8,7 @@ package com.powsybl.itools;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -15,18 +16,13 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.PosixFileAttributeView;
 import java.nio.file.attribute.PosixFilePermission;
-import java.util.Arrays;
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.*;
 
 /**
  *
@@ -35,6 +31,12 @@ import java.util.Set;
 @Mojo(name = "package-zip", requiresDependencyCollection = ResolutionScope.RUNTIME, requiresDependencyResolution = ResolutionScope.RUNTIME)
 public class ItoolsPackagerMojo extends AbstractMojo {
 
+    private static final String SERVICES_DIR = "META-INF/services/";
+
+    private static final String SERVICE_INDEX_RESOURCE = "META-INF/powsybl/service-index";
+
+    private static final String SERVICE_INDEX_JAR = "powsybl-service-index.jar";
+
     @Parameter(readonly = true, defaultValue = "${project}")
     private MavenProject project;
 
@@ -50,6 +52,12 @@ public class ItoolsPackagerMojo extends AbstractMojo {
     @Parameter(defaultValue = "config")
     private String configName;
 
+    /**
+     * Generate an index of the service providers of all the jars, so that they are not looked up in each jar at runtime.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean generateServiceIndex;
+
     public static class CopyTo {
 
         private File[] files;
@@ -117,6 +125,46 @@ public class ItoolsPackagerMojo extends AbstractMojo {
         }
     }
 
+    private static void addServiceProviders(Path jar, Map<String, Set<String>> serviceIndex) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+                if (!entry.isDirectory() && entry.getName().startsWith(SERVICES_DIR)) {
+                    Set<String> providers = serviceIndex.computeIfAbsent(entry.getName().substring(SERVICES_DIR.length()), k -> new LinkedHashSet<>());
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(zipFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            int commentIndex = line.indexOf('#');
+                            String provider = (commentIndex >= 0 ? line.substring(0, commentIndex) : line).trim();
+                            if (!provider.isEmpty()) {
+                                providers.add(provider);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the service index read by com.powsybl.commons.util.ServiceIndex in a jar: one line by service, with the
+     * comma separated names of its providers, and the names of the jars of the package, so that the index is ignored
+     * if jars are added or removed afterwards.
+     */
+    private static void writeServiceIndexJar(Map<String, Set<String>> serviceIndex, Set<String> jarNames, Path jar) throws IOException {
+        try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(Files.newOutputStream(jar))) {
+            zos.putArchiveEntry(new ZipArchiveEntry(SERVICE_INDEX_RESOURCE));
+            Writer writer = new OutputStreamWriter(zos, StandardCharsets.UTF_8);
+            Set<String> allJarNames = new TreeSet<>(jarNames);
+            allJarNames.add(jar.getFileName().toString());
+            writer.write("@jars=" + String.join(",", allJarNames) + "\n");
+            for (Map.Entry<String, Set<String>> e : new TreeMap<>(serviceIndex).entrySet()) {
+                writer.write(e.getKey() + "=" + String.join(",", e.getValue()) + "\n");
+            }
+            writer.flush();
+            zos.closeArchiveEntry();
+        }
+    }
+
     private void writeItoolsConf(BufferedWriter writer) throws IOException {
         writer.write("#powsybl_config_dirs=");
         writer.newLine();
@@ -138,10 +186,20 @@ public class ItoolsPackagerMojo extends AbstractMojo {
             // copy jars
             Path javaDir = packageDir.resolve("share").resolve("java");
             Files.createDirectories(javaDir);
+            Map<String, Set<String>> serviceIndex = new HashMap<>();
+            Set<String> jarNames = new HashSet<>();
             for (Artifact artifact : project.getArtifacts()) {
                 Path jar = artifact.getFile().toPath();
                 getLog().info("Add jar " + jar + " to package");
                 Files.copy(jar, javaDir.resolve(jar.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                jarNames.add(jar.getFileName().toString());
+                if (generateServiceIndex && Files.isRegularFile(jar)) {
+                    addServiceProviders(jar, serviceIndex);
+                }
+            }
+            if (generateServiceIndex) {
+                getLog().info("Add index of " + serviceIndex.size() + " services to package");
+                writeServiceIndexJar(serviceIndex, jarNames, javaDir.resolve(SERVICE_INDEX_JAR));
             }
 
             // create bin directory and add scripts
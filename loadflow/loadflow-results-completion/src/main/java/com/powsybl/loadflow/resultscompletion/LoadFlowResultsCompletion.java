@@ -6,12 +6,21 @@
  */
 package com.powsybl.loadflow.resultscompletion;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.Lists;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.network.Branch.Side;
 import com.powsybl.iidm.network.extensions.ThreeWindingsTransformerPhaseAngleClock;
@@ -21,8 +30,11 @@ import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Line;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.ShuntCompensator;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.ThreeWindingsTransformer;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.util.BranchData;
 import com.powsybl.iidm.network.util.TwtData;
 import com.powsybl.loadflow.LoadFlowParameters;
@@ -39,13 +51,24 @@ public class LoadFlowResultsCompletion implements CandidateComputation {
 
     public static final String NAME = "loadflowResultsCompletion";
     private static final Logger LOGGER = LoggerFactory.getLogger(LoadFlowResultsCompletion.class);
+    private static final int PARTITION_SIZE = 1000;
 
     private final LoadFlowResultsCompletionParameters parameters;
     private final LoadFlowParameters lfParameters;
+    private final Executor executor;
 
     public LoadFlowResultsCompletion(LoadFlowResultsCompletionParameters parameters, LoadFlowParameters lfParameters) {
+        this(parameters, lfParameters, null);
+    }
+
+    /**
+     * @param executor executor of the tasks computing the flows concurrently, by partitions of the equipments of the
+     *                 network and by synchronous components for the Z0 flows, or null to compute them sequentially
+     */
+    public LoadFlowResultsCompletion(LoadFlowResultsCompletionParameters parameters, LoadFlowParameters lfParameters, Executor executor) {
         this.parameters = Objects.requireNonNull(parameters);
         this.lfParameters = Objects.requireNonNull(lfParameters);
+        this.executor = executor;
         // A line is considered Z0 (null impedance) if and only if
         // it is connected at both ends and the voltage at end buses are the same
         this.z0checker = (Line l) -> {
@@ -86,121 +109,225 @@ public class LoadFlowResultsCompletion implements CandidateComputation {
         LOGGER.info("LoadFlowResultsCompletionParameters={}", parameters);
         LOGGER.info("LoadFlowParameters={}", lfParameters);
 
-        network.getLoadStream().forEach(load -> completeTerminalData(load.getTerminal(), load));
-        network.getGeneratorStream().forEach(generator -> completeTerminalData(generator.getTerminal(), generator));
-
-        network.getLineStream()
-            // Do not try to compute flows on loops
-            .filter(l -> l.getTerminal1().getBusView().getBus() != l.getTerminal2().getBusView().getBus())
-            .forEach(line -> {
-                BranchData lineData = new BranchData(line,
-                                                     parameters.getEpsilonX(),
-                                                     parameters.isApplyReactanceCorrection());
-                completeTerminalData(line.getTerminal(Side.ONE), Side.ONE, lineData);
-                completeTerminalData(line.getTerminal(Side.TWO), Side.TWO, lineData);
-            });
-
-        network.getTwoWindingsTransformerStream().forEach(twt -> {
-            int phaseAngleClock = 0;
-            TwoWindingsTransformerPhaseAngleClock phaseAngleClockExtension = twt.getExtension(TwoWindingsTransformerPhaseAngleClock.class);
-            if (phaseAngleClockExtension != null) {
-                phaseAngleClock = phaseAngleClockExtension.getPhaseAngleClock();
-            }
+        if (executor == null) {
+            network.getLoadStream().forEach(load -> completeLoad(load, Terminal::setP, Terminal::setQ));
+            network.getGeneratorStream().forEach(generator -> completeGenerator(generator, Terminal::setP, Terminal::setQ));
+            network.getLineStream().forEach(line -> completeLine(line, Terminal::setP, Terminal::setQ));
+            network.getTwoWindingsTransformerStream().forEach(twt -> completeTwoWindingsTransformer(twt, Terminal::setP, Terminal::setQ));
+            network.getShuntCompensatorStream().forEach(sh -> completeShunt(sh, Terminal::setQ));
+            network.getThreeWindingsTransformerStream().forEach(twt -> completeThreeWindingsTransformer(twt, Terminal::setP, Terminal::setQ));
+
+            Z0FlowsCompletion z0FlowsCompletion = new Z0FlowsCompletion(network, z0checker);
+            z0FlowsCompletion.complete();
+        } else {
+            runConcurrently(network);
+
+            Z0FlowsCompletion z0FlowsCompletion = new Z0FlowsCompletion(network, z0checker);
+            z0FlowsCompletion.complete(executor);
+        }
+    }
+
+    private record TerminalFlow(Terminal terminal, boolean active, double value) {
+    }
+
+    /**
+     * Flows computed by a task, to be set once all the tasks are done.
+     */
+    private static final class TerminalFlows {
+
+        private final List<TerminalFlow> flows = new ArrayList<>();
 
-            BranchData twtData = new BranchData(twt,
-                                                phaseAngleClock,
-                                                parameters.getEpsilonX(),
-                                                parameters.isApplyReactanceCorrection(),
-                                                lfParameters.isTwtSplitShuntAdmittance());
-            completeTerminalData(twt.getTerminal(Side.ONE), Side.ONE, twtData);
-            completeTerminalData(twt.getTerminal(Side.TWO), Side.TWO, twtData);
-        });
-
-        network.getShuntCompensatorStream().forEach(sh -> {
-            Terminal terminal = sh.getTerminal();
-            if (terminal.isConnected()
-                    && Double.isNaN(terminal.getQ())
-                    && terminal.getBusView().getBus() != null
-                    && terminal.getBusView().getBus().isInMainConnectedComponent()) {
-                double v = terminal.getBusView().getBus().getV();
-                double q = -sh.getB() * v * v;
-                LOGGER.debug("Shunt {}, setting q = {}", sh, q);
-                terminal.setQ(q);
+        private void setP(Terminal terminal, double p) {
+            flows.add(new TerminalFlow(terminal, true, p));
+        }
+
+        private void setQ(Terminal terminal, double q) {
+            flows.add(new TerminalFlow(terminal, false, q));
+        }
+
+        private void apply() {
+            for (TerminalFlow flow : flows) {
+                if (flow.active()) {
+                    flow.terminal().setP(flow.value());
+                } else {
+                    flow.terminal().setQ(flow.value());
+                }
             }
-        });
-
-        network.getThreeWindingsTransformerStream().forEach(twt -> {
-            int phaseAngleClock2 = 0;
-            int phaseAngleClock3 = 0;
-            ThreeWindingsTransformerPhaseAngleClock phaseAngleClockExtension = twt.getExtension(ThreeWindingsTransformerPhaseAngleClock.class);
-            if (phaseAngleClockExtension != null) {
-                phaseAngleClock2 = phaseAngleClockExtension.getPhaseAngleClockLeg2();
-                phaseAngleClock3 = phaseAngleClockExtension.getPhaseAngleClockLeg3();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PartitionCompletion<T> {
+
+        void complete(T equipment, TerminalFlows flows);
+    }
+
+    private static <T> void addPartitions(List<Consumer<TerminalFlows>> tasks, Stream<T> equipments, PartitionCompletion<T> completion) {
+        for (List<T> partition : Lists.partition(equipments.toList(), PARTITION_SIZE)) {
+            tasks.add(flows -> partition.forEach(equipment -> completion.complete(equipment, flows)));
+        }
+    }
+
+    /**
+     * Compute the flows of the equipments concurrently, by partitions, then set them in the calling thread, so that
+     * the network is only read by the tasks.
+     */
+    private void runConcurrently(Network network) {
+        // compute the bus views and the connected components, lazily computed and cached by the network, before
+        // reading them from several threads
+        network.getBusView().getBusStream().forEach(Bus::isInMainConnectedComponent);
+
+        List<Consumer<TerminalFlows>> tasks = new ArrayList<>();
+        addPartitions(tasks, network.getLoadStream(), (load, flows) -> completeLoad(load, flows::setP, flows::setQ));
+        addPartitions(tasks, network.getGeneratorStream(), (generator, flows) -> completeGenerator(generator, flows::setP, flows::setQ));
+        addPartitions(tasks, network.getLineStream(), (line, flows) -> completeLine(line, flows::setP, flows::setQ));
+        addPartitions(tasks, network.getTwoWindingsTransformerStream(), (twt, flows) -> completeTwoWindingsTransformer(twt, flows::setP, flows::setQ));
+        addPartitions(tasks, network.getShuntCompensatorStream(), (sh, flows) -> completeShunt(sh, flows::setQ));
+        addPartitions(tasks, network.getThreeWindingsTransformerStream(), (twt, flows) -> completeThreeWindingsTransformer(twt, flows::setP, flows::setQ));
+
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        boolean multiThreadAccess = variantManager.isVariantMultiThreadAccessAllowed();
+        List<TerminalFlows> results = new ArrayList<>(tasks.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(tasks.size());
+        for (Consumer<TerminalFlows> task : tasks) {
+            TerminalFlows flows = new TerminalFlows();
+            results.add(flows);
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (multiThreadAccess) {
+                    variantManager.setWorkingVariant(variantId);
+                }
+                task.accept(flows);
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw e;
+        }
+        results.forEach(TerminalFlows::apply);
+    }
+
+    private static void completeLoad(Load load, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
+        completeTerminalData(load.getTerminal(), load, pSetter, qSetter);
+    }
+
+    private static void completeGenerator(Generator generator, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
+        completeTerminalData(generator.getTerminal(), generator, pSetter, qSetter);
+    }
 
-            TwtData twtData = new TwtData(twt,
-                                          phaseAngleClock2,
-                                          phaseAngleClock3,
-                                          parameters.getEpsilonX(),
-                                          parameters.isApplyReactanceCorrection(),
-                                          lfParameters.isTwtSplitShuntAdmittance());
-            completeTerminalData(twt.getLeg1().getTerminal(), ThreeWindingsTransformer.Side.ONE, twtData);
-            completeTerminalData(twt.getLeg2().getTerminal(), ThreeWindingsTransformer.Side.TWO, twtData);
-            completeTerminalData(twt.getLeg3().getTerminal(), ThreeWindingsTransformer.Side.THREE, twtData);
-        });
+    private void completeLine(Line line, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
+        // Do not try to compute flows on loops
+        if (line.getTerminal1().getBusView().getBus() == line.getTerminal2().getBusView().getBus()) {
+            return;
+        }
+        BranchData lineData = new BranchData(line,
+                                             parameters.getEpsilonX(),
+                                             parameters.isApplyReactanceCorrection());
+        completeTerminalData(line.getTerminal(Side.ONE), Side.ONE, lineData, pSetter, qSetter);
+        completeTerminalData(line.getTerminal(Side.TWO), Side.TWO, lineData, pSetter, qSetter);
+    }
+
+    private void completeTwoWindingsTransformer(TwoWindingsTransformer twt, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
+        int phaseAngleClock = 0;
+        TwoWindingsTransformerPhaseAngleClock phaseAngleClockExtension = twt.getExtension(TwoWindingsTransformerPhaseAngleClock.class);
+        if (phaseAngleClockExtension != null) {
+            phaseAngleClock = phaseAngleClockExtension.getPhaseAngleClock();
+        }
+
+        BranchData twtData = new BranchData(twt,
+                                            phaseAngleClock,
+                                            parameters.getEpsilonX(),
+                                            parameters.isApplyReactanceCorrection(),
+                                            lfParameters.isTwtSplitShuntAdmittance());
+        completeTerminalData(twt.getTerminal(Side.ONE), Side.ONE, twtData, pSetter, qSetter);
+        completeTerminalData(twt.getTerminal(Side.TWO), Side.TWO, twtData, pSetter, qSetter);
+    }
+
+    private static void completeShunt(ShuntCompensator sh, ObjDoubleConsumer<Terminal> qSetter) {
+        Terminal terminal = sh.getTerminal();
+        if (terminal.isConnected()
+                && Double.isNaN(terminal.getQ())
+                && terminal.getBusView().getBus() != null
+                && terminal.getBusView().getBus().isInMainConnectedComponent()) {
+            double v = terminal.getBusView().getBus().getV();
+            double q = -sh.getB() * v * v;
+            LOGGER.debug("Shunt {}, setting q = {}", sh, q);
+            qSetter.accept(terminal, q);
+        }
+    }
+
+    private void completeThreeWindingsTransformer(ThreeWindingsTransformer twt, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
+        int phaseAngleClock2 = 0;
+        int phaseAngleClock3 = 0;
+        ThreeWindingsTransformerPhaseAngleClock phaseAngleClockExtension = twt.getExtension(ThreeWindingsTransformerPhaseAngleClock.class);
+        if (phaseAngleClockExtension != null) {
+            phaseAngleClock2 = phaseAngleClockExtension.getPhaseAngleClockLeg2();
+            phaseAngleClock3 = phaseAngleClockExtension.getPhaseAngleClockLeg3();
+        }
 
-        Z0FlowsCompletion z0FlowsCompletion = new Z0FlowsCompletion(network, z0checker);
-        z0FlowsCompletion.complete();
+        TwtData twtData = new TwtData(twt,
+                                      phaseAngleClock2,
+                                      phaseAngleClock3,
+                                      parameters.getEpsilonX(),
+                                      parameters.isApplyReactanceCorrection(),
+                                      lfParameters.isTwtSplitShuntAdmittance());
+        completeTerminalData(twt.getLeg1().getTerminal(), ThreeWindingsTransformer.Side.ONE, twtData, pSetter, qSetter);
+        completeTerminalData(twt.getLeg2().getTerminal(), ThreeWindingsTransformer.Side.TWO, twtData, pSetter, qSetter);
+        completeTerminalData(twt.getLeg3().getTerminal(), ThreeWindingsTransformer.Side.THREE, twtData, pSetter, qSetter);
     }
 
-    private void completeTerminalData(Terminal terminal, Load load) {
+    private static void completeTerminalData(Terminal terminal, Load load, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
         if (terminal.isConnected() && terminal.getBusView().getBus() != null && terminal.getBusView().getBus().isInMainConnectedComponent()) {
             if (Double.isNaN(terminal.getP())) {
                 LOGGER.debug("Load {}, setting p = {}", load.getId(), load.getP0());
-                terminal.setP(load.getP0());
+                pSetter.accept(terminal, load.getP0());
             }
             if (Double.isNaN(terminal.getQ())) {
                 LOGGER.debug("Load {}, setting q = {}", load.getId(), load.getQ0());
-                terminal.setQ(load.getQ0());
+                qSetter.accept(terminal, load.getQ0());
             }
         }
     }
 
-    private void completeTerminalData(Terminal terminal, Generator generator) {
+    private static void completeTerminalData(Terminal terminal, Generator generator, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
         if (terminal.isConnected() && terminal.getBusView().getBus() != null && terminal.getBusView().getBus().isInMainConnectedComponent()) {
             if (Double.isNaN(terminal.getP())) {
                 LOGGER.debug("Generator {}, setting p = {}", generator.getId(), -generator.getTargetP());
-                terminal.setP(-generator.getTargetP());
+                pSetter.accept(terminal, -generator.getTargetP());
             }
             if (Double.isNaN(terminal.getQ())) {
                 LOGGER.debug("Generator {}, setting q = {}", generator.getId(), -generator.getTargetQ());
-                terminal.setQ(-generator.getTargetQ());
+                qSetter.accept(terminal, -generator.getTargetQ());
             }
         }
     }
 
-    private void completeTerminalData(Terminal terminal, Side side, BranchData branchData) {
+    private static void completeTerminalData(Terminal terminal, Side side, BranchData branchData, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
         if (terminal.isConnected() && terminal.getBusView().getBus() != null && terminal.getBusView().getBus().isInMainConnectedComponent()) {
             if (Double.isNaN(terminal.getP())) {
                 LOGGER.debug("Branch {}, Side {}: setting p = {}", branchData.getId(), side, branchData.getComputedP(side));
-                terminal.setP(branchData.getComputedP(side));
+                pSetter.accept(terminal, branchData.getComputedP(side));
             }
             if (Double.isNaN(terminal.getQ())) {
                 LOGGER.debug("Branch {}, Side {}: setting q = {}", branchData.getId(), side, branchData.getComputedQ(side));
-                terminal.setQ(branchData.getComputedQ(side));
+                qSetter.accept(terminal, branchData.getComputedQ(side));
             }
         }
     }
 
-    private void completeTerminalData(Terminal terminal, ThreeWindingsTransformer.Side side, TwtData twtData) {
+    private static void completeTerminalData(Terminal terminal, ThreeWindingsTransformer.Side side, TwtData twtData, ObjDoubleConsumer<Terminal> pSetter, ObjDoubleConsumer<Terminal> qSetter) {
         if (terminal.isConnected() && terminal.getBusView().getBus() != null && terminal.getBusView().getBus().isInMainConnectedComponent()) {
             if (Double.isNaN(terminal.getP())) {
                 LOGGER.debug("Twt {}, Side {}: setting p = {}", twtData.getId(), side, twtData.getComputedP(side));
-                terminal.setP(twtData.getComputedP(side));
+                pSetter.accept(terminal, twtData.getComputedP(side));
             }
             if (Double.isNaN(terminal.getQ())) {
                 LOGGER.debug("Twt {}, Side {}: setting q = {}", twtData.getId(), side, twtData.getComputedQ(side));
-                terminal.setQ(twtData.getComputedQ(side));
+                qSetter.accept(terminal, twtData.getComputedQ(side));
             }
         }
     }
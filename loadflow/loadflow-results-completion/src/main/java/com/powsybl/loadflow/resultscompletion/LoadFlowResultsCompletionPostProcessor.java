@@ -7,6 +7,7 @@
 package com.powsybl.loadflow.resultscompletion;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,7 +51,9 @@ public class LoadFlowResultsCompletionPostProcessor implements ImportPostProcess
     public void process(Network network, ComputationManager computationManager) throws Exception {
         Objects.requireNonNull(network);
         LOGGER.info("Execute {} post processor on network {}", getName(), network.getId());
-        new LoadFlowResultsCompletion(parameters, lfParameters).run(network, computationManager);
+        // the flows are computed concurrently by the tasks of the computation manager executor
+        Executor executor = computationManager != null ? computationManager.getExecutor() : null;
+        new LoadFlowResultsCompletion(parameters, lfParameters, executor).run(network, computationManager);
     }
 
 }
@@ -62,6 +62,16 @@ public class Z0BusGroup {
         }
     }
 
+    /**
+     * Compute the spanning tree of the group, without modifying the network, so that it can be done concurrently for
+     * several groups before completing them. Done by {@link #complete()} if not done before.
+     */
+    public void computeTree() {
+        if (graph != null && tree == null) {
+            computeTreeFromGraph();
+        }
+    }
+
     public void complete() {
         if (!valid()) {
             LOG.warn("Z0 flow group not valid for seed bus {}", seed);
@@ -71,7 +81,7 @@ public class Z0BusGroup {
             assignZeroFlowToLoops();
         }
         if (graph != null) {
-            computeTreeFromGraph();
+            computeTree();
             assignZeroFlowToEdgesOutsideTree();
             completeFlowsForEdgesInsideTree();
         }
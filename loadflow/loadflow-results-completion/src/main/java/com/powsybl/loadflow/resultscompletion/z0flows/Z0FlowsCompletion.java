@@ -7,9 +7,15 @@
 package com.powsybl.loadflow.resultscompletion.z0flows;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Component;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 
 /**
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
@@ -27,9 +33,52 @@ public class Z0FlowsCompletion {
         z0busGroups().forEach(Z0BusGroup::complete);
     }
 
+    /**
+     * Complete the flows, the groups of buses connected by Z0 lines and their spanning trees being computed
+     * concurrently for each synchronous component, as a group can not span several synchronous components. The flows
+     * are then set in the calling thread, one group after the other.
+     */
+    public void complete(Executor executor) {
+        Objects.requireNonNull(executor);
+        Map<Integer, List<Bus>> busesBySynchronousComponent = new LinkedHashMap<>();
+        network.getBusView().getBusStream().forEach(bus -> {
+            Component component = bus.getSynchronousComponent();
+            int num = component != null ? component.getNum() : -1;
+            busesBySynchronousComponent.computeIfAbsent(num, k -> new ArrayList<>()).add(bus);
+        });
+
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        boolean multiThreadAccess = variantManager.isVariantMultiThreadAccessAllowed();
+        List<CompletableFuture<List<Z0BusGroup>>> futures = new ArrayList<>(busesBySynchronousComponent.size());
+        for (List<Bus> buses : busesBySynchronousComponent.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                if (multiThreadAccess) {
+                    variantManager.setWorkingVariant(variantId);
+                }
+                List<Z0BusGroup> z0busGroups = z0busGroups(buses.stream(), new HashSet<>());
+                z0busGroups.forEach(Z0BusGroup::computeTree);
+                return z0busGroups;
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        futures.forEach(future -> future.join().forEach(Z0BusGroup::complete));
+    }
+
     private List<Z0BusGroup> z0busGroups() {
+        return z0busGroups(network.getBusView().getBusStream(), processed);
+    }
+
+    private List<Z0BusGroup> z0busGroups(Stream<Bus> buses, Set<Bus> processed) {
         List<Z0BusGroup> z0busGroups = new ArrayList<>();
-        network.getBusView().getBusStream().forEach(bus -> {
+        buses.forEach(bus -> {
             if (!processed.contains(bus)) {
                 Z0BusGroup z0bg = new Z0BusGroup(bus, z0checker);
                 z0bg.exploreZ0(processed);
@@ -9,14 +9,17 @@ package com.powsybl.loadflow.resultscompletion;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.FileSystem;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
+import com.powsybl.computation.ComputationManager;
 
 /**
  *
@@ -49,4 +52,16 @@ class LoadFlowResultsCompletionPostProcessorTest extends AbstractLoadFlowResults
 
         checkResultsCompletion();
     }
+
+    @Test
+    void processConcurrently() throws Exception {
+        setNanValues();
+
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(ForkJoinPool.commonPool());
+        new LoadFlowResultsCompletionPostProcessor(platformConfig).process(network, computationManager);
+
+        checkResultsCompletion();
+        Mockito.verify(computationManager).getExecutor();
+    }
 }
@@ -8,6 +8,8 @@ package com.powsybl.loadflow.resultscompletion;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.Test;
 
 import com.powsybl.loadflow.LoadFlowParameters;
@@ -32,4 +34,15 @@ class LoadFlowResultsCompletionTest extends AbstractLoadFlowResultsCompletionTes
         checkResultsCompletion();
     }
 
+    @Test
+    void runConcurrently() throws Exception {
+        setNanValues();
+
+        LoadFlowResultsCompletionParameters parameters = new LoadFlowResultsCompletionParameters();
+        LoadFlowParameters lfParameters = new LoadFlowParameters();
+        new LoadFlowResultsCompletion(parameters, lfParameters, ForkJoinPool.commonPool()).run(network, null);
+
+        checkResultsCompletion();
+    }
+
 }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -65,6 +66,26 @@ class LoadFlowResultsCompletionZ0FlowsTest {
         assertTrue(validateBuses(network));
     }
 
+    @Test
+    void concurrentZ0FlowsCompletion() throws Exception {
+        Network expected = createNetwork();
+        splitNetwork(expected);
+        completeResults(expected);
+
+        Network network = createNetwork();
+        splitNetwork(network);
+        new LoadFlowResultsCompletion(new LoadFlowResultsCompletionParameters(), new LoadFlowParameters(), ForkJoinPool.commonPool())
+                .run(network, null);
+        assertTrue(validateBuses(network));
+        expected.getLineStream().forEach(line -> {
+            Line other = network.getLine(line.getId());
+            assertEquals(line.getTerminal1().getP(), other.getTerminal1().getP(), 0);
+            assertEquals(line.getTerminal1().getQ(), other.getTerminal1().getQ(), 0);
+            assertEquals(line.getTerminal2().getP(), other.getTerminal2().getP(), 0);
+            assertEquals(line.getTerminal2().getQ(), other.getTerminal2().getQ(), 0);
+        });
+    }
+
     @BeforeEach
     void setUp() throws IOException {
         fileSystem = Jimfs.newFileSystem(Configuration.unix());
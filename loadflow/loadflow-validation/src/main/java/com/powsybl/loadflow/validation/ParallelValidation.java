@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.loadflow.validation.io.BufferedValidationWriter;
+import com.powsybl.loadflow.validation.io.NoOpValidationWriter;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Runs the validations of a network concurrently.
+ * <p>
+ * The equipments to validate are sorted as in the sequential validations and partitioned into chunks of consecutive
+ * equipments, validated by at most {@code threadCount} tasks of the given executor. Each chunk is written to its own
+ * {@link BufferedValidationWriter}, and the chunks are written to the output validation writer in order as soon as
+ * they are completed, so that the output is the same as the sequential one and only a few chunks are kept in memory.
+ * <p>
+ * The validations may also be run in summary only mode, without writer: the rows are then not formatted at all and only
+ * the number of validated and failed equipments of each validation type is computed.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class ParallelValidation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelValidation.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final ValidationConfig config;
+
+    private final Executor executor;
+
+    private final int threadCount;
+
+    private final int chunkSize;
+
+    private record Chunk(BufferedValidationWriter buffer, int successCount, int failureCount) {
+    }
+
+    public ParallelValidation(ValidationConfig config, Executor executor, int threadCount) {
+        this(config, executor, threadCount, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelValidation(ValidationConfig config, Executor executor, int threadCount, int chunkSize) {
+        this.config = Objects.requireNonNull(config);
+        this.executor = Objects.requireNonNull(executor);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        this.threadCount = threadCount;
+        this.chunkSize = chunkSize;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Validate the equipments of the given type, writing the results to the given validation writer.
+     */
+    public ValidationSummary check(Network network, ValidationType validationType, ValidationWriter validationWriter) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(validationType);
+        Objects.requireNonNull(validationWriter);
+        return run(network, validationType, validationWriter);
+    }
+
+    /**
+     * Validate the equipments of the given type, without writing any result.
+     */
+    public ValidationSummary check(Network network, ValidationType validationType) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(validationType);
+        return run(network, validationType, null);
+    }
+
+    /**
+     * Validate the equipments of the given types, without writing any result.
+     */
+    public Map<ValidationType, ValidationSummary> check(Network network, Set<ValidationType> validationTypes) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(validationTypes);
+        Map<ValidationType, ValidationSummary> summaries = new EnumMap<>(ValidationType.class);
+        for (ValidationType validationType : ValidationType.values()) {
+            if (validationTypes.contains(validationType)) {
+                summaries.put(validationType, run(network, validationType, null));
+            }
+        }
+        return summaries;
+    }
+
+    private ValidationSummary run(Network network, ValidationType validationType, ValidationWriter validationWriter) {
+        long start = System.currentTimeMillis();
+
+        List<Predicate<ValidationWriter>> checks = createChecks(network, validationType);
+        int chunkCount = (checks.size() + chunkSize - 1) / chunkSize;
+        int successCount = 0;
+        int failureCount = 0;
+        if (threadCount == 1 || chunkCount <= 1) {
+            ValidationWriter writer = validationWriter != null ? validationWriter : NoOpValidationWriter.INSTANCE;
+            for (Predicate<ValidationWriter> check : checks) {
+                if (check.test(writer)) {
+                    successCount++;
+                } else {
+                    failureCount++;
+                }
+            }
+        } else {
+            computeLazyData(network);
+
+            // the variant has to be set in the worker threads if the working variant is thread local
+            VariantManager variantManager = network.getVariantManager();
+            String variantId = variantManager.isVariantMultiThreadAccessAllowed() ? variantManager.getWorkingVariantId() : null;
+
+            Deque<CompletableFuture<Chunk>> pendingChunks = new ArrayDeque<>(threadCount);
+            int nextChunk = 0;
+            while (nextChunk < chunkCount || !pendingChunks.isEmpty()) {
+                while (nextChunk < chunkCount && pendingChunks.size() < threadCount) {
+                    List<Predicate<ValidationWriter>> chunkChecks = checks.subList(nextChunk * chunkSize, Math.min(checks.size(), (nextChunk + 1) * chunkSize));
+                    pendingChunks.add(CompletableFuture.supplyAsync(() -> runChunk(chunkChecks, variantManager, variantId, validationWriter != null), executor));
+                    nextChunk++;
+                }
+                Chunk chunk = join(pendingChunks.poll());
+                if (validationWriter != null) {
+                    try {
+                        chunk.buffer().writeTo(validationWriter);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                successCount += chunk.successCount();
+                failureCount += chunk.failureCount();
+            }
+        }
+
+        ValidationSummary summary = new ValidationSummary(validationType, successCount, failureCount, System.currentTimeMillis() - start);
+        LOGGER.info("{} validation of network {}: {} validated, {} failed, done in {} ms", validationType, network.getId(),
+                successCount, failureCount, summary.getDurationMillis());
+        return summary;
+    }
+
+    private static Chunk runChunk(List<Predicate<ValidationWriter>> checks, VariantManager variantManager, String variantId, boolean buffered) {
+        if (variantId != null) {
+            variantManager.setWorkingVariant(variantId);
+        }
+        BufferedValidationWriter buffer = buffered ? new BufferedValidationWriter() : null;
+        ValidationWriter writer = buffered ? buffer : NoOpValidationWriter.INSTANCE;
+        int successCount = 0;
+        int failureCount = 0;
+        for (Predicate<ValidationWriter> check : checks) {
+            if (check.test(writer)) {
+                successCount++;
+            } else {
+                failureCount++;
+            }
+        }
+        return new Chunk(buffer, successCount, failureCount);
+    }
+
+    private static Chunk join(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Compute the data of the network which is lazily computed on first access and cached, as it is not computed in a
+     * thread safe way: the bus breaker and bus topologies of every voltage level, and the connected and synchronous
+     * components. The checks then only read the network, so they may be run concurrently in the working variant.
+     */
+    private static void computeLazyData(Network network) {
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            voltageLevel.getBusBreakerView().getBusCount();
+            for (Bus bus : voltageLevel.getBusView().getBuses()) {
+                bus.getConnectedComponent();
+                bus.getSynchronousComponent();
+            }
+        }
+    }
+
+    /**
+     * Create the check of each equipment, in the order of the sequential validation.
+     */
+    private List<Predicate<ValidationWriter>> createChecks(Network network, ValidationType validationType) {
+        List<Predicate<ValidationWriter>> checks = new ArrayList<>();
+        switch (validationType) {
+            case FLOWS -> {
+                addChecks(network.getLineStream(), Line::getId,
+                        (l, writer) -> FlowsValidation.INSTANCE.checkFlows(l, config, writer), checks);
+                addChecks(network.getTwoWindingsTransformerStream(), TwoWindingsTransformer::getId,
+                        (twt, writer) -> FlowsValidation.INSTANCE.checkFlows(twt, config, writer), checks);
+                addChecks(network.getTieLineStream(), TieLine::getId,
+                        (tl, writer) -> FlowsValidation.INSTANCE.checkFlows(tl, config, writer), checks);
+            }
+            case GENERATORS -> {
+                BalanceTypeGuesser guesser = new BalanceTypeGuesser(network, config.getThreshold());
+                LOGGER.info("Using {} balance type", guesser.getBalanceType());
+                addChecks(network.getGeneratorStream(), Generator::getId,
+                        (gen, writer) -> GeneratorsValidation.INSTANCE.checkGenerators(gen, config, writer, guesser), checks);
+            }
+            case BUSES -> addChecks(network.getBusView().getBusStream(), Bus::getId,
+                    (bus, writer) -> BusesValidation.INSTANCE.checkBuses(bus, config, writer), checks);
+            case SVCS -> addChecks(network.getStaticVarCompensatorStream(), StaticVarCompensator::getId,
+                    (svc, writer) -> StaticVarCompensatorsValidation.INSTANCE.checkSVCs(svc, config, writer), checks);
+            case SHUNTS -> addChecks(network.getShuntCompensatorStream(), ShuntCompensator::getId,
+                    (shunt, writer) -> ShuntCompensatorsValidation.INSTANCE.checkShunts(shunt, config, writer), checks);
+            case TWTS -> addChecks(network.getTwoWindingsTransformerStream().filter(TransformersValidation::filterTwt), TwoWindingsTransformer::getId,
+                    (twt, writer) -> TransformersValidation.INSTANCE.checkTransformer(twt, config, writer), checks);
+            case TWTS3W -> addChecks(network.getThreeWindingsTransformerStream(), ThreeWindingsTransformer::getId,
+                    (twt, writer) -> Transformers3WValidation.INSTANCE.checkTransformer(twt, config, writer), checks);
+            default -> throw new IllegalStateException("Unexpected ValidationType value: " + validationType);
+        }
+        return checks;
+    }
+
+    @FunctionalInterface
+    private interface EquipmentCheck<T> {
+
+        boolean check(T equipment, ValidationWriter writer);
+    }
+
+    private static <T> void addChecks(Stream<T> equipments, Function<T, String> idGetter, EquipmentCheck<T> check,
+                                      List<Predicate<ValidationWriter>> checks) {
+        equipments.sorted(Comparator.comparing(idGetter))
+                .forEach(equipment -> checks.add(writer -> check.check(equipment, writer)));
+    }
+}
@@ -51,7 +51,7 @@ public final class TransformersValidation extends AbstractTransformersValidation
                       .orElse(true);
     }
 
-    private static boolean filterTwt(TwoWindingsTransformer twt) {
+    static boolean filterTwt(TwoWindingsTransformer twt) {
         return twt.hasRatioTapChanger() && twt.getRatioTapChanger().isRegulating();
     }
 
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation;
+
+import java.util.Objects;
+
+/**
+ * Result of a validation type on a network: number of validated and failed equipments, and time spent.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class ValidationSummary {
+
+    private final ValidationType validationType;
+    private final int successCount;
+    private final int failureCount;
+    private final long durationMillis;
+
+    public ValidationSummary(ValidationType validationType, int successCount, int failureCount, long durationMillis) {
+        this.validationType = Objects.requireNonNull(validationType);
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.durationMillis = durationMillis;
+    }
+
+    public ValidationType getValidationType() {
+        return validationType;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Return true if all the equipments have been validated, as {@link ValidationType#check}.
+     */
+    public boolean isValidated() {
+        return failureCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationSummary(validationType=" + validationType + ", successCount=" + successCount
+                + ", failureCount=" + failureCount + ", durationMillis=" + durationMillis + ")";
+    }
+}
@@ -52,6 +52,8 @@ public class ValidationTool implements Tool {
     private static final String COMPARE_RESULTS = "compare-results";
     private static final String RUN_COMPUTATION = "run-computation";
     private static final String COMPARE_CASE_FILE = "compare-case-file";
+    private static final String THREAD_COUNT = "thread-count";
+    private static final String SUMMARY_ONLY = "summary-only";
 
     private static final Command COMMAND = new Command() {
 
@@ -117,6 +119,14 @@ public class ValidationTool implements Tool {
                     .hasArg()
                     .argName("FILE")
                     .build());
+            options.addOption(Option.builder().longOpt(THREAD_COUNT)
+                    .desc("number of threads used to validate the equipments")
+                    .hasArg()
+                    .argName("COUNT")
+                    .build());
+            options.addOption(Option.builder().longOpt(SUMMARY_ONLY)
+                    .desc("only print the number of validated and failed equipments of each validation type, without writing output files")
+                    .build());
             options.addOption(createImportParametersFileOption());
             options.addOption(createImportParameterOption());
             return options;
@@ -159,14 +169,29 @@ public class ValidationTool implements Tool {
                                     .map(ValidationType::valueOf)
                                     .collect(Collectors.toSet());
         }
+        int threadCount = line.hasOption(THREAD_COUNT) ? Integer.parseInt(line.getOptionValue(THREAD_COUNT)) : 1;
         Network network = loadNetwork(caseFile, line, context);
+        if (line.hasOption(SUMMARY_ONLY)) {
+            Preconditions.checkArgument(!config.isCompareResults(), "Results comparison is not supported in summary only mode.");
+            if (line.hasOption(LOAD_FLOW)) {
+                runLoadflow(network, config, context);
+            } else if (line.hasOption(RUN_COMPUTATION)) {
+                runComputation(line.getOptionValue(RUN_COMPUTATION), network, context);
+            }
+            ParallelValidation validation = new ParallelValidation(config, context.getShortTimeExecutionComputationManager().getExecutor(), threadCount);
+            validation.check(network, validationTypes).values().forEach(summary -> printSummary(network, summary, context));
+            return;
+        }
+        ParallelValidation validation = threadCount > 1
+                ? new ParallelValidation(config, context.getShortTimeExecutionComputationManager().getExecutor(), threadCount)
+                : null;
         try (ValidationWriters validationWriters = new ValidationWriters(network.getId(), validationTypes, outputFolder, config)) {
             if (config.isCompareResults() && ComparisonType.COMPUTATION.equals(comparisonType)) {
                 Preconditions.checkArgument(line.hasOption(LOAD_FLOW) || line.hasOption(RUN_COMPUTATION),
                         "Computation results comparison requires to run a computation (options --" + LOAD_FLOW + " or --" + RUN_COMPUTATION + ").");
 
                 context.getOutputStream().println("Running pre-loadflow validation on network " + network.getId());
-                runValidation(network, config, validationTypes, validationWriters, context);
+                runValidation(network, config, validationTypes, validationWriters, validation, context);
             }
 
             if (line.hasOption(LOAD_FLOW)) {
@@ -177,7 +202,7 @@ public class ValidationTool implements Tool {
                 context.getOutputStream().println("Running post-computation validation on network " + network.getId());
             }
 
-            runValidation(network, config, validationTypes, validationWriters, context);
+            runValidation(network, config, validationTypes, validationWriters, validation, context);
 
             if (config.isCompareResults() && ComparisonType.BASECASE.equals(comparisonType)) {
                 Preconditions.checkArgument(line.hasOption(COMPARE_CASE_FILE),
@@ -185,7 +210,7 @@ public class ValidationTool implements Tool {
                 Path compareCaseFile = Paths.get(line.getOptionValue(COMPARE_CASE_FILE));
                 Network compareNetwork = loadNetwork(compareCaseFile, line, context);
                 context.getOutputStream().println("Running validation on network " + compareNetwork.getId() + " to compare");
-                runValidation(compareNetwork, config, validationTypes, validationWriters, context);
+                runValidation(compareNetwork, config, validationTypes, validationWriters, validation, context);
             }
         }
     }
@@ -200,15 +225,29 @@ public class ValidationTool implements Tool {
         return network;
     }
 
-    private void runValidation(Network network, ValidationConfig config, Set<ValidationType> validationTypes, ValidationWriters validationWriter, ToolRunningContext context) {
+    private void runValidation(Network network, ValidationConfig config, Set<ValidationType> validationTypes, ValidationWriters validationWriter,
+                               ParallelValidation validation, ToolRunningContext context) {
         validationTypes.forEach(validationType -> {
-            context.getOutputStream().println("Validate load-flow results of network " + network.getId()
-                                              + " - validation type: " + validationType
-                                              + " - result: " + (validationType.check(network, config, validationWriter.getWriter(validationType)) ? "success" : "fail"));
+            if (validation != null) {
+                printSummary(network, validation.check(network, validationType, validationWriter.getWriter(validationType)), context);
+            } else {
+                context.getOutputStream().println("Validate load-flow results of network " + network.getId()
+                                                  + " - validation type: " + validationType
+                                                  + " - result: " + (validationType.check(network, config, validationWriter.getWriter(validationType)) ? "success" : "fail"));
+            }
             validationWriter.getWriter(validationType).setValidationCompleted();
         });
     }
 
+    private static void printSummary(Network network, ValidationSummary summary, ToolRunningContext context) {
+        context.getOutputStream().println("Validate load-flow results of network " + network.getId()
+                                          + " - validation type: " + summary.getValidationType()
+                                          + " - result: " + (summary.isValidated() ? "success" : "fail")
+                                          + " - validated: " + summary.getSuccessCount()
+                                          + " - failed: " + summary.getFailureCount()
+                                          + " - time: " + summary.getDurationMillis() + " ms");
+    }
+
     private void runLoadflow(Network network, ValidationConfig config, ToolRunningContext context) {
         context.getOutputStream().println("Running loadflow on network " + network.getId());
         LoadFlowParameters parameters = LoadFlowParameters.load();
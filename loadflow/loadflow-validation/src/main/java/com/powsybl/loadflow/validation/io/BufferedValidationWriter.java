@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation.io;
+
+import com.powsybl.iidm.network.Branch.Side;
+import com.powsybl.iidm.network.StaticVarCompensator.RegulationMode;
+import com.powsybl.iidm.network.util.TwtData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validation writer keeping the written rows in memory, until they are written, in the same order, to another
+ * validation writer. It allows to validate equipments concurrently, each thread writing to its own buffer, and then
+ * to write the results in a deterministic order.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class BufferedValidationWriter implements ValidationWriter {
+
+    @FunctionalInterface
+    private interface Row {
+
+        void writeTo(ValidationWriter writer) throws IOException;
+    }
+
+    private final List<Row> rows = new ArrayList<>();
+
+    @Override
+    public void write(String branchId, double p1, double p1Calc, double q1, double q1Calc, double p2, double p2Calc, double q2, double q2Calc,
+                      double r, double x, double g1, double g2, double b1, double b2, double rho1, double rho2, double alpha1, double alpha2,
+                      double u1, double u2, double theta1, double theta2, double z, double y, double ksi, int phaseAngleClock, boolean connected1, boolean connected2,
+                      boolean mainComponent1, boolean mainComponent2, boolean validated) {
+        rows.add(writer -> writer.write(branchId, p1, p1Calc, q1, q1Calc, p2, p2Calc, q2, q2Calc, r, x, g1, g2, b1, b2, rho1, rho2, alpha1, alpha2,
+                u1, u2, theta1, theta2, z, y, ksi, phaseAngleClock, connected1, connected2, mainComponent1, mainComponent2, validated));
+    }
+
+    @Override
+    public void write(String generatorId, double p, double q, double v, double targetP, double targetQ, double targetV, double expectedP, boolean connected,
+                      boolean voltageRegulatorOn, double minP, double maxP, double minQ, double maxQ, boolean mainComponent, boolean validated) {
+        rows.add(writer -> writer.write(generatorId, p, q, v, targetP, targetQ, targetV, expectedP, connected, voltageRegulatorOn,
+                minP, maxP, minQ, maxQ, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String busId, double incomingP, double incomingQ, double loadP, double loadQ, double genP, double genQ, double batP, double batQ,
+                      double shuntP, double shuntQ, double svcP, double svcQ, double vscCSP, double vscCSQ, double lineP, double lineQ,
+                      double danglingLineP, double danglingLineQ, double twtP, double twtQ, double tltP, double tltQ, boolean mainComponent,
+                      boolean validated) {
+        rows.add(writer -> writer.write(busId, incomingP, incomingQ, loadP, loadQ, genP, genQ, batP, batQ, shuntP, shuntQ, svcP, svcQ,
+                vscCSP, vscCSQ, lineP, lineQ, danglingLineP, danglingLineQ, twtP, twtQ, tltP, tltQ, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String svcId, double p, double q, double vControlled, double vController, double nominalVcontroller, double reactivePowerSetpoint, double voltageSetpoint,
+                      boolean connected, RegulationMode regulationMode, double bMin, double bMax, boolean mainComponent, boolean validated) {
+        rows.add(writer -> writer.write(svcId, p, q, vControlled, vController, nominalVcontroller, reactivePowerSetpoint, voltageSetpoint,
+                connected, regulationMode, bMin, bMax, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String shuntId, double q, double expectedQ, double p, int currentSectionCount, int maximumSectionCount, double bPerSection,
+                      double v, boolean connected, double qMax, double nominalV, boolean mainComponent, boolean validated) {
+        rows.add(writer -> writer.write(shuntId, q, expectedQ, p, currentSectionCount, maximumSectionCount, bPerSection, v, connected,
+                qMax, nominalV, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String twtId, double error, double upIncrement, double downIncrement, double rho, double rhoPreviousStep, double rhoNextStep,
+                      int tapPosition, int lowTapPosition, int highTapPosition, double targetV, Side regulatedSide, double v, boolean connected,
+                      boolean mainComponent, boolean validated) {
+        rows.add(writer -> writer.write(twtId, error, upIncrement, downIncrement, rho, rhoPreviousStep, rhoNextStep, tapPosition,
+                lowTapPosition, highTapPosition, targetV, regulatedSide, v, connected, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String twtId, TwtData twtData, boolean validated) {
+        rows.add(writer -> writer.write(twtId, twtData, validated));
+    }
+
+    @Override
+    public void setValidationCompleted() {
+        rows.add(writer -> writer.setValidationCompleted());
+    }
+
+    /**
+     * Get the number of buffered rows.
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Write the buffered rows to the given validation writer, in the order they have been written to this buffer, and
+     * clear the buffer.
+     */
+    public void writeTo(ValidationWriter writer) throws IOException {
+        Objects.requireNonNull(writer);
+        for (Row row : rows) {
+            row.writeTo(writer);
+        }
+        rows.clear();
+    }
+
+    @Override
+    public void close() {
+        rows.clear();
+    }
+}
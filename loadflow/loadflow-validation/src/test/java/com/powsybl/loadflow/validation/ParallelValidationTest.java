@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class ParallelValidationTest extends AbstractValidationTest {
+
+    private static String checkSequentially(Network network, ValidationType type, ValidationConfig config) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), config, writer, type)) {
+            type.check(network, config, validationWriter);
+        }
+        return writer.toString();
+    }
+
+    private static String checkConcurrently(Network network, ValidationType type, ParallelValidation validation, ValidationConfig config) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), config, writer, type)) {
+            validation.check(network, type, validationWriter);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    void testSameOutputAsSequential() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (ValidationConfig config : new ValidationConfig[] {looseConfig, strictConfig}) {
+                // chunks of one equipment, so that each equipment is validated by its own task
+                ParallelValidation validation = new ParallelValidation(config, executor, 4, 1);
+                for (ValidationType type : ValidationType.values()) {
+                    assertEquals(checkSequentially(network, type, config), checkConcurrently(network, type, validation, config), type.name());
+
+                    ValidationSummary summary = validation.check(network, type);
+                    assertEquals(type, summary.getValidationType());
+                    assertEquals(type.check(network, config, tmpDir), summary.isValidated());
+                    assertTrue(summary.getDurationMillis() >= 0);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNodeBreakerTopologyChanged() throws IOException {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ParallelValidation validation = new ParallelValidation(looseConfig, executor, 4, 1);
+            for (ValidationType type : ValidationType.values()) {
+                assertEquals(checkSequentially(network, type, looseConfig), checkConcurrently(network, type, validation, looseConfig), type.name());
+            }
+
+            // the cached topologies and components are invalidated, they must be computed again before the concurrent checks
+            network.getSwitch("S1VL2_COUPLER").setOpen(true);
+            for (ValidationType type : ValidationType.values()) {
+                String expected = checkSequentially(network, type, looseConfig);
+                network.getSwitch("S1VL2_COUPLER").setOpen(false);
+                network.getSwitch("S1VL2_COUPLER").setOpen(true);
+                assertEquals(expected, checkConcurrently(network, type, validation, looseConfig), type.name());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSummary() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelValidation validation = new ParallelValidation(strictConfig, executor, 2, 1);
+            Map<ValidationType, ValidationSummary> summaries = validation.check(network, EnumSet.of(ValidationType.FLOWS, ValidationType.BUSES, ValidationType.SHUNTS));
+            assertEquals(EnumSet.of(ValidationType.FLOWS, ValidationType.BUSES, ValidationType.SHUNTS), summaries.keySet());
+            // 2 lines and 2 transformers
+            ValidationSummary flows = summaries.get(ValidationType.FLOWS);
+            assertEquals(4, flows.getSuccessCount() + flows.getFailureCount());
+            assertEquals(4, summaries.get(ValidationType.BUSES).getSuccessCount() + summaries.get(ValidationType.BUSES).getFailureCount());
+            assertEquals(0, summaries.get(ValidationType.SHUNTS).getSuccessCount() + summaries.get(ValidationType.SHUNTS).getFailureCount());
+            assertTrue(summaries.get(ValidationType.SHUNTS).isValidated());
+
+            // same counts when validated sequentially
+            ValidationSummary sequentialFlows = new ParallelValidation(strictConfig, executor, 1).check(network, ValidationType.FLOWS);
+            assertEquals(flows.getSuccessCount(), sequentialFlows.getSuccessCount());
+            assertEquals(flows.getFailureCount(), sequentialFlows.getFailureCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testMultiThreadVariantAccess() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(variantManager.getWorkingVariantId(), "other");
+        variantManager.setWorkingVariant("other");
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(1000);
+        String expected = checkSequentially(network, ValidationType.FLOWS, strictConfig);
+
+        variantManager.allowVariantMultiThreadAccess(true);
+        variantManager.setWorkingVariant("other");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelValidation validation = new ParallelValidation(strictConfig, executor, 2, 1);
+            assertEquals(expected, checkConcurrently(network, ValidationType.FLOWS, validation, strictConfig));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidParameters() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> new ParallelValidation(strictConfig, executor, 0));
+            assertThrows(IllegalArgumentException.class, () -> new ParallelValidation(strictConfig, executor, 2, 0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
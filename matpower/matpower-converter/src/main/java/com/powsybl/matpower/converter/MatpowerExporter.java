@@ -28,6 +28,8 @@ import java.util.*;
 import java.util.function.DoubleUnaryOperator;
 import java.util.stream.Stream;
 
+import static com.powsybl.matpower.model.MatpowerColumnarModel.*;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -99,6 +101,46 @@ public class MatpowerExporter implements Exporter {
         return MBus.Type.PQ;
     }
 
+    /**
+     * Growable matrix, indexed by column then by row as in {@link MatpowerColumnarModel}, the values of a new row being
+     * zero.
+     */
+    private static final class Matrix {
+
+        private double[][] columns;
+
+        private int rowCount = 0;
+
+        private Matrix(int columnCount) {
+            columns = new double[columnCount][16];
+        }
+
+        private int addRow() {
+            if (rowCount == columns[0].length) {
+                for (int column = 0; column < columns.length; column++) {
+                    columns[column] = Arrays.copyOf(columns[column], 2 * rowCount);
+                }
+            }
+            return rowCount++;
+        }
+
+        private double get(int column, int row) {
+            return columns[column][row];
+        }
+
+        private void set(int column, int row, double value) {
+            columns[column][row] = value;
+        }
+
+        private double[][] toColumns() {
+            double[][] trimmedColumns = new double[columns.length][];
+            for (int column = 0; column < columns.length; column++) {
+                trimmedColumns[column] = Arrays.copyOf(columns[column], rowCount);
+            }
+            return trimmedColumns;
+        }
+    }
+
     static class Context {
 
         String refBusId;
@@ -108,6 +150,41 @@ public class MatpowerExporter implements Exporter {
         final Map<String, Integer> mBusesNumbersByIds = new HashMap<>();
 
         final List<String> generatorIdsConvertedToLoad = new ArrayList<>();
+
+        private final Matrix buses = new Matrix(BUS_COLUMN_COUNT);
+
+        private final List<String> busNames = new ArrayList<>();
+
+        private final Matrix generators = new Matrix(GEN_COLUMN_COUNT);
+
+        private final Matrix branches = new Matrix(BRANCH_COLUMN_COUNT);
+
+        /**
+         * Add a bus row, numbered by the next bus number, and return it.
+         */
+        private int addBus(String id, String name) {
+            int row = buses.addRow();
+            buses.set(BUS_I, row, num);
+            busNames.add(name);
+            mBusesNumbersByIds.put(id, num++);
+            return row;
+        }
+
+        private int getBusRow(int busNum) {
+            // buses are numbered in row order from 1
+            return busNum - 1;
+        }
+
+        /**
+         * Add a connected branch row between two buses, and return it.
+         */
+        private int addBranch(String fromId, String toId) {
+            int row = branches.addRow();
+            branches.set(F_BUS, row, mBusesNumbersByIds.get(fromId));
+            branches.set(T_BUS, row, mBusesNumbersByIds.get(toId));
+            branches.set(BR_STATUS, row, CONNECTED_STATUS);
+            return row;
+        }
     }
 
     private static boolean isExported(Bus bus) {
@@ -117,75 +194,54 @@ public class MatpowerExporter implements Exporter {
         return bus != null && bus.isInMainSynchronousComponent();
     }
 
-    private static void createTransformerStarBuses(Network network, MatpowerModel model, Context context) {
+    private static void createTransformerStarBuses(Network network, Context context) {
         for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
             Bus bus1 = twt.getLeg1().getTerminal().getBusView().getBus();
             Bus bus2 = twt.getLeg2().getTerminal().getBusView().getBus();
             Bus bus3 = twt.getLeg3().getTerminal().getBusView().getBus();
             if (isExported(bus1) && isExported(bus2) && isExported(bus3)) {
-                MBus mBus = new MBus();
-                mBus.setNumber(context.num++);
-                mBus.setName(twt.getNameOrId());
-                mBus.setType(MBus.Type.PQ);
-                mBus.setAreaNumber(AREA_NUMBER);
-                mBus.setLossZone(LOSS_ZONE);
-                mBus.setBaseVoltage(twt.getRatedU0());
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                mBus.setRealPowerDemand(0d);
-                mBus.setReactivePowerDemand(0d);
-                mBus.setShuntConductance(0d);
-                mBus.setShuntSusceptance(0d);
-                mBus.setVoltageMagnitude(twt.hasProperty(V_PROP) ? Double.parseDouble(twt.getProperty(V_PROP)) / twt.getRatedU0() : 1d);
-                mBus.setVoltageAngle(twt.hasProperty(ANGLE_PROP) ? Double.parseDouble(twt.getProperty(ANGLE_PROP)) : 0d);
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                model.addBus(mBus);
-                context.mBusesNumbersByIds.put(twt.getId(), mBus.getNumber());
+                Matrix buses = context.buses;
+                int row = context.addBus(twt.getId(), twt.getNameOrId());
+                buses.set(BUS_TYPE, row, MBus.Type.PQ.getValue());
+                buses.set(BUS_AREA, row, AREA_NUMBER);
+                buses.set(ZONE, row, LOSS_ZONE);
+                buses.set(BASE_KV, row, twt.getRatedU0());
+                buses.set(VM, row, twt.hasProperty(V_PROP) ? Double.parseDouble(twt.getProperty(V_PROP)) / twt.getRatedU0() : 1d);
+                buses.set(VA, row, twt.hasProperty(ANGLE_PROP) ? Double.parseDouble(twt.getProperty(ANGLE_PROP)) : 0d);
             }
         }
     }
 
-    private static void createDanglingLineBuses(Network network, MatpowerModel model, Context context) {
+    private static void createDanglingLineBuses(Network network, Context context) {
         for (DanglingLine dl : network.getDanglingLines(DanglingLineFilter.UNPAIRED)) {
             Terminal t = dl.getTerminal();
             Bus bus = t.getBusView().getBus();
             if (isExported(bus)) {
                 VoltageLevel vl = t.getVoltageLevel();
-                MBus mBus = new MBus();
-                mBus.setNumber(context.num++);
-                mBus.setName(dl.getNameOrId());
-                mBus.setType(MBus.Type.PQ);
-                mBus.setAreaNumber(AREA_NUMBER);
-                mBus.setLossZone(LOSS_ZONE);
-                mBus.setBaseVoltage(dl.getTerminal().getVoltageLevel().getNominalV());
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                mBus.setRealPowerDemand(dl.getP0());
-                mBus.setReactivePowerDemand(dl.getQ0());
-                mBus.setShuntConductance(0d);
-                mBus.setShuntSusceptance(0d);
-                mBus.setVoltageMagnitude(dl.getBoundary().getV() / vl.getNominalV());
-                mBus.setVoltageAngle(dl.getBoundary().getAngle());
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                model.addBus(mBus);
-                context.mBusesNumbersByIds.put(dl.getId(), mBus.getNumber());
+                Matrix buses = context.buses;
+                int row = context.addBus(dl.getId(), dl.getNameOrId());
+                buses.set(BUS_TYPE, row, MBus.Type.PQ.getValue());
+                buses.set(BUS_AREA, row, AREA_NUMBER);
+                buses.set(ZONE, row, LOSS_ZONE);
+                buses.set(BASE_KV, row, dl.getTerminal().getVoltageLevel().getNominalV());
+                buses.set(PD, row, dl.getP0());
+                buses.set(QD, row, dl.getQ0());
+                buses.set(VM, row, dl.getBoundary().getV() / vl.getNominalV());
+                buses.set(VA, row, dl.getBoundary().getAngle());
             }
         }
     }
 
-    private static void createBuses(Network network, MatpowerModel model, Context context) {
+    private static void createBuses(Network network, Context context) {
         for (Bus bus : network.getBusView().getBuses()) {
             if (isExported(bus)) {
                 VoltageLevel vl = bus.getVoltageLevel();
-                MBus mBus = new MBus();
-                mBus.setNumber(context.num++);
-                mBus.setName(bus.getNameOrId());
-                mBus.setType(getType(bus, context));
-                mBus.setAreaNumber(AREA_NUMBER);
-                mBus.setLossZone(LOSS_ZONE);
-                mBus.setBaseVoltage(vl.getNominalV());
+                Matrix buses = context.buses;
+                int row = context.addBus(bus.getId(), bus.getNameOrId());
+                buses.set(BUS_TYPE, row, getType(bus, context).getValue());
+                buses.set(BUS_AREA, row, AREA_NUMBER);
+                buses.set(ZONE, row, LOSS_ZONE);
+                buses.set(BASE_KV, row, vl.getNominalV());
                 double pDemand = 0;
                 double qDemand = 0;
                 for (Load l : bus.getLoads()) {
@@ -201,26 +257,23 @@ public class MatpowerExporter implements Exporter {
                     pDemand += HvdcUtils.getConverterStationTargetP(lcc);
                     qDemand += HvdcUtils.getLccConverterStationLoadTargetQ(lcc);
                 }
-                mBus.setRealPowerDemand(pDemand);
-                mBus.setReactivePowerDemand(qDemand);
+                buses.set(PD, row, pDemand);
+                buses.set(QD, row, qDemand);
                 double bSum = 0;
                 double zb = vl.getNominalV() * vl.getNominalV() / BASE_MVA;
                 for (ShuntCompensator sc : bus.getShuntCompensators()) {
                     bSum += sc.getB() * zb * BASE_MVA;
                 }
-                mBus.setShuntConductance(0d);
-                mBus.setShuntSusceptance(bSum);
-                mBus.setVoltageMagnitude(Double.isNaN(bus.getV()) ? 1 : bus.getV() / vl.getNominalV());
-                mBus.setVoltageAngle(Double.isNaN(bus.getAngle()) ? 0 : bus.getAngle());
-                mBus.setMinimumVoltageMagnitude(Double.isNaN(vl.getLowVoltageLimit()) ? 0 : vl.getLowVoltageLimit() / vl.getNominalV());
-                mBus.setMaximumVoltageMagnitude(Double.isNaN(vl.getHighVoltageLimit()) ? 0 : vl.getHighVoltageLimit() / vl.getNominalV());
-                model.addBus(mBus);
-                context.mBusesNumbersByIds.put(bus.getId(), mBus.getNumber());
+                buses.set(BS, row, bSum);
+                buses.set(VM, row, Double.isNaN(bus.getV()) ? 1 : bus.getV() / vl.getNominalV());
+                buses.set(VA, row, Double.isNaN(bus.getAngle()) ? 0 : bus.getAngle());
+                buses.set(VMIN, row, Double.isNaN(vl.getLowVoltageLimit()) ? 0 : vl.getLowVoltageLimit() / vl.getNominalV());
+                buses.set(VMAX, row, Double.isNaN(vl.getHighVoltageLimit()) ? 0 : vl.getHighVoltageLimit() / vl.getNominalV());
             }
         }
 
-        createDanglingLineBuses(network, model, context);
-        createTransformerStarBuses(network, model, context);
+        createDanglingLineBuses(network, context);
+        createTransformerStarBuses(network, context);
     }
 
     private static boolean isEmergencyLimit(LoadingLimits.TemporaryLimit limit) {
@@ -246,35 +299,35 @@ public class MatpowerExporter implements Exporter {
         return current * vl.getNominalV() / 1000d;
     }
 
-    private static void createLimits(MBranch mBranch, LoadingLimits limits, DoubleUnaryOperator converter) {
+    private static void createLimits(Matrix branches, int row, LoadingLimits limits, DoubleUnaryOperator converter) {
         // rateA is mapped to permanent limit
         if (!Double.isNaN(limits.getPermanentLimit())) {
-            mBranch.setRateA(converter.applyAsDouble(limits.getPermanentLimit()));
+            branches.set(RATE_A, row, converter.applyAsDouble(limits.getPermanentLimit()));
         }
         // rateB is mapped to the shortest term limit, if not an emergency limit (tempo <= 60s)
         LoadingLimits.TemporaryLimit limitB = findShortTermLimit(limits.getTemporaryLimits().stream())
                 .filter(limit -> !isEmergencyLimit(limit) && limit.getValue() != Double.MAX_VALUE)
                 .orElse(null);
         if (limitB != null) {
-            mBranch.setRateB(converter.applyAsDouble(limitB.getValue()));
+            branches.set(RATE_B, row, converter.applyAsDouble(limitB.getValue()));
         }
         // rateC is mapped to the emergency limit (tempo <= 60s)
         findEmergencyLimit(limits.getTemporaryLimits().stream())
                 .flatMap(limit -> previousLimit(limits.getTemporaryLimits(), limit))
                 .filter(limit -> limitB == null || limit.getAcceptableDuration() != limitB.getAcceptableDuration())
-                .ifPresent(limitC -> mBranch.setRateC(converter.applyAsDouble(limitC.getValue())));
+                .ifPresent(limitC -> branches.set(RATE_C, row, converter.applyAsDouble(limitC.getValue())));
     }
 
-    private static void createLimits(List<FlowsLimitsHolder> limitsHolders, VoltageLevel vl, MBranch mBranch) {
+    private static void createLimits(List<FlowsLimitsHolder> limitsHolders, VoltageLevel vl, Matrix branches, int row) {
         limitsHolders.stream().flatMap(limitsHolder -> Stream.concat(limitsHolder.getApparentPowerLimits().stream(), // apparrent power limits first then current limits
                                                                      limitsHolder.getCurrentLimits().stream()))
                 .filter(limits -> !Double.isNaN(limits.getPermanentLimit())) // skip when there is no permanent
                 .max(Comparator.comparingInt(loadingLimit -> loadingLimit.getTemporaryLimits().size())) // many tempary limits first
                 .ifPresent(limits -> {
                     if (limits.getLimitType() == LimitType.CURRENT) {
-                        createLimits(mBranch, limits, current -> toApparentPower(current, vl)); // convert from A to MVA
+                        createLimits(branches, row, limits, current -> toApparentPower(current, vl)); // convert from A to MVA
                     } else {
-                        createLimits(mBranch, limits, DoubleUnaryOperator.identity());
+                        createLimits(branches, row, limits, DoubleUnaryOperator.identity());
                     }
                 });
     }
@@ -339,20 +392,17 @@ public class MatpowerExporter implements Exporter {
         }
     }
 
-    private void createLines(Network network, MatpowerModel model, Context context) {
+    private void createLines(Network network, Context context) {
         for (Line l : network.getLines()) {
             Terminal t1 = l.getTerminal1();
             Terminal t2 = l.getTerminal2();
-            createMBranch(t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), context)
-                    .ifPresent(branch -> {
-                        createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, Branch.Side.ONE), new FlowsLimitsHolderBranchAdapter(l, Branch.Side.TWO)),
-                                     t1.getVoltageLevel(), branch);
-                        model.addBranch(branch);
-                    });
+            createBranch(t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), context)
+                    .ifPresent(row -> createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, Branch.Side.ONE), new FlowsLimitsHolderBranchAdapter(l, Branch.Side.TWO)),
+                                                   t1.getVoltageLevel(), context.branches, row));
         }
     }
 
-    private void createTransformers2(Network network, MatpowerModel model, Context context) {
+    private void createTransformers2(Network network, Context context) {
         for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
             Terminal t1 = twt.getTerminal1();
             Terminal t2 = twt.getTerminal2();
@@ -361,10 +411,8 @@ public class MatpowerExporter implements Exporter {
             if (isExported(bus1) && isExported(bus2)) {
                 VoltageLevel vl1 = t1.getVoltageLevel();
                 VoltageLevel vl2 = t2.getVoltageLevel();
-                MBranch mBranch = new MBranch();
-                mBranch.setFrom(context.mBusesNumbersByIds.get(bus1.getId()));
-                mBranch.setTo(context.mBusesNumbersByIds.get(bus2.getId()));
-                mBranch.setStatus(CONNECTED_STATUS);
+                Matrix branches = context.branches;
+                int row = context.addBranch(bus1.getId(), bus2.getId());
                 double r = twt.getR();
                 double x = twt.getX();
                 double b = twt.getB();
@@ -378,59 +426,53 @@ public class MatpowerExporter implements Exporter {
                 }
                 var ptc = twt.getPhaseTapChanger();
                 if (ptc != null) {
-                    mBranch.setPhaseShiftAngle(-ptc.getCurrentStep().getAlpha());
+                    branches.set(SHIFT, row, -ptc.getCurrentStep().getAlpha());
                     rho *= ptc.getCurrentStep().getRho();
                     r *= 1 + ptc.getCurrentStep().getR() / 100;
                     x *= 1 + ptc.getCurrentStep().getX() / 100;
                     b *= 1 + ptc.getCurrentStep().getB() / 100;
                 }
-                mBranch.setRatio(1d / rho);
+                branches.set(TAP, row, 1d / rho);
                 double zb = vl2.getNominalV() * vl2.getNominalV() / BASE_MVA;
-                mBranch.setR(r / zb);
-                mBranch.setX(x / zb);
-                mBranch.setB(b * zb);
+                branches.set(BR_R, row, r / zb);
+                branches.set(BR_X, row, x / zb);
+                branches.set(BR_B, row, b * zb);
                 createLimits(List.of(new FlowsLimitsHolderBranchAdapter(twt, Branch.Side.ONE), new FlowsLimitsHolderBranchAdapter(twt, Branch.Side.TWO)),
-                             t1.getVoltageLevel(), mBranch);
-                model.addBranch(mBranch);
+                             t1.getVoltageLevel(), branches, row);
             }
         }
     }
 
-    private void createTieLines(Network network, MatpowerModel model, Context context) {
+    private void createTieLines(Network network, Context context) {
         for (TieLine l : network.getTieLines()) {
             Terminal t1 = l.getDanglingLine1().getTerminal();
             Terminal t2 = l.getDanglingLine2().getTerminal();
-            createMBranch(t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), context)
-                    .ifPresent(branch -> {
-                        createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, Branch.Side.ONE), new FlowsLimitsHolderBranchAdapter(l, Branch.Side.TWO)),
-                                     t1.getVoltageLevel(), branch);
-                        model.addBranch(branch);
-                    });
+            createBranch(t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), context)
+                    .ifPresent(row -> createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, Branch.Side.ONE), new FlowsLimitsHolderBranchAdapter(l, Branch.Side.TWO)),
+                                                   t1.getVoltageLevel(), context.branches, row));
         }
     }
 
-    private static Optional<MBranch> createMBranch(Terminal t1, Terminal t2, double r, double x, double b1, double b2, Context context) {
+    private static OptionalInt createBranch(Terminal t1, Terminal t2, double r, double x, double b1, double b2, Context context) {
         Bus bus1 = t1.getBusView().getBus();
         Bus bus2 = t2.getBusView().getBus();
         if (isExported(bus1) && isExported(bus2)) {
             VoltageLevel vl1 = t1.getVoltageLevel();
             VoltageLevel vl2 = t2.getVoltageLevel();
-            MBranch mBranch = new MBranch();
-            mBranch.setFrom(context.mBusesNumbersByIds.get(bus1.getId()));
-            mBranch.setTo(context.mBusesNumbersByIds.get(bus2.getId()));
-            mBranch.setStatus(CONNECTED_STATUS);
+            Matrix branches = context.branches;
+            int row = context.addBranch(bus1.getId(), bus2.getId());
 
             double rpu = impedanceToPerUnitForLine(r, vl1.getNominalV(), vl2.getNominalV(), BASE_MVA);
             double xpu = impedanceToPerUnitForLine(x, vl1.getNominalV(), vl2.getNominalV(), BASE_MVA);
             Complex ytr = impedanceToAdmittance(r, x);
             double b1pu = admittanceEndToPerUnitForLine(ytr.getImaginary(), b1, vl1.getNominalV(), vl2.getNominalV(), BASE_MVA);
             double b2pu = admittanceEndToPerUnitForLine(ytr.getImaginary(), b2, vl2.getNominalV(), vl1.getNominalV(), BASE_MVA);
-            mBranch.setR(rpu);
-            mBranch.setX(xpu);
-            mBranch.setB(b1pu + b2pu);
-            return Optional.of(mBranch);
+            branches.set(BR_R, row, rpu);
+            branches.set(BR_X, row, xpu);
+            branches.set(BR_B, row, b1pu + b2pu);
+            return OptionalInt.of(row);
         } else {
-            return Optional.empty();
+            return OptionalInt.empty();
         }
     }
 
@@ -453,27 +495,24 @@ public class MatpowerExporter implements Exporter {
             + (nominalVoltageAtEnd - nominalVoltageAtOtherEnd) * nominalVoltageAtEnd * transmissionAdmittance) / sBase;
     }
 
-    private void createDanglingLineBranches(Network network, MatpowerModel model, Context context) {
+    private void createDanglingLineBranches(Network network, Context context) {
         for (DanglingLine dl : network.getDanglingLines(DanglingLineFilter.UNPAIRED)) {
             Terminal t = dl.getTerminal();
             Bus bus = t.getBusView().getBus();
             if (isExported(bus)) {
                 VoltageLevel vl = t.getVoltageLevel();
-                MBranch mBranch = new MBranch();
-                mBranch.setFrom(context.mBusesNumbersByIds.get(bus.getId()));
-                mBranch.setTo(context.mBusesNumbersByIds.get(dl.getId()));
-                mBranch.setStatus(CONNECTED_STATUS);
+                Matrix branches = context.branches;
+                int row = context.addBranch(bus.getId(), dl.getId());
                 double zb = vl.getNominalV() * vl.getNominalV() / BASE_MVA;
-                mBranch.setR(dl.getR() / zb);
-                mBranch.setX(dl.getX() / zb);
-                mBranch.setB(dl.getB() * zb);
-                createLimits(List.of(dl), t.getVoltageLevel(), mBranch);
-                model.addBranch(mBranch);
+                branches.set(BR_R, row, dl.getR() / zb);
+                branches.set(BR_X, row, dl.getX() / zb);
+                branches.set(BR_B, row, dl.getB() * zb);
+                createLimits(List.of(dl), t.getVoltageLevel(), branches, row);
             }
         }
     }
 
-    private void createTransformerLegs(Network network, MatpowerModel model, Context context) {
+    private void createTransformerLegs(Network network, Context context) {
         for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
             var leg1 = twt.getLeg1();
             var leg2 = twt.getLeg2();
@@ -485,18 +524,16 @@ public class MatpowerExporter implements Exporter {
             Bus bus2 = t2.getBusView().getBus();
             Bus bus3 = t3.getBusView().getBus();
             if (isExported(bus1) && isExported(bus2) && isExported(bus3)) {
-                model.addBranch(createTransformerLeg(twt, leg1, bus1, context));
-                model.addBranch(createTransformerLeg(twt, leg2, bus2, context));
-                model.addBranch(createTransformerLeg(twt, leg3, bus3, context));
+                createTransformerLeg(twt, leg1, bus1, context);
+                createTransformerLeg(twt, leg2, bus2, context);
+                createTransformerLeg(twt, leg3, bus3, context);
             }
         }
     }
 
-    private static MBranch createTransformerLeg(ThreeWindingsTransformer twt, ThreeWindingsTransformer.Leg leg, Bus bus, Context context) {
-        MBranch mBranch = new MBranch();
-        mBranch.setFrom(context.mBusesNumbersByIds.get(bus.getId()));
-        mBranch.setTo(context.mBusesNumbersByIds.get(twt.getId()));
-        mBranch.setStatus(CONNECTED_STATUS);
+    private static void createTransformerLeg(ThreeWindingsTransformer twt, ThreeWindingsTransformer.Leg leg, Bus bus, Context context) {
+        Matrix branches = context.branches;
+        int row = context.addBranch(bus.getId(), twt.getId());
         double rho = 1d / (leg.getRatedU() / leg.getTerminal().getVoltageLevel().getNominalV());
         double r = leg.getR();
         double x = leg.getX();
@@ -510,30 +547,29 @@ public class MatpowerExporter implements Exporter {
         }
         var ptc = leg.getPhaseTapChanger();
         if (ptc != null) {
-            mBranch.setPhaseShiftAngle(-ptc.getCurrentStep().getAlpha());
+            branches.set(SHIFT, row, -ptc.getCurrentStep().getAlpha());
             rho *= ptc.getCurrentStep().getRho();
             r *= 1 + ptc.getCurrentStep().getR() / 100;
             x *= 1 + ptc.getCurrentStep().getX() / 100;
             b *= 1 + ptc.getCurrentStep().getB() / 100;
         }
         double zb = Math.pow(twt.getRatedU0(), 2) / BASE_MVA;
-        mBranch.setR(r / zb);
-        mBranch.setX(x / zb);
-        mBranch.setB(b * zb);
-        mBranch.setRatio(1d / rho);
-        createLimits(List.of(leg), leg.getTerminal().getVoltageLevel(), mBranch);
-        return mBranch;
+        branches.set(BR_R, row, r / zb);
+        branches.set(BR_X, row, x / zb);
+        branches.set(BR_B, row, b * zb);
+        branches.set(TAP, row, 1d / rho);
+        createLimits(List.of(leg), leg.getTerminal().getVoltageLevel(), branches, row);
     }
 
-    private void createBranches(Network network, MatpowerModel model, Context context) {
-        createLines(network, model, context);
-        createTieLines(network, model, context);
-        createTransformers2(network, model, context);
-        createDanglingLineBranches(network, model, context);
-        createTransformerLegs(network, model, context);
+    private void createBranches(Network network, Context context) {
+        createLines(network, context);
+        createTieLines(network, context);
+        createTransformers2(network, context);
+        createDanglingLineBranches(network, context);
+        createTransformerLegs(network, context);
     }
 
-    private void createDanglingLineGenerators(Network network, MatpowerModel model, Context context) {
+    private void createDanglingLineGenerators(Network network, Context context) {
         for (DanglingLine dl : network.getDanglingLines(DanglingLineFilter.UNPAIRED)) {
             Terminal t = dl.getTerminal();
             Bus bus = t.getBusView().getBus();
@@ -541,23 +577,23 @@ public class MatpowerExporter implements Exporter {
                 var g = dl.getGeneration();
                 if (g != null) {
                     VoltageLevel vl = t.getVoltageLevel();
-                    MGen mGen = new MGen();
-                    mGen.setNumber(context.mBusesNumbersByIds.get(dl.getId()));
-                    mGen.setStatus(CONNECTED_STATUS);
-                    mGen.setRealPowerOutput(g.getTargetP());
-                    mGen.setReactivePowerOutput(g.getTargetQ());
-                    mGen.setVoltageMagnitudeSetpoint(g.isVoltageRegulationOn() ? g.getTargetV() / vl.getNominalV() : 0);
-                    mGen.setMinimumRealPowerOutput(g.getMinP());
-                    mGen.setMaximumRealPowerOutput(g.getMaxP());
-                    mGen.setMinimumReactivePowerOutput(g.getReactiveLimits().getMinQ(g.getTargetP()));
-                    mGen.setMaximumReactivePowerOutput(g.getReactiveLimits().getMaxQ(g.getTargetP()));
-                    model.addGenerator(mGen);
+                    Matrix generators = context.generators;
+                    int row = generators.addRow();
+                    generators.set(GEN_BUS, row, context.mBusesNumbersByIds.get(dl.getId()));
+                    generators.set(GEN_STATUS, row, CONNECTED_STATUS);
+                    generators.set(PG, row, g.getTargetP());
+                    generators.set(QG, row, g.getTargetQ());
+                    generators.set(VG, row, g.isVoltageRegulationOn() ? g.getTargetV() / vl.getNominalV() : 0);
+                    generators.set(PMIN, row, g.getMinP());
+                    generators.set(PMAX, row, g.getMaxP());
+                    generators.set(QMIN, row, g.getReactiveLimits().getMinQ(g.getTargetP()));
+                    generators.set(QMAX, row, g.getReactiveLimits().getMaxQ(g.getTargetP()));
                 }
             }
         }
     }
 
-    private void createGenerators(Network network, MatpowerModel model, Context context) {
+    private void createGenerators(Network network, Context context) {
         for (Generator g : network.getGenerators()) {
             Terminal t = g.getTerminal();
             Bus bus = t.getBusView().getBus();
@@ -574,15 +610,15 @@ public class MatpowerExporter implements Exporter {
                 Bus regulatedBus = g.getRegulatingTerminal().getBusView().getBus();
                 boolean voltageRegulation = g.isVoltageRegulatorOn();
                 double ratedS = g.getRatedS();
-                addMgen(model, context, bus, vl, id, targetV, targetP, minP, maxP, targetQ, Math.min(minQ, maxQ), Math.max(minQ, maxQ), regulatedBus,
+                addMgen(context, bus, vl, id, targetV, targetP, minP, maxP, targetQ, Math.min(minQ, maxQ), Math.max(minQ, maxQ), regulatedBus,
                         voltageRegulation, ratedS);
             }
         }
 
-        createDanglingLineGenerators(network, model, context);
+        createDanglingLineGenerators(network, context);
     }
 
-    private void createStaticVarCompensators(Network network, MatpowerModel model, Context context) {
+    private void createStaticVarCompensators(Network network, Context context) {
         for (StaticVarCompensator svc : network.getStaticVarCompensators()) {
             Terminal t = svc.getTerminal();
             Bus bus = t.getBusView().getBus();
@@ -601,14 +637,14 @@ public class MatpowerExporter implements Exporter {
                 double targetV = svc.getVoltageSetpoint();
                 Bus regulatedBus = svc.getRegulatingTerminal().getBusView().getBus();
                 boolean voltageRegulation = StaticVarCompensator.RegulationMode.VOLTAGE.equals(svc.getRegulationMode());
-                addMgen(model, context, bus, vl, id, targetV, 0, 0, 0, targetQ, minQ,
+                addMgen(context, bus, vl, id, targetV, 0, 0, 0, targetQ, minQ,
                         maxQ, regulatedBus, voltageRegulation, Double.NaN);
             }
         }
-        createDanglingLineGenerators(network, model, context);
+        createDanglingLineGenerators(network, context);
     }
 
-    private void createVSCs(Network network, MatpowerModel model, Context context) {
+    private void createVSCs(Network network, Context context) {
         for (VscConverterStation vsc : network.getVscConverterStations()) {
             Terminal t = vsc.getTerminal();
             Bus bus = t.getBusView().getBus();
@@ -623,32 +659,34 @@ public class MatpowerExporter implements Exporter {
                 double maxQ = vsc.getReactiveLimits().getMaxQ(targetP); // approximation
                 boolean voltageRegulation = vsc.isVoltageRegulatorOn();
                 double maxP = vsc.getHvdcLine().getMaxP();
-                addMgen(model, context, bus, vl, id, targetV, targetP, -maxP, maxP, targetQ, minQ,
+                addMgen(context, bus, vl, id, targetV, targetP, -maxP, maxP, targetQ, minQ,
                         maxQ, regulatedBus, voltageRegulation, Double.NaN);
             }
         }
-        createDanglingLineGenerators(network, model, context);
+        createDanglingLineGenerators(network, context);
     }
 
-    private static void addMgen(MatpowerModel model, Context context, Bus bus, VoltageLevel vl,
+    private static void addMgen(Context context, Bus bus, VoltageLevel vl,
                                 String id, double targetV, double targetP, double minP, double maxP, double targetQ,
                                 double minQ, double maxQ, Bus regulatedBus, boolean voltageRegulation, double ratedS) {
         int busNum = context.mBusesNumbersByIds.get(bus.getId());
-        MBus mBus = model.getBusByNum(busNum);
+        int busRow = context.getBusRow(busNum);
+        Matrix buses = context.buses;
         boolean validVoltageRegulation = voltageRegulation && regulatedBus != null;
         // Matpower power flow does not support bus with multiple generators that do not have the same voltage regulation
         // status. if the bus has PV type, all of its generator must have a valid voltage set point.
-        if (!validVoltageRegulation && mBus.getType() == MBus.Type.PV) {
+        if (!validVoltageRegulation && (int) buses.get(BUS_TYPE, busRow) == MBus.Type.PV.getValue()) {
             // convert to load
-            mBus.setRealPowerDemand(mBus.getRealPowerDemand() - targetP);
-            mBus.setReactivePowerDemand(mBus.getReactivePowerDemand() - targetQ);
+            buses.set(PD, busRow, buses.get(PD, busRow) - targetP);
+            buses.set(QD, busRow, buses.get(QD, busRow) - targetQ);
             context.generatorIdsConvertedToLoad.add(id);
         } else {
-            MGen mGen = new MGen();
-            mGen.setNumber(busNum);
-            mGen.setStatus(CONNECTED_STATUS);
-            mGen.setRealPowerOutput(targetP);
-            mGen.setReactivePowerOutput(Double.isNaN(targetQ) ? 0 : targetQ);
+            Matrix generators = context.generators;
+            int row = generators.addRow();
+            generators.set(GEN_BUS, row, busNum);
+            generators.set(GEN_STATUS, row, CONNECTED_STATUS);
+            generators.set(PG, row, targetP);
+            generators.set(QG, row, Double.isNaN(targetQ) ? 0 : targetQ);
             if (validVoltageRegulation) {
                 double targetVpu = targetV / vl.getNominalV();
                 if (!regulatedBus.getId().equals(bus.getId())) {
@@ -658,18 +696,17 @@ public class MatpowerExporter implements Exporter {
                             "Generator remote voltage control not supported in Matpower model, rescale targetV of '{}' from {} to {}",
                             id, oldTargetV, targetVpu);
                 }
-                mGen.setVoltageMagnitudeSetpoint(targetVpu);
+                generators.set(VG, row, targetVpu);
             } else {
                 // we can safely set voltage setpoint to zero, because a PQ bus never go back to PV even if reactive limits
                 // are activated in Matpower power flow
-                mGen.setVoltageMagnitudeSetpoint(0);
+                generators.set(VG, row, 0);
             }
-            mGen.setMinimumRealPowerOutput(minP);
-            mGen.setMaximumRealPowerOutput(maxP);
-            mGen.setMinimumReactivePowerOutput(minQ);
-            mGen.setMaximumReactivePowerOutput(maxQ);
-            mGen.setTotalMbase(Double.isNaN(ratedS) ? 0 : ratedS);
-            model.addGenerator(mGen);
+            generators.set(PMIN, row, minP);
+            generators.set(PMAX, row, maxP);
+            generators.set(QMIN, row, minQ);
+            generators.set(QMAX, row, maxQ);
+            generators.set(MBASE, row, Double.isNaN(ratedS) ? 0 : ratedS);
         }
     }
 
@@ -707,10 +744,6 @@ public class MatpowerExporter implements Exporter {
 
         boolean withBusNames = Parameter.readBoolean(getFormat(), parameters, WITH_BUS_NAMES_PARAMETER, defaultValueConfig);
 
-        MatpowerModel model = new MatpowerModel(network.getId());
-        model.setBaseMva(BASE_MVA);
-        model.setVersion(FORMAT_VERSION);
-
         Context context = new Context();
         boolean hasSlack = network.getBusView().getBusStream().anyMatch(MatpowerExporter::hasSlackExtension);
         if (!hasSlack) {
@@ -721,17 +754,19 @@ public class MatpowerExporter implements Exporter {
                     .getId();
             LOGGER.debug("Matpower reference bus automatically selected: {}", context.refBusId);
         }
-        createBuses(network, model, context);
-        createBranches(network, model, context);
-        createGenerators(network, model, context);
-        createStaticVarCompensators(network, model, context);
-        createVSCs(network, model, context);
+        createBuses(network, context);
+        createBranches(network, context);
+        createGenerators(network, context);
+        createStaticVarCompensators(network, context);
+        createVSCs(network, context);
 
         if (!context.generatorIdsConvertedToLoad.isEmpty()) {
             LOGGER.debug("{} generators have been converted to a load: {}", context.generatorIdsConvertedToLoad.size(), context.generatorIdsConvertedToLoad);
         }
 
         try (OutputStream os = dataSource.newOutputStream(null, MatpowerConstants.EXT, false)) {
+            MatpowerColumnarModel model = new MatpowerColumnarModel(network.getId(), FORMAT_VERSION, BASE_MVA, context.buses.toColumns(),
+                    context.generators.toColumns(), context.branches.toColumns(), context.busNames.toArray(new String[0]));
             MatpowerWriter.write(model, os, withBusNames);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
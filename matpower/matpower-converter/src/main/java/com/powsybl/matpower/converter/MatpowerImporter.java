@@ -31,8 +31,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.powsybl.matpower.model.MatpowerColumnarModel.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -82,20 +83,70 @@ public class MatpowerImporter implements Importer {
         }
     }
 
-    private static boolean isLine(MatpowerModel model, MBranch branch) {
-        if (branch.getPhaseShiftAngle() != 0) {
+    /**
+     * Rows of the bus and gen matrices by bus, so that the columns can be read without building an object by row.
+     */
+    private static final class Rows {
+
+        private final Map<Integer, Integer> busRowByNum = new HashMap<>();
+
+        // rows of the generators of the bus of row i, from generatorRows[generatorOffsets[i]] to generatorRows[generatorOffsets[i + 1] - 1]
+        private final int[] generatorOffsets;
+
+        private final int[] generatorRows;
+
+        private Rows(MatpowerColumnarModel model) {
+            double[] busNums = model.getBusColumn(BUS_I);
+            for (int row = 0; row < busNums.length; row++) {
+                busRowByNum.put((int) busNums[row], row);
+            }
+            double[] generatorBusNums = model.getGeneratorColumn(GEN_BUS);
+            int[] generatorBusRows = new int[generatorBusNums.length];
+            generatorOffsets = new int[busNums.length + 1];
+            for (int row = 0; row < generatorBusNums.length; row++) {
+                // generators of an unknown bus are not imported
+                generatorBusRows[row] = busRowByNum.getOrDefault((int) generatorBusNums[row], -1);
+                if (generatorBusRows[row] != -1) {
+                    generatorOffsets[generatorBusRows[row] + 1]++;
+                }
+            }
+            for (int busRow = 0; busRow < busNums.length; busRow++) {
+                generatorOffsets[busRow + 1] += generatorOffsets[busRow];
+            }
+            generatorRows = new int[generatorOffsets[busNums.length]];
+            int[] next = Arrays.copyOf(generatorOffsets, busNums.length);
+            for (int row = 0; row < generatorBusRows.length; row++) {
+                if (generatorBusRows[row] != -1) {
+                    generatorRows[next[generatorBusRows[row]]++] = row;
+                }
+            }
+        }
+
+        private int getBusRow(int busNum) {
+            Integer row = busRowByNum.get(busNum);
+            if (row == null) { // never should happen
+                throw new PowsyblException("busId without MBus" + busNum);
+            }
+            return row;
+        }
+    }
+
+    private static boolean isLine(MatpowerColumnarModel model, Rows rows, int branchRow) {
+        if (model.getBranchColumn(SHIFT)[branchRow] != 0) {
             return false;
         }
-        if (branch.getRatio() == 0) {
+        double ratio = model.getBranchColumn(TAP)[branchRow];
+        if (ratio == 0) {
             return true;
         }
-        MBus from = model.getBusByNum(branch.getFrom());
-        MBus to = model.getBusByNum(branch.getTo());
-        return branch.getRatio() == 1 && from.getBaseVoltage() == to.getBaseVoltage();
+        double[] baseVoltages = model.getBusColumn(BASE_KV);
+        int fromRow = rows.getBusRow((int) model.getBranchColumn(F_BUS)[branchRow]);
+        int toRow = rows.getBusRow((int) model.getBranchColumn(T_BUS)[branchRow]);
+        return ratio == 1 && baseVoltages[fromRow] == baseVoltages[toRow];
     }
 
-    private static boolean isTransformer(MatpowerModel model, MBranch branch) {
-        return !isLine(model, branch);
+    private static boolean isTransformer(MatpowerColumnarModel model, Rows rows, int branchRow) {
+        return !isLine(model, rows, branchRow);
     }
 
     private static String getId(String prefix, int num) {
@@ -106,35 +157,37 @@ public class MatpowerImporter implements Importer {
         return prefix + "-" + from + "-" + to;
     }
 
-    private static void createBuses(MatpowerModel model, ContainersMapping containerMapping, Network network, Context context) {
+    private static void createBuses(MatpowerColumnarModel model, Rows rows, ContainersMapping containerMapping, Network network, Context context) {
+        double[] busNums = model.getBusColumn(BUS_I);
+        double[] types = model.getBusColumn(BUS_TYPE);
         Map<String, Pair<Double, Double>> voltageLimitsByVoltageLevelId = new HashMap<>();
-        for (MBus mBus : model.getBuses()) {
-            String voltageLevelId = containerMapping.getVoltageLevelId(mBus.getNumber());
+        for (int row = 0; row < model.getBusCount(); row++) {
+            String voltageLevelId = containerMapping.getVoltageLevelId((int) busNums[row]);
             String substationId = containerMapping.getSubstationId(voltageLevelId);
 
             // create substation
             Substation substation = createSubstation(network, substationId);
 
             // create voltage level
-            VoltageLevel voltageLevel = createVoltageLevel(mBus, voltageLevelId, substation, network, context);
+            VoltageLevel voltageLevel = createVoltageLevel(model, row, voltageLevelId, substation, network, context);
 
             // create bus
-            Bus bus = createBus(mBus, voltageLevel);
-            if (mBus.getType() == MBus.Type.REF) {
+            Bus bus = createBus(model, row, voltageLevel);
+            if (MBus.Type.fromInt((int) types[row]) == MBus.Type.REF) {
                 context.getSlackBuses().add(bus);
             }
 
             // create voltage limits
-            createVoltageLimits(mBus, voltageLevel, voltageLimitsByVoltageLevelId);
+            createVoltageLimits(model, row, voltageLevel, voltageLimitsByVoltageLevelId);
 
             // create load
-            createLoad(mBus, voltageLevel);
+            createLoad(model, row, voltageLevel);
 
             // create shunt compensator
-            createShuntCompensator(mBus, voltageLevel, context);
+            createShuntCompensator(model, row, voltageLevel, context);
 
             //create generators
-            createGenerators(model, mBus, voltageLevel);
+            createGenerators(model, rows, row, voltageLevel);
         }
 
         // set voltage limits
@@ -164,72 +217,83 @@ public class MatpowerImporter implements Importer {
         }
     }
 
-    private static void createVoltageLimits(MBus mBus, VoltageLevel voltageLevel, Map<String, Pair<Double, Double>> voltageLimitsByVoltageLevelId) {
+    private static void createVoltageLimits(MatpowerColumnarModel model, int busRow, VoltageLevel voltageLevel, Map<String, Pair<Double, Double>> voltageLimitsByVoltageLevelId) {
         // as in IIDM, we only have one min and one max voltage level by voltage level we keep only the most severe ones
         Pair<Double, Double> voltageLimits = voltageLimitsByVoltageLevelId.computeIfAbsent(voltageLevel.getId(), k -> Pair.of(Double.NaN, Double.NaN));
-        if (mBus.getMinimumVoltageMagnitude() != 0) {
-            double lowVoltageLimit = mBus.getMinimumVoltageMagnitude() * voltageLevel.getNominalV();
+        double minimumVoltageMagnitude = model.getBusColumn(VMIN)[busRow];
+        if (minimumVoltageMagnitude != 0) {
+            double lowVoltageLimit = minimumVoltageMagnitude * voltageLevel.getNominalV();
             if (Double.isNaN(voltageLimits.getFirst()) || lowVoltageLimit > voltageLimits.getFirst()) {
                 voltageLimits.setFirst(lowVoltageLimit);
             }
         }
-        if (mBus.getMaximumVoltageMagnitude() != 0) {
-            double highVoltageLimit = mBus.getMaximumVoltageMagnitude() * voltageLevel.getNominalV();
+        double maximumVoltageMagnitude = model.getBusColumn(VMAX)[busRow];
+        if (maximumVoltageMagnitude != 0) {
+            double highVoltageLimit = maximumVoltageMagnitude * voltageLevel.getNominalV();
             if (Double.isNaN(voltageLimits.getSecond()) || highVoltageLimit < voltageLimits.getSecond()) {
                 voltageLimits.setSecond(highVoltageLimit);
             }
         }
     }
 
-    private static void createGenerators(MatpowerModel model, MBus mBus, VoltageLevel voltageLevel) {
-        for (MGen mGen : model.getGeneratorsByBusNum(mBus.getNumber())) {
-            String busId = getId(BUS_PREFIX, mGen.getNumber());
-            String genId = getId(GENERATOR_PREFIX, mGen.getNumber());
+    private static void createGenerators(MatpowerColumnarModel model, Rows rows, int busRow, VoltageLevel voltageLevel) {
+        int busNum = (int) model.getBusColumn(BUS_I)[busRow];
+        double[] targetQs = model.getGeneratorColumn(QG);
+        double[] maxQs = model.getGeneratorColumn(QMAX);
+        double[] minQs = model.getGeneratorColumn(QMIN);
+        double[] targetVs = model.getGeneratorColumn(VG);
+        double[] pc1s = model.getGeneratorColumn(PC1);
+        double[] pc2s = model.getGeneratorColumn(PC2);
+        double[] ratedSs = model.getGeneratorColumn(MBASE);
+        for (int i = rows.generatorOffsets[busRow]; i < rows.generatorOffsets[busRow + 1]; i++) {
+            int row = rows.generatorRows[i];
+            String busId = getId(BUS_PREFIX, busNum);
+            String genId = getId(GENERATOR_PREFIX, busNum);
             Generator generator = voltageLevel.newGenerator()
                     .setId(genId)
                     .setEnsureIdUnicity(true)
                     .setConnectableBus(busId)
-                    .setBus(isInService(mGen) ? busId : null)
-                    .setTargetV(mGen.getVoltageMagnitudeSetpoint() * voltageLevel.getNominalV())
-                    .setTargetP(mGen.getRealPowerOutput())
-                    .setTargetQ(mGen.getReactivePowerOutput())
-                    .setVoltageRegulatorOn(mGen.getVoltageMagnitudeSetpoint() != 0)
-                    .setMaxP(mGen.getMaximumRealPowerOutput())
-                    .setMinP(mGen.getMinimumRealPowerOutput())
-                    .setRatedS(mGen.getTotalMbase() != 0 ? mGen.getTotalMbase() : Double.NaN)
+                    .setBus(isGeneratorInService(model, row) ? busId : null)
+                    .setTargetV(targetVs[row] * voltageLevel.getNominalV())
+                    .setTargetP(model.getGeneratorColumn(PG)[row])
+                    .setTargetQ(targetQs[row])
+                    .setVoltageRegulatorOn(targetVs[row] != 0)
+                    .setMaxP(model.getGeneratorColumn(PMAX)[row])
+                    .setMinP(model.getGeneratorColumn(PMIN)[row])
+                    .setRatedS(ratedSs[row] != 0 ? ratedSs[row] : Double.NaN)
                     .add();
 
-            if (mGen.getPc1() != 0 || mGen.getPc2() != 0) {
+            if (pc1s[row] != 0 || pc2s[row] != 0) {
                 generator.newReactiveCapabilityCurve()
                         .beginPoint()
-                        .setP(mGen.getPc1())
-                        .setMaxQ(mGen.getQc1Max())
-                        .setMinQ(mGen.getQc1Min())
+                        .setP(pc1s[row])
+                        .setMaxQ(model.getGeneratorColumn(QC1MAX)[row])
+                        .setMinQ(model.getGeneratorColumn(QC1MIN)[row])
                         .endPoint()
                         .beginPoint()
-                        .setP(mGen.getPc2())
-                        .setMaxQ(mGen.getQc2Max())
-                        .setMinQ(mGen.getQc2Min())
+                        .setP(pc2s[row])
+                        .setMaxQ(model.getGeneratorColumn(QC2MAX)[row])
+                        .setMinQ(model.getGeneratorColumn(QC2MIN)[row])
                         .endPoint()
                         .add();
             } else {
                 generator.newMinMaxReactiveLimits()
-                        .setMinQ(mGen.getMinimumReactivePowerOutput())
-                        .setMaxQ(mGen.getMaximumReactivePowerOutput())
+                        .setMinQ(minQs[row])
+                        .setMaxQ(maxQs[row])
                         .add();
             }
             LOGGER.trace("Created generator {}", generator.getId());
         }
     }
 
-    private static Bus createBus(MBus mBus, VoltageLevel voltageLevel) {
-        String busId = getId(BUS_PREFIX, mBus.getNumber());
+    private static Bus createBus(MatpowerColumnarModel model, int busRow, VoltageLevel voltageLevel) {
+        String busId = getId(BUS_PREFIX, (int) model.getBusColumn(BUS_I)[busRow]);
         Bus bus = voltageLevel.getBusBreakerView().newBus()
                 .setId(busId)
-                .setName(mBus.getName())
+                .setName(model.hasBusNames() ? model.getBusNames()[busRow] : null)
                 .add();
-        bus.setV(mBus.getVoltageMagnitude() * voltageLevel.getNominalV())
-                .setAngle(mBus.getVoltageAngle());
+        bus.setV(model.getBusColumn(VM)[busRow] * voltageLevel.getNominalV())
+                .setAngle(model.getBusColumn(VA)[busRow]);
         LOGGER.trace("Created bus {}", bus.getId());
         return bus;
     }
@@ -245,12 +309,13 @@ public class MatpowerImporter implements Importer {
         return substation;
     }
 
-    private static double getNominalV(MBus mBus, boolean ignoreBaseVoltage) {
-        return ignoreBaseVoltage || mBus.getBaseVoltage() == 0 ? 1 : mBus.getBaseVoltage();
+    private static double getNominalV(MatpowerColumnarModel model, int busRow, boolean ignoreBaseVoltage) {
+        double baseVoltage = model.getBusColumn(BASE_KV)[busRow];
+        return ignoreBaseVoltage || baseVoltage == 0 ? 1 : baseVoltage;
     }
 
-    private static VoltageLevel createVoltageLevel(MBus mBus, String voltageLevelId, Substation substation, Network network, Context context) {
-        double nominalV = getNominalV(mBus, context.isIgnoreBaseMva());
+    private static VoltageLevel createVoltageLevel(MatpowerColumnarModel model, int busRow, String voltageLevelId, Substation substation, Network network, Context context) {
+        double nominalV = getNominalV(model, busRow, context.isIgnoreBaseMva());
         VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
         if (voltageLevel == null) {
             voltageLevel = substation.newVoltageLevel()
@@ -263,25 +328,30 @@ public class MatpowerImporter implements Importer {
         return voltageLevel;
     }
 
-    private static void createLoad(MBus mBus, VoltageLevel voltageLevel) {
-        if (mBus.getRealPowerDemand() != 0 || mBus.getReactivePowerDemand() != 0) {
-            String busId = getId(BUS_PREFIX, mBus.getNumber());
-            String loadId = getId(LOAD_PREFIX, mBus.getNumber());
+    private static void createLoad(MatpowerColumnarModel model, int busRow, VoltageLevel voltageLevel) {
+        double realPowerDemand = model.getBusColumn(PD)[busRow];
+        double reactivePowerDemand = model.getBusColumn(QD)[busRow];
+        if (realPowerDemand != 0 || reactivePowerDemand != 0) {
+            int busNum = (int) model.getBusColumn(BUS_I)[busRow];
+            String busId = getId(BUS_PREFIX, busNum);
+            String loadId = getId(LOAD_PREFIX, busNum);
             Load newLoad = voltageLevel.newLoad()
                 .setId(loadId)
                 .setConnectableBus(busId)
                 .setBus(busId)
-                .setP0(mBus.getRealPowerDemand())
-                .setQ0(mBus.getReactivePowerDemand())
+                .setP0(realPowerDemand)
+                .setQ0(reactivePowerDemand)
                 .add();
             LOGGER.trace("Created load {}", newLoad.getId());
         }
     }
 
-    private static void createShuntCompensator(MBus mBus, VoltageLevel voltageLevel, Context context) {
-        if (mBus.getShuntSusceptance() != 0) {
-            String busId = getId(BUS_PREFIX, mBus.getNumber());
-            String shuntId = getId(SHUNT_PREFIX, mBus.getNumber());
+    private static void createShuntCompensator(MatpowerColumnarModel model, int busRow, VoltageLevel voltageLevel, Context context) {
+        double shuntSusceptance = model.getBusColumn(BS)[busRow];
+        if (shuntSusceptance != 0) {
+            int busNum = (int) model.getBusColumn(BUS_I)[busRow];
+            String busId = getId(BUS_PREFIX, busNum);
+            String shuntId = getId(SHUNT_PREFIX, busNum);
             double zb = voltageLevel.getNominalV() * voltageLevel.getNominalV() / context.getBaseMva();
             ShuntCompensatorAdder adder = voltageLevel.newShuntCompensator()
                     .setId(shuntId)
@@ -290,7 +360,7 @@ public class MatpowerImporter implements Importer {
                     .setVoltageRegulatorOn(false)
                     .setSectionCount(1);
             adder.newLinearModel()
-                    .setBPerSection(mBus.getShuntSusceptance() / context.getBaseMva() / zb)
+                    .setBPerSection(shuntSusceptance / context.getBaseMva() / zb)
                     .setMaximumSectionCount(1)
                     .add();
             ShuntCompensator newShunt = adder.add();
@@ -298,53 +368,62 @@ public class MatpowerImporter implements Importer {
         }
     }
 
-    private static boolean isInService(MBranch branch) {
-        return Math.abs(branch.getStatus()) > 0;
+    private static boolean isBranchInService(MatpowerColumnarModel model, int branchRow) {
+        return Math.abs(model.getBranchColumn(BR_STATUS)[branchRow]) > 0;
     }
 
-    private static boolean isInService(MGen generator) {
-        return generator.getStatus() > 0;
+    private static boolean isGeneratorInService(MatpowerColumnarModel model, int generatorRow) {
+        return (int) model.getGeneratorColumn(GEN_STATUS)[generatorRow] > 0;
     }
 
-    private static void createApparentPowerLimits(MBranch mBranch, ApparentPowerLimitsAdder limitsAdder) {
-        limitsAdder.setPermanentLimit(mBranch.getRateA()); // long term rating
-        if (mBranch.getRateB() != 0) {
+    private static void createApparentPowerLimits(MatpowerColumnarModel model, int branchRow, ApparentPowerLimitsAdder limitsAdder) {
+        limitsAdder.setPermanentLimit(model.getBranchColumn(RATE_A)[branchRow]); // long term rating
+        double rateB = model.getBranchColumn(RATE_B)[branchRow];
+        if (rateB != 0) {
             limitsAdder.beginTemporaryLimit()
                     .setName("RateB")
-                    .setValue(mBranch.getRateB())
+                    .setValue(rateB)
                     .setAcceptableDuration(60 * 20) // 20' for short term rating
                     .endTemporaryLimit();
         }
-        if (mBranch.getRateC() != 0) {
+        double rateC = model.getBranchColumn(RATE_C)[branchRow];
+        if (rateC != 0) {
             limitsAdder.beginTemporaryLimit()
                     .setName("RateC")
-                    .setValue(mBranch.getRateC())
+                    .setValue(rateC)
                     .setAcceptableDuration(60) // 1' for emergency rating
                     .endTemporaryLimit();
         }
         limitsAdder.add();
     }
 
-    private static void createBranches(MatpowerModel model, ContainersMapping containerMapping, Network network, Context context) {
-        for (MBranch mBranch : model.getBranches()) {
-
-            String bus1Id = getId(BUS_PREFIX, mBranch.getFrom());
-            String bus2Id = getId(BUS_PREFIX, mBranch.getTo());
-            String voltageLevel1Id = containerMapping.getVoltageLevelId(mBranch.getFrom());
-            String voltageLevel2Id = containerMapping.getVoltageLevelId(mBranch.getTo());
+    private static void createBranches(MatpowerColumnarModel model, Rows rows, ContainersMapping containerMapping, Network network, Context context) {
+        double[] froms = model.getBranchColumn(F_BUS);
+        double[] tos = model.getBranchColumn(T_BUS);
+        double[] rs = model.getBranchColumn(BR_R);
+        double[] xs = model.getBranchColumn(BR_X);
+        double[] bs = model.getBranchColumn(BR_B);
+        double[] phaseShiftAngles = model.getBranchColumn(SHIFT);
+        for (int row = 0; row < model.getBranchCount(); row++) {
+            int from = (int) froms[row];
+            int to = (int) tos[row];
+            String bus1Id = getId(BUS_PREFIX, from);
+            String bus2Id = getId(BUS_PREFIX, to);
+            String voltageLevel1Id = containerMapping.getVoltageLevelId(from);
+            String voltageLevel2Id = containerMapping.getVoltageLevelId(to);
             VoltageLevel voltageLevel1 = network.getVoltageLevel(voltageLevel1Id);
             VoltageLevel voltageLevel2 = network.getVoltageLevel(voltageLevel2Id);
             double zb = voltageLevel2.getNominalV() * voltageLevel2.getNominalV() / context.getBaseMva();
-            boolean isInService = isInService(mBranch);
+            boolean isInService = isBranchInService(model, row);
             String connectedBus1 = isInService ? bus1Id : null;
             String connectedBus2 = isInService ? bus2Id : null;
 
             Branch<?> branch;
-            if (isTransformer(model, mBranch)) {
+            if (isTransformer(model, rows, row)) {
                 TwoWindingsTransformer newTwt = voltageLevel2.getSubstation()
                         .orElseThrow(() -> new PowsyblException("Substation null! Transformer must be within a substation"))
                         .newTwoWindingsTransformer()
-                        .setId(getId(TRANSFORMER_PREFIX, mBranch.getFrom(), mBranch.getTo()))
+                        .setId(getId(TRANSFORMER_PREFIX, from, to))
                         .setEnsureIdUnicity(true)
                         .setBus1(connectedBus1)
                         .setConnectableBus1(bus1Id)
@@ -352,19 +431,19 @@ public class MatpowerImporter implements Importer {
                         .setBus2(connectedBus2)
                         .setConnectableBus2(bus2Id)
                         .setVoltageLevel2(voltageLevel2Id)
-                        .setRatedU1(voltageLevel1.getNominalV() * mBranch.getRatio())
+                        .setRatedU1(voltageLevel1.getNominalV() * model.getBranchColumn(TAP)[row])
                         .setRatedU2(voltageLevel2.getNominalV())
-                        .setR(mBranch.getR() * zb)
-                        .setX(mBranch.getX() * zb)
+                        .setR(rs[row] * zb)
+                        .setX(xs[row] * zb)
                         .setG(0)
-                        .setB(mBranch.getB() / zb)
+                        .setB(bs[row] / zb)
                         .add();
-                if (mBranch.getPhaseShiftAngle() != 0) {
+                if (phaseShiftAngles[row] != 0) {
                     newTwt.newPhaseTapChanger()
                             .setTapPosition(0)
                             .beginStep()
                             .setRho(1)
-                            .setAlpha(-mBranch.getPhaseShiftAngle())
+                            .setAlpha(-phaseShiftAngles[row])
                             .setR(0)
                             .setX(0)
                             .setG(0)
@@ -378,16 +457,16 @@ public class MatpowerImporter implements Importer {
                 double nominalV1 = voltageLevel1.getNominalV();
                 double nominalV2 = voltageLevel2.getNominalV();
                 double sBase = context.getBaseMva();
-                double r = impedanceToEngineeringUnitsForLine(mBranch.getR(), nominalV1, nominalV2, sBase);
-                double x = impedanceToEngineeringUnitsForLine(mBranch.getX(), nominalV1, nominalV2, sBase);
+                double r = impedanceToEngineeringUnitsForLine(rs[row], nominalV1, nominalV2, sBase);
+                double x = impedanceToEngineeringUnitsForLine(xs[row], nominalV1, nominalV2, sBase);
                 Complex ytr = impedanceToAdmittance(r, x);
                 double g1 = admittanceEndToEngineeringUnitsForLine(ytr.getReal(), 0.0, nominalV1, nominalV2, sBase);
-                double b1 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), mBranch.getB() * 0.5, nominalV1, nominalV2, sBase);
+                double b1 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), bs[row] * 0.5, nominalV1, nominalV2, sBase);
                 double g2 = admittanceEndToEngineeringUnitsForLine(ytr.getReal(), 0.0, nominalV2, nominalV1, sBase);
-                double b2 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), mBranch.getB() * 0.5, nominalV2, nominalV1, sBase);
+                double b2 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), bs[row] * 0.5, nominalV2, nominalV1, sBase);
 
                 branch = network.newLine()
-                        .setId(getId(LINE_PREFIX, mBranch.getFrom(), mBranch.getTo()))
+                        .setId(getId(LINE_PREFIX, from, to))
                         .setEnsureIdUnicity(true)
                         .setBus1(connectedBus1)
                         .setConnectableBus1(bus1Id)
@@ -404,13 +483,13 @@ public class MatpowerImporter implements Importer {
                         .add();
                 LOGGER.trace("Created line {} {} {}", branch.getId(), bus1Id, bus2Id);
             }
-            if (mBranch.getRateA() != 0) {
+            if (model.getBranchColumn(RATE_A)[row] != 0) {
                 // we create the apparent power limit arbitrary on both sides
                 // there is probably something to fix on IIDM API to not have sided apparent
                 // power limits. Apparent power does not depend on voltage so it does not make
                 // sens to associate the limit to a branch side.
-                createApparentPowerLimits(mBranch, branch.newApparentPowerLimits1());
-                createApparentPowerLimits(mBranch, branch.newApparentPowerLimits2());
+                createApparentPowerLimits(model, row, branch.newApparentPowerLimits1());
+                createApparentPowerLimits(model, row, branch.newApparentPowerLimits2());
             }
         }
     }
@@ -447,6 +526,11 @@ public class MatpowerImporter implements Importer {
         return "MATPOWER Format to IIDM converter";
     }
 
+    @Override
+    public List<String> getSupportedExtensions() {
+        return Collections.singletonList(MatpowerConstants.EXT);
+    }
+
     @Override
     public String getFormat() {
         return MatpowerConstants.FORMAT;
@@ -483,29 +567,34 @@ public class MatpowerImporter implements Importer {
         try {
             try (InputStream iStream = dataSource.newInputStream(null, MatpowerConstants.EXT)) {
 
-                MatpowerModel model = MatpowerReader.read(iStream, dataSource.getBaseName());
+                MatpowerColumnarModel model = MatpowerReader.readColumns(iStream, dataSource.getBaseName());
                 LOGGER.debug("MATPOWER model '{}'", model.getCaseName());
 
                 boolean ignoreBaseVoltage = Parameter.readBoolean(MatpowerConstants.FORMAT, parameters, IGNORE_BASE_VOLTAGE_PARAMETER,
                     ParameterDefaultValueConfig.INSTANCE);
 
-                Map<Integer, MBus> busNumToMBus = model.getBuses().stream().collect(Collectors.toMap(MBus::getNumber, Function.identity()));
-
-                ContainersMapping containerMapping = ContainersMapping.create(model.getBuses(), model.getBranches(),
-                    MBus::getNumber,
-                    MBranch::getFrom,
-                    MBranch::getTo,
-                    branch -> branch.getR() == 0.0 && branch.getX() == 0.0,
-                    branch -> isTransformer(model, branch),
-                    busNumber -> getNominalVFromBusNumber(busNumToMBus, busNumber, ignoreBaseVoltage),
+                Rows rows = new Rows(model);
+                double[] busNumColumn = model.getBusColumn(BUS_I);
+                double[] froms = model.getBranchColumn(F_BUS);
+                double[] tos = model.getBranchColumn(T_BUS);
+                double[] rs = model.getBranchColumn(BR_R);
+                double[] xs = model.getBranchColumn(BR_X);
+
+                ContainersMapping containerMapping = ContainersMapping.create(getRows(model.getBusCount()), getRows(model.getBranchCount()),
+                    busRow -> (int) busNumColumn[busRow],
+                    branchRow -> (int) froms[branchRow],
+                    branchRow -> (int) tos[branchRow],
+                    branchRow -> rs[branchRow] == 0.0 && xs[branchRow] == 0.0,
+                    branchRow -> isTransformer(model, rows, branchRow),
+                    busNumber -> getNominalV(model, rows.getBusRow(busNumber), ignoreBaseVoltage),
                     busNums -> getId(VOLTAGE_LEVEL_PREFIX, busNums.stream().sorted().findFirst().orElseThrow(() -> new PowsyblException("Unexpected empty busNums"))),
                     substationNums -> getId(SUBSTATION_PREFIX, substationNums.stream().sorted().findFirst().orElseThrow(() -> new PowsyblException("Unexpected empty substationNums"))));
 
                 Context context = new Context(model.getBaseMva(), ignoreBaseVoltage);
 
-                createBuses(model, containerMapping, network, context);
+                createBuses(model, rows, containerMapping, network, context);
 
-                createBranches(model, containerMapping, network, context);
+                createBranches(model, rows, containerMapping, network, context);
 
                 for (Bus slackBus : context.getSlackBuses()) {
                     SlackTerminal.attach(slackBus);
@@ -518,10 +607,7 @@ public class MatpowerImporter implements Importer {
         return network;
     }
 
-    private double getNominalVFromBusNumber(Map<Integer, MBus> busNumToMBus, int busNumber, boolean ignoreBaseVoltage) {
-        if (!busNumToMBus.containsKey(busNumber)) { // never should happen
-            throw new PowsyblException("busId without MBus" + busNumber);
-        }
-        return getNominalV(busNumToMBus.get(busNumber), ignoreBaseVoltage);
+    private static List<Integer> getRows(int rowCount) {
+        return IntStream.range(0, rowCount).boxed().toList();
     }
 }
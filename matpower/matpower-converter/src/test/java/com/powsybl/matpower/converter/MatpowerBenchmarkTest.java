@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.matpower.converter;
+
+import com.powsybl.commons.datasource.FileDataSource;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.matpower.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static com.powsybl.matpower.model.MatpowerColumnarModel.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reading, import and export of a large MATPOWER case.
+ * <p>
+ * Only run when the {@code powsybl.benchmarks} system property is {@code true}. The case is the MAT-file given by the
+ * {@code powsybl.benchmarks.matpower-case} system property, for instance an ACTIVSg case, or otherwise a case made of
+ * connected copies of the IEEE 118 bus case, the number of buses being about the {@code powsybl.benchmarks.bus-count}
+ * system property.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class MatpowerBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatpowerBenchmarkTest.class);
+
+    private static final int WARM_UP_COUNT = 3;
+
+    private static final int RUN_COUNT = 5;
+
+    @TempDir
+    Path tmpDir;
+
+    private interface Run {
+        Object run() throws IOException;
+    }
+
+    private static void measure(String name, Run run) throws IOException {
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            run.run();
+        }
+        long[] times = new long[RUN_COUNT];
+        for (int i = 0; i < RUN_COUNT; i++) {
+            long start = System.nanoTime();
+            run.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        LOGGER.info("{}: median {} ms, min {} ms over {} runs", name, times[RUN_COUNT / 2] / 1_000_000, times[0] / 1_000_000, RUN_COUNT);
+    }
+
+    private static double[][] copyRows(double[][] caseColumns, int caseRowCount, int copyCount, int extraRowCount) {
+        double[][] columns = new double[caseColumns.length][caseRowCount * copyCount + extraRowCount];
+        for (int column = 0; column < caseColumns.length; column++) {
+            for (int copy = 0; copy < copyCount; copy++) {
+                System.arraycopy(caseColumns[column], 0, columns[column], copy * caseRowCount, caseRowCount);
+            }
+        }
+        return columns;
+    }
+
+    private static void shift(double[] column, int from, int to, double offset) {
+        for (int row = from; row < to; row++) {
+            column[row] += offset;
+        }
+    }
+
+    /**
+     * Copies of a case, the bus numbers of each copy being shifted by the highest bus number of the case, and the first
+     * bus of each copy being connected to the first bus of the previous copy by a branch.
+     */
+    private static MatpowerColumnarModel createCase(MatpowerColumnarModel model, int copyCount) {
+        int busCount = model.getBusCount();
+        int generatorCount = model.getGeneratorCount();
+        int branchCount = model.getBranchCount();
+        double[][] buses = copyRows(IntStream.range(0, BUS_COLUMN_COUNT).mapToObj(model::getBusColumn).toArray(double[][]::new),
+                busCount, copyCount, 0);
+        double[][] generators = copyRows(IntStream.range(0, GEN_COLUMN_COUNT).mapToObj(model::getGeneratorColumn).toArray(double[][]::new),
+                generatorCount, copyCount, 0);
+        double[][] branches = copyRows(IntStream.range(0, BRANCH_COLUMN_COUNT).mapToObj(model::getBranchColumn).toArray(double[][]::new),
+                branchCount, copyCount, copyCount - 1);
+        double firstBusNumber = model.getBusColumn(BUS_I)[0];
+        double maxBusNumber = Arrays.stream(model.getBusColumn(BUS_I)).max().orElseThrow();
+        for (int copy = 1; copy < copyCount; copy++) {
+            double offset = copy * maxBusNumber;
+            shift(buses[BUS_I], copy * busCount, (copy + 1) * busCount, offset);
+            // a single reference bus
+            for (int row = copy * busCount; row < (copy + 1) * busCount; row++) {
+                if (buses[BUS_TYPE][row] == MBus.Type.REF.getValue()) {
+                    buses[BUS_TYPE][row] = MBus.Type.PV.getValue();
+                }
+            }
+            shift(generators[GEN_BUS], copy * generatorCount, (copy + 1) * generatorCount, offset);
+            shift(branches[F_BUS], copy * branchCount, (copy + 1) * branchCount, offset);
+            shift(branches[T_BUS], copy * branchCount, (copy + 1) * branchCount, offset);
+            int row = copyCount * branchCount + copy - 1;
+            branches[F_BUS][row] = firstBusNumber + offset - maxBusNumber;
+            branches[T_BUS][row] = firstBusNumber + offset;
+            branches[BR_R][row] = 0.01;
+            branches[BR_X][row] = 0.1;
+            branches[BR_STATUS][row] = 1;
+        }
+        return new MatpowerColumnarModel(model.getCaseName(), model.getVersion(), model.getBaseMva(), buses, generators, branches, null);
+    }
+
+    @Test
+    void test() throws IOException {
+        String casePath = System.getProperty("powsybl.benchmarks.matpower-case");
+        Path caseFile;
+        if (casePath != null) {
+            caseFile = Paths.get(casePath).toAbsolutePath();
+        } else {
+            MatpowerColumnarModel model = MatpowerColumnarModel.fromModel(MatpowerModelFactory.create118());
+            int copyCount = Integer.getInteger("powsybl.benchmarks.bus-count", 70_000) / model.getBusCount();
+            caseFile = tmpDir.resolve("case." + MatpowerConstants.EXT);
+            MatpowerWriter.write(createCase(model, copyCount), caseFile, false);
+        }
+        String baseName = caseFile.getFileName().toString().replaceFirst("\\." + MatpowerConstants.EXT + "$", "");
+        FileDataSource dataSource = new FileDataSource(caseFile.getParent(), baseName);
+        MatpowerColumnarModel model = MatpowerReader.readColumns(caseFile, baseName);
+        LOGGER.info("Case {}: {} buses, {} generators, {} branches", caseFile, model.getBusCount(), model.getGeneratorCount(), model.getBranchCount());
+
+        measure("Read objects", () -> MatpowerReader.read(caseFile, baseName));
+        measure("Read columns", () -> MatpowerReader.readColumns(caseFile, baseName));
+
+        Properties parameters = new Properties();
+        measure("Import", () -> new MatpowerImporter().importData(dataSource, NetworkFactory.findDefault(), parameters));
+
+        Network network = new MatpowerImporter().importData(dataSource, NetworkFactory.findDefault(), parameters);
+        assertEquals(model.getBusCount(), network.getBusBreakerView().getBusStream().count());
+        FileDataSource exportDataSource = new FileDataSource(tmpDir, "exported");
+        measure("Export", () -> {
+            new MatpowerExporter().export(network, parameters, exportDataSource);
+            return null;
+        });
+        assertEquals(model.getBusCount(), MatpowerReader.readColumns(tmpDir.resolve("exported." + MatpowerConstants.EXT), "exported").getBusCount());
+    }
+}
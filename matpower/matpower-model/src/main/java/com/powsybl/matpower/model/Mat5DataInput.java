@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.matpower.model;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static com.powsybl.matpower.model.Mat5Types.*;
+
+/**
+ * Sequential reader of the data elements of a level 5 MAT-file, decoding the values in the byte order of the file
+ * from a buffer, without materializing the arrays.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class Mat5DataInput {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream is;
+    private final ByteBuffer buffer;
+    private long position = 0;
+
+    private int tagType;
+    private int tagSize;
+    private boolean smallTag;
+
+    Mat5DataInput(InputStream is, ByteOrder order) {
+        this.is = is;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(order);
+        buffer.flip();
+    }
+
+    /**
+     * Read the header of a MAT-file and return a reader of its data elements.
+     */
+    static Mat5DataInput open(InputStream is) throws IOException {
+        byte[] header = is.readNBytes(HEADER_SIZE);
+        if (header.length != HEADER_SIZE) {
+            throw new IllegalStateException("Not a MAT-file: header is truncated");
+        }
+        ByteOrder order;
+        if (header[126] == 'I' && header[127] == 'M') {
+            order = ByteOrder.LITTLE_ENDIAN;
+        } else if (header[126] == 'M' && header[127] == 'I') {
+            order = ByteOrder.BIG_ENDIAN;
+        } else {
+            throw new IllegalStateException("Not a level 5 MAT-file: invalid endian indicator");
+        }
+        return new Mat5DataInput(is, order);
+    }
+
+    ByteOrder getOrder() {
+        return buffer.order();
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    int getTagType() {
+        return tagType;
+    }
+
+    int getTagSize() {
+        return tagSize;
+    }
+
+    private boolean fill(int length) throws IOException {
+        if (buffer.remaining() >= length) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < length) {
+            int read = is.read(buffer.array(), buffer.position(), buffer.capacity() - buffer.position());
+            if (read == -1) {
+                break;
+            }
+            buffer.position(buffer.position() + read);
+        }
+        buffer.flip();
+        return buffer.remaining() >= length;
+    }
+
+    private void require(int length) throws IOException {
+        if (!fill(length)) {
+            throw new EOFException("Unexpected end of MAT-file");
+        }
+        position += length;
+    }
+
+    /**
+     * Read the tag of the next data element.
+     *
+     * @return false if the end of the stream has been reached
+     */
+    boolean readTag() throws IOException {
+        if (!fill(Integer.BYTES)) {
+            return false;
+        }
+        int first = readInt();
+        if ((first >>> 16) != 0) {
+            // small data element format: size and type packed in 4 bytes, followed by at most 4 bytes of data
+            smallTag = true;
+            tagType = first & 0xFFFF;
+            tagSize = first >>> 16;
+        } else {
+            smallTag = false;
+            tagType = first;
+            tagSize = readInt();
+        }
+        return true;
+    }
+
+    void readTag(int expectedType) throws IOException {
+        if (!readTag()) {
+            throw new EOFException("Unexpected end of MAT-file");
+        }
+        if (tagType != expectedType) {
+            throw new IllegalStateException("Unexpected MAT-file data type " + tagType + ", expected " + expectedType);
+        }
+    }
+
+    /**
+     * Skip the padding which follows the data of the current element, once its data has been read.
+     */
+    void endElement() throws IOException {
+        if (smallTag) {
+            skip(Integer.BYTES - (long) tagSize);
+        } else {
+            skip((8 - tagSize % 8) % 8);
+        }
+    }
+
+    /**
+     * Skip the data and the padding of the current element.
+     */
+    void skipElement() throws IOException {
+        skip(tagSize);
+        endElement();
+    }
+
+    void skipTo(long newPosition) throws IOException {
+        skip(newPosition - position);
+    }
+
+    void skip(long length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            if (!buffer.hasRemaining() && !fill(1)) {
+                throw new EOFException("Unexpected end of MAT-file");
+            }
+            int skipped = (int) Math.min(remaining, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            position += skipped;
+            remaining -= skipped;
+        }
+    }
+
+    int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining() && !fill(1)) {
+                throw new EOFException("Unexpected end of MAT-file");
+            }
+            int read = Math.min(length - offset, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            position += read;
+            offset += read;
+        }
+        return bytes;
+    }
+
+    /**
+     * Read a value of the current numeric element, numbers being possibly stored in a smaller type than their class.
+     */
+    double readNumber() throws IOException {
+        return switch (tagType) {
+            case MI_INT8 -> {
+                require(Byte.BYTES);
+                yield buffer.get();
+            }
+            case MI_UINT8 -> {
+                require(Byte.BYTES);
+                yield Byte.toUnsignedInt(buffer.get());
+            }
+            case MI_INT16 -> {
+                require(Short.BYTES);
+                yield buffer.getShort();
+            }
+            case MI_UINT16 -> {
+                require(Short.BYTES);
+                yield Short.toUnsignedInt(buffer.getShort());
+            }
+            case MI_INT32 -> readInt();
+            case MI_UINT32 -> Integer.toUnsignedLong(readInt());
+            case MI_SINGLE -> {
+                require(Float.BYTES);
+                yield buffer.getFloat();
+            }
+            case MI_DOUBLE -> {
+                require(Double.BYTES);
+                yield buffer.getDouble();
+            }
+            case MI_INT64 -> {
+                require(Long.BYTES);
+                yield buffer.getLong();
+            }
+            case MI_UINT64 -> {
+                require(Long.BYTES);
+                long value = buffer.getLong();
+                yield value >= 0 ? value : Double.parseDouble(Long.toUnsignedString(value));
+            }
+            default -> throw new IllegalStateException("Unexpected MAT-file numeric data type " + tagType);
+        };
+    }
+
+    /**
+     * Read the current character element as a string.
+     */
+    String readString() throws IOException {
+        Charset charset = switch (tagType) {
+            case MI_UTF8 -> StandardCharsets.UTF_8;
+            case MI_INT8, MI_UINT8 -> StandardCharsets.ISO_8859_1;
+            case MI_UINT16, MI_UTF16 -> buffer.order() == ByteOrder.LITTLE_ENDIAN ? StandardCharsets.UTF_16LE : StandardCharsets.UTF_16BE;
+            case MI_UTF32 -> Charset.forName(buffer.order() == ByteOrder.LITTLE_ENDIAN ? "UTF-32LE" : "UTF-32BE");
+            default -> throw new IllegalStateException("Unexpected MAT-file character data type " + tagType);
+        };
+        return new String(readBytes(tagSize), charset);
+    }
+
+    /**
+     * Create a stream on the next bytes of this input, typically the compressed data of the current element. Closing
+     * the stream skips the bytes which have not been read.
+     */
+    InputStream newBoundedStream(long length) {
+        return new InputStream() {
+
+            private long remaining = length;
+
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(b[0]);
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (remaining == 0 || !buffer.hasRemaining() && !fill(1)) {
+                    return -1;
+                }
+                int read = (int) Math.min(Math.min(len, remaining), buffer.remaining());
+                buffer.get(b, off, read);
+                position += read;
+                remaining -= read;
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                skip(remaining);
+                remaining = 0;
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.matpower.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Sequential writer of the data elements of a level 5 MAT-file, encoding the values through a buffer, so that arrays
+ * can be written without being materialized.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class Mat5DataOutput {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream os;
+    private final ByteBuffer buffer;
+
+    Mat5DataOutput(OutputStream os, ByteOrder order) {
+        this.os = os;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(order);
+    }
+
+    /**
+     * Size of a data element of the given data size, including its tag and padding.
+     */
+    static long getElementSize(long dataSize) {
+        if (dataSize > 0 && dataSize <= Integer.BYTES) {
+            return 8;
+        }
+        return 8 + dataSize + getPaddingSize(dataSize);
+    }
+
+    private static long getPaddingSize(long dataSize) {
+        return (8 - dataSize % 8) % 8;
+    }
+
+    private void ensure(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+
+    void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeShort(short value) throws IOException {
+        ensure(Short.BYTES);
+        buffer.putShort(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(bytes.length - offset, buffer.remaining());
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    void writeZeros(long length) throws IOException {
+        for (long i = 0; i < length; i++) {
+            ensure(Byte.BYTES);
+            buffer.put((byte) 0);
+        }
+    }
+
+    /**
+     * Write the tag of a data element, in the small data element format for data of at most 4 bytes.
+     */
+    void writeTag(int type, long dataSize) throws IOException {
+        if (dataSize > 0 && dataSize <= Integer.BYTES) {
+            writeInt((int) dataSize << 16 | type);
+        } else {
+            writeInt(type);
+            writeInt(Math.toIntExact(dataSize));
+        }
+    }
+
+    /**
+     * Write the padding which follows the data of an element.
+     */
+    void endElement(long dataSize) throws IOException {
+        if (dataSize > 0 && dataSize <= Integer.BYTES) {
+            writeZeros(Integer.BYTES - dataSize);
+        } else {
+            writeZeros(getPaddingSize(dataSize));
+        }
+    }
+
+    void writeElement(int type, byte[] data) throws IOException {
+        writeTag(type, data.length);
+        writeBytes(data);
+        endElement(data.length);
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        os.write(buffer.array(), 0, buffer.limit());
+        buffer.clear();
+    }
+}
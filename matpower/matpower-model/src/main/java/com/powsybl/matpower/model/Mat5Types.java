@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.matpower.model;
+
+/**
+ * Data types and array classes of the level 5 MAT-file format.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class Mat5Types {
+
+    static final int HEADER_SIZE = 128;
+    static final int HEADER_TEXT_SIZE = 116;
+
+    static final int MI_INT8 = 1;
+    static final int MI_UINT8 = 2;
+    static final int MI_INT16 = 3;
+    static final int MI_UINT16 = 4;
+    static final int MI_INT32 = 5;
+    static final int MI_UINT32 = 6;
+    static final int MI_SINGLE = 7;
+    static final int MI_DOUBLE = 9;
+    static final int MI_INT64 = 12;
+    static final int MI_UINT64 = 13;
+    static final int MI_MATRIX = 14;
+    static final int MI_COMPRESSED = 15;
+    static final int MI_UTF8 = 16;
+    static final int MI_UTF16 = 17;
+    static final int MI_UTF32 = 18;
+
+    static final int MX_CELL_CLASS = 1;
+    static final int MX_STRUCT_CLASS = 2;
+    static final int MX_CHAR_CLASS = 4;
+    static final int MX_SPARSE_CLASS = 5;
+    static final int MX_DOUBLE_CLASS = 6;
+    static final int MX_UINT64_CLASS = 15;
+
+    private Mat5Types() {
+    }
+}
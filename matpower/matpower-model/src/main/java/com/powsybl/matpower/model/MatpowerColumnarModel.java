@@ -0,0 +1,340 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.matpower.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Column oriented MATPOWER case: each column of the bus, gen and branch matrices is stored in a primitive array,
+ * as in a MAT-file, the column indices being the ones of the MATPOWER documentation, named as in its
+ * {@code idx_bus}, {@code idx_gen} and {@code idx_brch} functions.
+ * <p>
+ * This is the representation read and written by {@link MatpowerReader} and {@link MatpowerWriter}, which decode and
+ * encode the columns directly from and to the MAT-file. The arrays are not copied, so they must not be modified by
+ * the caller once the model is created.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public final class MatpowerColumnarModel {
+
+    public static final int BUS_COLUMN_COUNT = 13;
+    public static final int GEN_COLUMN_COUNT = 21;
+    public static final int BRANCH_COLUMN_COUNT = 13;
+
+    // bus columns
+    public static final int BUS_I = 0;
+    public static final int BUS_TYPE = 1;
+    public static final int PD = 2;
+    public static final int QD = 3;
+    public static final int GS = 4;
+    public static final int BS = 5;
+    public static final int BUS_AREA = 6;
+    public static final int VM = 7;
+    public static final int VA = 8;
+    public static final int BASE_KV = 9;
+    public static final int ZONE = 10;
+    public static final int VMAX = 11;
+    public static final int VMIN = 12;
+
+    // gen columns
+    public static final int GEN_BUS = 0;
+    public static final int PG = 1;
+    public static final int QG = 2;
+    public static final int QMAX = 3;
+    public static final int QMIN = 4;
+    public static final int VG = 5;
+    public static final int MBASE = 6;
+    public static final int GEN_STATUS = 7;
+    public static final int PMAX = 8;
+    public static final int PMIN = 9;
+    public static final int PC1 = 10;
+    public static final int PC2 = 11;
+    public static final int QC1MIN = 12;
+    public static final int QC1MAX = 13;
+    public static final int QC2MIN = 14;
+    public static final int QC2MAX = 15;
+    public static final int RAMP_AGC = 16;
+    public static final int RAMP_10 = 17;
+    public static final int RAMP_30 = 18;
+    public static final int RAMP_Q = 19;
+    public static final int APF = 20;
+
+    // branch columns
+    public static final int F_BUS = 0;
+    public static final int T_BUS = 1;
+    public static final int BR_R = 2;
+    public static final int BR_X = 3;
+    public static final int BR_B = 4;
+    public static final int RATE_A = 5;
+    public static final int RATE_B = 6;
+    public static final int RATE_C = 7;
+    public static final int TAP = 8;
+    public static final int SHIFT = 9;
+    public static final int BR_STATUS = 10;
+    public static final int ANGMIN = 11;
+    public static final int ANGMAX = 12;
+
+    private final String caseName;
+    private final String version;
+    private final double baseMva;
+    private final double[][] buses;
+    private final double[][] generators;
+    private final double[][] branches;
+    private final String[] busNames;
+
+    /**
+     * @param buses bus matrix, indexed by column then by row
+     * @param generators gen matrix, indexed by column then by row
+     * @param branches branch matrix, indexed by column then by row
+     * @param busNames bus names, or null if the case has no bus names
+     */
+    public MatpowerColumnarModel(String caseName, String version, double baseMva, double[][] buses, double[][] generators,
+                                 double[][] branches, String[] busNames) {
+        this.caseName = Objects.requireNonNull(caseName);
+        this.version = version;
+        this.baseMva = baseMva;
+        this.buses = checkColumns(buses, BUS_COLUMN_COUNT, "bus");
+        this.generators = checkColumns(generators, GEN_COLUMN_COUNT, "gen");
+        this.branches = checkColumns(branches, BRANCH_COLUMN_COUNT, "branch");
+        this.busNames = checkBusNames(busNames, getBusCount());
+    }
+
+    static String[] checkBusNames(String[] busNames, int busCount) {
+        if (busNames != null && busNames.length != busCount) {
+            throw new IllegalArgumentException("Bus name count " + busNames.length + " is not the bus count " + busCount);
+        }
+        return busNames;
+    }
+
+    private static double[][] checkColumns(double[][] columns, int columnCount, String name) {
+        Objects.requireNonNull(columns);
+        if (columns.length != columnCount) {
+            throw new IllegalArgumentException("Expected " + columnCount + " " + name + " columns, got " + columns.length);
+        }
+        for (double[] column : columns) {
+            if (column.length != columns[0].length) {
+                throw new IllegalArgumentException("All " + name + " columns must have the same length");
+            }
+        }
+        return columns;
+    }
+
+    public String getCaseName() {
+        return caseName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public double getBaseMva() {
+        return baseMva;
+    }
+
+    public int getBusCount() {
+        return buses[0].length;
+    }
+
+    public double[] getBusColumn(int column) {
+        return buses[column];
+    }
+
+    public int getGeneratorCount() {
+        return generators[0].length;
+    }
+
+    public double[] getGeneratorColumn(int column) {
+        return generators[column];
+    }
+
+    public int getBranchCount() {
+        return branches[0].length;
+    }
+
+    public double[] getBranchColumn(int column) {
+        return branches[column];
+    }
+
+    /**
+     * @return the bus names, or null if the case has no bus names
+     */
+    public String[] getBusNames() {
+        return busNames;
+    }
+
+    public boolean hasBusNames() {
+        return busNames != null;
+    }
+
+    public static MatpowerColumnarModel fromModel(MatpowerModel model) {
+        Objects.requireNonNull(model);
+        List<MBus> mBuses = model.getBuses();
+        double[][] buses = new double[BUS_COLUMN_COUNT][mBuses.size()];
+        String[] busNames = null;
+        for (int row = 0; row < mBuses.size(); row++) {
+            MBus bus = mBuses.get(row);
+            buses[0][row] = bus.getNumber();
+            buses[1][row] = bus.getType().getValue();
+            buses[2][row] = bus.getRealPowerDemand();
+            buses[3][row] = bus.getReactivePowerDemand();
+            buses[4][row] = bus.getShuntConductance();
+            buses[5][row] = bus.getShuntSusceptance();
+            buses[6][row] = bus.getAreaNumber();
+            buses[7][row] = bus.getVoltageMagnitude();
+            buses[8][row] = bus.getVoltageAngle();
+            buses[9][row] = bus.getBaseVoltage();
+            buses[10][row] = bus.getLossZone();
+            buses[11][row] = bus.getMaximumVoltageMagnitude();
+            buses[12][row] = bus.getMinimumVoltageMagnitude();
+            if (bus.getName() != null) {
+                if (busNames == null) {
+                    busNames = new String[mBuses.size()];
+                }
+                busNames[row] = bus.getName();
+            }
+        }
+
+        List<MGen> mGens = model.getGenerators();
+        double[][] generators = new double[GEN_COLUMN_COUNT][mGens.size()];
+        for (int row = 0; row < mGens.size(); row++) {
+            MGen gen = mGens.get(row);
+            generators[0][row] = gen.getNumber();
+            generators[1][row] = gen.getRealPowerOutput();
+            generators[2][row] = gen.getReactivePowerOutput();
+            generators[3][row] = gen.getMaximumReactivePowerOutput();
+            generators[4][row] = gen.getMinimumReactivePowerOutput();
+            generators[5][row] = gen.getVoltageMagnitudeSetpoint();
+            generators[6][row] = gen.getTotalMbase();
+            generators[7][row] = gen.getStatus();
+            generators[8][row] = gen.getMaximumRealPowerOutput();
+            generators[9][row] = gen.getMinimumRealPowerOutput();
+            generators[10][row] = gen.getPc1();
+            generators[11][row] = gen.getPc2();
+            generators[12][row] = gen.getQc1Min();
+            generators[13][row] = gen.getQc1Max();
+            generators[14][row] = gen.getQc2Min();
+            generators[15][row] = gen.getQc2Max();
+            generators[16][row] = gen.getRampAgc();
+            generators[17][row] = gen.getRampTenMinutes();
+            generators[18][row] = gen.getRampThirtyMinutes();
+            generators[19][row] = gen.getRampQ();
+            generators[20][row] = gen.getApf();
+        }
+
+        List<MBranch> mBranches = model.getBranches();
+        double[][] branches = new double[BRANCH_COLUMN_COUNT][mBranches.size()];
+        for (int row = 0; row < mBranches.size(); row++) {
+            MBranch branch = mBranches.get(row);
+            branches[0][row] = branch.getFrom();
+            branches[1][row] = branch.getTo();
+            branches[2][row] = branch.getR();
+            branches[3][row] = branch.getX();
+            branches[4][row] = branch.getB();
+            branches[5][row] = branch.getRateA();
+            branches[6][row] = branch.getRateB();
+            branches[7][row] = branch.getRateC();
+            branches[8][row] = branch.getRatio();
+            branches[9][row] = branch.getPhaseShiftAngle();
+            branches[10][row] = branch.getStatus();
+            branches[11][row] = branch.getAngMin();
+            branches[12][row] = branch.getAngMax();
+        }
+
+        return new MatpowerColumnarModel(model.getCaseName(), model.getVersion(), model.getBaseMva(), buses, generators, branches, busNames);
+    }
+
+    public MatpowerModel toModel() {
+        MatpowerModel model = new MatpowerModel(caseName);
+        model.setVersion(version);
+        model.setBaseMva(baseMva);
+        addBuses(model, buses, busNames);
+        addGenerators(model, generators);
+        addBranches(model, branches);
+        return model;
+    }
+
+    /**
+     * Add the buses of a bus matrix, indexed by column then by row, to a model.
+     */
+    static void addBuses(MatpowerModel model, double[][] buses, String[] busNames) {
+        for (int row = 0; row < buses[0].length; row++) {
+            MBus bus = new MBus();
+            bus.setNumber((int) buses[0][row]);
+            if (busNames != null) {
+                bus.setName(busNames[row]);
+            }
+            bus.setType(MBus.Type.fromInt((int) buses[1][row]));
+            bus.setRealPowerDemand(buses[2][row]);
+            bus.setReactivePowerDemand(buses[3][row]);
+            bus.setShuntConductance(buses[4][row]);
+            bus.setShuntSusceptance(buses[5][row]);
+            bus.setAreaNumber((int) buses[6][row]);
+            bus.setVoltageMagnitude(buses[7][row]);
+            bus.setVoltageAngle(buses[8][row]);
+            bus.setBaseVoltage(buses[9][row]);
+            bus.setLossZone((int) buses[10][row]);
+            bus.setMaximumVoltageMagnitude(buses[11][row]);
+            bus.setMinimumVoltageMagnitude(buses[12][row]);
+            model.addBus(bus);
+        }
+    }
+
+    /**
+     * Add the generators of a gen matrix, indexed by column then by row, to a model.
+     */
+    static void addGenerators(MatpowerModel model, double[][] generators) {
+        for (int row = 0; row < generators[0].length; row++) {
+            MGen gen = new MGen();
+            gen.setNumber((int) generators[0][row]);
+            gen.setRealPowerOutput(generators[1][row]);
+            gen.setReactivePowerOutput(generators[2][row]);
+            gen.setMaximumReactivePowerOutput(generators[3][row]);
+            gen.setMinimumReactivePowerOutput(generators[4][row]);
+            gen.setVoltageMagnitudeSetpoint(generators[5][row]);
+            gen.setTotalMbase(generators[6][row]);
+            gen.setStatus((int) generators[7][row]);
+            gen.setMaximumRealPowerOutput(generators[8][row]);
+            gen.setMinimumRealPowerOutput(generators[9][row]);
+            gen.setPc1(generators[10][row]);
+            gen.setPc2(generators[11][row]);
+            gen.setQc1Min(generators[12][row]);
+            gen.setQc1Max(generators[13][row]);
+            gen.setQc2Min(generators[14][row]);
+            gen.setQc2Max(generators[15][row]);
+            gen.setRampAgc(generators[16][row]);
+            gen.setRampTenMinutes(generators[17][row]);
+            gen.setRampThirtyMinutes(generators[18][row]);
+            gen.setRampQ(generators[19][row]);
+            gen.setApf(generators[20][row]);
+            model.addGenerator(gen);
+        }
+    }
+
+    /**
+     * Add the branches of a branch matrix, indexed by column then by row, to a model.
+     */
+    static void addBranches(MatpowerModel model, double[][] branches) {
+        for (int row = 0; row < branches[0].length; row++) {
+            MBranch branch = new MBranch();
+            branch.setFrom((int) branches[0][row]);
+            branch.setTo((int) branches[1][row]);
+            branch.setR(branches[2][row]);
+            branch.setX(branches[3][row]);
+            branch.setB(branches[4][row]);
+            branch.setRateA(branches[5][row]);
+            branch.setRateB(branches[6][row]);
+            branch.setRateC(branches[7][row]);
+            branch.setRatio(branches[8][row]);
+            branch.setPhaseShiftAngle(branches[9][row]);
+            branch.setStatus((int) branches[10][row]);
+            branch.setAngMin(branches[11][row]);
+            branch.setAngMax(branches[12][row]);
+            model.addBranch(branch);
+        }
+    }
+}
@@ -7,15 +7,18 @@
 package com.powsybl.matpower.model;
 
 import com.google.common.collect.Sets;
-import us.hebi.matlab.mat.format.Mat5;
-import us.hebi.matlab.mat.types.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.zip.InflaterInputStream;
+
+import static com.powsybl.matpower.model.Mat5Types.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -28,114 +31,258 @@ public final class MatpowerReader {
     private MatpowerReader() {
     }
 
+    private record ArrayHeader(int arrayClass, int[] dimensions, String name) {
+
+        private int getElementCount() {
+            int count = 1;
+            for (int dimension : dimensions) {
+                count *= dimension;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * MATPOWER fields, decoded while reading the 'mpc' structure.
+     */
+    private static final class MpcFields {
+
+        private final Set<String> names = new HashSet<>();
+        private String version;
+        private double baseMva;
+        private double[][] buses;
+        private double[][] generators;
+        private double[][] branches;
+        private String[] busNames;
+    }
+
     public static MatpowerModel read(Path file, String caseName) throws IOException {
         try (InputStream stream = Files.newInputStream(file)) {
             return read(stream, caseName);
         }
     }
 
+    /**
+     * Read a MATPOWER case from a level 5 MAT-file. The MATPOWER matrices are decoded as with
+     * {@link #readColumns(InputStream, String)}, then converted one after the other, the arrays of a matrix being
+     * released once its rows are converted.
+     */
     public static MatpowerModel read(InputStream iStream, String caseName) throws IOException {
+        MpcFields fields = readFields(iStream, caseName);
+        MatpowerModel model = new MatpowerModel(caseName);
+        model.setVersion(fields.version);
+        model.setBaseMva(fields.baseMva);
+        MatpowerColumnarModel.addBuses(model, fields.buses, fields.busNames);
+        fields.buses = null;
+        fields.busNames = null;
+        MatpowerColumnarModel.addGenerators(model, fields.generators);
+        fields.generators = null;
+        MatpowerColumnarModel.addBranches(model, fields.branches);
+        fields.branches = null;
+        return model;
+    }
+
+    public static MatpowerColumnarModel readColumns(Path file, String caseName) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            return readColumns(stream, caseName);
+        }
+    }
+
+    /**
+     * Read a MATPOWER case from a level 5 MAT-file. The MAT-file is decoded as a stream: the columns of the MATPOWER
+     * matrices are directly decoded into the primitive arrays of the model, and the other variables and fields are
+     * skipped.
+     */
+    public static MatpowerColumnarModel readColumns(InputStream iStream, String caseName) throws IOException {
+        MpcFields fields = readFields(iStream, caseName);
+        return new MatpowerColumnarModel(caseName, fields.version, fields.baseMva, fields.buses, fields.generators, fields.branches, fields.busNames);
+    }
+
+    private static MpcFields readFields(InputStream iStream, String caseName) throws IOException {
         Objects.requireNonNull(iStream);
+        Objects.requireNonNull(caseName);
 
-        MatpowerModel model = null;
-        try (MatFile mat = Mat5.newReader(Sources.wrapInputStream(iStream)).setEntryFilter(entry -> entry.getName().equals(MATPOWER_STRUCT_NAME)).readMat()) {
-            if (mat.getNumEntries() == 0) {
-                throw new IllegalStateException("no MATPOWER data: expected structure named '" + MATPOWER_STRUCT_NAME + "' not found.");
+        Mat5DataInput input = Mat5DataInput.open(iStream);
+        MpcFields fields = null;
+        while (fields == null && input.readTag()) {
+            if (input.getTagType() == MI_COMPRESSED) {
+                try (InputStream compressedStream = new InflaterInputStream(input.newBoundedStream(input.getTagSize()))) {
+                    Mat5DataInput compressedInput = new Mat5DataInput(compressedStream, input.getOrder());
+                    if (compressedInput.readTag()) {
+                        fields = readVariable(compressedInput);
+                    }
+                }
+            } else if (input.getTagType() == MI_MATRIX) {
+                fields = readVariable(input);
+            } else {
+                input.skipElement();
             }
-            Struct mpcStruct = mat.getStruct(MATPOWER_STRUCT_NAME);
-            Set<String> mpcNames = Sets.newHashSet("version", "baseMVA", "bus", "gen", "branch");
-            if (!mpcStruct.getFieldNames().containsAll(mpcNames)) {
-                throw new IllegalStateException("expected MATPOWER variables not found: " + mpcNames);
+        }
+        if (fields == null) {
+            throw new IllegalStateException("no MATPOWER data: expected structure named '" + MATPOWER_STRUCT_NAME + "' not found.");
+        }
+
+        Set<String> mpcNames = Sets.newHashSet("version", "baseMVA", "bus", "gen", "branch");
+        if (!fields.names.containsAll(mpcNames)) {
+            throw new IllegalStateException("expected MATPOWER variables not found: " + mpcNames);
+        }
+        if (!MATPOWER_SUPPORTED_VERSION.equals(fields.version)) {
+            throw new IllegalStateException("unsupported MATPOWER version: " + fields.version);
+        }
+        MatpowerColumnarModel.checkBusNames(fields.busNames, fields.buses[0].length);
+        return fields;
+    }
+
+    private static ArrayHeader readArrayHeader(Mat5DataInput input) throws IOException {
+        input.readTag(MI_UINT32);
+        int arrayClass = input.readInt() & 0xFF;
+        input.skip(input.getTagSize() - (long) Integer.BYTES);
+        input.endElement();
+
+        input.readTag(MI_INT32);
+        int[] dimensions = new int[input.getTagSize() / Integer.BYTES];
+        for (int i = 0; i < dimensions.length; i++) {
+            dimensions[i] = input.readInt();
+        }
+        input.endElement();
+
+        input.readTag(MI_INT8);
+        String name = new String(input.readBytes(input.getTagSize()), StandardCharsets.US_ASCII);
+        input.endElement();
+        return new ArrayHeader(arrayClass, dimensions, name);
+    }
+
+    /**
+     * Read a variable of the MAT-file, its miMATRIX tag having been read.
+     *
+     * @return the MATPOWER fields if the variable is the MATPOWER structure, null otherwise
+     */
+    private static MpcFields readVariable(Mat5DataInput input) throws IOException {
+        long end = input.getPosition() + input.getTagSize();
+        MpcFields fields = null;
+        if (input.getTagSize() > 0) {
+            ArrayHeader header = readArrayHeader(input);
+            if (header.name().equals(MATPOWER_STRUCT_NAME)) {
+                if (header.arrayClass() != MX_STRUCT_CLASS || header.getElementCount() != 1) {
+                    throw new IllegalStateException("no MATPOWER data: '" + MATPOWER_STRUCT_NAME + "' is not a structure.");
+                }
+                fields = readStruct(input);
             }
-            String version = mpcStruct.get("version").toString().replace("'", "");
-            if (!version.equals(MATPOWER_SUPPORTED_VERSION)) {
-                throw new IllegalStateException("unsupported MATPOWER version: " + version);
+        }
+        input.skipTo(end);
+        return fields;
+    }
+
+    private static MpcFields readStruct(Mat5DataInput input) throws IOException {
+        input.readTag(MI_INT32);
+        int fieldNameLength = input.readInt();
+        input.endElement();
+        if (fieldNameLength <= 0) {
+            throw new IllegalStateException("no MATPOWER data: invalid field name length " + fieldNameLength + " of '" + MATPOWER_STRUCT_NAME + "'.");
+        }
+
+        input.readTag(MI_INT8);
+        byte[] fieldNameBytes = input.readBytes(input.getTagSize());
+        input.endElement();
+
+        MpcFields fields = new MpcFields();
+        for (int offset = 0; offset + fieldNameLength <= fieldNameBytes.length; offset += fieldNameLength) {
+            int length = 0;
+            while (length < fieldNameLength && fieldNameBytes[offset + length] != 0) {
+                length++;
             }
+            String fieldName = new String(fieldNameBytes, offset, length, StandardCharsets.US_ASCII);
 
-            double baseMVA = mpcStruct.getMatrix("baseMVA").getDouble(0);
-            Matrix buses = mpcStruct.getMatrix("bus");
-            Matrix generators = mpcStruct.getMatrix("gen");
-            Matrix branches = mpcStruct.getMatrix("branch");
-            Cell busesNames = null;
-            if (mpcStruct.getFieldNames().contains("bus_name")) {
-                busesNames = mpcStruct.getCell("bus_name");
+            input.readTag(MI_MATRIX);
+            long end = input.getPosition() + input.getTagSize();
+            if (input.getTagSize() > 0) {
+                readField(input, fieldName, end, fields);
             }
-            model = new MatpowerModel(caseName);
-            model.setVersion(version);
-            model.setBaseMva(baseMVA);
-
-            for (int row = 0; row < buses.getDimensions()[0]; row++) {
-                MBus bus = new MBus();
-                for (int col = 0; col < buses.getDimensions()[1]; col++) {
-                    bus.setNumber(buses.getInt(row, 0));
-                    if (busesNames != null) {
-                        String name = busesNames.getChar(row).getString();
-                        bus.setName(name);
-                    }
-                    bus.setType(MBus.Type.fromInt(buses.getInt(row, 1)));
-                    bus.setRealPowerDemand(buses.getDouble(row, 2));
-                    bus.setReactivePowerDemand(buses.getDouble(row, 3));
-                    bus.setShuntConductance(buses.getDouble(row, 4));
-                    bus.setShuntSusceptance(buses.getDouble(row, 5));
-                    bus.setAreaNumber(buses.getInt(row, 6));
-                    bus.setVoltageMagnitude(buses.getDouble(row, 7));
-                    bus.setVoltageAngle(buses.getDouble(row, 8));
-                    bus.setBaseVoltage(buses.getDouble(row, 9));
-                    bus.setLossZone(buses.getInt(row, 10));
-                    bus.setMaximumVoltageMagnitude(buses.getDouble(row, 11));
-                    bus.setMinimumVoltageMagnitude(buses.getDouble(row, 12));
-                }
-                model.addBus(bus);
+            input.skipTo(end);
+        }
+        return fields;
+    }
+
+    private static void readField(Mat5DataInput input, String fieldName, long end, MpcFields fields) throws IOException {
+        switch (fieldName) {
+            case "version" -> fields.version = readString(input, readArrayHeader(input), end);
+            case "baseMVA" -> fields.baseMva = readScalar(input, readArrayHeader(input), end, fieldName);
+            case "bus" -> fields.buses = readMatrix(input, readArrayHeader(input), end, fieldName, MatpowerColumnarModel.BUS_COLUMN_COUNT);
+            case "gen" -> fields.generators = readMatrix(input, readArrayHeader(input), end, fieldName, MatpowerColumnarModel.GEN_COLUMN_COUNT);
+            case "branch" -> fields.branches = readMatrix(input, readArrayHeader(input), end, fieldName, MatpowerColumnarModel.BRANCH_COLUMN_COUNT);
+            case "bus_name" -> fields.busNames = readStrings(input, readArrayHeader(input));
+            default -> {
+                // not needed, skipped by the caller
+                return;
             }
+        }
+        fields.names.add(fieldName);
+    }
 
-            for (int row = 0; row < generators.getDimensions()[0]; row++) {
-                MGen gen = new MGen();
-                for (int col = 0; col < generators.getDimensions()[1]; col++) {
-                    gen.setNumber(generators.getInt(row, 0));
-                    gen.setRealPowerOutput(generators.getDouble(row, 1));
-                    gen.setReactivePowerOutput(generators.getDouble(row, 2));
-                    gen.setMaximumReactivePowerOutput(generators.getDouble(row, 3));
-                    gen.setMinimumReactivePowerOutput(generators.getDouble(row, 4));
-                    gen.setVoltageMagnitudeSetpoint(generators.getDouble(row, 5));
-                    gen.setTotalMbase(generators.getDouble(row, 6));
-                    gen.setStatus(generators.getInt(row, 7));
-                    gen.setMaximumRealPowerOutput(generators.getDouble(row, 8));
-                    gen.setMinimumRealPowerOutput(generators.getDouble(row, 9));
-                    gen.setPc1(generators.getDouble(row, 10));
-                    gen.setPc2(generators.getDouble(row, 11));
-                    gen.setQc1Min(generators.getDouble(row, 12));
-                    gen.setQc1Max(generators.getDouble(row, 13));
-                    gen.setQc2Min(generators.getDouble(row, 14));
-                    gen.setQc2Max(generators.getDouble(row, 15));
-                    gen.setRampAgc(generators.getDouble(row, 16));
-                    gen.setRampTenMinutes(generators.getDouble(row, 17));
-                    gen.setRampThirtyMinutes(generators.getDouble(row, 18));
-                    gen.setRampQ(generators.getDouble(row, 19));
-                    gen.setApf(generators.getDouble(row, 20));
-                }
-                model.addGenerator(gen);
+    private static String readString(Mat5DataInput input, ArrayHeader header, long end) throws IOException {
+        if (header.arrayClass() != MX_CHAR_CLASS) {
+            return null;
+        }
+        if (input.getPosition() >= end) {
+            return "";
+        }
+        input.readTag();
+        String str = input.readString();
+        input.endElement();
+        return str;
+    }
+
+    private static String[] readStrings(Mat5DataInput input, ArrayHeader header) throws IOException {
+        if (header.arrayClass() != MX_CELL_CLASS) {
+            throw new IllegalStateException("MATPOWER field 'bus_name' is not a cell array");
+        }
+        String[] strings = new String[header.getElementCount()];
+        for (int i = 0; i < strings.length; i++) {
+            input.readTag(MI_MATRIX);
+            long end = input.getPosition() + input.getTagSize();
+            if (input.getTagSize() > 0) {
+                strings[i] = readString(input, readArrayHeader(input), end);
             }
+            input.skipTo(end);
+        }
+        return strings;
+    }
 
-            for (int row = 0; row < branches.getDimensions()[0]; row++) {
-                MBranch branch = new MBranch();
-                for (int col = 0; col < branches.getDimensions()[1]; col++) {
-                    branch.setFrom(branches.getInt(row, 0));
-                    branch.setTo(branches.getInt(row, 1));
-                    branch.setR(branches.getDouble(row, 2));
-                    branch.setX(branches.getDouble(row, 3));
-                    branch.setB(branches.getDouble(row, 4));
-                    branch.setRateA(branches.getDouble(row, 5));
-                    branch.setRateB(branches.getDouble(row, 6));
-                    branch.setRateC(branches.getDouble(row, 7));
-                    branch.setRatio(branches.getDouble(row, 8));
-                    branch.setPhaseShiftAngle(branches.getDouble(row, 9));
-                    branch.setStatus(branches.getInt(row, 10));
-                    branch.setAngMin(branches.getDouble(row, 11));
-                    branch.setAngMax(branches.getDouble(row, 12));
-                }
-                model.addBranch(branch);
+    private static double readScalar(Mat5DataInput input, ArrayHeader header, long end, String fieldName) throws IOException {
+        double[] values = readMatrix(input, header, end, fieldName, 1)[0];
+        if (values.length == 0) {
+            throw new IllegalStateException("MATPOWER field '" + fieldName + "' is empty");
+        }
+        return values[0];
+    }
+
+    /**
+     * Decode the first columns of a numeric matrix, column by column as they are stored in the MAT-file.
+     */
+    private static double[][] readMatrix(Mat5DataInput input, ArrayHeader header, long end, String fieldName, int columnCount) throws IOException {
+        if (header.arrayClass() < MX_DOUBLE_CLASS || header.arrayClass() > MX_UINT64_CLASS || header.dimensions().length != 2) {
+            String type = header.arrayClass() == MX_SPARSE_CLASS ? "sparse" : "not a numeric";
+            throw new IllegalStateException("MATPOWER field '" + fieldName + "' is " + type + " matrix");
+        }
+        int rowCount = header.dimensions()[0];
+        int storedColumnCount = header.dimensions()[1];
+        double[][] columns = new double[columnCount][rowCount];
+        if (rowCount == 0) {
+            return columns;
+        }
+        if (storedColumnCount < columnCount) {
+            throw new IllegalStateException("MATPOWER field '" + fieldName + "' has " + storedColumnCount + " columns, at least " + columnCount + " expected");
+        }
+        if (input.getPosition() >= end) {
+            throw new IllegalStateException("MATPOWER field '" + fieldName + "' has no data");
+        }
+        // real part only, the imaginary part of a complex matrix being skipped with the rest of the field
+        input.readTag();
+        for (double[] column : columns) {
+            for (int row = 0; row < rowCount; row++) {
+                column[row] = input.readNumber();
             }
         }
-        return model;
+        return columns;
     }
 }
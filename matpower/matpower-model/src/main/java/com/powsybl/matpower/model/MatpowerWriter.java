@@ -7,18 +7,22 @@
 package com.powsybl.matpower.model;
 
 import us.hebi.matlab.mat.format.Mat5;
-import us.hebi.matlab.mat.types.*;
-import us.hebi.matlab.mat.util.Casts;
 
 import java.io.*;
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static com.powsybl.matpower.model.Mat5DataOutput.getElementSize;
+import static com.powsybl.matpower.model.Mat5Types.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -28,117 +32,188 @@ public final class MatpowerWriter {
     private MatpowerWriter() {
     }
 
-    private static Struct fillMatStruct(Struct struct, MatpowerModel model, boolean withBusNames) {
-        List<MBus> buses = model.getBuses();
-        Matrix busesM = Mat5.newMatrix(buses.size(), 13);
-        Cell busesNames = null;
-        for (int row = 0; row < buses.size(); row++) {
-            MBus bus = buses.get(row);
-            busesM.setDouble(row, 0, bus.getNumber());
-            busesM.setDouble(row, 1, bus.getType().getValue());
-            busesM.setDouble(row, 2, bus.getRealPowerDemand());
-            busesM.setDouble(row, 3, bus.getReactivePowerDemand());
-            busesM.setDouble(row, 4, bus.getShuntConductance());
-            busesM.setDouble(row, 5, bus.getShuntSusceptance());
-            busesM.setDouble(row, 6, bus.getAreaNumber());
-            busesM.setDouble(row, 7, bus.getVoltageMagnitude());
-            busesM.setDouble(row, 8, bus.getVoltageAngle());
-            busesM.setDouble(row, 9, bus.getBaseVoltage());
-            busesM.setDouble(row, 10, bus.getLossZone());
-            busesM.setDouble(row, 11, bus.getMaximumVoltageMagnitude());
-            busesM.setDouble(row, 12, bus.getMinimumVoltageMagnitude());
-            if (withBusNames && bus.getName() != null) {
-                if (busesNames == null) {
-                    busesNames = Mat5.newCell(buses.size(), 1);
-                }
-                char[] chars = bus.getName().toCharArray();
-                Char mChar = Mat5.newChar(1, chars.length);
-                for (int i = 0; i < chars.length; i++) {
-                    mChar.setChar(i, chars[i]);
-                }
-                busesNames.set(row, 0, mChar);
+    /**
+     * A field of the MATPOWER structure, its size being known before it is written.
+     */
+    private record Field(String name, long size, FieldContentWriter writer) {
+    }
+
+    @FunctionalInterface
+    private interface FieldContentWriter {
+
+        void write(Mat5DataOutput output) throws IOException;
+    }
+
+    private static long getArrayHeaderSize(String name) {
+        // array flags, dimensions and name
+        return 16 + 16 + getElementSize(name.length());
+    }
+
+    private static void writeArrayHeader(Mat5DataOutput output, int arrayClass, int rowCount, int columnCount, String name) throws IOException {
+        output.writeTag(MI_UINT32, 8);
+        output.writeInt(arrayClass);
+        output.writeInt(0);
+        output.writeTag(MI_INT32, 8);
+        output.writeInt(rowCount);
+        output.writeInt(columnCount);
+        output.writeElement(MI_INT8, name.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long getStringSize(String str) {
+        return getArrayHeaderSize("") + getElementSize(str.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void writeString(Mat5DataOutput output, String str) throws IOException {
+        output.writeTag(MI_MATRIX, getStringSize(str));
+        writeArrayHeader(output, MX_CHAR_CLASS, 1, str.length(), "");
+        output.writeElement(MI_UTF8, str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long getMatrixSize(int rowCount, int columnCount) {
+        return getArrayHeaderSize("") + getElementSize((long) Double.BYTES * rowCount * columnCount);
+    }
+
+    /**
+     * Write a double matrix, column by column as stored in a MAT-file.
+     */
+    private static void writeMatrix(Mat5DataOutput output, double[][] columns, int rowCount) throws IOException {
+        output.writeTag(MI_MATRIX, getMatrixSize(rowCount, columns.length));
+        writeArrayHeader(output, MX_DOUBLE_CLASS, rowCount, columns.length, "");
+        long dataSize = (long) Double.BYTES * rowCount * columns.length;
+        output.writeTag(MI_DOUBLE, dataSize);
+        for (double[] column : columns) {
+            for (double value : column) {
+                output.writeDouble(value);
             }
         }
+        output.endElement(dataSize);
+    }
 
-        List<MGen> gens = model.getGenerators();
-        Matrix gensM = Mat5.newMatrix(gens.size(), 21);
-        for (int row = 0; row < gens.size(); row++) {
-            gensM.setDouble(row, 0, gens.get(row).getNumber());
-            gensM.setDouble(row, 1, gens.get(row).getRealPowerOutput());
-            gensM.setDouble(row, 2, gens.get(row).getReactivePowerOutput());
-            gensM.setDouble(row, 3, gens.get(row).getMaximumReactivePowerOutput());
-            gensM.setDouble(row, 4, gens.get(row).getMinimumReactivePowerOutput());
-            gensM.setDouble(row, 5, gens.get(row).getVoltageMagnitudeSetpoint());
-            gensM.setDouble(row, 6, gens.get(row).getTotalMbase());
-            gensM.setDouble(row, 7, gens.get(row).getStatus());
-            gensM.setDouble(row, 8, gens.get(row).getMaximumRealPowerOutput());
-            gensM.setDouble(row, 9, gens.get(row).getMinimumRealPowerOutput());
-            gensM.setDouble(row, 10, gens.get(row).getPc1());
-            gensM.setDouble(row, 11, gens.get(row).getPc2());
-            gensM.setDouble(row, 12, gens.get(row).getQc1Min());
-            gensM.setDouble(row, 13, gens.get(row).getQc1Max());
-            gensM.setDouble(row, 14, gens.get(row).getQc2Min());
-            gensM.setDouble(row, 15, gens.get(row).getQc2Max());
-            gensM.setDouble(row, 16, gens.get(row).getRampAgc());
-            gensM.setDouble(row, 17, gens.get(row).getRampTenMinutes());
-            gensM.setDouble(row, 18, gens.get(row).getRampThirtyMinutes());
-            gensM.setDouble(row, 19, gens.get(row).getRampQ());
-            gensM.setDouble(row, 20, gens.get(row).getApf());
+    private static long getCellElementSize(String str) {
+        // missing strings are written as empty matrices
+        return str != null ? getStringSize(str) : getMatrixSize(0, 0);
+    }
+
+    private static long getStringCellSize(String[] strings) {
+        long size = getArrayHeaderSize("");
+        for (String str : strings) {
+            size += 8 + getCellElementSize(str);
         }
+        return size;
+    }
 
-        List<MBranch> branches = model.getBranches();
-        Matrix branchesM = Mat5.newMatrix(branches.size(), 13);
-        for (int row = 0; row < branches.size(); row++) {
-            branchesM.setDouble(row, 0, branches.get(row).getFrom());
-            branchesM.setDouble(row, 1, branches.get(row).getTo());
-            branchesM.setDouble(row, 2, branches.get(row).getR());
-            branchesM.setDouble(row, 3, branches.get(row).getX());
-            branchesM.setDouble(row, 4, branches.get(row).getB());
-            branchesM.setDouble(row, 5, branches.get(row).getRateA());
-            branchesM.setDouble(row, 6, branches.get(row).getRateB());
-            branchesM.setDouble(row, 7, branches.get(row).getRateC());
-            branchesM.setDouble(row, 8, branches.get(row).getRatio());
-            branchesM.setDouble(row, 9, branches.get(row).getPhaseShiftAngle());
-            branchesM.setDouble(row, 10, branches.get(row).getStatus());
-            branchesM.setDouble(row, 11, branches.get(row).getAngMin());
-            branchesM.setDouble(row, 12, branches.get(row).getAngMax());
+    private static void writeStringCell(Mat5DataOutput output, String[] strings) throws IOException {
+        output.writeTag(MI_MATRIX, getStringCellSize(strings));
+        writeArrayHeader(output, MX_CELL_CLASS, strings.length, 1, "");
+        for (String str : strings) {
+            if (str != null) {
+                writeString(output, str);
+            } else {
+                writeMatrix(output, new double[0][0], 0);
+            }
         }
+    }
 
-        struct.set("version", Mat5.newString(model.getVersion()))
-                .set("baseMVA", Mat5.newScalar(model.getBaseMva()))
-                .set("bus", busesM)
-                .set("gen", gensM)
-                .set("branch", branchesM);
-        if (busesNames != null) {
-            struct.set("bus_name", busesNames);
+    private static double[][] getColumns(int columnCount, IntFunction<double[]> columnGetter) {
+        double[][] columns = new double[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = columnGetter.apply(i);
         }
-        return struct;
+        return columns;
     }
 
-    public static void write(MatpowerModel model, OutputStream oStream, boolean withBusNames) throws IOException {
+    private static List<Field> getFields(MatpowerColumnarModel model, boolean withBusNames) {
+        double[][] buses = getColumns(MatpowerColumnarModel.BUS_COLUMN_COUNT, model::getBusColumn);
+        double[][] generators = getColumns(MatpowerColumnarModel.GEN_COLUMN_COUNT, model::getGeneratorColumn);
+        double[][] branches = getColumns(MatpowerColumnarModel.BRANCH_COLUMN_COUNT, model::getBranchColumn);
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field("version", getStringSize(model.getVersion()), output -> writeString(output, model.getVersion())));
+        fields.add(new Field("baseMVA", getMatrixSize(1, 1), output -> writeMatrix(output, new double[][] {{model.getBaseMva()}}, 1)));
+        fields.add(new Field("bus", getMatrixSize(model.getBusCount(), buses.length), output -> writeMatrix(output, buses, model.getBusCount())));
+        fields.add(new Field("gen", getMatrixSize(model.getGeneratorCount(), generators.length), output -> writeMatrix(output, generators, model.getGeneratorCount())));
+        fields.add(new Field("branch", getMatrixSize(model.getBranchCount(), branches.length), output -> writeMatrix(output, branches, model.getBranchCount())));
+        if (withBusNames && model.hasBusNames()) {
+            fields.add(new Field("bus_name", getStringCellSize(model.getBusNames()), output -> writeStringCell(output, model.getBusNames())));
+        }
+        return fields;
+    }
+
+    /**
+     * Write the MATPOWER structure as an uncompressed data element.
+     */
+    private static void writeStruct(Mat5DataOutput output, List<Field> fields) throws IOException {
+        int fieldNameLength = fields.stream().mapToInt(field -> field.name().length()).max().orElse(0) + 1;
+        byte[] fieldNames = new byte[fieldNameLength * fields.size()];
+        long size = getArrayHeaderSize(MatpowerReader.MATPOWER_STRUCT_NAME) + getElementSize(Integer.BYTES) + getElementSize(fieldNames.length);
+        for (int i = 0; i < fields.size(); i++) {
+            byte[] name = fields.get(i).name().getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(name, 0, fieldNames, i * fieldNameLength, name.length);
+            size += 8 + fields.get(i).size();
+        }
+
+        output.writeTag(MI_MATRIX, size);
+        writeArrayHeader(output, MX_STRUCT_CLASS, 1, 1, MatpowerReader.MATPOWER_STRUCT_NAME);
+        output.writeTag(MI_INT32, Integer.BYTES);
+        output.writeInt(fieldNameLength);
+        output.endElement(Integer.BYTES);
+        output.writeElement(MI_INT8, fieldNames);
+        for (Field field : fields) {
+            field.writer().write(output);
+        }
+    }
+
+    private static void writeHeader(Mat5DataOutput output) throws IOException {
+        byte[] text = new byte[HEADER_TEXT_SIZE];
+        Arrays.fill(text, (byte) ' ');
+        byte[] description = Mat5.newMatFile().getDescription().getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(description, 0, text, 0, Math.min(description.length, text.length));
+        output.writeBytes(text);
+        // no subsystem data
+        output.writeZeros(8);
+        // version and endian indicator
+        output.writeShort((short) 0x0100);
+        output.writeShort((short) ('M' << 8 | 'I'));
+    }
+
+    /**
+     * Write a MATPOWER case to a level 5 MAT-file, the columns of the MATPOWER matrices being directly encoded
+     * from the primitive arrays of the model. As in MATLAB files, the structure is compressed: only the compressed
+     * data is buffered, to write its size before it.
+     */
+    public static void write(MatpowerColumnarModel model, OutputStream oStream, boolean withBusNames) throws IOException {
         Objects.requireNonNull(model);
         Objects.requireNonNull(oStream);
-        try (WritableByteChannel channel = Channels.newChannel(oStream)) {
-            try (Struct struct = fillMatStruct(Mat5.newStruct(), model, withBusNames)) {
-                try (MatFile matFile = Mat5.newMatFile()) {
-                    matFile.addArray(MatpowerReader.MATPOWER_STRUCT_NAME, struct);
-                    channel.write(getByteBuffer(matFile));
-                }
-            }
+        ByteOrder order = ByteOrder.nativeOrder();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressed, deflater)) {
+            Mat5DataOutput output = new Mat5DataOutput(deflaterStream, order);
+            writeStruct(output, getFields(model, withBusNames));
+            output.flush();
+        } finally {
+            deflater.end();
+        }
+
+        try (OutputStream os = oStream) {
+            Mat5DataOutput output = new Mat5DataOutput(os, order);
+            writeHeader(output);
+            output.writeTag(MI_COMPRESSED, compressed.size());
+            output.flush();
+            compressed.writeTo(os);
         }
     }
 
-    public static void write(MatpowerModel model, Path pFile, boolean withBusNames) throws IOException {
+    public static void write(MatpowerColumnarModel model, Path pFile, boolean withBusNames) throws IOException {
         Objects.requireNonNull(pFile);
         write(model, Files.newOutputStream(pFile), withBusNames);
     }
 
-    private static ByteBuffer getByteBuffer(MatFile matFile) throws IOException {
-        int bufferSize = Casts.sint32(matFile.getUncompressedSerializedSize());
-        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
-        buffer.order(ByteOrder.nativeOrder());
-        matFile.writeTo(Sinks.wrap(buffer));
-        buffer.flip();
-        return buffer;
+    public static void write(MatpowerModel model, OutputStream oStream, boolean withBusNames) throws IOException {
+        write(MatpowerColumnarModel.fromModel(model), oStream, withBusNames);
+    }
+
+    public static void write(MatpowerModel model, Path pFile, boolean withBusNames) throws IOException {
+        Objects.requireNonNull(pFile);
+        write(model, Files.newOutputStream(pFile), withBusNames);
     }
 }
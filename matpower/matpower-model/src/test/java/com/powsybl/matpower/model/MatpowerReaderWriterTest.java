@@ -13,13 +13,22 @@ import com.google.common.jimfs.Jimfs;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import us.hebi.matlab.mat.format.Mat5;
+import us.hebi.matlab.mat.types.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.zip.Deflater;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -104,4 +113,142 @@ class MatpowerReaderWriterTest {
         assertThrows(IllegalArgumentException.class, () -> bus.setType(MBus.Type.fromInt(0)));
     }
 
+    private static Matrix toMatrix(int rowCount, int columnCount, IntFunction<double[]> columnGetter) {
+        Matrix matrix = Mat5.newMatrix(rowCount, columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            double[] values = columnGetter.apply(column);
+            for (int row = 0; row < rowCount; row++) {
+                matrix.setDouble(row, column, values[row]);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Create the MATPOWER structure with the MAT-file library, as the previous reader and writer did.
+     */
+    private static Struct toStruct(MatpowerColumnarModel model, boolean withBusNames) {
+        Struct struct = Mat5.newStruct()
+                .set("version", Mat5.newString(model.getVersion()))
+                .set("baseMVA", Mat5.newScalar(model.getBaseMva()))
+                .set("bus", toMatrix(model.getBusCount(), MatpowerColumnarModel.BUS_COLUMN_COUNT, model::getBusColumn))
+                .set("gen", toMatrix(model.getGeneratorCount(), MatpowerColumnarModel.GEN_COLUMN_COUNT, model::getGeneratorColumn))
+                .set("branch", toMatrix(model.getBranchCount(), MatpowerColumnarModel.BRANCH_COLUMN_COUNT, model::getBranchColumn));
+        if (withBusNames && model.hasBusNames()) {
+            Cell busNames = Mat5.newCell(model.getBusCount(), 1);
+            for (int row = 0; row < model.getBusCount(); row++) {
+                if (model.getBusNames()[row] != null) {
+                    busNames.set(row, 0, Mat5.newString(model.getBusNames()[row]));
+                }
+            }
+            struct.set("bus_name", busNames);
+        }
+        return struct;
+    }
+
+    private static byte[] writeWithMatFileLibrary(MatFile matFile, int deflateLevel, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) matFile.getUncompressedSerializedSize()).order(order);
+        Mat5.newWriter(Sinks.wrap(buffer)).setDeflateLevel(deflateLevel).writeMat(matFile);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private void assertSameModel(MatpowerModel expected, MatpowerModel actual) throws IOException {
+        ObjectWriter objectWriter = mapper.writerWithDefaultPrettyPrinter();
+        assertEquals(objectWriter.writeValueAsString(expected), objectWriter.writeValueAsString(actual));
+    }
+
+    @Test
+    void testSameBytesAsMatFileLibrary() throws IOException {
+        for (MatpowerModel model : List.of(MatpowerModelFactory.create14(), MatpowerModelFactory.create118())) {
+            for (boolean withBusNames : new boolean[] {true, false}) {
+                MatpowerColumnarModel columnarModel = MatpowerColumnarModel.fromModel(model);
+                ByteArrayOutputStream os = new ByteArrayOutputStream();
+                MatpowerWriter.write(columnarModel, os, withBusNames);
+
+                MatFile matFile = Mat5.newMatFile().addArray(MatpowerReader.MATPOWER_STRUCT_NAME, toStruct(columnarModel, withBusNames));
+                ByteBuffer buffer = ByteBuffer.allocate((int) matFile.getUncompressedSerializedSize()).order(ByteOrder.nativeOrder());
+                matFile.writeTo(Sinks.wrap(buffer));
+                byte[] expected = Arrays.copyOf(buffer.array(), buffer.position());
+
+                // the header text contains the creation date
+                byte[] actual = os.toByteArray();
+                assertEquals(expected.length, actual.length);
+                assertArrayEquals(Arrays.copyOfRange(expected, 116, expected.length), Arrays.copyOfRange(actual, 116, actual.length));
+            }
+        }
+    }
+
+    @Test
+    void testReadMatFileLibraryFiles() throws IOException {
+        MatpowerModel model = MatpowerModelFactory.create14();
+        MatpowerColumnarModel columnarModel = MatpowerColumnarModel.fromModel(model);
+        for (int deflateLevel : new int[] {Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION}) {
+            for (ByteOrder order : new ByteOrder[] {ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+                // another variable before the case, more columns (as in OPF results) and an additional field
+                Struct struct = toStruct(columnarModel, true)
+                        .set("bus", toMatrix(columnarModel.getBusCount(), 17, i -> i < MatpowerColumnarModel.BUS_COLUMN_COUNT ? columnarModel.getBusColumn(i) : new double[columnarModel.getBusCount()]))
+                        .set("gencost", Mat5.newMatrix(2, 4));
+                MatFile matFile = Mat5.newMatFile()
+                        .addArray("other", Mat5.newString("not a case"))
+                        .addArray(MatpowerReader.MATPOWER_STRUCT_NAME, struct);
+                byte[] bytes = writeWithMatFileLibrary(matFile, deflateLevel, order);
+
+                MatpowerColumnarModel readModel = MatpowerReader.readColumns(new ByteArrayInputStream(bytes), model.getCaseName());
+                assertArrayEquals(columnarModel.getBusColumn(7), readModel.getBusColumn(7));
+                assertArrayEquals(columnarModel.getBusNames(), readModel.getBusNames());
+                assertSameModel(model, readModel.toModel());
+            }
+        }
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        byte[] noCase = writeWithMatFileLibrary(Mat5.newMatFile().addArray("other", Mat5.newScalar(1)), Deflater.BEST_SPEED, ByteOrder.LITTLE_ENDIAN);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> MatpowerReader.read(new ByteArrayInputStream(noCase), "case"));
+        assertEquals("no MATPOWER data: expected structure named 'mpc' not found.", e.getMessage());
+
+        byte[] missingFields = writeWithMatFileLibrary(Mat5.newMatFile().addArray("mpc", Mat5.newStruct().set("version", Mat5.newString("2"))),
+                Deflater.BEST_SPEED, ByteOrder.LITTLE_ENDIAN);
+        e = assertThrows(IllegalStateException.class, () -> MatpowerReader.read(new ByteArrayInputStream(missingFields), "case"));
+        assertTrue(e.getMessage().startsWith("expected MATPOWER variables not found"));
+
+        assertThrows(IllegalStateException.class, () -> MatpowerReader.read(new ByteArrayInputStream(new byte[10]), "case"));
+
+        MatpowerColumnarModel columnarModel = MatpowerColumnarModel.fromModel(MatpowerModelFactory.create14());
+        byte[] emptyBaseMva = writeWithMatFileLibrary(Mat5.newMatFile().addArray("mpc", toStruct(columnarModel, false).set("baseMVA", Mat5.newMatrix(0, 0))),
+                Deflater.BEST_SPEED, ByteOrder.LITTLE_ENDIAN);
+        e = assertThrows(IllegalStateException.class, () -> MatpowerReader.read(new ByteArrayInputStream(emptyBaseMva), "case"));
+        assertEquals("MATPOWER field 'baseMVA' is empty", e.getMessage());
+
+        // field name length of the uncompressed structure, in the small data element following the structure name
+        byte[] invalidFieldNameLength = writeWithMatFileLibrary(Mat5.newMatFile().addArray("mpc", toStruct(columnarModel, false)),
+                Deflater.NO_COMPRESSION, ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer buffer = ByteBuffer.wrap(invalidFieldNameLength).order(ByteOrder.LITTLE_ENDIAN);
+        int fieldNameLengthTag = 128 + 8 + 16 + 16 + 8;
+        assertEquals(Integer.BYTES << 16 | 5, buffer.getInt(fieldNameLengthTag));
+        buffer.putInt(fieldNameLengthTag + Integer.BYTES, 0);
+        e = assertThrows(IllegalStateException.class, () -> MatpowerReader.read(new ByteArrayInputStream(invalidFieldNameLength), "case"));
+        assertEquals("no MATPOWER data: invalid field name length 0 of 'mpc'.", e.getMessage());
+    }
+
+    @Test
+    void testColumnarModel() throws IOException {
+        MatpowerModel model = MatpowerModelFactory.create300();
+        MatpowerColumnarModel columnarModel = MatpowerColumnarModel.fromModel(model);
+        assertEquals(300, columnarModel.getBusCount());
+        assertFalse(columnarModel.hasBusNames());
+
+        Path file = fileSystem.getPath("/work/case300.mat");
+        MatpowerWriter.write(columnarModel, file, true);
+        MatpowerColumnarModel readModel = MatpowerReader.readColumns(file, model.getCaseName());
+        assertEquals(columnarModel.getGeneratorCount(), readModel.getGeneratorCount());
+        assertArrayEquals(columnarModel.getBranchColumn(3), readModel.getBranchColumn(3));
+        assertNull(readModel.getBusNames());
+        assertSameModel(model, readModel.toModel());
+
+        double[][] buses = new double[MatpowerColumnarModel.BUS_COLUMN_COUNT - 1][0];
+        double[][] generators = new double[MatpowerColumnarModel.GEN_COLUMN_COUNT][0];
+        double[][] branches = new double[MatpowerColumnarModel.BRANCH_COLUMN_COUNT][0];
+        assertThrows(IllegalArgumentException.class, () -> new MatpowerColumnarModel("case", "2", 100, buses, generators, branches, null));
+    }
 }
@@ -56,6 +56,11 @@ public class PowerFactoryImporter implements Importer {
         return "PowerFactory to IIDM converter";
     }
 
+    @Override
+    public List<String> getSupportedExtensions() {
+        return PowerFactoryDataLoader.find(StudyCase.class).stream().map(PowerFactoryDataLoader::getExtension).collect(Collectors.toList());
+    }
+
     private Optional<PowerFactoryDataLoader<StudyCase>> findProjectLoader(ReadOnlyDataSource dataSource) {
         for (PowerFactoryDataLoader<StudyCase> studyCaseLoader : PowerFactoryDataLoader.find(StudyCase.class)) {
             try {
@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -55,10 +56,26 @@ public class DgsReader {
 
     private class DgsHandlerImpl implements DgsHandler {
 
+        private final Consumer<DataObject> objectConsumer;
+
         private DataClass clazz;
 
         private DataObject object;
 
+        DgsHandlerImpl(Consumer<DataObject> objectConsumer) {
+            this.objectConsumer = objectConsumer;
+        }
+
+        /**
+         * Pass the current object to the consumer, all its attribute values having been read.
+         */
+        private void endObject() {
+            if (object != null) {
+                objectConsumer.accept(object);
+                object = null;
+            }
+        }
+
         @Override
         public void onGeneralAttribute(String descr, String val) {
             // nothing to do
@@ -66,6 +83,7 @@ public class DgsReader {
 
         @Override
         public void onObjectTableHeader(String tableName) {
+            endObject();
             clazz = new DataClass(tableName);
         }
 
@@ -76,6 +94,7 @@ public class DgsReader {
 
         @Override
         public void onID(long id) {
+            endObject();
             object = new DataObject(id, clazz, index);
         }
 
@@ -125,16 +144,35 @@ public class DgsReader {
         }
     }
 
-    public StudyCase read(String studyCaseName, Reader reader) {
-        Objects.requireNonNull(studyCaseName);
+    /**
+     * Read the data objects of a DGS file, passing each of them to a consumer as soon as all its attribute values have
+     * been read, without waiting for the end of the file. As objects may reference objects defined further in the file,
+     * the references of the consumed objects may not be resolved yet, and their parent and children are only set once
+     * the whole file has been read.
+     *
+     * @return the index of all the objects of the file
+     */
+    public DataObjectIndex read(Reader reader, Consumer<DataObject> objectConsumer) {
         Objects.requireNonNull(reader);
-        Stopwatch stopwatch = Stopwatch.createStarted();
+        Objects.requireNonNull(objectConsumer);
 
-        new DgsParser().read(reader, new DgsHandlerImpl());
+        DgsHandlerImpl handler = new DgsHandlerImpl(objectConsumer);
+        new DgsParser().read(reader, handler);
+        handler.endObject();
 
         // build object tree (so resolve parents / children links)
         buildObjectTree();
 
+        return index;
+    }
+
+    public StudyCase read(String studyCaseName, Reader reader) {
+        Objects.requireNonNull(studyCaseName);
+        Objects.requireNonNull(reader);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        read(reader, obj -> { });
+
         stopwatch.stop();
         LOGGER.info("DGS file read in {} ms: {} data objects", stopwatch.elapsed(TimeUnit.MILLISECONDS), index.getDataObjects().size());
 
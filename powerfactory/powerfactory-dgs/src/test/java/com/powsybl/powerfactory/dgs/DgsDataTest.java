@@ -10,12 +10,16 @@ import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
 import com.powsybl.commons.test.AbstractConverterTest;
 import com.powsybl.commons.test.TestUtil;
+import com.powsybl.powerfactory.model.DataObject;
+import com.powsybl.powerfactory.model.DataObjectIndex;
 import com.powsybl.powerfactory.model.PowerFactoryException;
 import com.powsybl.powerfactory.model.StudyCase;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -68,6 +72,21 @@ class DgsDataTest extends AbstractConverterTest {
         assertTrue(test("/TwoBusesCommaAsDecimalSeparator.dgs", "/TwoBusesCommaAsDecimalSeparator.json"));
     }
 
+    @Test
+    void streamingTest() {
+        List<DataObject> objects = new ArrayList<>();
+        InputStream is = Objects.requireNonNull(DgsDataTest.class.getResourceAsStream("/TwoBuses.dgs"));
+        DataObjectIndex index = new DgsReader().read(new InputStreamReader(is), obj -> {
+            // all the attribute values are read, but the tree is only built at the end of the file
+            assertTrue(obj.findStringAttributeValue("loc_name").isPresent());
+            assertTrue(obj.getChildren().isEmpty());
+            objects.add(obj);
+        });
+        assertEquals(index.getDataObjects().size(), objects.size());
+        assertEquals(1, index.getDataObjectsByClass("ElmNet").size());
+        assertEquals(2, index.getDataObjectsByClass("ElmNet").get(0).getChildrenByClass("ElmTerm").size());
+    }
+
     @Test
     void emptyMatrixTest() throws IOException {
         PowerFactoryException e = assertThrows(PowerFactoryException.class, () -> loadCase("/EmptyMatrix.dgs"));
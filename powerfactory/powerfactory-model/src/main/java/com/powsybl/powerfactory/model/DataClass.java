@@ -22,7 +22,7 @@ public class DataClass {
 
     private final List<DataAttribute> attributes = new ArrayList<>();
 
-    private final Map<String, DataAttribute> attributesByName = new HashMap<>();
+    private final Map<String, Integer> attributeIndexesByName = new HashMap<>();
 
     public DataClass(String name) {
         this(name, Collections.emptyList());
@@ -41,11 +41,11 @@ public class DataClass {
 
     public DataClass addAttribute(DataAttribute attribute) {
         Objects.requireNonNull(attribute);
-        if (attributesByName.containsKey(attribute.getName())) {
+        if (attributeIndexesByName.containsKey(attribute.getName())) {
             throw new PowerFactoryException("Class '" + name + "' already has an attribute named '" + attribute.getName() + "'");
         }
+        attributeIndexesByName.put(attribute.getName(), attributes.size());
         attributes.add(attribute);
-        attributesByName.put(attribute.getName(), attribute);
         return this;
     }
 
@@ -54,8 +54,20 @@ public class DataClass {
     }
 
     public DataAttribute getAttributeByName(String name) {
+        int attributeIndex = getAttributeIndex(name);
+        return attributeIndex != -1 ? attributes.get(attributeIndex) : null;
+    }
+
+    /**
+     * Get the index of an attribute in the attribute list of the class, which is also the slot of its value in the
+     * data objects of the class: attributes are only appended to a class, so the index of an attribute never changes.
+     *
+     * @return the index of the attribute, or -1 if the class has no attribute with this name
+     */
+    public int getAttributeIndex(String name) {
         Objects.requireNonNull(name);
-        return attributesByName.get(name);
+        Integer attributeIndex = attributeIndexesByName.get(name);
+        return attributeIndex != null ? attributeIndex : -1;
     }
 
     static class ParsingContext {
@@ -36,17 +36,38 @@ public class DataObject {
 
     private final DataObjectIndex index;
 
-    private final Map<String, Object> attributeValues;
+    private static final int[] NO_ATTRIBUTE_INDEXES = new int[0];
+
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /**
+     * Values set, in the order they have been set, with in the same order the index of their attribute in the class,
+     * see {@link DataClass#getAttributeIndex(String)}: a few values are looked up faster in these arrays than in a map,
+     * with much less memory.
+     */
+    private int[] attributeIndexes = NO_ATTRIBUTE_INDEXES;
+
+    private Object[] attributeValues = NO_VALUES;
+
+    private int attributeValueCount;
+
+    private Map<String, Object> attributeValuesView;
 
     public DataObject(long id, DataClass dataClass, DataObjectIndex index) {
-        this(id, dataClass, index, new LinkedHashMap<>());
+        this(id, dataClass, index, Collections.emptyMap());
     }
 
     public DataObject(long id, DataClass dataClass, DataObjectIndex index, Map<String, Object> attributeValues) {
         this.id = id;
         this.dataClass = Objects.requireNonNull(dataClass);
         this.index = Objects.requireNonNull(index);
-        this.attributeValues = attributeValues;
+        for (var e : attributeValues.entrySet()) {
+            int attributeIndex = dataClass.getAttributeIndex(e.getKey());
+            if (attributeIndex == -1) {
+                throw createAttributeNotFoundException(e.getKey());
+            }
+            setValue(attributeIndex, e.getValue());
+        }
         index.addDataObject(this);
     }
 
@@ -79,9 +100,13 @@ public class DataObject {
 
     public List<DataObject> getChildrenByClass(String className) {
         Objects.requireNonNull(className);
-        return children.stream()
-                .filter(child -> child.getDataClass().getName().equals(className))
-                .collect(Collectors.toList());
+        List<DataObject> childrenOfClass = new ArrayList<>();
+        for (DataObject child : children) {
+            if (child.getDataClassName().equals(className)) {
+                childrenOfClass.add(child);
+            }
+        }
+        return childrenOfClass;
     }
 
     public Optional<DataObject> getChild(String name) {
@@ -103,9 +128,12 @@ public class DataObject {
 
     public Optional<DataObject> findFirstChildByClass(String className) {
         Objects.requireNonNull(className);
-        return children.stream()
-                .filter(child -> child.getDataClass().getName().equals(className))
-                .findFirst();
+        for (DataObject child : children) {
+            if (child.getDataClassName().equals(className)) {
+                return Optional.of(child);
+            }
+        }
+        return Optional.empty();
     }
 
     public DataClass getDataClass() {
@@ -124,13 +152,59 @@ public class DataObject {
         return dataClass.getAttributes().stream().map(DataAttribute::getName).collect(Collectors.toList());
     }
 
+    /**
+     * Get a modifiable view of the values set, by attribute name in the order they have been set. Only the attributes
+     * of the class of this object may be put into the view.
+     */
     public Map<String, Object> getAttributeValues() {
-        return attributeValues;
+        if (attributeValuesView == null) {
+            attributeValuesView = new AttributeValues();
+        }
+        return attributeValuesView;
     }
 
     public Optional<Object> findAttributeValue(String name) {
         Objects.requireNonNull(name);
-        return Optional.ofNullable(attributeValues.get(name));
+        int attributeIndex = dataClass.getAttributeIndex(name);
+        return attributeIndex != -1 ? Optional.ofNullable(getValue(attributeIndex)) : Optional.empty();
+    }
+
+    private int findValue(int attributeIndex) {
+        for (int i = 0; i < attributeValueCount; i++) {
+            if (attributeIndexes[i] == attributeIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object getValue(int attributeIndex) {
+        int i = findValue(attributeIndex);
+        return i != -1 ? attributeValues[i] : null;
+    }
+
+    private void setValue(int attributeIndex, Object value) {
+        int i = findValue(attributeIndex);
+        if (i != -1) {
+            attributeValues[i] = value;
+            return;
+        }
+        if (attributeValueCount == attributeValues.length) {
+            // sized to the attributes of the class, which may have been added since the last value was set
+            int capacity = Math.max(attributeValueCount + 1, dataClass.getAttributes().size());
+            attributeIndexes = Arrays.copyOf(attributeIndexes, capacity);
+            attributeValues = Arrays.copyOf(attributeValues, capacity);
+        }
+        attributeIndexes[attributeValueCount] = attributeIndex;
+        attributeValues[attributeValueCount] = value;
+        attributeValueCount++;
+    }
+
+    private void removeValueAt(int i) {
+        System.arraycopy(attributeIndexes, i + 1, attributeIndexes, i, attributeValueCount - i - 1);
+        System.arraycopy(attributeValues, i + 1, attributeValues, i, attributeValueCount - i - 1);
+        attributeValueCount--;
+        attributeValues[attributeValueCount] = null;
     }
 
     public Object getAttributeValue(String name) {
@@ -154,26 +228,33 @@ public class DataObject {
         return new PowerFactoryException(type + " attribute '" + name + "' not found");
     }
 
-    private <T> void setGenericAttributeValue(String name, DataAttributeType type, T value) {
+    /**
+     * @return the index of the attribute after checking its type, or -1 if the class has no attribute with this name
+     */
+    private int getAttributeIndex(String name, DataAttributeType type) {
         Objects.requireNonNull(name);
         Objects.requireNonNull(type);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = dataClass.getAttributeIndex(name);
+        if (attributeIndex != -1) {
+            checkAttributeType(dataClass.getAttributes().get(attributeIndex), type);
+        }
+        return attributeIndex;
+    }
+
+    private <T> void setGenericAttributeValue(String name, DataAttributeType type, T value) {
+        int attributeIndex = getAttributeIndex(name, type);
+        if (attributeIndex == -1) {
             throw createAttributeNotFoundException(name);
         }
-        checkAttributeType(attribute, type);
-        attributeValues.put(name, value);
+        setValue(attributeIndex, value);
     }
 
     private <T> Optional<T> findGenericAttributeValue(String name, DataAttributeType type) {
-        Objects.requireNonNull(name);
-        Objects.requireNonNull(type);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = getAttributeIndex(name, type);
+        if (attributeIndex == -1) {
             return Optional.empty();
         }
-        checkAttributeType(attribute, type);
-        T value = (T) attributeValues.get(name);
+        T value = (T) getValue(attributeIndex);
         return Optional.ofNullable(value);
     }
 
@@ -303,13 +384,11 @@ public class DataObject {
     }
 
     public OptionalInt findIntAttributeValue(String name) {
-        Objects.requireNonNull(name);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.INTEGER);
+        if (attributeIndex == -1) {
             return OptionalInt.empty();
         }
-        checkAttributeType(attribute, DataAttributeType.INTEGER);
-        Integer value = (Integer) attributeValues.get(name);
+        Integer value = (Integer) getValue(attributeIndex);
         if (value == null) {
             return OptionalInt.empty();
         }
@@ -326,13 +405,11 @@ public class DataObject {
     }
 
     public OptionalLong findLongAttributeValue(String name) {
-        Objects.requireNonNull(name);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.INTEGER64);
+        if (attributeIndex == -1) {
             return OptionalLong.empty();
         }
-        checkAttributeType(attribute, DataAttributeType.INTEGER64);
-        Number value = (Number) attributeValues.get(name);
+        Number value = (Number) getValue(attributeIndex);
         if (value == null) {
             return OptionalLong.empty();
         }
@@ -349,13 +426,11 @@ public class DataObject {
     }
 
     public OptionalDouble findDoubleAttributeValue(String name) {
-        Objects.requireNonNull(name);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.DOUBLE);
+        if (attributeIndex == -1) {
             return OptionalDouble.empty();
         }
-        checkAttributeType(attribute, DataAttributeType.DOUBLE);
-        Double value = (Double) attributeValues.get(name);
+        Double value = (Double) getValue(attributeIndex);
         if (value == null) {
             return OptionalDouble.empty();
         }
@@ -632,7 +707,7 @@ public class DataObject {
 
         generator.writeFieldName("values");
         generator.writeStartObject();
-        for (var e : attributeValues.entrySet()) {
+        for (var e : getAttributeValues().entrySet()) {
             generator.writeFieldName(e.getKey());
             if (writeValue(generator, e.getValue())) {
                 // nothing
@@ -662,4 +737,104 @@ public class DataObject {
     public String toString() {
         return getFullName();
     }
+
+    /**
+     * View of the values set, backed by the arrays of values.
+     */
+    private final class AttributeValues extends AbstractMap<String, Object> {
+
+        private int getAttributeIndex(Object key) {
+            return key instanceof String name ? dataClass.getAttributeIndex(name) : -1;
+        }
+
+        @Override
+        public int size() {
+            return attributeValueCount;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int attributeIndex = getAttributeIndex(key);
+            return attributeIndex != -1 && findValue(attributeIndex) != -1;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int attributeIndex = getAttributeIndex(key);
+            return attributeIndex != -1 ? getValue(attributeIndex) : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            int attributeIndex = getAttributeIndex(key);
+            if (attributeIndex == -1) {
+                throw createAttributeNotFoundException(key);
+            }
+            Object oldValue = getValue(attributeIndex);
+            setValue(attributeIndex, value);
+            return oldValue;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            int attributeIndex = getAttributeIndex(key);
+            int i = attributeIndex != -1 ? findValue(attributeIndex) : -1;
+            if (i == -1) {
+                return null;
+            }
+            Object oldValue = attributeValues[i];
+            removeValueAt(i);
+            return oldValue;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+
+                        private int next = 0;
+
+                        private boolean removable = false;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < attributeValueCount;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            removable = true;
+                            return new SimpleEntry<>(dataClass.getAttributes().get(attributeIndexes[i]).getName(), attributeValues[i]) {
+                                @Override
+                                public Object setValue(Object value) {
+                                    attributeValues[i] = value;
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (!removable) {
+                                throw new IllegalStateException();
+                            }
+                            removable = false;
+                            removeValueAt(--next);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return attributeValueCount;
+                }
+            };
+        }
+    }
 }
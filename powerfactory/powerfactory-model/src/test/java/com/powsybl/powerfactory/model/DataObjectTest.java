@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -105,6 +106,53 @@ class DataObjectTest {
         assertEquals("foo", objFoo.getAttributeValue(DataAttribute.LOC_NAME));
     }
 
+    @Test
+    void testAttributeAddedAfterValues() {
+        DataObjectIndex index = new DataObjectIndex();
+        DataClass clsFoo = createFooClass();
+        DataObject objFoo = new DataObject(0L, clsFoo, index);
+        objFoo.setLocName("foo");
+        assertEquals(-1, clsFoo.getAttributeIndex("added"));
+        clsFoo.addAttribute(new DataAttribute("added", DataAttributeType.INTEGER));
+        assertEquals(clsFoo.getAttributes().size() - 1, clsFoo.getAttributeIndex("added"));
+        assertFalse(objFoo.findIntAttributeValue("added").isPresent());
+        objFoo.setIntAttributeValue("added", 4);
+        assertEquals(4, objFoo.getIntAttributeValue("added"));
+        assertEquals("foo", objFoo.getLocName());
+        assertEquals(Map.of(DataAttribute.LOC_NAME, "foo", "added", 4), objFoo.getAttributeValues());
+        assertThrows(PowerFactoryException.class, () -> new DataObject(1L, clsFoo, index, Map.of("unknown", 1)));
+    }
+
+    @Test
+    void testAttributeValuesView() {
+        DataObjectIndex index = new DataObjectIndex();
+        DataClass clsFoo = createFooClass();
+        DataObject objFoo = new DataObject(0L, clsFoo, index);
+        Map<String, Object> values = objFoo.getAttributeValues();
+        assertTrue(values.isEmpty());
+
+        // the view reflects the values set afterward
+        objFoo.setLocName("foo");
+        assertEquals(Map.of(DataAttribute.LOC_NAME, "foo"), values);
+
+        // and the values put into the view are set
+        assertNull(values.put("i", 3));
+        assertEquals(3, objFoo.getIntAttributeValue("i"));
+        assertEquals(3, values.put("i", 4));
+        assertEquals(4, objFoo.getIntAttributeValue("i"));
+        assertEquals(List.of(DataAttribute.LOC_NAME, "i"), new ArrayList<>(values.keySet()));
+        assertThrows(PowerFactoryException.class, () -> values.put("unknown", 1));
+
+        values.entrySet().iterator().next().setValue("bar");
+        assertEquals("bar", objFoo.getLocName());
+        assertEquals("bar", values.remove(DataAttribute.LOC_NAME));
+        assertNull(values.remove(DataAttribute.LOC_NAME));
+        assertFalse(objFoo.findStringAttributeValue(DataAttribute.LOC_NAME).isPresent());
+        values.keySet().removeIf("i"::equals);
+        assertFalse(objFoo.findIntAttributeValue("i").isPresent());
+        assertTrue(values.isEmpty());
+    }
+
     @Test
     void testIntAttribute() {
         DataObjectIndex index = new DataObjectIndex();
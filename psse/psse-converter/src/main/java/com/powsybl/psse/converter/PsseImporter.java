@@ -35,6 +35,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,6 +56,11 @@ public class PsseImporter implements Importer {
             "Ignore base voltage specified in the file",
             Boolean.FALSE);
 
+    private static final Parameter CONCURRENT_RECORD_GROUPS_PARAMETER = new Parameter("psse.import.concurrent-record-groups",
+            ParameterType.BOOLEAN,
+            "Read the record groups of RAW files concurrently, with the tasks of the common fork join pool",
+            Boolean.FALSE);
+
     @Override
     public String getFormat() {
         return FORMAT;
@@ -62,7 +68,7 @@ public class PsseImporter implements Importer {
 
     @Override
     public List<Parameter> getParameters() {
-        return Collections.singletonList(IGNORE_BASE_VOLTAGE_PARAMETER);
+        return List.of(IGNORE_BASE_VOLTAGE_PARAMETER, CONCURRENT_RECORD_GROUPS_PARAMETER);
     }
 
     @Override
@@ -70,6 +76,11 @@ public class PsseImporter implements Importer {
         return "PSS/E Format to IIDM converter";
     }
 
+    @Override
+    public List<String> getSupportedExtensions() {
+        return Arrays.asList(EXTENSIONS);
+    }
+
     @Override
     public boolean exists(ReadOnlyDataSource dataSource) {
         try {
@@ -134,7 +145,10 @@ public class PsseImporter implements Importer {
             }
             PsseVersion version = PowerFlowDataFactory.create(ext).readVersion(dataSource, ext);
             Context context = new Context();
-            PssePowerFlowModel pssePowerFlowModel = PowerFlowDataFactory.create(ext, version).read(dataSource, ext, context);
+            boolean concurrentRecordGroups = Parameter.readBoolean(FORMAT, parameters, CONCURRENT_RECORD_GROUPS_PARAMETER,
+                    ParameterDefaultValueConfig.INSTANCE);
+            PssePowerFlowModel pssePowerFlowModel = PowerFlowDataFactory.create(ext, version, concurrentRecordGroups ? ForkJoinPool.commonPool() : null)
+                    .read(dataSource, ext, context);
             pssePowerFlowModel.getCaseIdentification().validate();
 
             new PsseFixDuplicateIds(pssePowerFlowModel, context.getVersion()).fix();
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Properties;
 
 import static com.powsybl.commons.test.ComparisonUtils.compareTxt;
@@ -43,8 +44,9 @@ class PsseImporterTest extends AbstractConverterTest {
         Importer importer = new PsseImporter();
         assertEquals("PSS/E", importer.getFormat());
         assertEquals("PSS/E Format to IIDM converter", importer.getComment());
-        assertEquals(1, importer.getParameters().size());
+        assertEquals(2, importer.getParameters().size());
         assertEquals("psse.import.ignore-base-voltage", importer.getParameters().get(0).getName());
+        assertEquals("psse.import.concurrent-record-groups", importer.getParameters().get(1).getName());
     }
 
     private void testNetwork(Network network) throws IOException {
@@ -93,6 +95,16 @@ class PsseImporterTest extends AbstractConverterTest {
         return network;
     }
 
+    @Test
+    void importConcurrentlyTest() throws IOException {
+        Properties properties = new Properties();
+        properties.put("psse.import.concurrent-record-groups", true);
+        for (String basename : List.of("IEEE_118_bus", "ExampleVersion32", "IEEE_14_buses_duplicate_ids_rev35")) {
+            ReadOnlyDataSource dataSource = new ResourceDataSource(basename, new ResourceSet("/", basename + ".raw"));
+            testNetwork(new PsseImporter().importData(dataSource, new NetworkFactoryImpl(), properties));
+        }
+    }
+
     @Test
     void importTest14() throws IOException {
         importTest("IEEE_14_bus", "IEEE_14_bus.raw", false);
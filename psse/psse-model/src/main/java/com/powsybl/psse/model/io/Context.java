@@ -53,6 +53,23 @@ public class Context {
         });
     }
 
+    private Context(Context other) {
+        fieldNames.putAll(other.fieldNames);
+        csvParserSettings = other.csvParserSettings.clone();
+        fileFormat = other.fileFormat;
+        delimiter = other.delimiter;
+        version = other.version;
+        jsonGenerator = other.jsonGenerator;
+        networkNode = other.networkNode;
+    }
+
+    /**
+     * Copy of the context with its own parser settings, to read record groups concurrently.
+     */
+    public Context copy() {
+        return new Context(this);
+    }
+
     public PsseVersion getVersion() {
         return version;
     }
@@ -99,6 +116,14 @@ public class Context {
         return this;
     }
 
+    /**
+     * Add the field names of the record groups read with another context.
+     */
+    public Context addFieldNames(Context other) {
+        this.fieldNames.putAll(other.fieldNames);
+        return this;
+    }
+
     public String[] getFieldNames(RecordGroupIdentification recordGroup) {
         return fieldNames.get(recordGroup.getUniqueName());
     }
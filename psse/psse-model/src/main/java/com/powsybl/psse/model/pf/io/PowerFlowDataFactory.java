@@ -9,6 +9,8 @@ package com.powsybl.psse.model.pf.io;
 import com.powsybl.psse.model.PsseException;
 import com.powsybl.psse.model.PsseVersion;
 
+import java.util.concurrent.Executor;
+
 /**
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
  * @author José Antonio Marqués {@literal <marquesja at aia.es>}
@@ -30,6 +32,14 @@ public final class PowerFlowDataFactory {
     }
 
     public static PowerFlowData create(String extension, PsseVersion version) {
+        return create(extension, version, null);
+    }
+
+    /**
+     * @param executor executor on which the record groups of RAW files are read concurrently, or null to read them
+     *                 sequentially
+     */
+    public static PowerFlowData create(String extension, PsseVersion version, Executor executor) {
         if (extension.equalsIgnoreCase("rawx")) {
             switch (version.major()) {
                 case V35:
@@ -40,11 +50,11 @@ public final class PowerFlowDataFactory {
         } else {
             switch (version.major()) {
                 case V35:
-                    return new PowerFlowRawData35();
+                    return new PowerFlowRawData35(executor);
                 case V33:
-                    return new PowerFlowRawData33();
+                    return new PowerFlowRawData33(executor);
                 case V32:
-                    return new PowerFlowRawData32();
+                    return new PowerFlowRawData32(executor);
                 default:
                     throw new PsseException("Unsupported version " + version);
             }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import static com.powsybl.psse.model.PsseVersion.Major.V35;
 import static com.powsybl.psse.model.io.RecordGroupIOLegacyText.*;
@@ -31,6 +32,17 @@ import static com.powsybl.psse.model.pf.io.PowerFlowRecordGroup.*;
  */
 public class PowerFlowRawData35 extends PowerFlowRawDataAllVersions {
 
+    public PowerFlowRawData35() {
+        this(null);
+    }
+
+    /**
+     * @param executor executor on which the record groups are read concurrently, or null to read them sequentially
+     */
+    public PowerFlowRawData35(Executor executor) {
+        super(executor);
+    }
+
     @Override
     public PssePowerFlowModel read(ReadOnlyDataSource dataSource, String ext, Context context) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream(null, ext), StandardCharsets.UTF_8))) {
@@ -39,31 +51,30 @@ public class PowerFlowRawData35 extends PowerFlowRawDataAllVersions {
             caseIdentification.validate();
             PssePowerFlowModel model = new PssePowerFlowModel(caseIdentification);
 
-            skip(SYSTEM_WIDE, reader);
-            model.addBuses(new BusData().read(reader, context));
-            model.addLoads(new LoadData().read(reader, context));
-            model.addFixedShunts(new FixedBusShuntData().read(reader, context));
-            model.addGenerators(new GeneratorData().read(reader, context));
-            model.addNonTransformerBranches(new NonTransformerBranchData().read(reader, context));
-
-            skip(SYSTEM_SWITCHING_DEVICE, reader);
-            model.addTransformers(new TransformerData().read(reader, context));
-            model.addAreas(new AreaInterchangeData().read(reader, context));
-
-            model.addTwoTerminalDcTransmissionLines(new TwoTerminalDcTransmissionLineData().read(reader, context));
-            model.addVoltageSourceConverterDcTransmissionLines(new VoltageSourceConverterDcTransmissionLineData().read(reader, context));
-            model.addTransformerImpedanceCorrections(new TransformerImpedanceCorrectionTablesData().read(reader, context));
-            model.addMultiTerminalDcTransmissionLines(new MultiTerminalDcTransmissionLineData().read(reader, context));
-
-            model.addLineGrouping(new MultiSectionLineGroupingData().read(reader, context));
-            model.addZones(new ZoneData().read(reader, context));
-            model.addInterareaTransfer(new InterareaTransferData().read(reader, context));
-            model.addOwners(new OwnerData().read(reader, context));
-            model.addFacts(new FactsDeviceData().read(reader, context));
-            model.addSwitchedShunts(new SwitchedShuntData().read(reader, context));
-            model.addGneDevice(new GneDeviceData().read(reader, context));
-            model.addInductionMachines(new InductionMachineData().read(reader, context));
-            skip(SUBSTATION, reader);
+            new RawRecordGroupsReader(getExecutor())
+                    .skip(SYSTEM_WIDE)
+                    .read(BusData::new, PssePowerFlowModel::addBuses)
+                    .read(LoadData::new, PssePowerFlowModel::addLoads)
+                    .read(FixedBusShuntData::new, PssePowerFlowModel::addFixedShunts)
+                    .read(GeneratorData::new, PssePowerFlowModel::addGenerators)
+                    .read(NonTransformerBranchData::new, PssePowerFlowModel::addNonTransformerBranches)
+                    .skip(SYSTEM_SWITCHING_DEVICE)
+                    .read(TransformerData::new, PssePowerFlowModel::addTransformers)
+                    .read(AreaInterchangeData::new, PssePowerFlowModel::addAreas)
+                    .read(TwoTerminalDcTransmissionLineData::new, PssePowerFlowModel::addTwoTerminalDcTransmissionLines)
+                    .read(VoltageSourceConverterDcTransmissionLineData::new, PssePowerFlowModel::addVoltageSourceConverterDcTransmissionLines)
+                    .read(TransformerImpedanceCorrectionTablesData::new, PssePowerFlowModel::addTransformerImpedanceCorrections)
+                    .read(MultiTerminalDcTransmissionLineData::new, PssePowerFlowModel::addMultiTerminalDcTransmissionLines)
+                    .read(MultiSectionLineGroupingData::new, PssePowerFlowModel::addLineGrouping)
+                    .read(ZoneData::new, PssePowerFlowModel::addZones)
+                    .read(InterareaTransferData::new, PssePowerFlowModel::addInterareaTransfer)
+                    .read(OwnerData::new, PssePowerFlowModel::addOwners)
+                    .read(FactsDeviceData::new, PssePowerFlowModel::addFacts)
+                    .read(SwitchedShuntData::new, PssePowerFlowModel::addSwitchedShunts)
+                    .read(GneDeviceData::new, PssePowerFlowModel::addGneDevice)
+                    .read(InductionMachineData::new, PssePowerFlowModel::addInductionMachines)
+                    .skip(SUBSTATION)
+                    .read(reader, context, model);
 
             return model;
         }
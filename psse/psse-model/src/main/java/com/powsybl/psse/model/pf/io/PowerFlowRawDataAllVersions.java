@@ -17,6 +17,7 @@ import com.powsybl.psse.model.PsseVersion;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.concurrent.Executor;
 
 /**
  * PSSE RAW data common to all versions
@@ -27,6 +28,20 @@ import java.io.InputStreamReader;
  */
 public class PowerFlowRawDataAllVersions implements PowerFlowData {
 
+    private final Executor executor;
+
+    public PowerFlowRawDataAllVersions() {
+        this(null);
+    }
+
+    protected PowerFlowRawDataAllVersions(Executor executor) {
+        this.executor = executor;
+    }
+
+    protected Executor getExecutor() {
+        return executor;
+    }
+
     @Override
     public boolean isValidFile(ReadOnlyDataSource dataSource, String extension) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream(null, extension)))) {
@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.psse.model.pf.io;
+
+import com.powsybl.psse.model.PsseException;
+import com.powsybl.psse.model.io.AbstractRecordGroup;
+import com.powsybl.psse.model.io.Context;
+import com.powsybl.psse.model.io.RecordGroupIOLegacyText;
+import com.powsybl.psse.model.io.RecordGroupIdentification;
+import com.powsybl.psse.model.pf.PssePowerFlowModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Reader of the record groups of a RAW file following the case identification.
+ * <p>
+ * Without executor, the record groups are read one after the other. With an executor, the lines are split into
+ * blocks ending with a <code>0</code> (or <code>Q</code>) marker, and each block is read on the executor by its
+ * record group with its own copy of the context, while the next blocks are scanned. The record groups are added to the
+ * model in the order of the file, and the text of a block is released once its record group is added.
+ * <p>
+ * A block is kept only if it ends with a marker, and if its record group reads all its lines without error: a marker
+ * line which is part of a multi line record makes the record group read past the end of its block. From the first
+ * block which is not kept, the record groups are read again one after the other from the remaining blocks followed by
+ * the lines not scanned yet, as without splitting, so that results and errors are the ones of the sequential reader.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+final class RawRecordGroupsReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RawRecordGroupsReader.class);
+
+    @FunctionalInterface
+    private interface BlockReader<T> {
+
+        T read(BufferedReader reader, Context context) throws IOException;
+    }
+
+    private record Step<T>(BlockReader<T> reader, BiConsumer<PssePowerFlowModel, T> adder) {
+
+        @SuppressWarnings("unchecked")
+        private void add(PssePowerFlowModel model, Object value) {
+            adder.accept(model, (T) value);
+        }
+    }
+
+    private record Block(String text, boolean complete) {
+    }
+
+    private record BlockResult(Object value, Context context) {
+    }
+
+    private final Executor executor;
+
+    private final List<Step<?>> steps = new ArrayList<>();
+
+    /**
+     * @param executor executor on which the blocks are read, or null to read the record groups sequentially
+     */
+    RawRecordGroupsReader(Executor executor) {
+        this.executor = executor;
+    }
+
+    <T> RawRecordGroupsReader read(Supplier<? extends AbstractRecordGroup<T>> recordGroup, BiConsumer<PssePowerFlowModel, List<T>> adder) {
+        steps.add(new Step<>((reader, context) -> recordGroup.get().read(reader, context), adder));
+        return this;
+    }
+
+    RawRecordGroupsReader skip(RecordGroupIdentification recordGroup) {
+        steps.add(new Step<>((reader, context) -> {
+            RecordGroupIOLegacyText.skip(recordGroup, reader);
+            return null;
+        }, (model, value) -> { }));
+        return this;
+    }
+
+    void read(BufferedReader reader, Context context, PssePowerFlowModel model) throws IOException {
+        if (executor == null) {
+            readSequentially(reader, context, model, 0);
+            return;
+        }
+
+        List<Block> blocks = new ArrayList<>(steps.size());
+        List<CompletableFuture<BlockResult>> futures = new ArrayList<>(steps.size());
+        for (Step<?> step : steps) {
+            Block block = scanBlock(reader);
+            blocks.add(block);
+            futures.add(CompletableFuture.supplyAsync(() -> readBlock(step, block, context), executor));
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            BlockResult result;
+            try {
+                result = futures.get(i).join();
+            } catch (CompletionException e) {
+                LOGGER.debug("Record groups not read concurrently from record group {}, reading them sequentially: {}", i, e.getCause().toString());
+                // the previous record groups ended exactly at the end of their block, so the next one starts there
+                readSequentially(new BufferedReader(new BlocksReader(blocks.subList(i, blocks.size()), reader)), context, model, i);
+                return;
+            }
+            context.addFieldNames(result.context());
+            steps.get(i).add(model, result.value());
+            blocks.set(i, null);
+        }
+    }
+
+    private static BlockResult readBlock(Step<?> step, Block block, Context context) {
+        if (!block.complete()) {
+            throw new PsseException("Record group not ending with an end marker");
+        }
+        Context blockContext = context.copy();
+        try (BufferedReader blockReader = new BufferedReader(new StringReader(block.text()))) {
+            Object value = step.reader().read(blockReader, blockContext);
+            if (blockReader.readLine() != null) {
+                throw new PsseException("Record group not ending at its end marker");
+            }
+            return new BlockResult(value, blockContext);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readSequentially(BufferedReader reader, Context context, PssePowerFlowModel model, int firstStep) throws IOException {
+        for (Step<?> step : steps.subList(firstStep, steps.size())) {
+            step.add(model, step.reader().read(reader, context));
+        }
+    }
+
+    /**
+     * Read the lines up to the next marker line, or up to the end of the file.
+     */
+    private static Block scanBlock(BufferedReader reader) throws IOException {
+        StringBuilder text = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            text.append(line).append('\n');
+            if (isEndOfBlock(line)) {
+                return new Block(text.toString(), true);
+            }
+        }
+        return new Block(text.toString(), false);
+    }
+
+    /**
+     * @return true for a <code>0</code> or <code>Q</code> line, possibly followed by a comment
+     */
+    static boolean isEndOfBlock(String line) {
+        int i = skipWhitespaces(line, 0);
+        if (i == line.length() || line.charAt(i) != '0' && line.charAt(i) != 'Q') {
+            return false;
+        }
+        i = skipWhitespaces(line, i + 1);
+        return i == line.length() || line.charAt(i) == '/';
+    }
+
+    private static int skipWhitespaces(String line, int start) {
+        int i = start;
+        while (i < line.length() && line.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Reader of the text of scanned blocks, followed by the lines which have not been scanned.
+     */
+    private static final class BlocksReader extends Reader {
+
+        private final List<Block> blocks;
+        private final Reader rest;
+        private int nextBlock = 0;
+        private Reader current;
+
+        private BlocksReader(List<Block> blocks, Reader rest) {
+            this.blocks = blocks;
+            this.rest = rest;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            while (true) {
+                if (current == null) {
+                    current = nextBlock < blocks.size() ? new StringReader(blocks.get(nextBlock++).text()) : rest;
+                }
+                int read = current.read(cbuf, off, len);
+                if (read != -1 || current == rest) {
+                    return read;
+                }
+                current = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            // the lines which have not been scanned are closed with the file
+        }
+    }
+}
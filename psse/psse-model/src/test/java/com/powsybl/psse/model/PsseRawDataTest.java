@@ -35,6 +35,8 @@ import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.powsybl.commons.test.ComparisonUtils.compareTxt;
 import static com.powsybl.psse.model.PsseVersion.fromRevision;
@@ -682,6 +684,38 @@ class PsseRawDataTest extends AbstractConverterTest {
         assertEquals(expectedJson, toJson(rawData));
     }
 
+    @Test
+    void ieee14BusCompletedConcurrentTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PssePowerFlowModel rawData = new PowerFlowRawData33(executor).read(ieee14CompletedRaw(), "raw", new Context());
+            assertEquals(loadReference("/IEEE_14_bus_completed.json"), toJson(rawData));
+
+            PssePowerFlowModel rawData35 = new PowerFlowRawData35(executor).read(ieee14CompletedRaw35(), "raw", new Context());
+            assertEquals(loadReference("/IEEE_14_bus_completed_rev35.json"), toJson(rawData35));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void endMarkerInMultiLineRecordConcurrentTest() throws IOException {
+        // the last line of the first transformer record, with its WINDV2 only, looks like the end of the record group
+        String raw = loadReference("/IEEE_14_bus_completed.raw").replaceFirst("1.00000, {2}0.000", "0");
+        Files.writeString(fileSystem.getPath("/work/IEEE_14_bus_marker.raw"), raw);
+        ReadOnlyDataSource dataSource = new FileDataSource(fileSystem.getPath("/work/"), "IEEE_14_bus_marker");
+
+        PssePowerFlowModel expected = new PowerFlowRawData33().read(dataSource, "raw", new Context());
+        assertEquals(0.0, expected.getTransformers().get(0).getWinding2().getWindv());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PssePowerFlowModel rawData = new PowerFlowRawData33(executor).read(dataSource, "raw", new Context());
+            assertEquals(toJson(expected), toJson(rawData));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void ieee14BusCompletedRev35RawxTest() throws IOException {
         String expectedJson = loadReference("/IEEE_14_bus_completed_rev35.json");
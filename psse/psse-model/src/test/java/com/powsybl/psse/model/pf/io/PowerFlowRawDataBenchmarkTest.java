@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.psse.model.pf.io;
+
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.psse.model.io.Context;
+import com.powsybl.psse.model.pf.PssePowerFlowModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reading of a large RAW case, sequentially and with the record groups read concurrently. The case is made of copies
+ * of the IEEE 14 bus case, with the bus numbers of each copy shifted.
+ * <p>
+ * Only run when the {@code powsybl.benchmarks} system property is {@code true}, the number of buses being about the
+ * {@code powsybl.benchmarks.bus-count} system property.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class PowerFlowRawDataBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PowerFlowRawDataBenchmarkTest.class);
+
+    private static final int WARM_UP_COUNT = 3;
+
+    private static final int RUN_COUNT = 5;
+
+    private static final int CASE_BUS_COUNT = 14;
+
+    // number of leading bus number fields of the records of the bus, load, fixed shunt, generator, branch and
+    // transformer groups, which are copied
+    private static final int[] COPIED_GROUPS_BUS_FIELD_COUNTS = {1, 1, 1, 1, 2, 3};
+
+    private static String shiftBusNumbers(String line, int busFieldCount, int offset) {
+        String[] fields = line.split(",", -1);
+        for (int i = 0; i < busFieldCount; i++) {
+            int busNumber = Integer.parseInt(fields[i].trim());
+            if (busNumber != 0) {
+                fields[i] = Integer.toString(busNumber + offset);
+            }
+        }
+        return String.join(",", fields);
+    }
+
+    private static void writeCase(int copyCount, MemDataSource dataSource) throws IOException {
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(PowerFlowRawDataBenchmarkTest.class.getResourceAsStream("/IEEE_14_bus.raw")), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(dataSource.newOutputStream(null, "raw", false), StandardCharsets.UTF_8))) {
+            // case identification
+            int i = 0;
+            for (; i < 3; i++) {
+                writer.write(lines.get(i) + "\n");
+            }
+            for (int busFieldCount : COPIED_GROUPS_BUS_FIELD_COUNTS) {
+                List<String> records = new ArrayList<>();
+                for (; !RawRecordGroupsReader.isEndOfBlock(lines.get(i)); i++) {
+                    records.add(lines.get(i));
+                }
+                for (int copy = 0; copy < copyCount; copy++) {
+                    for (int j = 0; j < records.size(); j++) {
+                        // transformers of the case have two windings, so four lines by record
+                        boolean firstRecordLine = busFieldCount != 3 || j % 4 == 0;
+                        writer.write((firstRecordLine ? shiftBusNumbers(records.get(j), busFieldCount, copy * CASE_BUS_COUNT) : records.get(j)) + "\n");
+                    }
+                }
+                writer.write(lines.get(i++) + "\n");
+            }
+            for (; i < lines.size(); i++) {
+                writer.write(lines.get(i) + "\n");
+            }
+        }
+    }
+
+    private static void measure(String name, MemDataSource dataSource, Executor executor, int busCount) throws IOException {
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            new PowerFlowRawData33(executor).read(dataSource, "raw", new Context());
+        }
+        long[] times = new long[RUN_COUNT];
+        for (int i = 0; i < RUN_COUNT; i++) {
+            long start = System.nanoTime();
+            PssePowerFlowModel model = new PowerFlowRawData33(executor).read(dataSource, "raw", new Context());
+            times[i] = System.nanoTime() - start;
+            assertEquals(busCount, model.getBuses().size());
+        }
+        Arrays.sort(times);
+        LOGGER.info("{}: median {} ms, min {} ms over {} runs", name, times[RUN_COUNT / 2] / 1_000_000, times[0] / 1_000_000, RUN_COUNT);
+    }
+
+    @Test
+    void test() throws IOException {
+        int copyCount = Integer.getInteger("powsybl.benchmarks.bus-count", 70_000) / CASE_BUS_COUNT;
+        MemDataSource dataSource = new MemDataSource();
+        writeCase(copyCount, dataSource);
+
+        measure("Sequential", dataSource, null, copyCount * CASE_BUS_COUNT);
+        measure("Concurrent", dataSource, ForkJoinPool.commonPool(), copyCount * CASE_BUS_COUNT);
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.psse.model.pf.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Agent {@literal <agent at local>}
+ */
+class RawRecordGroupsReaderTest {
+
+    @Test
+    void testEndOfBlock() {
+        assertTrue(RawRecordGroupsReader.isEndOfBlock("0"));
+        assertTrue(RawRecordGroupsReader.isEndOfBlock(" 0 / END OF BUS DATA, BEGIN LOAD DATA"));
+        assertTrue(RawRecordGroupsReader.isEndOfBlock("0/"));
+        assertTrue(RawRecordGroupsReader.isEndOfBlock("Q"));
+        assertTrue(RawRecordGroupsReader.isEndOfBlock("\tQ "));
+        assertFalse(RawRecordGroupsReader.isEndOfBlock(""));
+        assertFalse(RawRecordGroupsReader.isEndOfBlock("0,'1 ',1"));
+        assertFalse(RawRecordGroupsReader.isEndOfBlock("0 1"));
+        assertFalse(RawRecordGroupsReader.isEndOfBlock("10 / comment"));
+        assertFalse(RawRecordGroupsReader.isEndOfBlock("'Q'"));
+    }
+}
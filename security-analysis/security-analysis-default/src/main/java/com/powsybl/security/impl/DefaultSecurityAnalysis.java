@@ -31,6 +31,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -163,21 +165,80 @@ public class DefaultSecurityAnalysis {
                                                        ContingenciesProvider contingenciesProvider, LoadFlowParameters postContParameters,
                                                        SecurityAnalysisResultBuilder resultBuilder) {
 
-        List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
-        int workerCount = Math.min(MAX_VARIANTS_PER_ANALYSIS, Math.min(computationManager.getResourcesStatus().getAvailableCores(), contingencies.isEmpty() ? 1 : contingencies.size()));
+        // contingencies are consumed on demand, as variants become available, so that they don't have to be all in memory
+        Spliterator<Contingency> contingencies = contingenciesProvider.getContingenciesStream(network).spliterator();
+        long contingencyCount = contingencies.getExactSizeIfKnown();
+        int workerCount = Math.min(MAX_VARIANTS_PER_ANALYSIS, computationManager.getResourcesStatus().getAvailableCores());
+        if (contingencyCount >= 0) {
+            workerCount = (int) Math.min(workerCount, Math.max(1, contingencyCount));
+        }
         List<String> variantIds = makeWorkingVariantsNames(workerCount);
         BlockingQueue<String> queue = new ArrayBlockingQueue<>(workerCount, false, variantIds);
 
         network.getVariantManager().allowVariantMultiThreadAccess(true);
         network.getVariantManager().cloneVariant(workingVariantId, variantIds);
 
-        return CompletableFuture
-            .allOf(contingencies.stream()
-                .map(contingency -> submitOneLoadFlow(workingVariantId, contingency, postContParameters, resultBuilder, queue))
-                .toArray(CompletableFuture[]::new))
+        PendingLoadFlows pendingLoadFlows = new PendingLoadFlows();
+        try {
+            contingencies.forEachRemaining(contingency ->
+                pendingLoadFlows.add(submitOneLoadFlow(workingVariantId, contingency, postContParameters, resultBuilder, queue)));
+        } catch (RuntimeException e) {
+            // wait for already submitted load flows before releasing the variants
+            pendingLoadFlows.fail(e);
+        } finally {
+            pendingLoadFlows.allSubmitted();
+        }
+        return pendingLoadFlows.getFuture()
             .whenComplete((aVoid, throwable) -> variantIds.forEach(network.getVariantManager()::removeVariant));
     }
 
+    /**
+     * Tracks the load flows submitted so far, without keeping a reference on the completed ones, and completes when
+     * all of them are completed, exceptionally if at least one of them failed.
+     */
+    private static final class PendingLoadFlows {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        // one more pending for the submission itself
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private void add(CompletableFuture<Void> loadFlow) {
+            pending.incrementAndGet();
+            loadFlow.whenComplete((aVoid, throwable) -> {
+                if (throwable != null) {
+                    fail(throwable);
+                }
+                done();
+            });
+        }
+
+        private void fail(Throwable throwable) {
+            failure.compareAndSet(null, throwable);
+        }
+
+        private void allSubmitted() {
+            done();
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                Throwable throwable = failure.get();
+                if (throwable == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(throwable);
+                }
+            }
+        }
+
+        private CompletableFuture<Void> getFuture() {
+            return future;
+        }
+    }
+
     private static List<String> makeWorkingVariantsNames(int workerCount) {
         String hash = UUID.randomUUID().toString();
         return IntStream.range(0, workerCount).mapToObj(i -> hash + "_" + i).collect(Collectors.toList());
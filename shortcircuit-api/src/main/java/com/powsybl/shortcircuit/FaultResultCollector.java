@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.shortcircuit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sink collecting the fault results in memory to build a {@link ShortCircuitAnalysisResult}.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public class FaultResultCollector implements FaultResultSink {
+
+    private final List<FaultResult> faultResults = new ArrayList<>();
+
+    @Override
+    public void add(FaultResult faultResult) {
+        faultResults.add(Objects.requireNonNull(faultResult));
+    }
+
+    public ShortCircuitAnalysisResult build() {
+        return new ShortCircuitAnalysisResult(faultResults);
+    }
+}
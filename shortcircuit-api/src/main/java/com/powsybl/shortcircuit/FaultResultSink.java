@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.shortcircuit;
+
+/**
+ * Destination of the fault results of a short circuit analysis, to which they are pushed one by one as soon as they
+ * are computed, so that they can be exported or aggregated without keeping all of them in memory.
+ * <p>
+ * The fault results are pushed by a single thread at a time, in no particular order, and the sink is closed once all
+ * of them have been pushed.
+ *
+ * @author Agent {@literal <agent at local>}
+ */
+public interface FaultResultSink extends AutoCloseable {
+
+    void add(FaultResult faultResult);
+
+    @Override
+    default void close() {
+        // nothing to do by default
+    }
+}
@@ -71,6 +71,23 @@ public final class ShortCircuitAnalysis {
             return provider.run(network, faults, parameters, computationManager, faultParameters);
         }
 
+        public CompletableFuture<Void> runAsync(Network network,
+                                                List<Fault> faults,
+                                                ShortCircuitParameters parameters,
+                                                ComputationManager computationManager,
+                                                List<FaultParameters> faultParameters,
+                                                Reporter reporter,
+                                                FaultResultSink sink) {
+            Objects.requireNonNull(network, NOT_NULL_NETWORK_MESSAGE);
+            Objects.requireNonNull(faults, NOT_NULL_FAULT_MESSAGE);
+            Objects.requireNonNull(computationManager, NOT_NULL_COMPUTATION_MANAGER_MESSAGE);
+            Objects.requireNonNull(parameters, NOT_NULL_PARAMETERS_MESSAGE);
+            Objects.requireNonNull(reporter, "Reporter should not be null");
+            Objects.requireNonNull(sink, "Sink should not be null");
+            validateParameters(parameters);
+            return provider.run(network, faults, parameters, computationManager, faultParameters, reporter, sink);
+        }
+
         private void validateParameters(ShortCircuitParameters shortCircuitParameters) {
             shortCircuitParameters.validate();
         }
@@ -58,6 +58,29 @@ public interface ShortCircuitAnalysisProvider extends Versionable, PlatformConfi
         return ShortCircuitAnalysis.runAsync(network, faults, parameters, computationManager, faultParameters, reporter);
     }
 
+    /**
+     * Run an asynchronous single short circuit analysis job, pushing the fault results to a sink instead of returning
+     * them, the sink being closed at the end of the job. By default, the fault results are pushed once the analysis is
+     * complete: implementations able to push each of them as soon as it is computed override this method, so that the
+     * fault results do not have to be kept in memory.
+     */
+    default CompletableFuture<Void> run(Network network, List<Fault> faults,
+                                        ShortCircuitParameters parameters,
+                                        ComputationManager computationManager,
+                                        List<FaultParameters> faultParameters,
+                                        Reporter reporter,
+                                        FaultResultSink sink) {
+        Objects.requireNonNull(sink);
+        return run(network, faults, parameters, computationManager, faultParameters, reporter)
+                .whenComplete((result, e) -> {
+                    // on success the sink is closed once the fault results have been pushed
+                    if (e != null) {
+                        sink.close();
+                    }
+                })
+                .thenAccept(result -> result.writeTo(sink));
+    }
+
     /**
      * The serializer for implementation-specific parameters, or {@link Optional#empty()} if the implementation
      * does not have any specific parameters, or does not support JSON serialization.
@@ -22,22 +22,42 @@ public class ShortCircuitAnalysisResult extends AbstractExtendable<ShortCircuitA
     // VERSION = 1.1 status in faultResult
     public static final String VERSION = "1.1";
 
-    private final Map<String, FaultResult> resultByFaultId = new TreeMap<>();
-    private final Map<String, List<FaultResult>> resultByElementId = new TreeMap<>();
+    private final Map<String, FaultResult> resultByFaultId;
+    private final Map<String, List<FaultResult>> resultByElementId = new HashMap<>();
+
+    /**
+     * Fault results sorted by fault ID, sorted once instead of at each call of {@link #getFaultResults()}.
+     */
+    private final List<FaultResult> faultResults;
 
     public ShortCircuitAnalysisResult(List<FaultResult> faultResults) {
         Objects.requireNonNull(faultResults);
+        resultByFaultId = new HashMap<>(Math.max(16, (int) (faultResults.size() / 0.75f) + 1));
         faultResults.forEach(r -> {
             this.resultByFaultId.put(r.getFault().getId(), r);
-            this.resultByElementId.computeIfAbsent(r.getFault().getElementId(), k -> new ArrayList<>()).add(r);
+            this.resultByElementId.computeIfAbsent(r.getFault().getElementId(), k -> new ArrayList<>(1)).add(r);
         });
+        FaultResult[] sortedResults = resultByFaultId.values().toArray(new FaultResult[0]);
+        Arrays.sort(sortedResults, Comparator.comparing(r -> r.getFault().getId()));
+        this.faultResults = Arrays.asList(sortedResults);
     }
 
     /**
-     * The associated fault results.
+     * The associated fault results, sorted by fault ID.
      */
     public List<FaultResult> getFaultResults() {
-        return new ArrayList<>(resultByFaultId.values());
+        return new ArrayList<>(faultResults);
+    }
+
+    /**
+     * Push the fault results to a sink, for instance to export them with
+     * {@link com.powsybl.shortcircuit.converter.ShortCircuitAnalysisResultExporter#createSink}, and close it.
+     */
+    public void writeTo(FaultResultSink sink) {
+        Objects.requireNonNull(sink);
+        try (sink) {
+            faultResults.forEach(sink::add);
+        }
     }
 
     /**
@@ -14,6 +14,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.security.LimitViolation;
 import com.powsybl.security.LimitViolationHelper;
 import com.powsybl.shortcircuit.FaultResult;
+import com.powsybl.shortcircuit.FaultResultSink;
 import com.powsybl.shortcircuit.FortescueFaultResult;
 import com.powsybl.shortcircuit.MagnitudeFaultResult;
 import com.powsybl.shortcircuit.ShortCircuitAnalysisResult;
@@ -21,6 +22,8 @@ import com.powsybl.shortcircuit.ShortCircuitAnalysisResult;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -37,49 +40,82 @@ public abstract class AbstractTableShortCircuitAnalysisResultExporter implements
     @Override
     public void export(ShortCircuitAnalysisResult result, Writer writer, Network network) {
         Objects.requireNonNull(result);
-        Objects.requireNonNull(writer);
-        TableFormatterFactory tableFormatterFactory = getTableFormatterFactory();
-        TableFormatterConfig tableFormatterConfig = getTableFormatterConfig();
-        printShortCircuitResults(result, writer, tableFormatterFactory, tableFormatterConfig);
-        printLimitViolationResults(result, writer, tableFormatterFactory, tableFormatterConfig, network);
+        result.writeTo(createSink(writer, network));
     }
 
-    private static void printShortCircuitResults(ShortCircuitAnalysisResult result, Writer writer,
-                                                 TableFormatterFactory formatterFactory, TableFormatterConfig formatterConfig) {
-        Objects.requireNonNull(result);
+    /**
+     * Create a sink writing the short circuit results table row by row as the fault results are pushed. Only the limit
+     * violations, without the rest of the fault results, are kept until the sink is closed, to write their table after the first one.
+     */
+    @Override
+    public FaultResultSink createSink(Writer writer, Network network) {
         Objects.requireNonNull(writer);
-        Objects.requireNonNull(formatterFactory);
-        Objects.requireNonNull(formatterConfig);
-        try (TableFormatter formatter = formatterFactory.create(writer, "Short circuit analysis", formatterConfig,
-                new Column("ID"), new Column("Three Phase Fault Current"))) {
-            for (FaultResult action : result.getFaultResults()) {
-                if (action instanceof FortescueFaultResult fortescueFaultResult) {
-                    formatter.writeCell(action.getFault().getElementId())
+        return new TableSink(writer, network, getTableFormatterFactory(), getTableFormatterConfig());
+    }
+
+    private record FaultLimitViolation(String faultId, LimitViolation limitViolation) {
+    }
+
+    private static final class TableSink implements FaultResultSink {
+
+        private final Writer writer;
+
+        private final Network network;
+
+        private final TableFormatterFactory formatterFactory;
+
+        private final TableFormatterConfig formatterConfig;
+
+        private final TableFormatter shortCircuitFormatter;
+
+        private final List<FaultLimitViolation> limitViolations = new ArrayList<>();
+
+        private TableSink(Writer writer, Network network, TableFormatterFactory formatterFactory, TableFormatterConfig formatterConfig) {
+            this.writer = writer;
+            this.network = network;
+            this.formatterFactory = Objects.requireNonNull(formatterFactory);
+            this.formatterConfig = Objects.requireNonNull(formatterConfig);
+            shortCircuitFormatter = formatterFactory.create(writer, "Short circuit analysis", formatterConfig,
+                    new Column("ID"), new Column("Three Phase Fault Current"));
+        }
+
+        @Override
+        public void add(FaultResult faultResult) {
+            Objects.requireNonNull(faultResult);
+            try {
+                if (faultResult instanceof FortescueFaultResult fortescueFaultResult) {
+                    shortCircuitFormatter.writeCell(faultResult.getFault().getElementId())
                             .writeCell(fortescueFaultResult.getCurrent().getPositiveMagnitude());
                 } else {
-                    formatter.writeCell(action.getFault().getElementId())
-                            .writeCell(((MagnitudeFaultResult) action).getCurrent());
+                    shortCircuitFormatter.writeCell(faultResult.getFault().getElementId())
+                            .writeCell(((MagnitudeFaultResult) faultResult).getCurrent());
                 }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (LimitViolation limitViolation : faultResult.getLimitViolations()) {
+                limitViolations.add(new FaultLimitViolation(faultResult.getFault().getId(), limitViolation));
+            }
+        }
 
+        @Override
+        public void close() {
+            try {
+                shortCircuitFormatter.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            printLimitViolationResults();
         }
-    }
 
-    private static void printLimitViolationResults(ShortCircuitAnalysisResult result, Writer writer,
-                                                   TableFormatterFactory formatterFactory, TableFormatterConfig formatterConfig, Network network) {
-        Objects.requireNonNull(result);
-        Objects.requireNonNull(writer);
-        Objects.requireNonNull(formatterFactory);
-        Objects.requireNonNull(formatterConfig);
-        try (TableFormatter formatter = formatterFactory.create(writer, "Limit violations", formatterConfig,
-                new Column("ID"), new Column("Voltage level"), new Column("Country"), new Column("Base voltage"),
-                new Column("Limit type"), new Column("Limit"), new Column("Value"))) {
-
-            for (FaultResult faultResult : result.getFaultResults()) {
-                for (LimitViolation limitViolation : faultResult.getLimitViolations()) {
-                    formatter.writeCell(faultResult.getFault().getId())
+        private void printLimitViolationResults() {
+            try (TableFormatter formatter = formatterFactory.create(writer, "Limit violations", formatterConfig,
+                    new Column("ID"), new Column("Voltage level"), new Column("Country"), new Column("Base voltage"),
+                    new Column("Limit type"), new Column("Limit"), new Column("Value"))) {
+
+                for (FaultLimitViolation faultLimitViolation : limitViolations) {
+                    LimitViolation limitViolation = faultLimitViolation.limitViolation();
+                    formatter.writeCell(faultLimitViolation.faultId())
                             .writeCell(limitViolation.getSubjectId())
                             .writeCell(LimitViolationHelper.getCountry(limitViolation, network).map(Enum::name).orElse(""))
                             .writeCell(LimitViolationHelper.getNominalVoltage(limitViolation, network))
@@ -87,9 +123,9 @@ public abstract class AbstractTableShortCircuitAnalysisResultExporter implements
                             .writeCell(limitViolation.getLimit())
                             .writeCell(limitViolation.getValue());
                 }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         }
     }
 }
@@ -6,15 +6,19 @@
  */
 package com.powsybl.shortcircuit.converter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.auto.service.AutoService;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.shortcircuit.FaultResult;
+import com.powsybl.shortcircuit.FaultResultSink;
 import com.powsybl.shortcircuit.ShortCircuitAnalysisResult;
 import com.powsybl.shortcircuit.json.ShortCircuitAnalysisJsonModule;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 
 /**
@@ -35,13 +39,54 @@ public class JsonShortCircuitAnalysisResultExporter implements ShortCircuitAnaly
         return "Export a result in JSON format";
     }
 
-    @Override
-    public void export(ShortCircuitAnalysisResult result, Writer writer, Network network) throws IOException {
-        ObjectMapper objectMapper = JsonUtil.createObjectMapper()
+    private static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
                 .registerModule(new ShortCircuitAnalysisJsonModule());
+    }
 
-        ObjectWriter objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    @Override
+    public void export(ShortCircuitAnalysisResult result, Writer writer, Network network) throws IOException {
+        ObjectWriter objectWriter = createObjectMapper().writerWithDefaultPrettyPrinter();
         objectWriter.writeValue(writer, result);
 
     }
+
+    /**
+     * Create a sink writing each fault result as soon as it is pushed, as in the export of a result without
+     * extensions.
+     */
+    @Override
+    public FaultResultSink createSink(Writer writer, Network network) {
+        try {
+            // the fault results are written with the pretty printer of the generator, to be indented in the array
+            JsonGenerator generator = createObjectMapper().createGenerator(writer).useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeStringField("version", ShortCircuitAnalysisResult.VERSION);
+            generator.writeFieldName("faultResults");
+            generator.writeStartArray();
+            return new FaultResultSink() {
+                @Override
+                public void add(FaultResult faultResult) {
+                    try {
+                        generator.writeObject(faultResult);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                        generator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
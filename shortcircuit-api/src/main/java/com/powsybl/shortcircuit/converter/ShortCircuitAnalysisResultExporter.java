@@ -7,9 +7,13 @@
 package com.powsybl.shortcircuit.converter;
 
 import com.powsybl.iidm.network.Network;
+import com.powsybl.shortcircuit.FaultResult;
+import com.powsybl.shortcircuit.FaultResultCollector;
+import com.powsybl.shortcircuit.FaultResultSink;
 import com.powsybl.shortcircuit.ShortCircuitAnalysisResult;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 
 /**
@@ -25,4 +29,28 @@ public interface ShortCircuitAnalysisResultExporter {
 
     void export(ShortCircuitAnalysisResult result, Writer writer, Network network) throws IOException;
 
+    /**
+     * Create a sink writing the fault results pushed to it, the export being complete once the sink is closed.
+     * By default, the fault results are collected and exported when the sink is closed: exporters able to write them
+     * as they come, without keeping them in memory, override this method.
+     */
+    default FaultResultSink createSink(Writer writer, Network network) {
+        FaultResultCollector collector = new FaultResultCollector();
+        return new FaultResultSink() {
+            @Override
+            public void add(FaultResult faultResult) {
+                collector.add(faultResult);
+            }
+
+            @Override
+            public void close() {
+                try {
+                    export(collector.build(), writer, network);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
 }
@@ -8,6 +8,7 @@ package com.powsybl.shortcircuit.converter;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.shortcircuit.FaultResultSink;
 import com.powsybl.shortcircuit.ShortCircuitAnalysisResult;
 
 import java.io.IOException;
@@ -54,16 +55,29 @@ public final class ShortCircuitAnalysisResultExporters {
         }
     }
 
-    public static void export(ShortCircuitAnalysisResult result, Writer writer, String format, Network network) throws IOException {
-        Objects.requireNonNull(result);
+    /**
+     * Create a sink exporting the fault results pushed to it in the given format, see
+     * {@link ShortCircuitAnalysisResultExporter#createSink(Writer, Network)}.
+     */
+    public static FaultResultSink createSink(Writer writer, String format, Network network) {
         Objects.requireNonNull(writer);
         Objects.requireNonNull(format);
+        return getExporterOrThrow(format).createSink(writer, network);
+    }
 
+    private static ShortCircuitAnalysisResultExporter getExporterOrThrow(String format) {
         ShortCircuitAnalysisResultExporter exporter = getExporter(format);
         if (exporter == null) {
             throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
         }
+        return exporter;
+    }
+
+    public static void export(ShortCircuitAnalysisResult result, Writer writer, String format, Network network) throws IOException {
+        Objects.requireNonNull(result);
+        Objects.requireNonNull(writer);
+        Objects.requireNonNull(format);
 
-        exporter.export(result, writer, network);
+        getExporterOrThrow(format).export(result, writer, network);
     }
 }
@@ -6,8 +6,16 @@
  */
 package com.powsybl.shortcircuit;
 
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -19,4 +27,37 @@ class ShortCircuitAnalysisProviderTest {
     void findAllProvidersTest() {
         assertEquals(1, ShortCircuitAnalysisProvider.findAll().size());
     }
+
+    @Test
+    void closeSinkOnFailureTest() {
+        ShortCircuitAnalysisProvider provider = new ShortCircuitAnalysisProvider() {
+            @Override
+            public String getName() {
+                return "Failing";
+            }
+
+            @Override
+            public String getVersion() {
+                return "1.0";
+            }
+
+            @Override
+            public CompletableFuture<ShortCircuitAnalysisResult> run(Network network, List<Fault> faults, ShortCircuitParameters parameters,
+                                                                     ComputationManager computationManager, List<FaultParameters> faultParameters,
+                                                                     Reporter reporter) {
+                return CompletableFuture.failedFuture(new PowsyblException("Analysis failed"));
+            }
+        };
+        boolean[] closed = {false};
+        FaultResultCollector collector = new FaultResultCollector() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        CompletableFuture<Void> future = provider.run(null, List.of(), new ShortCircuitParameters(), null, List.of(), Reporter.NO_OP, collector);
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertEquals("Analysis failed", e.getCause().getMessage());
+        assertTrue(closed[0]);
+    }
 }
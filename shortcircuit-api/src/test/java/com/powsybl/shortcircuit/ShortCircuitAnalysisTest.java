@@ -129,6 +129,38 @@ class ShortCircuitAnalysisTest {
         assertTrue(subReporter.getReports().isEmpty());
     }
 
+    @Test
+    void testWithSink() {
+        ReporterModel reporter = new ReporterModel("testReportShortCircuit", "Test mock short circuit");
+        boolean[] closed = {false};
+        FaultResultCollector collector = new FaultResultCollector() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        ShortCircuitAnalysis.find().runAsync(network, faults, shortCircuitParameters, computationManager, faultParameters, reporter, collector).join();
+        assertTrue(closed[0]);
+        assertTrue(collector.build().getFaultResults().isEmpty());
+    }
+
+    @Test
+    void testFaultResultsIndex() {
+        ShortCircuitAnalysisResult result = TestingResultFactory.createResultWithTwoFaultResults();
+        List<FaultResult> faultResults = result.getFaultResults();
+        // a new mutable list is returned at each call
+        assertNotSame(faultResults, result.getFaultResults());
+        faultResults.remove(0);
+        assertEquals(faultResults.size() + 1, result.getFaultResults().size());
+        faultResults.add(0, result.getFaultResults().get(0));
+        for (int i = 1; i < faultResults.size(); i++) {
+            assertTrue(faultResults.get(i - 1).getFault().getId().compareTo(faultResults.get(i).getFault().getId()) < 0);
+        }
+        FaultResultCollector collector = new FaultResultCollector();
+        result.writeTo(collector);
+        assertEquals(faultResults, collector.build().getFaultResults());
+    }
+
     @Test
     void testFortescueTransformation() {
         // test based on a result given in degrees for both fortescue and phase
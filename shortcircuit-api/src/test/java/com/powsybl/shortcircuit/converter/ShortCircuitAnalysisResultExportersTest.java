@@ -6,6 +6,7 @@
  */
 package com.powsybl.shortcircuit.converter;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.test.AbstractConverterTest;
 import com.powsybl.commons.test.ComparisonUtils;
 import com.powsybl.iidm.network.Network;
@@ -15,12 +16,15 @@ import com.powsybl.shortcircuit.json.ShortCircuitAnalysisResultDeserializer;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Coline Piloquet {@literal <coline.piloquet at rte-france.com>}
@@ -108,6 +112,58 @@ class ShortCircuitAnalysisResultExportersTest extends AbstractConverterTest {
         writeTest(result, this::writeCsv, ComparisonUtils::compareTxt, "/shortcircuit-results.csv");
     }
 
+    private static String exportWithSink(ShortCircuitAnalysisResult result, String format, Network network) {
+        StringWriter writer = new StringWriter();
+        result.writeTo(ShortCircuitAnalysisResultExporters.createSink(writer, format, network));
+        return writer.toString();
+    }
+
+    private static String export(ShortCircuitAnalysisResult result, String format, Network network) throws IOException {
+        StringWriter writer = new StringWriter();
+        ShortCircuitAnalysisResultExporters.export(result, writer, format, network);
+        return writer.toString();
+    }
+
+    @Test
+    void testSink() throws IOException {
+        Network network = EurostagTutorialExample1Factory.create();
+        ShortCircuitAnalysisResult result = TestingResultFactory.createResult();
+        assertEquals(export(result, "CSV", network), exportWithSink(result, "CSV", network));
+        assertEquals(export(result, "ASCII", network), exportWithSink(result, "ASCII", network));
+        ShortCircuitAnalysisResult resultWithFeeders = TestingResultFactory.createWithFeederResults();
+        assertEquals(export(resultWithFeeders, "JSON", null), exportWithSink(resultWithFeeders, "JSON", null));
+        assertThrows(PowsyblException.class, () -> ShortCircuitAnalysisResultExporters.createSink(new StringWriter(), "XXX", null));
+    }
+
+    @Test
+    void testDefaultSink() throws IOException {
+        ShortCircuitAnalysisResultExporter jsonExporter = ShortCircuitAnalysisResultExporters.getExporter("JSON");
+        ShortCircuitAnalysisResultExporter exporter = new ShortCircuitAnalysisResultExporter() {
+            @Override
+            public String getFormat() {
+                return "TEST";
+            }
+
+            @Override
+            public String getComment() {
+                return "";
+            }
+
+            @Override
+            public void export(ShortCircuitAnalysisResult result, Writer writer, Network network) throws IOException {
+                jsonExporter.export(result, writer, network);
+            }
+        };
+        ShortCircuitAnalysisResult result = TestingResultFactory.createResultWithExtension();
+        StringWriter writer = new StringWriter();
+        result.getFaultResults().forEach(exporter.createSink(writer, null)::add);
+        assertEquals("", writer.toString());
+        try (FaultResultSink sink = exporter.createSink(writer, null)) {
+            result.getFaultResults().forEach(sink::add);
+        }
+        assertEquals(export(new ShortCircuitAnalysisResult(result.getFaultResults()), "JSON", null), writer.toString());
+    }
+
     @Test
     void roundtripTestWithTwoFaults() throws IOException {
         ShortCircuitAnalysisResult result = TestingResultFactory.createResultWithTwoFaultResults();
@@ -8,6 +8,7 @@ package com.powsybl.tools;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimaps;
+import com.powsybl.commons.util.ServiceIndex;
 import com.powsybl.computation.ComputationManager;
 import org.apache.commons.cli.*;
 
@@ -35,7 +36,7 @@ public class CommandLineTools {
     private final Iterable<Tool> tools;
 
     public CommandLineTools() {
-        this(ServiceLoader.load(Tool.class, CommandLineTools.class.getClassLoader()));
+        this(ServiceIndex.load(Tool.class, CommandLineTools.class.getClassLoader()));
     }
 
     public CommandLineTools(Iterable<Tool> tools) {
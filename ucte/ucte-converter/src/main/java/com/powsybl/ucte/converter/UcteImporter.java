@@ -941,6 +941,11 @@ public class UcteImporter implements Importer {
         return "UCTE-DEF";
     }
 
+    @Override
+    public List<String> getSupportedExtensions() {
+        return Arrays.asList(EXTENSIONS);
+    }
+
     @Override
     public List<Parameter> getParameters() {
         return PARAMETERS;